@@ -0,0 +1,161 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.benchmark.index.mapper;
+
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.opensearch.Version;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.compress.CompressedXContent;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.xcontent.NamedXContentRegistry;
+import org.opensearch.common.xcontent.XContentBuilder;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.index.IndexSettings;
+import org.opensearch.index.analysis.AnalysisRegistry;
+import org.opensearch.index.analysis.AnalyzerScope;
+import org.opensearch.index.analysis.IndexAnalyzers;
+import org.opensearch.index.analysis.NamedAnalyzer;
+import org.opensearch.index.mapper.DocumentMapper;
+import org.opensearch.index.mapper.MapperService;
+import org.opensearch.index.mapper.ParsedDocument;
+import org.opensearch.index.mapper.SourceToParse;
+import org.opensearch.index.similarity.SimilarityService;
+import org.opensearch.indices.IndicesModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures parsing a document with many mapped fields, spread over a few objects and partly addressed with dotted field names,
+ * into the Lucene fields that are indexed for it.
+ */
+@Warmup(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class DocumentParserBenchmark {
+
+    private static final int OBJECTS = 8;
+
+    @Param({ "100", "800" })
+    private int numFields;
+
+    private DocumentMapper documentMapper;
+    private BytesReference source;
+
+    @Setup
+    public void setup() throws IOException {
+        Settings settings = Settings.builder()
+            .put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT)
+            .put(IndexMetadata.SETTING_NUMBER_OF_SHARDS, 1)
+            .put(IndexMetadata.SETTING_NUMBER_OF_REPLICAS, 0)
+            .build();
+        IndexSettings indexSettings = new IndexSettings(IndexMetadata.builder("index").settings(settings).build(), Settings.EMPTY);
+        IndexAnalyzers indexAnalyzers = new IndexAnalyzers(
+            Collections.singletonMap(
+                AnalysisRegistry.DEFAULT_ANALYZER_NAME,
+                new NamedAnalyzer(AnalysisRegistry.DEFAULT_ANALYZER_NAME, AnalyzerScope.INDEX, new StandardAnalyzer())
+            ),
+            Collections.emptyMap(),
+            Collections.emptyMap()
+        );
+        MapperService mapperService = new MapperService(
+            indexSettings,
+            indexAnalyzers,
+            NamedXContentRegistry.EMPTY,
+            new SimilarityService(indexSettings, null, Collections.emptyMap()),
+            new IndicesModule(Collections.emptyList()).getMapperRegistry(),
+            () -> null,
+            () -> true,
+            null
+        );
+        documentMapper = mapperService.merge(
+            MapperService.SINGLE_MAPPING_NAME,
+            new CompressedXContent(BytesReference.bytes(mapping())),
+            MapperService.MergeReason.MAPPING_UPDATE
+        );
+        source = BytesReference.bytes(document(new Random(42)));
+    }
+
+    @Benchmark
+    public ParsedDocument parse() {
+        return documentMapper.parse(new SourceToParse("index", MapperService.SINGLE_MAPPING_NAME, "1", source, XContentType.JSON));
+    }
+
+    private XContentBuilder mapping() throws IOException {
+        XContentBuilder builder = XContentFactory.jsonBuilder().startObject().startObject(MapperService.SINGLE_MAPPING_NAME);
+        builder.startObject("properties");
+        for (int o = 0; o < OBJECTS; o++) {
+            builder.startObject("object" + o).startObject("properties");
+            for (int f = o; f < numFields; f += OBJECTS) {
+                builder.startObject("field" + f).field("type", fieldType(f)).endObject();
+            }
+            builder.endObject().endObject();
+        }
+        builder.endObject();
+        return builder.endObject().endObject();
+    }
+
+    private XContentBuilder document(Random random) throws IOException {
+        XContentBuilder builder = XContentFactory.jsonBuilder().startObject();
+        for (int o = 0; o < OBJECTS; o++) {
+            // half of the objects are sent as objects, the other half with dotted field names
+            boolean dotted = o % 2 == 1;
+            if (dotted == false) {
+                builder.startObject("object" + o);
+            }
+            for (int f = o; f < numFields; f += OBJECTS) {
+                String name = dotted ? "object" + o + ".field" + f : "field" + f;
+                switch (fieldType(f)) {
+                    case "keyword":
+                        builder.field(name, "value" + random.nextInt(1000));
+                        break;
+                    case "long":
+                        builder.field(name, random.nextLong());
+                        break;
+                    default:
+                        builder.field(name, random.nextDouble());
+                        break;
+                }
+            }
+            if (dotted == false) {
+                builder.endObject();
+            }
+        }
+        return builder.endObject();
+    }
+
+    private static String fieldType(int field) {
+        switch (field % 3) {
+            case 0:
+                return "keyword";
+            case 1:
+                return "long";
+            default:
+                return "double";
+        }
+    }
+}
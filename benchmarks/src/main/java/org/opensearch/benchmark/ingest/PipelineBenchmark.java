@@ -0,0 +1,151 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.benchmark.ingest;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.index.VersionType;
+import org.opensearch.ingest.AbstractProcessor;
+import org.opensearch.ingest.CompoundProcessor;
+import org.opensearch.ingest.ConfigurationUtils;
+import org.opensearch.ingest.IngestDocument;
+import org.opensearch.ingest.Pipeline;
+import org.opensearch.ingest.Processor;
+import org.opensearch.ingest.ValueSource;
+import org.opensearch.script.ScriptService;
+import org.opensearch.script.TemplateScript;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Measures running a realistic pipeline of 15 processors, which normalizes an access log line that was already split into fields,
+ * over a document. The processors access their fields the way the set, rename, remove, lowercase and convert processors do.
+ */
+@Warmup(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class PipelineBenchmark {
+
+    private final ScriptService scriptService = new ScriptService(Settings.EMPTY, Collections.emptyMap(), Collections.emptyMap());
+
+    private Pipeline pipeline;
+    private IngestDocument document;
+
+    @Setup
+    public void setup() {
+        pipeline = new Pipeline("access-logs", null, null, new CompoundProcessor(
+            set("event.kind", "event"),
+            set("event.module", "nginx"),
+            rename("client_ip", "source.ip"),
+            convertToInteger("status"),
+            convertToInteger("bytes"),
+            lowercase("method"),
+            rename("method", "http.request.method"),
+            rename("status", "http.response.status_code"),
+            rename("bytes", "http.response.body.bytes"),
+            rename("request", "url.original"),
+            lowercase("agent"),
+            rename("agent", "user_agent.original"),
+            remove("http_version"),
+            set("tags", Arrays.asList("access", "nginx")),
+            set("ecs.version", "1.10.0")
+        ));
+
+        Map<String, Object> source = new HashMap<>();
+        source.put("message", "10.42.0.7 - - [16/Mar/2021:00:01:25 +0000] \"GET /api/v1/orders?id=42 HTTP/1.1\" 200 5321 \"-\" "
+            + "\"Mozilla/5.0 (X11; Linux x86_64)\"");
+        source.put("client_ip", "10.42.0.7");
+        source.put("method", "GET");
+        source.put("request", "/api/v1/orders?id=42");
+        source.put("http_version", "1.1");
+        source.put("status", "200");
+        source.put("bytes", "5321");
+        source.put("agent", "Mozilla/5.0 (X11; Linux x86_64)");
+        document = new IngestDocument("logs", "_doc", "1", null, null, VersionType.INTERNAL, source);
+    }
+
+    @Benchmark
+    public void execute(Blackhole bh) {
+        pipeline.execute(new IngestDocument(document), (result, e) -> {
+            if (e != null) {
+                throw new AssertionError(e);
+            }
+            bh.consume(result);
+        });
+    }
+
+    private TemplateScript.Factory template(String value) {
+        return ConfigurationUtils.compileTemplate("benchmark", null, "field", value, scriptService);
+    }
+
+    private Processor set(String field, Object value) {
+        TemplateScript.Factory fieldTemplate = template(field);
+        ValueSource valueSource = ValueSource.wrap(value, scriptService);
+        return processor("set", document -> document.setFieldValue(fieldTemplate, valueSource));
+    }
+
+    private Processor rename(String field, String targetField) {
+        TemplateScript.Factory fieldTemplate = template(field);
+        TemplateScript.Factory targetFieldTemplate = template(targetField);
+        return processor("rename", document -> {
+            Object value = document.getFieldValue(fieldTemplate, Object.class);
+            document.removeField(fieldTemplate);
+            document.setFieldValue(document.renderTemplate(targetFieldTemplate), value);
+        });
+    }
+
+    private Processor remove(String field) {
+        TemplateScript.Factory fieldTemplate = template(field);
+        return processor("remove", document -> document.removeField(fieldTemplate));
+    }
+
+    private Processor lowercase(String field) {
+        return processor("lowercase",
+            document -> document.setFieldValue(field, document.getFieldValue(field, String.class).toLowerCase(Locale.ROOT)));
+    }
+
+    private Processor convertToInteger(String field) {
+        return processor("convert",
+            document -> document.setFieldValue(field, Integer.parseInt(document.getFieldValue(field, String.class))));
+    }
+
+    private static Processor processor(String type, Consumer<IngestDocument> action) {
+        return new AbstractProcessor(null, null) {
+            @Override
+            public IngestDocument execute(IngestDocument ingestDocument) {
+                action.accept(ingestDocument);
+                return ingestDocument;
+            }
+
+            @Override
+            public String getType() {
+                return type;
+            }
+        };
+    }
+}
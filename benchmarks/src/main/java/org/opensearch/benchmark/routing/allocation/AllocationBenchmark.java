@@ -129,7 +129,12 @@ public class AllocationBenchmark {
 
         "       50|      60|       1|     100|    100|      6|",
         "       50|      60|       1|     100|     40|      6|",
-        "       50|      60|       1|      40|    100|      6|" })
+        "       50|      60|       1|      40|    100|      6|",
+
+        // ~100k shards on 200 nodes, where per-node decisions are cached for the duration of a reroute
+        "      1000|     50|       1|     100|    100|     12|",
+        "      1000|     50|       1|     150|     50|     12|",
+        "      5000|     10|       1|     100|    100|     12|" })
     public String indicesShardsReplicasSourceTargetRecoveries = "10|1|0|1|1|1";
 
     public int numTags = 2;
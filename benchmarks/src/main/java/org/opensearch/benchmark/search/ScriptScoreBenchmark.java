@@ -0,0 +1,247 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.benchmark.search;
+
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.SortedNumericDocValuesField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.Explanation;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.ArrayUtil;
+import org.opensearch.Version;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.compress.CompressedXContent;
+import org.opensearch.common.lucene.search.function.ScriptScoreQuery;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.xcontent.NamedXContentRegistry;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.index.IndexSettings;
+import org.opensearch.index.analysis.AnalysisRegistry;
+import org.opensearch.index.analysis.AnalyzerScope;
+import org.opensearch.index.analysis.IndexAnalyzers;
+import org.opensearch.index.analysis.NamedAnalyzer;
+import org.opensearch.index.fielddata.IndexFieldDataCache;
+import org.opensearch.index.fielddata.ScriptDocValues;
+import org.opensearch.index.mapper.MapperService;
+import org.opensearch.index.similarity.SimilarityService;
+import org.opensearch.indices.IndicesModule;
+import org.opensearch.indices.breaker.NoneCircuitBreakerService;
+import org.opensearch.script.ScoreScript;
+import org.opensearch.script.Script;
+import org.opensearch.search.lookup.SearchLookup;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares scoring all documents of an index with a script that reads a numeric field through {@code doc} once per document, the
+ * way Painless scripts do, to a script that scores a block of documents at a time from values preloaded with
+ * {@link ScoreScript#loadDoubleValues}. Both compute the same scores, and {@link #explain} checks that the block script explains
+ * them too.
+ */
+@Warmup(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class ScriptScoreBenchmark {
+
+    private static final String FIELD = "popularity";
+
+    @Param({ "10000000" })
+    private int numDocs;
+
+    private Directory directory;
+    private DirectoryReader reader;
+    private IndexSearcher searcher;
+    private SearchLookup lookup;
+
+    @Setup
+    public void setup() throws IOException {
+        directory = new ByteBuffersDirectory();
+        Random random = new Random(42);
+        try (IndexWriter writer = new IndexWriter(directory, new IndexWriterConfig())) {
+            for (int i = 0; i < numDocs; i++) {
+                Document doc = new Document();
+                doc.add(new SortedNumericDocValuesField(FIELD, random.nextInt(100_000)));
+                writer.addDocument(doc);
+            }
+            writer.forceMerge(1);
+        }
+        reader = DirectoryReader.open(directory);
+        searcher = new IndexSearcher(reader);
+        MapperService mapperService = mapperService();
+        lookup = new SearchLookup(
+            mapperService,
+            (fieldType, searchLookup) -> fieldType.fielddataBuilder("index", searchLookup)
+                .build(new IndexFieldDataCache.None(), new NoneCircuitBreakerService()),
+            null
+        );
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        reader.close();
+        directory.close();
+    }
+
+    @Benchmark
+    public TopDocs perDocument() throws IOException {
+        return search(context -> new ScoreScript(Collections.emptyMap(), lookup, context) {
+            @Override
+            public double execute(ExplanationHolder explanation) {
+                ScriptDocValues.Longs popularity = (ScriptDocValues.Longs) getDoc().get(FIELD);
+                return score(popularity.isEmpty() ? 0 : popularity.getValue());
+            }
+        });
+    }
+
+    @Benchmark
+    public TopDocs block() throws IOException {
+        return search(this::newBlockScript);
+    }
+
+    /**
+     * Explains the score of a document with the block script, which scores it on its own.
+     */
+    @Benchmark
+    public Explanation explain() throws IOException {
+        return searcher.explain(query(this::newBlockScript), numDocs / 2);
+    }
+
+    private ScoreScript newBlockScript(LeafReaderContext context) {
+        return new ScoreScript(Collections.emptyMap(), lookup, context) {
+            private double[] values = new double[0];
+
+            @Override
+            public double execute(ExplanationHolder explanation) {
+                ScriptDocValues.Longs popularity = (ScriptDocValues.Longs) getDoc().get(FIELD);
+                long value = popularity.isEmpty() ? 0 : popularity.getValue();
+                double score = score(value);
+                if (explanation != null) {
+                    explanation.set("log1p(doc['" + FIELD + "'].value = " + value + ") * 0.5 + 1");
+                }
+                return score;
+            }
+
+            @Override
+            public void execute(int[] docIds, double[] scores, int count) {
+                values = ArrayUtil.grow(values, count);
+                try {
+                    loadDoubleValues(FIELD, docIds, count, 0, values);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                for (int i = 0; i < count; i++) {
+                    scores[i] = score(values[i]);
+                }
+            }
+        };
+    }
+
+    private static double score(double popularity) {
+        return Math.log1p(popularity) * 0.5 + 1;
+    }
+
+    private TopDocs search(ScriptFactory scriptFactory) throws IOException {
+        return searcher.search(query(scriptFactory), 10);
+    }
+
+    private ScriptScoreQuery query(ScriptFactory scriptFactory) {
+        Script script = new Script("benchmark");
+        ScoreScript.LeafFactory factory = new ScoreScript.LeafFactory() {
+            @Override
+            public boolean needs_score() {
+                return false;
+            }
+
+            @Override
+            public ScoreScript newInstance(LeafReaderContext ctx) throws IOException {
+                return scriptFactory.newInstance(ctx);
+            }
+        };
+        return new ScriptScoreQuery(new MatchAllDocsQuery(), script, factory, null, "index", 0, Version.CURRENT);
+    }
+
+    private static MapperService mapperService() throws IOException {
+        Settings settings = Settings.builder()
+            .put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT)
+            .put(IndexMetadata.SETTING_NUMBER_OF_SHARDS, 1)
+            .put(IndexMetadata.SETTING_NUMBER_OF_REPLICAS, 0)
+            .build();
+        IndexSettings indexSettings = new IndexSettings(IndexMetadata.builder("index").settings(settings).build(), Settings.EMPTY);
+        IndexAnalyzers indexAnalyzers = new IndexAnalyzers(
+            Collections.singletonMap(
+                AnalysisRegistry.DEFAULT_ANALYZER_NAME,
+                new NamedAnalyzer(AnalysisRegistry.DEFAULT_ANALYZER_NAME, AnalyzerScope.INDEX, new StandardAnalyzer())
+            ),
+            Collections.emptyMap(),
+            Collections.emptyMap()
+        );
+        MapperService mapperService = new MapperService(
+            indexSettings,
+            indexAnalyzers,
+            NamedXContentRegistry.EMPTY,
+            new SimilarityService(indexSettings, null, Collections.emptyMap()),
+            new IndicesModule(Collections.emptyList()).getMapperRegistry(),
+            () -> null,
+            () -> true,
+            null
+        );
+        mapperService.merge(
+            MapperService.SINGLE_MAPPING_NAME,
+            new CompressedXContent(
+                BytesReference.bytes(
+                    XContentFactory.jsonBuilder()
+                        .startObject()
+                        .startObject(MapperService.SINGLE_MAPPING_NAME)
+                        .startObject("properties")
+                        .startObject(FIELD)
+                        .field("type", "long")
+                        .endObject()
+                        .endObject()
+                        .endObject()
+                        .endObject()
+                )
+            ),
+            MapperService.MergeReason.MAPPING_UPDATE
+        );
+        return mapperService;
+    }
+
+    @FunctionalInterface
+    private interface ScriptFactory {
+        ScoreScript newInstance(LeafReaderContext context) throws IOException;
+    }
+}
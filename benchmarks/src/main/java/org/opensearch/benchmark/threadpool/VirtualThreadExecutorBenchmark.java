@@ -0,0 +1,111 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.benchmark.threadpool;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Compares the throughput of a fixed executor running on platform threads with a thread-per-task executor running on virtual threads,
+ * for tasks that block for a while as a search on cold segments does when it reads from disk. Virtual threads need Java 21 or later.
+ */
+@Warmup(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class VirtualThreadExecutorBenchmark {
+
+    @Param({ "platform", "virtual" })
+    private String threads;
+
+    /**
+     * The size of the executor, which is the number of platform threads or the number of tasks that run concurrently on virtual threads.
+     */
+    @Param({ "16", "256" })
+    private int size;
+
+    /**
+     * The number of tasks submitted per benchmark operation.
+     */
+    @Param({ "1000" })
+    private int tasks;
+
+    /**
+     * How long each task blocks, simulating a read from disk.
+     */
+    @Param({ "0", "1" })
+    private long blockMillis;
+
+    private ExecutorService executor;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final ThreadContext threadContext = new ThreadContext(Settings.EMPTY);
+        if ("virtual".equals(threads)) {
+            if (OpenSearchExecutors.virtualThreadsSupported() == false) {
+                throw new IllegalStateException("virtual threads require Java 21 or later");
+            }
+            executor = OpenSearchExecutors.newThreadPerTask("benchmark/search", size, -1,
+                OpenSearchExecutors.virtualThreadFactory("benchmark[search]"), threadContext);
+        } else {
+            executor = OpenSearchExecutors.newFixed("benchmark/search", size, -1,
+                OpenSearchExecutors.daemonThreadFactory("benchmark[search]"), threadContext);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    @Benchmark
+    public void search(Blackhole blackhole) throws InterruptedException {
+        final CountDownLatch latch = new CountDownLatch(tasks);
+        final long blockNanos = TimeUnit.MILLISECONDS.toNanos(blockMillis);
+        for (int i = 0; i < tasks; i++) {
+            final int task = i;
+            executor.execute(() -> {
+                if (blockNanos > 0) {
+                    LockSupport.parkNanos(blockNanos);
+                }
+                // a little CPU work on top of the blocking, as scoring the read documents would do
+                long hash = task;
+                for (int j = 0; j < 1000; j++) {
+                    hash = hash * 31 + j;
+                }
+                blackhole.consume(hash);
+                latch.countDown();
+            });
+        }
+        latch.await();
+    }
+}
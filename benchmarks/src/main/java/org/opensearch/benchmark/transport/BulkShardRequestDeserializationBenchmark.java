@@ -0,0 +1,93 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.benchmark.transport;
+
+import org.opensearch.action.bulk.BulkItemRequest;
+import org.opensearch.action.bulk.BulkShardRequest;
+import org.opensearch.action.index.IndexRequest;
+import org.opensearch.action.support.WriteRequest;
+import org.opensearch.common.bytes.BytesArray;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.bytes.ReleasableBytesReference;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.index.shard.ShardId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares decoding a {@link BulkShardRequest} from a plain bytes reference, which copies every document source, with decoding it
+ * from a {@link ReleasableBytesReference} as the transport does, which hands out retained slices instead. Run with {@code -prof gc}
+ * to compare the allocation rates.
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(3)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class BulkShardRequestDeserializationBenchmark {
+
+    @Param({ "100", "1000" })
+    private int numDocs;
+
+    @Param({ "128", "4096" })
+    private int sourceSize;
+
+    private BytesReference serialized;
+
+    @Setup
+    public void setup() throws IOException {
+        final ShardId shardId = new ShardId("index", "_na_", 0);
+        final char[] value = new char[sourceSize];
+        Arrays.fill(value, 'a');
+        final byte[] source = ("{\"field\":\"" + new String(value) + "\"}").getBytes(StandardCharsets.UTF_8);
+        final BulkItemRequest[] items = new BulkItemRequest[numDocs];
+        for (int i = 0; i < numDocs; i++) {
+            items[i] = new BulkItemRequest(i, new IndexRequest("index").id(Integer.toString(i))
+                .source(new BytesArray(source), XContentType.JSON));
+        }
+        final BulkShardRequest request = new BulkShardRequest(shardId, WriteRequest.RefreshPolicy.NONE, items);
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            request.writeTo(out);
+            serialized = out.bytes();
+        }
+    }
+
+    @Benchmark
+    public BulkShardRequest decodeCopying() throws IOException {
+        try (StreamInput in = serialized.streamInput()) {
+            return new BulkShardRequest(in);
+        }
+    }
+
+    @Benchmark
+    public BulkShardRequest decodeRetaining() throws IOException {
+        try (ReleasableBytesReference bytes = ReleasableBytesReference.wrap(serialized); StreamInput in = bytes.streamInput()) {
+            final BulkShardRequest request = new BulkShardRequest(in);
+            request.decRef();
+            return request;
+        }
+    }
+}
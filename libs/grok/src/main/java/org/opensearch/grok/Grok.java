@@ -48,6 +48,7 @@ import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -82,11 +83,17 @@ public final class Grok {
 
     private static final int MAX_TO_REGEX_ITERATIONS = 100_000; //sanity limit
 
+    /**
+     * Escapes that stand for a class of characters or an anchor, as opposed to a single literal character.
+     */
+    private static final String CLASS_AND_ANCHOR_ESCAPES = "sSdDwWhHbBAzZG";
+
     private final Map<String, String> patternBank;
     private final boolean namedCaptures;
     private final Regex compiledExpression;
     private final MatcherWatchdog matcherWatchdog;
     private final List<GrokCaptureConfig> captureConfig;
+    private final List<String> requiredLiterals;
 
     public Grok(Map<String, String> patternBank, String grokPattern, Consumer<String> logCallBack) {
         this(patternBank, grokPattern, true, MatcherWatchdog.noop(), logCallBack);
@@ -122,6 +129,7 @@ public final class Grok {
             captureConfig.add(new GrokCaptureConfig(entry.next()));
         }
         this.captureConfig = unmodifiableList(captureConfig);
+        this.requiredLiterals = requiredLiterals(expression);
     }
 
     /**
@@ -252,6 +260,22 @@ public final class Grok {
         return (result != -1);
     }
 
+    /**
+     * Checks whether a specific text may match the defined grok expression by looking for the literals that every match must contain.
+     * This is much cheaper than matching, so it allows to skip expressions that can't match up front.
+     *
+     * @param text the string to check
+     * @return false if the grok expression can't match the text, true if it may match it
+     */
+    public boolean mightMatch(String text) {
+        for (String literal : requiredLiterals) {
+            if (text.contains(literal) == false) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Matches and returns any named captures.
      *
@@ -260,8 +284,21 @@ public final class Grok {
      */
     public Map<String, Object> captures(String text) {
         byte[] utf8Bytes = text.getBytes(StandardCharsets.UTF_8);
+        return captures(utf8Bytes, 0, utf8Bytes.length);
+    }
+
+    /**
+     * Matches and returns any named captures, for callers that match the same text against several expressions and only want to
+     * encode it once.
+     *
+     * @param utf8Bytes array containing the text to match against encoded in utf-8
+     * @param offset offset {@code utf8Bytes} of the start of the text
+     * @param length length of the text to match
+     * @return a map containing field names and their respective coerced values that matched or null if the pattern didn't match
+     */
+    public Map<String, Object> captures(byte[] utf8Bytes, int offset, int length) {
         GrokCaptureExtracter.MapExtracter extracter = new GrokCaptureExtracter.MapExtracter(captureConfig);
-        if (match(utf8Bytes, 0, utf8Bytes.length, extracter)) {
+        if (match(utf8Bytes, offset, length, extracter)) {
             return extracter.result();
         }
         return null;
@@ -303,6 +340,140 @@ public final class Grok {
         return captureConfig;
     }
 
+    /**
+     * Collects the literal strings that any text matching the given regular expression must contain, longest first. Only literals
+     * outside of groups and alternations are taken into account, and expressions whose literals can't be determined that simply,
+     * e.g. because they change matching options inline, have no required literals at all.
+     */
+    static List<String> requiredLiterals(String expression) {
+        for (int i = expression.indexOf("(?"); i != -1; i = expression.indexOf("(?", i + 1)) {
+            if (i + 2 < expression.length() && (Character.isLetter(expression.charAt(i + 2)) || expression.charAt(i + 2) == '-')) {
+                // options such as case insensitive matching change what literals match
+                return Collections.emptyList();
+            }
+        }
+
+        List<String> literals = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        int depth = 0;
+        int i = 0;
+        while (i < expression.length()) {
+            char c = expression.charAt(i);
+            if (c == '\\' && i + 1 < expression.length()) {
+                char escaped = expression.charAt(i + 1);
+                i += 2;
+                if (depth > 0) {
+                    continue;
+                }
+                if (Character.isLetterOrDigit(escaped)) {
+                    if (CLASS_AND_ANCHOR_ESCAPES.indexOf(escaped) == -1) {
+                        // escapes such as hex codes, back references or quoted sections span more than two characters
+                        return Collections.emptyList();
+                    }
+                    flushLiteral(literals, current);
+                } else {
+                    i = appendLiteral(expression, i, escaped, literals, current);
+                }
+            } else if (c == '[') {
+                flushLiteral(literals, current);
+                i = skipCharacterClass(expression, i);
+            } else if (c == '(') {
+                flushLiteral(literals, current);
+                depth++;
+                i++;
+            } else if (c == ')') {
+                if (--depth < 0) {
+                    return Collections.emptyList();
+                }
+                i++;
+            } else if (depth > 0) {
+                i++;
+            } else if (c == '|') {
+                // any of the alternatives may match, so no literal is required
+                return Collections.emptyList();
+            } else if (c == '{') {
+                flushLiteral(literals, current);
+                i = skipInterval(expression, i);
+                if (i == -1) {
+                    // a brace that doesn't start an interval is matched literally, which is too rare to bother
+                    return Collections.emptyList();
+                }
+            } else if (c == '.' || c == '^' || c == '$' || c == '?' || c == '*' || c == '+') {
+                flushLiteral(literals, current);
+                i++;
+            } else {
+                i = appendLiteral(expression, i + 1, c, literals, current);
+            }
+        }
+        flushLiteral(literals, current);
+        literals.sort(Comparator.comparingInt(String::length).reversed());
+        return unmodifiableList(literals);
+    }
+
+    /**
+     * Appends a literal character to the current literal, taking the quantifier that may follow it at the given position into account.
+     */
+    private static int appendLiteral(String expression, int next, char literal, List<String> literals, StringBuilder current) {
+        char quantifier = next < expression.length() ? expression.charAt(next) : 0;
+        if (quantifier == '?' || quantifier == '*' || quantifier == '{') {
+            // the character is optional
+            flushLiteral(literals, current);
+        } else if (quantifier == '+') {
+            // the character is required but may repeat, which ends the literal
+            current.append(literal);
+            flushLiteral(literals, current);
+        } else {
+            current.append(literal);
+        }
+        return next;
+    }
+
+    private static void flushLiteral(List<String> literals, StringBuilder current) {
+        if (current.length() > 0) {
+            literals.add(current.toString());
+            current.setLength(0);
+        }
+    }
+
+    /**
+     * Skips an interval quantifier such as <code>{2,5}</code>, returning -1 if there is none at the given position.
+     */
+    private static int skipInterval(String expression, int start) {
+        int i = start + 1;
+        while (i < expression.length() && (Character.isDigit(expression.charAt(i)) || expression.charAt(i) == ',')) {
+            i++;
+        }
+        if (i == start + 1 || i == expression.length() || expression.charAt(i) != '}') {
+            return -1;
+        }
+        return i + 1;
+    }
+
+    private static int skipCharacterClass(String expression, int start) {
+        int i = start + 1;
+        if (i < expression.length() && expression.charAt(i) == '^') {
+            i++;
+        }
+        if (i < expression.length() && expression.charAt(i) == ']') {
+            i++;
+        }
+        int depth = 1;
+        while (i < expression.length() && depth > 0) {
+            char c = expression.charAt(i);
+            if (c == '\\') {
+                i += 2;
+                continue;
+            }
+            if (c == '[') {
+                depth++;
+            } else if (c == ']') {
+                depth--;
+            }
+            i++;
+        }
+        return i;
+    }
+
     /**
      * Load built-in patterns.
      */
@@ -682,6 +682,30 @@ public class GrokTests extends OpenSearchTestCase {
         assertThat(message.get(), containsString("regular expression has redundant nested repeat operator"));
     }
 
+    public void testRequiredLiterals() {
+        assertThat(Grok.requiredLiterals("value"), equalTo(Arrays.asList("value")));
+        assertThat(Grok.requiredLiterals("^(?<ts>\\S+) kernel: DROP IN=(?<in>\\S*) OUT="),
+            equalTo(Arrays.asList(" kernel: DROP IN=", " OUT=")));
+        assertThat(Grok.requiredLiterals("ab+c?d*ef{2}g\\.h"), equalTo(Arrays.asList("g.h", "ab", "e")));
+        assertThat(Grok.requiredLiterals("[)(|]foo(?:bar|baz)?qux"), equalTo(Arrays.asList("foo", "qux")));
+        assertThat(Grok.requiredLiterals("foo|bar"), equalTo(Collections.emptyList()));
+        assertThat(Grok.requiredLiterals("(?i)foo"), equalTo(Collections.emptyList()));
+        assertThat(Grok.requiredLiterals("foo\\x41"), equalTo(Collections.emptyList()));
+        assertThat(Grok.requiredLiterals("foo{bar"), equalTo(Collections.emptyList()));
+    }
+
+    public void testMightMatch() {
+        Grok grok = new Grok(Grok.BUILTIN_PATTERNS, "%{SYSLOGTIMESTAMP:ts} kernel: DROP IN=%{WORD:in}", logger::warn);
+        String line = "Mar 16 00:01:25 kernel: DROP IN=eth0";
+        assertThat(grok.mightMatch(line), is(true));
+        assertThat(grok.captures(line).get("in"), equalTo("eth0"));
+        assertThat(grok.mightMatch("Mar 16 00:01:25 kernel: ACCEPT IN=eth0"), is(false));
+        assertThat(grok.captures("Mar 16 00:01:25 kernel: ACCEPT IN=eth0"), nullValue());
+
+        grok = new Grok(Grok.BUILTIN_PATTERNS, "%{WORD:a}|%{NUMBER:b}", logger::warn);
+        assertThat(grok.mightMatch("anything"), is(true));
+    }
+
     private void assertGrokedField(String fieldName) {
         String line = "foo";
         Grok grok = new Grok(Grok.BUILTIN_PATTERNS, "%{WORD:" + fieldName + "}", logger::warn);
@@ -39,37 +39,85 @@ import org.opensearch.grok.MatcherWatchdog;
 import org.opensearch.ingest.AbstractProcessor;
 import org.opensearch.ingest.ConfigurationUtils;
 import org.opensearch.ingest.IngestDocument;
+import org.opensearch.ingest.IngestStats;
 import org.opensearch.ingest.Processor;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 import static org.opensearch.ingest.ConfigurationUtils.newConfigurationException;
 
+/**
+ * Extracts structured fields out of a single text field within a document, using a list of grok expressions. By default the
+ * expressions are combined into a single alternation, so the match that starts first in the text wins, and of the expressions that
+ * match at the same position the first one. Expressions are left out without matching them if the text lacks literals that they
+ * require.
+ * <p>
+ * If {@code reorder_patterns} is enabled, the expressions are instead matched one after the other, in the order of how often they
+ * matched so far, and the first one that matches anywhere in the text wins. This is faster when most documents match the same few
+ * expressions, but a text that several of them match may be matched by a different expression than by default, which also changes
+ * the {@code _ingest._grok_match_index} that {@code trace_match} reports.
+ */
 public final class GrokProcessor extends AbstractProcessor {
 
     public static final String TYPE = "grok";
     private static final String PATTERN_MATCH_KEY = "_ingest._grok_match_index";
     private static final Logger logger = LogManager.getLogger(GrokProcessor.class);
+    /**
+     * The number of documents processed between two reorderings of the patterns.
+     */
+    static final int REORDER_INTERVAL = 1000;
 
     private final String matchField;
     private final List<String> matchPatterns;
-    private final Grok grok;
+    private final List<Grok> groks;
+    private final Grok combinedGrok;
+    private final PatternStats[] patternStats;
     private final boolean traceMatch;
     private final boolean ignoreMissing;
+    private final boolean reorderPatterns;
+    private final AtomicLong executions = new AtomicLong();
+    private volatile int[] patternOrder;
 
     GrokProcessor(String tag, String description, Map<String, String> patternBank, List<String> matchPatterns, String matchField,
                   boolean traceMatch, boolean ignoreMissing, MatcherWatchdog matcherWatchdog) {
+        this(tag, description, patternBank, matchPatterns, matchField, traceMatch, ignoreMissing, false, matcherWatchdog);
+    }
+
+    GrokProcessor(String tag, String description, Map<String, String> patternBank, List<String> matchPatterns, String matchField,
+                  boolean traceMatch, boolean ignoreMissing, boolean reorderPatterns, MatcherWatchdog matcherWatchdog) {
         super(tag, description);
         this.matchField = matchField;
         this.matchPatterns = matchPatterns;
-        this.grok = new Grok(patternBank, combinePatterns(matchPatterns, traceMatch), matcherWatchdog, logger::debug);
+        List<Grok> groks = new ArrayList<>(matchPatterns.size());
+        for (String matchPattern : matchPatterns) {
+            groks.add(new Grok(patternBank, matchPattern, matcherWatchdog, logger::debug));
+            // Joni warnings are only emitted on an attempt to match, and the warning emitted for every call to match which is too
+            // verbose so here we emit a warning (if there is one) to the logfile at warn level on construction / processor creation.
+            new Grok(patternBank, matchPattern, matcherWatchdog, logger::warn).match("___nomatch___");
+        }
+        this.groks = Collections.unmodifiableList(groks);
+        this.combinedGrok = reorderPatterns || matchPatterns.size() == 1 ? null :
+            new Grok(patternBank, combinePatterns(matchPatterns), matcherWatchdog, logger::debug);
+        this.patternStats = new PatternStats[matchPatterns.size()];
+        this.patternOrder = new int[matchPatterns.size()];
+        for (int i = 0; i < patternStats.length; i++) {
+            patternStats[i] = new PatternStats();
+            patternOrder[i] = i;
+        }
         this.traceMatch = traceMatch;
         this.ignoreMissing = ignoreMissing;
-        // Joni warnings are only emitted on an attempt to match, and the warning emitted for every call to match which is too verbose
-        // so here we emit a warning (if there is one) to the logfile at warn level on construction / processor creation.
-        new Grok(patternBank, combinePatterns(matchPatterns, traceMatch), matcherWatchdog, logger::warn).match("___nomatch___");
+        this.reorderPatterns = reorderPatterns;
     }
 
     @Override
@@ -82,7 +130,46 @@ public final class GrokProcessor extends AbstractProcessor {
             throw new IllegalArgumentException("field [" + matchField + "] is null, cannot process it.");
         }
 
-        Map<String, Object> matches = grok.captures(fieldValue);
+        byte[] utf8Bytes = fieldValue.getBytes(StandardCharsets.UTF_8);
+        long startTimeInNanos = System.nanoTime();
+        Map<String, Object> matches = null;
+        int matchIndex = -1;
+        if (combinedGrok == null) {
+            for (int index : patternOrder) {
+                Grok grok = groks.get(index);
+                if (grok.mightMatch(fieldValue)) {
+                    matches = grok.captures(utf8Bytes, 0, utf8Bytes.length);
+                    if (matches != null) {
+                        matchIndex = index;
+                        break;
+                    }
+                }
+            }
+        } else {
+            int candidates = 0;
+            int candidate = -1;
+            for (int index = 0; index < groks.size(); index++) {
+                if (groks.get(index).mightMatch(fieldValue)) {
+                    candidates++;
+                    candidate = index;
+                }
+            }
+            if (candidates == 1) {
+                // no other expression can match, so matching this one alone gives the same result as the alternation
+                matches = groks.get(candidate).captures(utf8Bytes, 0, utf8Bytes.length);
+                matchIndex = matches == null ? -1 : candidate;
+            } else if (candidates > 1) {
+                matches = combinedGrok.captures(utf8Bytes, 0, utf8Bytes.length);
+                matchIndex = matches == null ? -1 : removeMatchIndex(matches);
+            }
+        }
+        if (matches != null) {
+            patternStats[matchIndex].record(System.nanoTime() - startTimeInNanos);
+        }
+        if (reorderPatterns && executions.incrementAndGet() % REORDER_INTERVAL == 0) {
+            reorderPatterns();
+        }
+
         if (matches == null) {
             throw new IllegalArgumentException("Provided Grok expressions do not match field value: [" + fieldValue + "]");
         }
@@ -90,32 +177,79 @@ public final class GrokProcessor extends AbstractProcessor {
         matches.forEach(ingestDocument::setFieldValue);
 
         if (traceMatch) {
-            if (matchPatterns.size() > 1) {
-                @SuppressWarnings("unchecked")
-                HashMap<String, String> matchMap = (HashMap<String, String>) ingestDocument.getFieldValue(PATTERN_MATCH_KEY, Object.class);
-                matchMap.keySet().stream().findFirst().ifPresent((index) -> {
-                    ingestDocument.setFieldValue(PATTERN_MATCH_KEY, index);
-                });
-            } else {
-                ingestDocument.setFieldValue(PATTERN_MATCH_KEY, "0");
-            }
+            ingestDocument.setFieldValue(PATTERN_MATCH_KEY, Integer.toString(matchIndex));
         }
         return ingestDocument;
     }
 
+    /**
+     * Removes the group that {@link #combinePatterns} wraps around each expression from the captures and returns the index of the
+     * expression that matched.
+     */
+    private static int removeMatchIndex(Map<String, Object> matches) {
+        int matchIndex = -1;
+        for (Iterator<String> keys = matches.keySet().iterator(); keys.hasNext(); ) {
+            String key = keys.next();
+            if (key.startsWith(PATTERN_MATCH_KEY + ".")) {
+                matchIndex = Integer.parseInt(key.substring(PATTERN_MATCH_KEY.length() + 1));
+                keys.remove();
+            }
+        }
+        return matchIndex;
+    }
+
+    /**
+     * Orders the patterns by how often they matched so far, so that the patterns that match most documents are tried first.
+     */
+    private void reorderPatterns() {
+        long[] matches = new long[patternStats.length];
+        Integer[] order = new Integer[patternStats.length];
+        for (int i = 0; i < order.length; i++) {
+            matches[i] = patternStats[i].matches.sum();
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Long.compare(matches[b], matches[a]));
+        int[] patternOrder = new int[order.length];
+        for (int i = 0; i < order.length; i++) {
+            patternOrder[i] = order[i];
+        }
+        this.patternOrder = patternOrder;
+    }
+
+    /**
+     * Reports for each pattern, keyed by its index in the list of patterns, how many documents it matched and the time it took to match
+     * them. Documents that no pattern matched are counted as failures in the stats of the processor itself.
+     */
+    @Override
+    public Map<String, IngestStats.Stats> getDetailedStats() {
+        Map<String, IngestStats.Stats> stats = new LinkedHashMap<>();
+        for (int i = 0; i < patternStats.length; i++) {
+            stats.put(Integer.toString(i), patternStats[i].createStats());
+        }
+        return stats;
+    }
+
     @Override
     public String getType() {
         return TYPE;
     }
 
-    Grok getGrok() {
-        return grok;
+    List<Grok> getGroks() {
+        return groks;
+    }
+
+    Grok getCombinedGrok() {
+        return combinedGrok;
     }
 
     boolean isIgnoreMissing() {
         return ignoreMissing;
     }
 
+    boolean isReorderPatterns() {
+        return reorderPatterns;
+    }
+
     String getMatchField() {
         return matchField;
     }
@@ -124,29 +258,33 @@ public final class GrokProcessor extends AbstractProcessor {
         return matchPatterns;
     }
 
-    static String combinePatterns(List<String> patterns, boolean traceMatch) {
-        String combinedPattern;
-        if (patterns.size() > 1) {
-            combinedPattern = "";
-            for (int i = 0; i < patterns.size(); i++) {
-                String pattern = patterns.get(i);
-                String valueWrap;
-                if (traceMatch) {
-                    valueWrap = "(?<" + PATTERN_MATCH_KEY + "." + i + ">" + pattern + ")";
-                } else {
-                    valueWrap = "(?:" + patterns.get(i) + ")";
-                }
-                if (combinedPattern.equals("")) {
-                    combinedPattern = valueWrap;
-                } else {
-                    combinedPattern = combinedPattern + "|" + valueWrap;
-                }
+    /**
+     * Combines the given expressions into a single alternation, wrapping each of them into a group named after its index so that the
+     * expression that matched can be told from the captures.
+     */
+    static String combinePatterns(List<String> patterns) {
+        StringBuilder combinedPattern = new StringBuilder();
+        for (int i = 0; i < patterns.size(); i++) {
+            if (i > 0) {
+                combinedPattern.append('|');
             }
-        }  else {
-            combinedPattern = patterns.get(0);
+            combinedPattern.append("(?<").append(PATTERN_MATCH_KEY).append('.').append(i).append('>').append(patterns.get(i)).append(')');
         }
+        return combinedPattern.toString();
+    }
 
-        return combinedPattern;
+    private static final class PatternStats {
+        private final LongAdder matches = new LongAdder();
+        private final LongAdder timeInNanos = new LongAdder();
+
+        void record(long tookInNanos) {
+            matches.increment();
+            timeInNanos.add(tookInNanos);
+        }
+
+        IngestStats.Stats createStats() {
+            return new IngestStats.Stats(matches.sum(), TimeUnit.NANOSECONDS.toMillis(timeInNanos.sum()), 0, 0);
+        }
     }
 
     public static final class Factory implements Processor.Factory {
@@ -166,6 +304,7 @@ public final class GrokProcessor extends AbstractProcessor {
             List<String> matchPatterns = ConfigurationUtils.readList(TYPE, processorTag, config, "patterns");
             boolean traceMatch = ConfigurationUtils.readBooleanProperty(TYPE, processorTag, config, "trace_match", false);
             boolean ignoreMissing = ConfigurationUtils.readBooleanProperty(TYPE, processorTag, config, "ignore_missing", false);
+            boolean reorderPatterns = ConfigurationUtils.readBooleanProperty(TYPE, processorTag, config, "reorder_patterns", false);
 
             if (matchPatterns.isEmpty()) {
                 throw newConfigurationException(TYPE, processorTag, "patterns", "List of patterns must not be empty");
@@ -178,7 +317,7 @@ public final class GrokProcessor extends AbstractProcessor {
 
             try {
                 return new GrokProcessor(processorTag, description, patternBank, matchPatterns, matchField, traceMatch, ignoreMissing,
-                    matcherWatchdog);
+                    reorderPatterns, matcherWatchdog);
             } catch (Exception e) {
                 throw newConfigurationException(TYPE, processorTag, "patterns",
                     "Invalid regex pattern found in: " + matchPatterns + ". " + e.getMessage());
@@ -36,6 +36,7 @@ import org.opensearch.OpenSearchParseException;
 import org.opensearch.grok.MatcherWatchdog;
 import org.opensearch.test.OpenSearchTestCase;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -43,6 +44,7 @@ import java.util.Map;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
 
 public class GrokProcessorFactoryTests extends OpenSearchTestCase {
 
@@ -56,7 +58,7 @@ public class GrokProcessorFactoryTests extends OpenSearchTestCase {
         GrokProcessor processor = factory.create(null, processorTag, null, config);
         assertThat(processor.getTag(), equalTo(processorTag));
         assertThat(processor.getMatchField(), equalTo("_field"));
-        assertThat(processor.getGrok(), notNullValue());
+        assertThat(processor.getGroks().size(), equalTo(1));
         assertThat(processor.isIgnoreMissing(), is(false));
     }
 
@@ -71,10 +73,30 @@ public class GrokProcessorFactoryTests extends OpenSearchTestCase {
         GrokProcessor processor = factory.create(null, processorTag, null, config);
         assertThat(processor.getTag(), equalTo(processorTag));
         assertThat(processor.getMatchField(), equalTo("_field"));
-        assertThat(processor.getGrok(), notNullValue());
+        assertThat(processor.getGroks().size(), equalTo(1));
         assertThat(processor.isIgnoreMissing(), is(true));
     }
 
+    public void testBuildWithReorderPatterns() throws Exception {
+        GrokProcessor.Factory factory = new GrokProcessor.Factory(Collections.emptyMap(), MatcherWatchdog.noop());
+
+        Map<String, Object> config = new HashMap<>();
+        config.put("field", "_field");
+        config.put("patterns", Arrays.asList("(?<foo>\\w+)", "(?<bar>\\d+)"));
+        config.put("reorder_patterns", true);
+        GrokProcessor processor = factory.create(null, null, null, config);
+        assertThat(processor.getGroks().size(), equalTo(2));
+        assertThat(processor.isReorderPatterns(), is(true));
+        assertThat(processor.getCombinedGrok(), nullValue());
+
+        config = new HashMap<>();
+        config.put("field", "_field");
+        config.put("patterns", Arrays.asList("(?<foo>\\w+)", "(?<bar>\\d+)"));
+        processor = factory.create(null, null, null, config);
+        assertThat(processor.isReorderPatterns(), is(false));
+        assertThat(processor.getCombinedGrok(), notNullValue());
+    }
+
     public void testBuildMissingField() throws Exception {
         GrokProcessor.Factory factory = new GrokProcessor.Factory(Collections.emptyMap(), MatcherWatchdog.noop());
         Map<String, Object> config = new HashMap<>();
@@ -109,8 +131,8 @@ public class GrokProcessorFactoryTests extends OpenSearchTestCase {
         config.put("pattern_definitions", Collections.singletonMap("MY_PATTERN", "foo"));
         GrokProcessor processor = factory.create(null, null, null, config);
         assertThat(processor.getMatchField(), equalTo("_field"));
-        assertThat(processor.getGrok(), notNullValue());
-        assertThat(processor.getGrok().match("foo!"), equalTo(true));
+        assertThat(processor.getGroks().size(), equalTo(1));
+        assertThat(processor.getGroks().get(0).match("foo!"), equalTo(true));
     }
 
     public void testCreateWithInvalidPattern() throws Exception {
@@ -32,17 +32,21 @@
 
 package org.opensearch.ingest.common;
 
+import org.opensearch.grok.Grok;
 import org.opensearch.grok.MatcherWatchdog;
 import org.opensearch.ingest.IngestDocument;
+import org.opensearch.ingest.IngestStats;
 import org.opensearch.ingest.RandomDocumentPicks;
 import org.opensearch.test.OpenSearchTestCase;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static org.opensearch.ingest.IngestDocumentMatcher.assertIngestDocument;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.equalTo;
 
 
@@ -206,19 +210,37 @@ public class GrokProcessorTests extends OpenSearchTestCase {
     }
 
     public void testCombinedPatterns() {
-        String combined;
-        combined = GrokProcessor.combinePatterns(Arrays.asList(""), false);
-        assertThat(combined, equalTo(""));
-        combined = GrokProcessor.combinePatterns(Arrays.asList(""), true);
-        assertThat(combined, equalTo(""));
-        combined = GrokProcessor.combinePatterns(Arrays.asList("foo"), false);
-        assertThat(combined, equalTo("foo"));
-        combined = GrokProcessor.combinePatterns(Arrays.asList("foo"), true);
-        assertThat(combined, equalTo("foo"));
-        combined = GrokProcessor.combinePatterns(Arrays.asList("foo", "bar"), false);
-        assertThat(combined, equalTo("(?:foo)|(?:bar)"));
-        combined = GrokProcessor.combinePatterns(Arrays.asList("foo", "bar"), true);
-        assertThat(combined, equalTo("(?<_ingest._grok_match_index.0>foo)|(?<_ingest._grok_match_index.1>bar)"));
+        assertThat(GrokProcessor.combinePatterns(Arrays.asList("foo")), equalTo("(?<_ingest._grok_match_index.0>foo)"));
+        assertThat(GrokProcessor.combinePatterns(Arrays.asList("foo", "bar")),
+            equalTo("(?<_ingest._grok_match_index.0>foo)|(?<_ingest._grok_match_index.1>bar)"));
+    }
+
+    public void testLeftmostMatchWins() throws Exception {
+        String fieldName = RandomDocumentPicks.randomFieldName(random());
+        Map<String, String> patternBank = new HashMap<>();
+        patternBank.put("ONE", "1");
+        patternBank.put("TWO", "2");
+        List<String> patterns = Arrays.asList("%{ONE:one}", "%{TWO:two}");
+
+        // the second pattern matches earlier in the text, so it wins by default
+        IngestDocument doc = RandomDocumentPicks.randomIngestDocument(random(), new HashMap<>());
+        doc.setFieldValue(fieldName, "21");
+        GrokProcessor processor = new GrokProcessor(randomAlphaOfLength(10), null, patternBank, patterns, fieldName, true, false,
+            MatcherWatchdog.noop());
+        processor.execute(doc);
+        assertThat(doc.hasField("one"), equalTo(false));
+        assertThat(doc.getFieldValue("two", String.class), equalTo("2"));
+        assertThat(doc.getFieldValue("_ingest._grok_match_index", String.class), equalTo("1"));
+
+        // while the first pattern that matches anywhere wins if patterns are matched one after the other
+        doc = RandomDocumentPicks.randomIngestDocument(random(), new HashMap<>());
+        doc.setFieldValue(fieldName, "21");
+        processor = new GrokProcessor(randomAlphaOfLength(10), null, patternBank, patterns, fieldName, true, false, true,
+            MatcherWatchdog.noop());
+        processor.execute(doc);
+        assertThat(doc.getFieldValue("one", String.class), equalTo("1"));
+        assertThat(doc.hasField("two"), equalTo(false));
+        assertThat(doc.getFieldValue("_ingest._grok_match_index", String.class), equalTo("0"));
     }
 
     public void testCombineSamePatternNameAcrossPatterns() throws Exception {
@@ -263,4 +285,71 @@ public class GrokProcessorTests extends OpenSearchTestCase {
         assertFalse(doc.hasField("first"));
         assertThat(doc.getFieldValue("second", String.class), equalTo("3"));
     }
+
+    public void testPatternsWithoutRequiredLiteralsAreSkipped() throws Exception {
+        String fieldName = RandomDocumentPicks.randomFieldName(random());
+        IngestDocument doc = RandomDocumentPicks.randomIngestDocument(random(), new HashMap<>());
+        doc.setFieldValue(fieldName, "action=DROP port=22");
+        GrokProcessor processor = new GrokProcessor(randomAlphaOfLength(10), null, Grok.BUILTIN_PATTERNS,
+            Arrays.asList("action=ACCEPT port=%{INT:port}", "action=DROP port=%{INT:port}"), fieldName, true, false,
+            MatcherWatchdog.noop());
+        processor.execute(doc);
+        assertThat(doc.getFieldValue("port", String.class), equalTo("22"));
+        assertThat(doc.getFieldValue("_ingest._grok_match_index", String.class), equalTo("1"));
+
+        Map<String, IngestStats.Stats> stats = processor.getDetailedStats();
+        assertThat(stats.get("0").getIngestCount(), equalTo(0L));
+        assertThat(stats.get("1").getIngestCount(), equalTo(1L));
+    }
+
+    public void testDetailedStats() throws Exception {
+        String fieldName = RandomDocumentPicks.randomFieldName(random());
+        Map<String, String> patternBank = new HashMap<>();
+        patternBank.put("ONE", "1");
+        patternBank.put("TWO", "2");
+        GrokProcessor processor = new GrokProcessor(randomAlphaOfLength(10), null, patternBank,
+            Arrays.asList("%{ONE:one}", "%{TWO:two}", "%{ONE:one}"), fieldName, false, false, MatcherWatchdog.noop());
+        for (String value : Arrays.asList("1", "2", "2", "12", "3")) {
+            IngestDocument doc = RandomDocumentPicks.randomIngestDocument(random(), new HashMap<>());
+            doc.setFieldValue(fieldName, value);
+            if (value.equals("3")) {
+                expectThrows(IllegalArgumentException.class, () -> processor.execute(doc));
+            } else {
+                processor.execute(doc);
+            }
+        }
+        // patterns are keyed by index, so duplicated patterns get an entry each, and documents that no pattern matched aren't counted
+        Map<String, IngestStats.Stats> stats = processor.getDetailedStats();
+        assertThat(stats.keySet(), contains("0", "1", "2"));
+        assertThat(stats.get("0").getIngestCount(), equalTo(2L));
+        assertThat(stats.get("1").getIngestCount(), equalTo(2L));
+        assertThat(stats.get("2").getIngestCount(), equalTo(0L));
+        for (IngestStats.Stats patternStats : stats.values()) {
+            assertThat(patternStats.getIngestFailedCount(), equalTo(0L));
+        }
+    }
+
+    public void testReorderPatterns() throws Exception {
+        String fieldName = RandomDocumentPicks.randomFieldName(random());
+        Map<String, String> patternBank = new HashMap<>();
+        patternBank.put("ONE", "1");
+        patternBank.put("TWO", "2");
+        GrokProcessor processor = new GrokProcessor(randomAlphaOfLength(10), null, patternBank,
+            Arrays.asList("%{ONE:one}", "%{TWO:two}"), fieldName, false, false, true, MatcherWatchdog.noop());
+        for (int i = 0; i < GrokProcessor.REORDER_INTERVAL; i++) {
+            IngestDocument doc = RandomDocumentPicks.randomIngestDocument(random(), new HashMap<>());
+            doc.setFieldValue(fieldName, "2");
+            processor.execute(doc);
+        }
+        assertThat(processor.getDetailedStats().get("0").getIngestCount(), equalTo(0L));
+        assertThat(processor.getDetailedStats().get("1").getIngestCount(), equalTo((long) GrokProcessor.REORDER_INTERVAL));
+
+        // the second pattern matched more often, so it is tried first now and wins even though both patterns match
+        IngestDocument doc = RandomDocumentPicks.randomIngestDocument(random(), new HashMap<>());
+        doc.setFieldValue(fieldName, "12");
+        processor.execute(doc);
+        assertThat(doc.hasField("one"), equalTo(false));
+        assertThat(doc.getFieldValue("two", String.class), equalTo("2"));
+        assertThat(processor.getDetailedStats().get("1").getIngestCount(), equalTo(GrokProcessor.REORDER_INTERVAL + 1L));
+    }
 }
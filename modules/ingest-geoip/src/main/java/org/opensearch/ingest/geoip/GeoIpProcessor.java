@@ -33,7 +33,9 @@
 package org.opensearch.ingest.geoip;
 
 import com.maxmind.db.Network;
+import com.maxmind.geoip2.DatabaseReader;
 import com.maxmind.geoip2.exception.AddressNotFoundException;
+import com.maxmind.geoip2.model.AbstractResponse;
 import com.maxmind.geoip2.model.AsnResponse;
 import com.maxmind.geoip2.model.CityResponse;
 import com.maxmind.geoip2.model.CountryResponse;
@@ -44,10 +46,12 @@ import com.maxmind.geoip2.record.Location;
 import com.maxmind.geoip2.record.Subdivision;
 import org.opensearch.OpenSearchParseException;
 import org.opensearch.SpecialPermission;
+import org.opensearch.common.CheckedBiFunction;
 import org.opensearch.common.network.InetAddresses;
 import org.opensearch.common.network.NetworkAddress;
 import org.opensearch.ingest.AbstractProcessor;
 import org.opensearch.ingest.IngestDocument;
+import org.opensearch.ingest.IngestStats;
 import org.opensearch.ingest.Processor;
 import org.opensearch.ingest.geoip.IngestGeoIpPlugin.GeoIpCache;
 
@@ -60,10 +64,13 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
 import static org.opensearch.ingest.ConfigurationUtils.newConfigurationException;
 import static org.opensearch.ingest.ConfigurationUtils.readBooleanProperty;
@@ -84,6 +91,10 @@ public final class GeoIpProcessor extends AbstractProcessor {
     private final boolean ignoreMissing;
     private final GeoIpCache cache;
     private final boolean firstOnly;
+    private final LongAdder lookups = new LongAdder();
+    private final LongAdder cacheMisses = new LongAdder();
+    private final LongAdder missTimeInNanos = new LongAdder();
+    private final LongAdder addressesNotFound = new LongAdder();
 
     /**
      * Construct a geo-IP processor.
@@ -213,18 +224,43 @@ public final class GeoIpProcessor extends AbstractProcessor {
         return properties;
     }
 
-    private Map<String, Object> retrieveCityGeoData(InetAddress ipAddress) {
+    @Override
+    public Map<String, IngestStats.Stats> getDetailedStats() {
+        long misses = cacheMisses.sum();
+        Map<String, IngestStats.Stats> stats = new LinkedHashMap<>();
+        stats.put("cache_hits", new IngestStats.Stats(lookups.sum() - misses, 0, 0, 0));
+        stats.put("cache_misses", new IngestStats.Stats(misses, TimeUnit.NANOSECONDS.toMillis(missTimeInNanos.sum()), 0, 0));
+        stats.put("addresses_not_found", new IngestStats.Stats(addressesNotFound.sum(), 0, 0, 0));
+        return stats;
+    }
+
+    /**
+     * Looks the address up in the cache and only falls back to reading the database on a cache miss. Misses are reported along with
+     * the time spent reading the database. Addresses that were not found in it are not cached, and are reported on their own.
+     */
+    private <T extends AbstractResponse> T lookup(InetAddress ipAddress, Class<T> responseType,
+                                                  CheckedBiFunction<DatabaseReader, InetAddress, T, Exception> retrieveFunction) {
         SpecialPermission.check();
-        CityResponse response = AccessController.doPrivileged((PrivilegedAction<CityResponse>) () ->
-            cache.putIfAbsent(ipAddress, CityResponse.class, ip -> {
+        lookups.increment();
+        return AccessController.doPrivileged((PrivilegedAction<T>) () ->
+            cache.putIfAbsent(ipAddress, responseType, ip -> {
+                final long startTimeInNanos = System.nanoTime();
                 try {
-                    return lazyLoader.get().city(ip);
+                    return retrieveFunction.apply(lazyLoader.get(), ip);
                 } catch (AddressNotFoundException e) {
+                    addressesNotFound.increment();
                     throw new AddressNotFoundRuntimeException(e);
                 } catch (Exception e) {
                     throw new RuntimeException(e);
+                } finally {
+                    cacheMisses.increment();
+                    missTimeInNanos.add(System.nanoTime() - startTimeInNanos);
                 }
             }));
+    }
+
+    private Map<String, Object> retrieveCityGeoData(InetAddress ipAddress) {
+        CityResponse response = lookup(ipAddress, CityResponse.class, DatabaseReader::city);
 
         Country country = response.getCountry();
         City city = response.getCity();
@@ -300,17 +336,7 @@ public final class GeoIpProcessor extends AbstractProcessor {
     }
 
     private Map<String, Object> retrieveCountryGeoData(InetAddress ipAddress) {
-        SpecialPermission.check();
-        CountryResponse response = AccessController.doPrivileged((PrivilegedAction<CountryResponse>) () ->
-            cache.putIfAbsent(ipAddress, CountryResponse.class, ip -> {
-                try {
-                    return lazyLoader.get().country(ip);
-                } catch (AddressNotFoundException e) {
-                    throw new AddressNotFoundRuntimeException(e);
-                } catch (Exception e) {
-                    throw new RuntimeException(e);
-                }
-            }));
+        CountryResponse response = lookup(ipAddress, CountryResponse.class, DatabaseReader::country);
 
         Country country = response.getCountry();
         Continent continent = response.getContinent();
@@ -345,17 +371,7 @@ public final class GeoIpProcessor extends AbstractProcessor {
     }
 
     private Map<String, Object> retrieveAsnGeoData(InetAddress ipAddress) {
-        SpecialPermission.check();
-        AsnResponse response = AccessController.doPrivileged((PrivilegedAction<AsnResponse>) () ->
-            cache.putIfAbsent(ipAddress, AsnResponse.class, ip -> {
-                try {
-                    return lazyLoader.get().asn(ip);
-                } catch (AddressNotFoundException e) {
-                    throw new AddressNotFoundRuntimeException(e);
-                } catch (Exception e) {
-                    throw new RuntimeException(e);
-                }
-            }));
+        AsnResponse response = lookup(ipAddress, AsnResponse.class, DatabaseReader::asn);
 
         Integer asn = response.getAutonomousSystemNumber();
         String organization_name = response.getAutonomousSystemOrganization();
@@ -37,12 +37,14 @@ import com.maxmind.db.NodeCache;
 import com.maxmind.db.Reader;
 import com.maxmind.geoip2.DatabaseReader;
 import com.maxmind.geoip2.model.AbstractResponse;
+import com.maxmind.geoip2.model.AsnResponse;
+import com.maxmind.geoip2.model.CityResponse;
+import com.maxmind.geoip2.model.CountryResponse;
 import org.opensearch.common.Booleans;
 import org.opensearch.common.SuppressForbidden;
-import org.opensearch.common.cache.Cache;
-import org.opensearch.common.cache.CacheBuilder;
 import org.opensearch.common.io.PathUtils;
 import org.opensearch.common.settings.Setting;
+import org.opensearch.common.unit.ByteSizeValue;
 import org.opensearch.core.internal.io.IOUtils;
 import org.opensearch.ingest.Processor;
 import org.opensearch.plugins.IngestPlugin;
@@ -61,12 +63,21 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.Function;
+import java.util.function.ToLongFunction;
 import java.util.stream.Stream;
 
 public class IngestGeoIpPlugin extends Plugin implements IngestPlugin, Closeable {
     public static final Setting<Long> CACHE_SIZE =
         Setting.longSetting("ingest.geoip.cache_size", 1000, 0, Setting.Property.NodeScope);
+    /**
+     * Bounds the cache by the estimated size of the cached responses rather than by their number. Takes precedence over
+     * {@link #CACHE_SIZE} if set.
+     */
+    public static final Setting<ByteSizeValue> CACHE_MEMORY_SIZE =
+        Setting.byteSizeSetting("ingest.geoip.cache_memory_size", new ByteSizeValue(-1), Setting.Property.NodeScope);
 
     static String[] DEFAULT_DATABASE_FILENAMES = new String[]{"GeoLite2-ASN.mmdb", "GeoLite2-City.mmdb", "GeoLite2-Country.mmdb"};
 
@@ -74,7 +85,7 @@ public class IngestGeoIpPlugin extends Plugin implements IngestPlugin, Closeable
 
     @Override
     public List<Setting<?>> getSettings() {
-        return Arrays.asList(CACHE_SIZE);
+        return Arrays.asList(CACHE_SIZE, CACHE_MEMORY_SIZE);
     }
 
     @Override
@@ -84,13 +95,18 @@ public class IngestGeoIpPlugin extends Plugin implements IngestPlugin, Closeable
         }
         final Path geoIpDirectory = getGeoIpDirectory(parameters);
         final Path geoIpConfigDirectory = parameters.env.configFile().resolve("ingest-geoip");
-        long cacheSize = CACHE_SIZE.get(parameters.env.settings());
+        final GeoIpCache cache;
+        if (CACHE_MEMORY_SIZE.exists(parameters.env.settings())) {
+            cache = GeoIpCache.withMaxBytes(CACHE_MEMORY_SIZE.get(parameters.env.settings()));
+        } else {
+            cache = new GeoIpCache(CACHE_SIZE.get(parameters.env.settings()));
+        }
         try {
             databaseReaders = loadDatabaseReaders(geoIpDirectory, geoIpConfigDirectory);
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
-        return Collections.singletonMap(GeoIpProcessor.TYPE, new GeoIpProcessor.Factory(databaseReaders, new GeoIpCache(cacheSize)));
+        return Collections.singletonMap(GeoIpProcessor.TYPE, new GeoIpProcessor.Factory(databaseReaders, cache));
     }
 
     /*
@@ -182,36 +198,160 @@ public class IngestGeoIpPlugin extends Plugin implements IngestPlugin, Closeable
      * This cache differs from the maxmind's {@link NodeCache} such that this cache stores the deserialized Json objects to avoid the
      * cost of deserialization for each lookup (cached or not). This comes at slight expense of higher memory usage, but significant
      * reduction of CPU usage.
+     *
+     * Lookups are on the hot path of every ingested document, so the cache is a direct-mapped table whose slots are read and replaced
+     * without taking any lock. An address that hashes to an occupied slot replaces what was there, unless that entry was hit since it
+     * was cached or last spared, in which case it gets a second chance and the new address is not cached. The table is bounded by a
+     * maximum weight, which is either the number of entries or their estimated size in bytes, and is only allocated on the first put
+     * so that nodes that never run a geoip processor don't pay for it.
      */
     static class GeoIpCache {
-        private final Cache<CacheKey<?>, AbstractResponse> cache;
+        // estimates of the size of the deserialized responses, most of which are the localized names of the places
+        private static final long ASN_RESPONSE_BYTES = 512;
+        private static final long COUNTRY_RESPONSE_BYTES = 3 * 1024;
+        private static final long CITY_RESPONSE_BYTES = 6 * 1024;
+        private static final int MAX_SLOTS = 1 << 20;
+
+        private final int numSlots;
+        private volatile AtomicReferenceArray<CacheEntry> slots;
+        private final long maxWeight;
+        private final ToLongFunction<AbstractResponse> weigher;
+        private final AtomicLong weight = new AtomicLong();
 
         //package private for testing
         GeoIpCache(long maxSize) {
+            this(maxSize, maxSize, response -> 1L);
             if (maxSize < 0) {
                 throw new IllegalArgumentException("geoip max cache size must be 0 or greater");
             }
-            this.cache = CacheBuilder.<CacheKey<?>, AbstractResponse>builder().setMaximumWeight(maxSize).build();
+        }
+
+        private GeoIpCache(long maxEntries, long maxWeight, ToLongFunction<AbstractResponse> weigher) {
+            this.numSlots = maxEntries <= 0 ? 0 : (int) Math.min(MAX_SLOTS, nextPowerOfTwo(maxEntries));
+            this.maxWeight = maxWeight;
+            this.weigher = weigher;
+        }
+
+        /**
+         * Creates a cache that holds up to the given number of bytes, going by an estimate of the size of each response.
+         */
+        static GeoIpCache withMaxBytes(ByteSizeValue maxSize) {
+            if (maxSize.getBytes() < 0) {
+                throw new IllegalArgumentException("geoip max cache memory size must be 0 or greater");
+            }
+            return new GeoIpCache(maxSize.getBytes() / ASN_RESPONSE_BYTES, maxSize.getBytes(), GeoIpCache::estimateBytes);
+        }
+
+        static long estimateBytes(AbstractResponse response) {
+            if (response instanceof AsnResponse) {
+                return ASN_RESPONSE_BYTES;
+            } else if (response instanceof CityResponse) {
+                return CITY_RESPONSE_BYTES;
+            } else if (response instanceof CountryResponse) {
+                return COUNTRY_RESPONSE_BYTES;
+            }
+            return CITY_RESPONSE_BYTES;
+        }
+
+        private static long nextPowerOfTwo(long value) {
+            return value <= 1 ? 1 : Long.highestOneBit(value - 1) << 1;
         }
 
         <T extends AbstractResponse> T putIfAbsent(InetAddress ip, Class<T> responseType,
                                                    Function<InetAddress, AbstractResponse> retrieveFunction) {
 
-            //can't use cache.computeIfAbsent due to the elevated permissions for the jackson (run via the cache loader)
+            //can't use a loading cache due to the elevated permissions for the jackson (run via the cache loader)
             CacheKey<T> cacheKey = new CacheKey<>(ip, responseType);
-            //intentionally non-locking for simplicity...it's OK if we re-put the same key/value in the cache during a race condition.
-            AbstractResponse response = cache.get(cacheKey);
+            AbstractResponse response = get(cacheKey);
             if (response == null) {
                 response = retrieveFunction.apply(ip);
-                cache.put(cacheKey, response);
+                put(cacheKey, response);
             }
             return responseType.cast(response);
         }
 
         //only useful for testing
         <T extends AbstractResponse> T get(InetAddress ip, Class<T> responseType) {
-            CacheKey<T> cacheKey = new CacheKey<>(ip, responseType);
-            return responseType.cast(cache.get(cacheKey));
+            return responseType.cast(get(new CacheKey<>(ip, responseType)));
+        }
+
+        //only useful for testing
+        long weight() {
+            return weight.get();
+        }
+
+        //only useful for testing
+        boolean isAllocated() {
+            return slots != null;
+        }
+
+        private AbstractResponse get(CacheKey<?> cacheKey) {
+            final AtomicReferenceArray<CacheEntry> table = slots;
+            if (table == null) {
+                return null;
+            }
+            CacheEntry entry = table.get(slot(table, cacheKey));
+            if (entry == null || entry.key.equals(cacheKey) == false) {
+                return null;
+            }
+            if (entry.referenced == false) {
+                entry.referenced = true;
+            }
+            return entry.response;
+        }
+
+        private void put(CacheKey<?> cacheKey, AbstractResponse response) {
+            if (numSlots == 0) {
+                return;
+            }
+            final AtomicReferenceArray<CacheEntry> table = allocate();
+            final int slot = slot(table, cacheKey);
+            final CacheEntry previous = table.get(slot);
+            if (previous != null && previous.referenced && previous.key.equals(cacheKey) == false) {
+                // an entry that was hit is spared once, so that addresses that are only seen once don't evict hot entries
+                previous.referenced = false;
+                return;
+            }
+            final CacheEntry entry = new CacheEntry(cacheKey, response, weigher.applyAsLong(response));
+            final long previousWeight = previous == null ? 0 : previous.weight;
+            if (entry.weight > previousWeight && weight.get() + entry.weight - previousWeight > maxWeight) {
+                // full: only replace entries that free up at least as much as the new entry needs
+                return;
+            }
+            //intentionally non-locking for simplicity...a racing put may replace the entry first, so we account for what was replaced.
+            final CacheEntry replaced = table.getAndSet(slot, entry);
+            weight.addAndGet(entry.weight - (replaced == null ? 0 : replaced.weight));
+        }
+
+        private AtomicReferenceArray<CacheEntry> allocate() {
+            AtomicReferenceArray<CacheEntry> table = slots;
+            if (table == null) {
+                synchronized (this) {
+                    table = slots;
+                    if (table == null) {
+                        slots = table = new AtomicReferenceArray<>(numSlots);
+                    }
+                }
+            }
+            return table;
+        }
+
+        private static int slot(AtomicReferenceArray<CacheEntry> table, CacheKey<?> cacheKey) {
+            int hash = cacheKey.hashCode();
+            return (hash ^ (hash >>> 16)) & (table.length() - 1);
+        }
+
+        private static class CacheEntry {
+            private final CacheKey<?> key;
+            private final AbstractResponse response;
+            private final long weight;
+            private volatile boolean referenced;
+
+            private CacheEntry(CacheKey<?> key, AbstractResponse response, long weight) {
+                this.key = key;
+                this.response = response;
+                this.weight = weight;
+            }
         }
 
          /**
@@ -36,6 +36,7 @@ import com.maxmind.geoip2.DatabaseReader;
 import org.opensearch.common.CheckedSupplier;
 import org.opensearch.common.io.PathUtils;
 import org.opensearch.ingest.IngestDocument;
+import org.opensearch.ingest.IngestStats;
 import org.opensearch.ingest.RandomDocumentPicks;
 import org.opensearch.ingest.geoip.IngestGeoIpPlugin.GeoIpCache;
 import org.opensearch.test.OpenSearchTestCase;
@@ -241,6 +242,22 @@ public class GeoIpProcessorTests extends OpenSearchTestCase {
         assertThat(ingestDocument.getSourceAndMetadata().containsKey("target_field"), is(false));
     }
 
+    public void testCacheStats() throws Exception {
+        GeoIpProcessor processor = new GeoIpProcessor(randomAlphaOfLength(10), null, "source_field",
+                loader("/GeoLite2-City.mmdb"), "target_field", EnumSet.allOf(GeoIpProcessor.Property.class), false,
+                new GeoIpCache(1000), false);
+
+        for (String ip : Arrays.asList("8.8.8.8", "8.8.8.8", "127.0.0.1", "8.8.8.8", "127.0.0.1")) {
+            processor.execute(RandomDocumentPicks.randomIngestDocument(random(), Collections.singletonMap("source_field", ip)));
+        }
+        Map<String, IngestStats.Stats> stats = processor.getDetailedStats();
+        assertThat(stats.get("cache_hits").getIngestCount(), equalTo(2L));
+        // addresses that are not in the database are not cached
+        assertThat(stats.get("cache_misses").getIngestCount(), equalTo(3L));
+        assertThat(stats.get("cache_misses").getIngestFailedCount(), equalTo(0L));
+        assertThat(stats.get("addresses_not_found").getIngestCount(), equalTo(2L));
+    }
+
     /** Don't silently do DNS lookups or anything trappy on bogus data */
     public void testInvalid() throws Exception {
         GeoIpProcessor processor = new GeoIpProcessor(randomAlphaOfLength(10), null, "source_field",
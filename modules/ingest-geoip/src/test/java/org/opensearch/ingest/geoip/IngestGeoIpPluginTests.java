@@ -34,9 +34,15 @@ package org.opensearch.ingest.geoip;
 
 import com.maxmind.geoip2.model.AbstractResponse;
 import org.opensearch.common.network.InetAddresses;
+import org.opensearch.common.unit.ByteSizeUnit;
+import org.opensearch.common.unit.ByteSizeValue;
 import org.opensearch.ingest.geoip.IngestGeoIpPlugin.GeoIpCache;
 import org.opensearch.test.OpenSearchTestCase;
 
+import java.net.InetAddress;
+
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.mockito.Mockito.mock;
 
 public class IngestGeoIpPluginTests extends OpenSearchTestCase {
@@ -53,7 +59,12 @@ public class IngestGeoIpPluginTests extends OpenSearchTestCase {
         assertSame(cachedResponse, cache.get(InetAddresses.forString("127.0.0.1"), AbstractResponse.class));
 
 
-        // evict old key by adding another value
+        // the old key was hit, so it is spared by the first put of another value
+        cachedResponse = cache.putIfAbsent(InetAddresses.forString("127.0.0.2"), AbstractResponse.class, ip -> response2);
+        assertSame(cachedResponse, response2);
+        assertNull(cache.get(InetAddresses.forString("127.0.0.2"), AbstractResponse.class));
+
+        // evict old key by adding another value again
         cachedResponse = cache.putIfAbsent(InetAddresses.forString("127.0.0.2"), AbstractResponse.class, ip -> response2);
         assertSame(cachedResponse, response2);
         assertSame(cachedResponse, cache.putIfAbsent(InetAddresses.forString("127.0.0.2"), AbstractResponse.class, ip -> response2));
@@ -62,6 +73,55 @@ public class IngestGeoIpPluginTests extends OpenSearchTestCase {
         assertNotSame(response1, cache.get(InetAddresses.forString("127.0.0.1"), AbstractResponse.class));
     }
 
+    public void testCacheIsAllocatedOnFirstPut() {
+        GeoIpCache cache = new GeoIpCache(1000);
+        assertFalse(cache.isAllocated());
+        assertNull(cache.get(InetAddresses.forString("127.0.0.1"), AbstractResponse.class));
+        assertFalse(cache.isAllocated());
+        AbstractResponse response = mock(AbstractResponse.class);
+        assertSame(response, cache.putIfAbsent(InetAddresses.forString("127.0.0.1"), AbstractResponse.class, ip -> response));
+        assertTrue(cache.isAllocated());
+    }
+
+    public void testUnusedEntryIsEvicted() {
+        GeoIpCache cache = new GeoIpCache(1);
+        AbstractResponse response1 = mock(AbstractResponse.class);
+        AbstractResponse response2 = mock(AbstractResponse.class);
+        cache.putIfAbsent(InetAddresses.forString("127.0.0.1"), AbstractResponse.class, ip -> response1);
+        // an entry that was never hit is replaced by the first put of another value
+        cache.putIfAbsent(InetAddresses.forString("127.0.0.2"), AbstractResponse.class, ip -> response2);
+        assertSame(response2, cache.get(InetAddresses.forString("127.0.0.2"), AbstractResponse.class));
+        assertNull(cache.get(InetAddresses.forString("127.0.0.1"), AbstractResponse.class));
+        assertEquals(1, cache.weight());
+    }
+
+    public void testCacheBoundedByBytes() {
+        ByteSizeValue maxSize = new ByteSizeValue(1, ByteSizeUnit.MB);
+        GeoIpCache cache = GeoIpCache.withMaxBytes(maxSize);
+        AbstractResponse response = mock(AbstractResponse.class);
+        long entryBytes = GeoIpCache.estimateBytes(response);
+
+        InetAddress ip = InetAddresses.forString("10.0.0.1");
+        assertSame(response, cache.putIfAbsent(ip, AbstractResponse.class, address -> response));
+        assertSame(response, cache.get(ip, AbstractResponse.class));
+        assertEquals(entryBytes, cache.weight());
+
+        for (int i = 0; i < 10_000; i++) {
+            ip = InetAddresses.forString("10.0." + (i / 256) + "." + (i % 256));
+            assertSame(response, cache.putIfAbsent(ip, AbstractResponse.class, address -> response));
+            assertThat(cache.weight(), lessThanOrEqualTo(maxSize.getBytes()));
+        }
+        assertThat(cache.weight(), greaterThan(maxSize.getBytes() / 2));
+    }
+
+    public void testDisabledCache() {
+        GeoIpCache cache = randomBoolean() ? new GeoIpCache(0) : GeoIpCache.withMaxBytes(new ByteSizeValue(0));
+        AbstractResponse response = mock(AbstractResponse.class);
+        assertSame(response, cache.putIfAbsent(InetAddresses.forString("127.0.0.1"), AbstractResponse.class, ip -> response));
+        assertNull(cache.get(InetAddresses.forString("127.0.0.1"), AbstractResponse.class));
+        assertEquals(0, cache.weight());
+    }
+
     public void testThrowsFunctionsException() {
         GeoIpCache cache = new GeoIpCache(1);
         IllegalArgumentException ex = expectThrows(IllegalArgumentException.class,
@@ -73,5 +133,7 @@ public class IngestGeoIpPluginTests extends OpenSearchTestCase {
     public void testInvalidInit() {
         IllegalArgumentException ex = expectThrows(IllegalArgumentException.class, () ->  new GeoIpCache(-1));
         assertEquals("geoip max cache size must be 0 or greater", ex.getMessage());
+        ex = expectThrows(IllegalArgumentException.class, () -> GeoIpCache.withMaxBytes(new ByteSizeValue(-1)));
+        assertEquals("geoip max cache memory size must be 0 or greater", ex.getMessage());
     }
 }
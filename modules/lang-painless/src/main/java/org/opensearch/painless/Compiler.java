@@ -37,6 +37,7 @@ import org.opensearch.painless.antlr.Walker;
 import org.opensearch.painless.ir.ClassNode;
 import org.opensearch.painless.lookup.PainlessLookup;
 import org.opensearch.painless.node.SClass;
+import org.opensearch.painless.phase.DefTypeInferencePhase;
 import org.opensearch.painless.phase.DefaultConstantFoldingOptimizationPhase;
 import org.opensearch.painless.phase.DefaultStringConcatenationOptimizationPhase;
 import org.opensearch.painless.phase.DocFieldsPhase;
@@ -232,6 +233,9 @@ final class Compiler {
         SClass root = Walker.buildPainlessTree(scriptName, source, settings);
         ScriptScope scriptScope = new ScriptScope(painlessLookup, settings, scriptClassInfo, scriptName, source, root.getIdentifier() + 1);
         new PainlessSemanticHeaderPhase().visitClass(root, scriptScope);
+        if (settings.isInferDefTypes()) {
+            new DefTypeInferencePhase().visitClass(root, scriptScope);
+        }
         new PainlessSemanticAnalysisPhase().visitClass(root, scriptScope);
         // TODO: Make this phase optional #60156
         new DocFieldsPhase().visitClass(root, scriptScope);
@@ -240,7 +244,32 @@ final class Compiler {
         new DefaultStringConcatenationOptimizationPhase().visitClass(classNode, null);
         new DefaultConstantFoldingOptimizationPhase().visitClass(classNode, null);
         byte[] bytes = classNode.write();
+        scriptScope.setBytecode(bytes);
+
+        return defineScript(loader, name, scriptScope, bytes);
+    }
+
+    /**
+     * Defines a script from the bytecode and metadata of a previous compilation of the same source with the same settings, as
+     * persisted by the {@link PersistentScriptCache}, instead of compiling it again.
+     * @param loader The ClassLoader used to define the script.
+     * @param name The name of the script.
+     * @param source The source code for the script.
+     * @param settings The CompilerSettings the script was compiled with.
+     * @param entry The persisted compilation of the script.
+     * @return The ScriptScope restored from the persisted compilation
+     */
+    ScriptScope define(Loader loader, String name, String source, CompilerSettings settings, PersistentScriptCache.Entry entry) {
+        String scriptName = Location.computeSourceName(name);
+        ScriptClassInfo scriptClassInfo = new ScriptClassInfo(painlessLookup, scriptClass);
+        ScriptScope scriptScope = new ScriptScope(painlessLookup, settings, scriptClassInfo, scriptName, source, 0);
+        entry.restore(scriptScope);
+        scriptScope.setBytecode(entry.getBytecode());
 
+        return defineScript(loader, name, scriptScope, entry.getBytecode());
+    }
+
+    private ScriptScope defineScript(Loader loader, String name, ScriptScope scriptScope, byte[] bytes) {
         try {
             Class<? extends PainlessScript> clazz = loader.defineScript(CLASS_NAME, bytes);
 
@@ -267,6 +296,9 @@ final class Compiler {
         SClass root = Walker.buildPainlessTree(scriptName, source, settings);
         ScriptScope scriptScope = new ScriptScope(painlessLookup, settings, scriptClassInfo, scriptName, source, root.getIdentifier() + 1);
         new PainlessSemanticHeaderPhase().visitClass(root, scriptScope);
+        if (settings.isInferDefTypes()) {
+            new DefTypeInferencePhase().visitClass(root, scriptScope);
+        }
         new PainlessSemanticAnalysisPhase().visitClass(root, scriptScope);
         // TODO: Make this phase optional #60156
         new DocFieldsPhase().visitClass(root, scriptScope);
@@ -57,6 +57,19 @@ public final class CompilerSettings {
     public static final Setting<Integer> REGEX_LIMIT_FACTOR =
         Setting.intSetting("script.painless.regex.limit-factor", 6, 1, Property.NodeScope);
 
+    /**
+     * Should the exact types of def variables that are never reassigned be inferred from their initializers? This resolves method
+     * calls and brace accesses on them at compile time, so mistakes that would have failed when the script ran are reported when
+     * it is compiled instead.
+     */
+    public static final Setting<Boolean> INFER_DEF_TYPES =
+        Setting.boolSetting("script.painless.infer_def_types", false, Property.NodeScope);
+
+    /**
+     * Constant to be used when specifying whether to infer the types of def variables when compiling a script.
+     */
+    public static final String INFER_DEF_TYPES_OPTION = "infer_def_types";
+
     /**
      * Constant to be used when specifying the maximum loop counter when compiling a script.
      */
@@ -86,6 +99,11 @@ public final class CompilerSettings {
      */
     private boolean picky = false;
 
+    /**
+     * Whether to infer the exact types of def variables that are never reassigned.
+     */
+    private boolean inferDefTypes = false;
+
     /**
      * For testing. Do not use.
      */
@@ -139,6 +157,21 @@ public final class CompilerSettings {
       this.picky = picky;
     }
 
+    /**
+     * Returns true if the exact types of def variables that are never reassigned are inferred from their initializers.
+     */
+    public boolean isInferDefTypes() {
+        return inferDefTypes;
+    }
+
+    /**
+     * Set to true to infer the exact types of def variables.
+     * @see #isInferDefTypes
+     */
+    public void setInferDefTypes(boolean inferDefTypes) {
+        this.inferDefTypes = inferDefTypes;
+    }
+
     /**
      * Returns initial call site depth. This means we pretend we've already seen N different types,
      * to better exercise fallback code in tests.
@@ -43,6 +43,7 @@ import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.io.stream.NamedWriteableRegistry;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.IndexScopedSettings;
+import org.opensearch.common.settings.SecureString;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.settings.SettingsFilter;
@@ -70,6 +71,8 @@ import org.opensearch.search.aggregations.pipeline.MovingFunctionScript;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.watcher.ResourceWatcherService;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -136,6 +139,16 @@ public final class PainlessPlugin extends Plugin implements ScriptPlugin, Extens
                                                NodeEnvironment nodeEnvironment, NamedWriteableRegistry namedWriteableRegistry,
                                                IndexNameExpressionResolver expressionResolver,
                                                Supplier<RepositoriesService> repositoriesServiceSupplier) {
+        if (PersistentScriptCache.ENABLED.get(environment.settings()) && nodeEnvironment.hasNodeFile()) {
+            PainlessScriptEngine engine = painlessScriptEngine.get();
+            try (SecureString key = PersistentScriptCache.KEY.get(environment.settings())) {
+                engine.setPersistentCache(new PersistentScriptCache(
+                    nodeEnvironment.nodeDataPaths()[0].resolve(PersistentScriptCache.DIRECTORY_NAME),
+                    PersistentScriptCache.MAX_ENTRIES.get(environment.settings()), engine.getContextsToLookups(), key));
+            } catch (IOException e) {
+                throw new UncheckedIOException("failed to open the persistent painless script cache", e);
+            }
+        }
         // this is a hack to bind the painless script engine in guice (all components are added to guice), so that
         // the painless context api. this is a temporary measure until transport actions do no require guice
         return Collections.singletonList(painlessScriptEngine.get());
@@ -143,7 +156,8 @@ public final class PainlessPlugin extends Plugin implements ScriptPlugin, Extens
 
     @Override
     public List<Setting<?>> getSettings() {
-        return Arrays.asList(CompilerSettings.REGEX_ENABLED, CompilerSettings.REGEX_LIMIT_FACTOR);
+        return Arrays.asList(CompilerSettings.REGEX_ENABLED, CompilerSettings.REGEX_LIMIT_FACTOR, CompilerSettings.INFER_DEF_TYPES,
+            PersistentScriptCache.ENABLED, PersistentScriptCache.MAX_ENTRIES, PersistentScriptCache.KEY);
     }
 
     @Override
@@ -99,6 +99,11 @@ public final class PainlessScriptEngine implements ScriptEngine {
     private final Map<ScriptContext<?>, Compiler> contextsToCompilers;
     private final Map<ScriptContext<?>, PainlessLookup> contextsToLookups;
 
+    /**
+     * The cache of compiled scripts that survives restarts, {@code null} unless it is enabled.
+     */
+    private volatile PersistentScriptCache persistentCache;
+
     /**
      * Constructor.
      * @param settings The settings to initialize the engine with.
@@ -106,6 +111,7 @@ public final class PainlessScriptEngine implements ScriptEngine {
     public PainlessScriptEngine(Settings settings, Map<ScriptContext<?>, List<Whitelist>> contexts) {
         defaultCompilerSettings.setRegexesEnabled(CompilerSettings.REGEX_ENABLED.get(settings));
         defaultCompilerSettings.setRegexLimitFactor(CompilerSettings.REGEX_LIMIT_FACTOR.get(settings));
+        defaultCompilerSettings.setInferDefTypes(CompilerSettings.INFER_DEF_TYPES.get(settings));
 
         Map<ScriptContext<?>, Compiler> contextsToCompilers = new HashMap<>();
         Map<ScriptContext<?>, PainlessLookup> contextsToLookups = new HashMap<>();
@@ -126,6 +132,10 @@ public final class PainlessScriptEngine implements ScriptEngine {
         return contextsToLookups;
     }
 
+    void setPersistentCache(PersistentScriptCache persistentCache) {
+        this.persistentCache = persistentCache;
+    }
+
     /**
      * Get the type name(s) for the language.
      * @return Always contains only the single name of the language.
@@ -141,6 +151,17 @@ public final class PainlessScriptEngine implements ScriptEngine {
         String scriptSource,
         ScriptContext<T> context,
         Map<String, String> params
+    ) {
+        return compile(scriptName, scriptSource, context, params, () -> {});
+    }
+
+    @Override
+    public <T> T compile(
+        String scriptName,
+        String scriptSource,
+        ScriptContext<T> context,
+        Map<String, String> params,
+        Runnable beforeCompilation
     ) {
         Compiler compiler = contextsToCompilers.get(context);
 
@@ -148,14 +169,31 @@ public final class PainlessScriptEngine implements ScriptEngine {
         SpecialPermission.check();
 
         // Create our loader (which loads compiled code with no permissions).
-        final Loader loader = AccessController.doPrivileged(new PrivilegedAction<Loader>() {
-            @Override
-            public Loader run() {
-                return compiler.createLoader(getClass().getClassLoader());
+        Loader loader = createLoader(compiler);
+
+        final PersistentScriptCache persistentCache = this.persistentCache;
+        final String cacheKey = persistentCache == null ? null :
+            persistentCache.key(context, scriptName, scriptSource, buildCompilerSettings(params));
+        ScriptScope scriptScope = null;
+        if (cacheKey != null) {
+            PersistentScriptCache.Entry entry = persistentCache.load(cacheKey);
+            if (entry != null) {
+                try {
+                    scriptScope = define(compiler, loader, scriptName, scriptSource, params, entry);
+                } catch (Exception | LinkageError e) {
+                    persistentCache.invalidate(cacheKey, e);
+                    // the script class may have been defined before it failed
+                    loader = createLoader(compiler);
+                }
             }
-        });
-
-        ScriptScope scriptScope = compile(contextsToCompilers.get(context), loader, scriptName, scriptSource, params);
+        }
+        if (scriptScope == null) {
+            beforeCompilation.run();
+            scriptScope = compile(compiler, loader, scriptName, scriptSource, params);
+            if (cacheKey != null) {
+                persistentCache.store(cacheKey, scriptScope);
+            }
+        }
 
         if (context.statefulFactoryClazz != null) {
             return generateFactory(loader, context, generateStatefulFactory(loader, context, scriptScope), scriptScope);
@@ -413,6 +451,29 @@ public final class PainlessScriptEngine implements ScriptEngine {
         }
     }
 
+    private Loader createLoader(Compiler compiler) {
+        return AccessController.doPrivileged(new PrivilegedAction<Loader>() {
+            @Override
+            public Loader run() {
+                return compiler.createLoader(getClass().getClassLoader());
+            }
+        });
+    }
+
+    private ScriptScope define(Compiler compiler, Loader loader, String scriptName, String source, Map<String, String> params,
+                               PersistentScriptCache.Entry entry) {
+        final CompilerSettings compilerSettings = buildCompilerSettings(params);
+
+        // Drop all permissions to define the persisted code, just like it is compiled.
+        return AccessController.doPrivileged(new PrivilegedAction<ScriptScope>() {
+            @Override
+            public ScriptScope run() {
+                String name = scriptName == null ? source : scriptName;
+                return compiler.define(loader, name, source, compilerSettings, entry);
+            }
+        }, COMPILATION_CONTEXT);
+    }
+
     ScriptScope compile(Compiler compiler, Loader loader, String scriptName, String source, Map<String, String> params) {
         final CompilerSettings compilerSettings = buildCompilerSettings(params);
 
@@ -445,6 +506,8 @@ public final class PainlessScriptEngine implements ScriptEngine {
 
             compilerSettings.setRegexLimitFactor(defaultCompilerSettings.getRegexLimitFactor());
 
+            compilerSettings.setInferDefTypes(defaultCompilerSettings.isInferDefTypes());
+
             Map<String, String> copy = new HashMap<>(params);
 
             String value = copy.remove(CompilerSettings.MAX_LOOP_COUNTER);
@@ -457,6 +520,11 @@ public final class PainlessScriptEngine implements ScriptEngine {
                 compilerSettings.setPicky(Boolean.parseBoolean(value));
             }
 
+            value = copy.remove(CompilerSettings.INFER_DEF_TYPES_OPTION);
+            if (value != null) {
+                compilerSettings.setInferDefTypes(Boolean.parseBoolean(value));
+            }
+
             value = copy.remove(CompilerSettings.INITIAL_CALL_SITE_DEPTH);
             if (value != null) {
                 compilerSettings.setInitialCallSiteDepth(Integer.parseInt(value));
@@ -0,0 +1,606 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.painless;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.opensearch.Build;
+import org.opensearch.Version;
+import org.opensearch.common.hash.MessageDigests;
+import org.opensearch.common.settings.SecureSetting;
+import org.opensearch.common.settings.SecureString;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.painless.lookup.PainlessClass;
+import org.opensearch.painless.lookup.PainlessConstructor;
+import org.opensearch.painless.lookup.PainlessField;
+import org.opensearch.painless.lookup.PainlessLookup;
+import org.opensearch.painless.lookup.PainlessLookupUtility;
+import org.opensearch.painless.lookup.PainlessMethod;
+import org.opensearch.painless.symbol.FunctionTable.LocalFunction;
+import org.opensearch.painless.symbol.ScriptScope;
+import org.opensearch.script.ScriptContext;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.AccessController;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.PrivilegedActionException;
+import java.security.PrivilegedExceptionAction;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Persists the bytecode generated for Painless scripts under the node data path, so that scripts compiled before a restart are
+ * defined from their bytecode instead of being compiled again. Entries are keyed by the script source and name, the compiler
+ * settings and a fingerprint of the whitelist of the script context, and are only valid for the exact build that wrote them.
+ * <p>
+ * Since entries are defined as script classes without going through the compiler again, each of them is authenticated with an
+ * HMAC whose key is kept in the keystore, outside of the data path. Entries that fail authentication, were written by another build
+ * or with another key are deleted when the cache is opened, and entries that fail verification when they are loaded. Once the cache
+ * holds the maximum number of entries, storing another one evicts the entry that was used the longest time ago.
+ * <p>
+ * Scripts that use instance bindings can't be persisted since their bindings are objects that only exist in memory.
+ */
+final class PersistentScriptCache {
+
+    private static final Logger logger = LogManager.getLogger(PersistentScriptCache.class);
+
+    static final Setting<Boolean> ENABLED =
+        Setting.boolSetting("script.painless.persistent_cache.enabled", false, Property.NodeScope);
+
+    static final Setting<Integer> MAX_ENTRIES =
+        Setting.intSetting("script.painless.persistent_cache.max_entries", 1000, 0, Property.NodeScope);
+
+    /**
+     * The secret that entries are authenticated with, the cache can't be enabled without it.
+     */
+    static final Setting<SecureString> KEY = SecureSetting.secureString("script.painless.persistent_cache.key", null);
+
+    /** The directory of the cache within a node data path. */
+    static final String DIRECTORY_NAME = "painless";
+
+    static final int MIN_KEY_LENGTH = 16;
+
+    private static final String SUFFIX = ".pbc";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final int MAGIC = 0x50424331;
+    private static final int FORMAT_VERSION = 2;
+    private static final String MAC_ALGORITHM = "HmacSHA256";
+    private static final int MAC_LENGTH = 32;
+
+    /** The static constants that {@link Entry} knows how to restore, scripts with other constants are not persisted. */
+    private static final Set<String> PERSISTABLE_CONSTANTS =
+        Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+            "$NAME", "$SOURCE", "$DEFINITION", "$FUNCTIONS", "$COMPILERSETTINGS", "$STATEMENTS")));
+
+    private final Path directory;
+    private final int maxEntries;
+    private final SecretKeySpec macKey;
+    private final String buildId;
+    private final Map<String, String> contextFingerprints = new HashMap<>();
+    /**
+     * The keys of the entries on disk, in the order of their last use. Guarded by itself.
+     */
+    private final LinkedHashMap<String, Path> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final AtomicLong hits = new AtomicLong();
+
+    PersistentScriptCache(Path directory, int maxEntries, Map<ScriptContext<?>, PainlessLookup> contextsToLookups,
+                          SecureString macKey) throws IOException {
+        this(directory, maxEntries, contextsToLookups, macKey, Version.CURRENT + "/" + Build.CURRENT.hash());
+    }
+
+    PersistentScriptCache(Path directory, int maxEntries, Map<ScriptContext<?>, PainlessLookup> contextsToLookups,
+                          SecureString macKey, String buildId) throws IOException {
+        if (macKey == null || macKey.length() < MIN_KEY_LENGTH) {
+            throw new IllegalArgumentException("[" + ENABLED.getKey() + "] requires the secure setting [" + KEY.getKey()
+                + "] to be set to at least [" + MIN_KEY_LENGTH + "] characters");
+        }
+        this.directory = directory;
+        this.maxEntries = maxEntries;
+        this.macKey = new SecretKeySpec(macKey.toString().getBytes(StandardCharsets.UTF_8), MAC_ALGORITHM);
+        this.buildId = buildId;
+        for (Map.Entry<ScriptContext<?>, PainlessLookup> entry : contextsToLookups.entrySet()) {
+            contextFingerprints.put(entry.getKey().name, fingerprint(entry.getValue()));
+        }
+        doPrivileged(() -> {
+            Files.createDirectories(directory);
+            Map<String, FileTime> lastUsed = new HashMap<>();
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+                for (Path file : files) {
+                    String fileName = file.getFileName().toString();
+                    if (fileName.endsWith(SUFFIX)) {
+                        String key = fileName.substring(0, fileName.length() - SUFFIX.length());
+                        if (isValid(file, key)) {
+                            lastUsed.put(key, Files.getLastModifiedTime(file));
+                        } else {
+                            Files.delete(file);
+                        }
+                    } else if (fileName.endsWith(TEMP_SUFFIX)) {
+                        Files.delete(file);
+                    }
+                }
+            }
+            List<String> keys = new ArrayList<>(lastUsed.keySet());
+            keys.sort(Comparator.comparing(lastUsed::get));
+            for (String key : keys) {
+                entries.put(key, file(key));
+            }
+            evict();
+            return null;
+        });
+    }
+
+    /**
+     * Returns the key of a script, or {@code null} if scripts of the context can't be persisted.
+     */
+    String key(ScriptContext<?> context, String name, String source, CompilerSettings settings) {
+        String fingerprint = contextFingerprints.get(context.name);
+        if (fingerprint == null) {
+            return null;
+        }
+        Map<String, Object> compilerSettings = new TreeMap<>(settings.asMap());
+        compilerSettings.put("max_loop_counter", settings.getMaxLoopCounter());
+        compilerSettings.put("picky", settings.isPicky());
+        compilerSettings.put("infer_def_types", settings.isInferDefTypes());
+        compilerSettings.put("initial_call_site_depth", settings.getInitialCallSiteDepth());
+        compilerSettings.put("regexes_enabled", settings.areRegexesEnabled());
+
+        MessageDigest digest = MessageDigests.sha256();
+        update(digest, context.name);
+        update(digest, fingerprint);
+        update(digest, compilerSettings.toString());
+        update(digest, name == null ? source : name);
+        update(digest, source);
+        return MessageDigests.toHexString(digest.digest());
+    }
+
+    boolean contains(String key) {
+        synchronized (entries) {
+            return entries.containsKey(key);
+        }
+    }
+
+    /**
+     * Loads the entry of a script, or returns {@code null} if there is no valid entry for it.
+     */
+    Entry load(String key) {
+        final Path file;
+        synchronized (entries) {
+            // marks the entry as used
+            file = entries.get(key);
+        }
+        if (file == null) {
+            return null;
+        }
+        try {
+            return doPrivileged(() -> {
+                try {
+                    Entry entry = readEntry(Files.readAllBytes(file), key);
+                    // the modification time tracks the last use across restarts
+                    Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+                    hits.incrementAndGet();
+                    return entry;
+                } catch (IOException | RuntimeException e) {
+                    logger.debug(() -> new ParameterizedMessage("deleting invalid persisted painless script [{}]", file), e);
+                    delete(key);
+                    return null;
+                }
+            });
+        } catch (IOException e) {
+            logger.debug(() -> new ParameterizedMessage("failed to load persisted painless script [{}]", key), e);
+            return null;
+        }
+    }
+
+    /**
+     * Persists the compilation of a script, unless the script can't be persisted. Evicts the entries that were used the longest
+     * time ago if the cache is full.
+     */
+    void store(String key, ScriptScope scriptScope) {
+        Entry entry = Entry.of(scriptScope);
+        if (entry == null || maxEntries == 0) {
+            return;
+        }
+        try {
+            doPrivileged(() -> {
+                Path file = file(key);
+                Path tempFile = directory.resolve(key + TEMP_SUFFIX);
+                Files.write(tempFile, writeEntry(key, entry));
+                try {
+                    Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+                }
+                synchronized (entries) {
+                    entries.put(key, file);
+                }
+                evict();
+                return null;
+            });
+        } catch (IOException e) {
+            logger.warn(() -> new ParameterizedMessage("failed to persist painless script [{}]", key), e);
+        }
+    }
+
+    /**
+     * Deletes an entry that could be loaded, but not defined as a script.
+     */
+    void invalidate(String key, Throwable cause) {
+        logger.debug(() -> new ParameterizedMessage("deleting persisted painless script [{}] that could not be defined", key), cause);
+        try {
+            doPrivileged(() -> {
+                delete(key);
+                return null;
+            });
+        } catch (IOException e) {
+            logger.debug(() -> new ParameterizedMessage("failed to delete persisted painless script [{}]", key), e);
+        }
+    }
+
+    int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    long hits() {
+        return hits.get();
+    }
+
+    private Path file(String key) {
+        return directory.resolve(key + SUFFIX);
+    }
+
+    private void delete(String key) throws IOException {
+        synchronized (entries) {
+            entries.remove(key);
+        }
+        Files.deleteIfExists(file(key));
+    }
+
+    /**
+     * Deletes the entries that were used the longest time ago until the cache holds no more than the maximum number of entries.
+     */
+    private void evict() throws IOException {
+        List<Path> evicted = new ArrayList<>();
+        synchronized (entries) {
+            Iterator<Path> files = entries.values().iterator();
+            while (entries.size() - evicted.size() > maxEntries && files.hasNext()) {
+                evicted.add(files.next());
+                files.remove();
+            }
+        }
+        for (Path file : evicted) {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private boolean isValid(Path file, String key) {
+        try {
+            readEntry(Files.readAllBytes(file), key);
+            return true;
+        } catch (IOException | RuntimeException e) {
+            logger.debug(() -> new ParameterizedMessage("deleting invalid persisted painless script [{}]", file), e);
+            return false;
+        }
+    }
+
+    private Mac mac() {
+        try {
+            Mac mac = Mac.getInstance(MAC_ALGORITHM);
+            mac.init(macKey);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("failed to initialize [" + MAC_ALGORITHM + "]", e);
+        }
+    }
+
+    private byte[] writeEntry(String key, Entry entry) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT_VERSION);
+        out.writeUTF(buildId);
+        out.writeUTF(key);
+        entry.writeTo(out);
+        out.flush();
+        out.write(mac().doFinal(bytes.toByteArray()));
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Reads an entry, after checking that it was written by this build and with the same key, so that it can't have been modified.
+     */
+    private Entry readEntry(byte[] bytes, String key) throws IOException {
+        if (bytes.length < MAC_LENGTH) {
+            throw new IOException("entry is truncated");
+        }
+        int length = bytes.length - MAC_LENGTH;
+        Mac mac = mac();
+        mac.update(bytes, 0, length);
+        if (MessageDigest.isEqual(mac.doFinal(), Arrays.copyOfRange(bytes, length, bytes.length)) == false) {
+            throw new IOException("entry failed authentication");
+        }
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes, 0, length));
+        if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+            throw new IOException("unknown format");
+        }
+        if (buildId.equals(in.readUTF()) == false || key.equals(in.readUTF()) == false) {
+            throw new IOException("entry was written for another build or script");
+        }
+        Entry entry = Entry.readFrom(in);
+        if (in.available() != 0) {
+            throw new IOException("entry has trailing bytes");
+        }
+        return entry;
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        digest.update((byte) (bytes.length >>> 24));
+        digest.update((byte) (bytes.length >>> 16));
+        digest.update((byte) (bytes.length >>> 8));
+        digest.update((byte) bytes.length);
+        digest.update(bytes);
+    }
+
+    /**
+     * Computes a fingerprint of everything a whitelist makes available to scripts, so that entries are not used anymore once
+     * a plugin changes what it whitelists.
+     */
+    static String fingerprint(PainlessLookup lookup) {
+        MessageDigest digest = MessageDigests.sha256();
+        Map<String, Class<?>> classes = new TreeMap<>();
+        for (Class<?> clazz : lookup.getClasses()) {
+            classes.put(PainlessLookupUtility.typeToCanonicalTypeName(clazz), clazz);
+        }
+        for (Map.Entry<String, Class<?>> entry : classes.entrySet()) {
+            PainlessClass painlessClass = lookup.lookupPainlessClass(entry.getValue());
+            update(digest, entry.getKey() + "=" + entry.getValue().getName());
+            for (Map.Entry<String, PainlessConstructor> constructor : new TreeMap<>(painlessClass.constructors).entrySet()) {
+                update(digest, "new " + constructor.getKey() + constructor.getValue().methodType);
+            }
+            for (Map.Entry<String, PainlessMethod> method : new TreeMap<>(painlessClass.staticMethods).entrySet()) {
+                update(digest, "static " + method.getKey() + method.getValue().methodType + method.getValue().javaMethod);
+            }
+            for (Map.Entry<String, PainlessMethod> method : new TreeMap<>(painlessClass.methods).entrySet()) {
+                update(digest, method.getKey() + method.getValue().methodType + method.getValue().javaMethod);
+            }
+            for (Map.Entry<String, PainlessField> field : new TreeMap<>(painlessClass.staticFields).entrySet()) {
+                update(digest, "static " + field.getKey() + field.getValue().javaField);
+            }
+            for (Map.Entry<String, PainlessField> field : new TreeMap<>(painlessClass.fields).entrySet()) {
+                update(digest, field.getKey() + field.getValue().javaField);
+            }
+        }
+        for (String key : new TreeSet<>(lookup.getImportedPainlessMethodsKeys())) {
+            update(digest, "imported " + key);
+        }
+        for (String key : new TreeSet<>(lookup.getPainlessClassBindingsKeys())) {
+            update(digest, "class binding " + key);
+        }
+        for (String key : new TreeSet<>(lookup.getPainlessInstanceBindingsKeys())) {
+            update(digest, "instance binding " + key);
+        }
+        return MessageDigests.toHexString(digest.digest());
+    }
+
+    private static <T> T doPrivileged(PrivilegedExceptionAction<T> action) throws IOException {
+        try {
+            return AccessController.doPrivileged(action);
+        } catch (PrivilegedActionException e) {
+            throw (IOException) e.getException();
+        }
+    }
+
+    /**
+     * The bytecode of a compiled script, and everything about its compilation that is needed to define it again.
+     */
+    static final class Entry {
+        private final byte[] bytecode;
+        private final boolean deterministic;
+        private final List<String> docFields;
+        private final Set<String> usedVariables;
+        private final List<Function> functions;
+        private final byte[] statements;
+
+        private Entry(byte[] bytecode, boolean deterministic, List<String> docFields, Set<String> usedVariables,
+                      List<Function> functions, byte[] statements) {
+            this.bytecode = bytecode;
+            this.deterministic = deterministic;
+            this.docFields = docFields;
+            this.usedVariables = usedVariables;
+            this.functions = functions;
+            this.statements = statements;
+        }
+
+        /**
+         * Captures the compilation of a script, or returns {@code null} if the script can't be persisted.
+         */
+        static Entry of(ScriptScope scriptScope) {
+            if (scriptScope.getBytecode() == null ||
+                    PERSISTABLE_CONSTANTS.containsAll(scriptScope.getStaticConstants().keySet()) == false) {
+                return null;
+            }
+            PainlessLookup lookup = scriptScope.getPainlessLookup();
+            List<Function> functions = new ArrayList<>();
+            for (LocalFunction function : scriptScope.getFunctionTable().getFunctions()) {
+                List<String> typeParameters = new ArrayList<>();
+                for (Class<?> typeParameter : function.getTypeParameters()) {
+                    typeParameters.add(PainlessLookupUtility.typeToCanonicalTypeName(typeParameter));
+                }
+                Function persisted = new Function(function.getFunctionName(),
+                    PainlessLookupUtility.typeToCanonicalTypeName(function.getReturnType()), typeParameters,
+                    function.isInternal(), function.isStatic());
+                if (persisted.resolvesTo(lookup, function) == false) {
+                    return null;
+                }
+                functions.add(persisted);
+            }
+            BitSet statements = (BitSet) scriptScope.getStaticConstants().get("$STATEMENTS");
+            return new Entry(scriptScope.getBytecode(), scriptScope.isDeterministic(), new ArrayList<>(scriptScope.docFields()),
+                new HashSet<>(scriptScope.getUsedVariables()), functions, statements == null ? null : statements.toByteArray());
+        }
+
+        byte[] getBytecode() {
+            return bytecode;
+        }
+
+        /**
+         * Restores the compilation of the script into an empty scope.
+         */
+        void restore(ScriptScope scriptScope) {
+            PainlessLookup lookup = scriptScope.getPainlessLookup();
+            for (Function function : functions) {
+                List<Class<?>> typeParameters = new ArrayList<>();
+                for (String typeParameter : function.typeParameters) {
+                    typeParameters.add(resolve(lookup, typeParameter));
+                }
+                scriptScope.getFunctionTable().addFunction(function.name, resolve(lookup, function.returnType), typeParameters,
+                    function.isInternal, function.isStatic);
+            }
+            scriptScope.markNonDeterministic(deterministic == false);
+            for (String docField : docFields) {
+                scriptScope.addDocField(docField);
+            }
+            scriptScope.setUsedVariables(usedVariables);
+            if (statements != null) {
+                scriptScope.addStaticConstant("$STATEMENTS", BitSet.valueOf(statements));
+            }
+        }
+
+        private static Class<?> resolve(PainlessLookup lookup, String canonicalTypeName) {
+            Class<?> type = lookup.canonicalTypeNameToType(canonicalTypeName);
+            if (type == null) {
+                throw new IllegalStateException("type [" + canonicalTypeName + "] is not whitelisted anymore");
+            }
+            return type;
+        }
+
+        void writeTo(DataOutputStream out) throws IOException {
+            out.writeInt(bytecode.length);
+            out.write(bytecode);
+            out.writeBoolean(deterministic);
+            writeStrings(out, docFields);
+            writeStrings(out, new ArrayList<>(usedVariables));
+            out.writeInt(functions.size());
+            for (Function function : functions) {
+                out.writeUTF(function.name);
+                out.writeUTF(function.returnType);
+                writeStrings(out, function.typeParameters);
+                out.writeBoolean(function.isInternal);
+                out.writeBoolean(function.isStatic);
+            }
+            out.writeBoolean(statements != null);
+            if (statements != null) {
+                out.writeInt(statements.length);
+                out.write(statements);
+            }
+        }
+
+        static Entry readFrom(DataInputStream in) throws IOException {
+            byte[] bytecode = new byte[in.readInt()];
+            in.readFully(bytecode);
+            boolean deterministic = in.readBoolean();
+            List<String> docFields = readStrings(in);
+            Set<String> usedVariables = new HashSet<>(readStrings(in));
+            int numFunctions = in.readInt();
+            List<Function> functions = new ArrayList<>(numFunctions);
+            for (int i = 0; i < numFunctions; i++) {
+                functions.add(new Function(in.readUTF(), in.readUTF(), readStrings(in), in.readBoolean(), in.readBoolean()));
+            }
+            byte[] statements = null;
+            if (in.readBoolean()) {
+                statements = new byte[in.readInt()];
+                in.readFully(statements);
+            }
+            return new Entry(bytecode, deterministic, docFields, usedVariables, functions, statements);
+        }
+
+        private static void writeStrings(DataOutputStream out, List<String> strings) throws IOException {
+            out.writeInt(strings.size());
+            for (String string : strings) {
+                out.writeUTF(string);
+            }
+        }
+
+        private static List<String> readStrings(DataInputStream in) throws IOException {
+            int size = in.readInt();
+            List<String> strings = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                strings.add(in.readUTF());
+            }
+            return strings;
+        }
+    }
+
+    /**
+     * A local function of a script, with its types given by their canonical type names.
+     */
+    private static final class Function {
+        private final String name;
+        private final String returnType;
+        private final List<String> typeParameters;
+        private final boolean isInternal;
+        private final boolean isStatic;
+
+        Function(String name, String returnType, List<String> typeParameters, boolean isInternal, boolean isStatic) {
+            this.name = name;
+            this.returnType = returnType;
+            this.typeParameters = typeParameters;
+            this.isInternal = isInternal;
+            this.isStatic = isStatic;
+        }
+
+        /**
+         * Whether the canonical type names resolve to the types of the function again, which doesn't hold for types that are
+         * only known to the script class but not whitelisted.
+         */
+        boolean resolvesTo(PainlessLookup lookup, LocalFunction function) {
+            if (lookup.canonicalTypeNameToType(returnType) != function.getReturnType()) {
+                return false;
+            }
+            for (int i = 0; i < typeParameters.size(); i++) {
+                if (lookup.canonicalTypeNameToType(typeParameters.get(i)) != function.getTypeParameters().get(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.painless.phase;
+
+import org.opensearch.painless.lookup.PainlessLookupUtility;
+import org.opensearch.painless.node.EAssignment;
+import org.opensearch.painless.node.ESymbol;
+import org.opensearch.painless.node.SDeclaration;
+import org.opensearch.painless.node.SFunction;
+import org.opensearch.painless.symbol.Decorations.EffectivelyFinal;
+import org.opensearch.painless.symbol.ScriptScope;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Find all def variables that are never assigned after their declaration. The semantic analysis infers the exact type of
+ * their values from the initializer where it can, so method calls and brace accesses on them are resolved at compile time
+ * instead of through invokedynamic.
+ */
+public class DefTypeInferencePhase extends UserTreeBaseVisitor<ScriptScope> {
+
+    private final List<SDeclaration> declarations = new ArrayList<>();
+    private final Set<String> assignedSymbols = new HashSet<>();
+
+    @Override
+    public void visitFunction(SFunction userFunctionNode, ScriptScope scriptScope) {
+        declarations.clear();
+        assignedSymbols.clear();
+        userFunctionNode.visitChildren(this, scriptScope);
+
+        // variables of the same name in sibling blocks are not told apart, so an assignment to any of them disqualifies all
+        for (SDeclaration userDeclarationNode : declarations) {
+            if (assignedSymbols.contains(userDeclarationNode.getSymbol()) == false) {
+                scriptScope.setCondition(userDeclarationNode, EffectivelyFinal.class);
+            }
+        }
+    }
+
+    @Override
+    public void visitDeclaration(SDeclaration userDeclarationNode, ScriptScope scriptScope) {
+        if (userDeclarationNode.getValueNode() != null &&
+                PainlessLookupUtility.DEF_CLASS_NAME.equals(userDeclarationNode.getCanonicalTypeName())) {
+            declarations.add(userDeclarationNode);
+        }
+
+        userDeclarationNode.visitChildren(this, scriptScope);
+    }
+
+    @Override
+    public void visitAssignment(EAssignment userAssignmentNode, ScriptScope scriptScope) {
+        if (userAssignmentNode.getLeftNode() instanceof ESymbol) {
+            assignedSymbols.add(((ESymbol)userAssignmentNode.getLeftNode()).getSymbol());
+        }
+
+        userAssignmentNode.visitChildren(this, scriptScope);
+    }
+}
@@ -106,11 +106,14 @@ import org.opensearch.painless.symbol.Decorations.CompoundType;
 import org.opensearch.painless.symbol.Decorations.ContinuousLoop;
 import org.opensearch.painless.symbol.Decorations.DefOptimized;
 import org.opensearch.painless.symbol.Decorations.DowncastPainlessCast;
+import org.opensearch.painless.symbol.Decorations.EffectivelyFinal;
 import org.opensearch.painless.symbol.Decorations.EncodingDecoration;
 import org.opensearch.painless.symbol.Decorations.Explicit;
 import org.opensearch.painless.symbol.Decorations.ExpressionPainlessCast;
 import org.opensearch.painless.symbol.Decorations.GetterPainlessMethod;
 import org.opensearch.painless.symbol.Decorations.InLoop;
+import org.opensearch.painless.symbol.Decorations.InferredPainlessCast;
+import org.opensearch.painless.symbol.Decorations.InferredType;
 import org.opensearch.painless.symbol.Decorations.InstanceType;
 import org.opensearch.painless.symbol.Decorations.Internal;
 import org.opensearch.painless.symbol.Decorations.IterablePainlessMethod;
@@ -699,19 +702,56 @@ public class DefaultSemanticAnalysisPhase extends UserTreeBaseVisitor<SemanticSc
         }
 
         AExpression userValueNode = userDeclarationNode.getValueNode();
+        Class<?> inferredType = null;
 
         if (userValueNode != null) {
             semanticScope.setCondition(userValueNode, Read.class);
             semanticScope.putDecoration(userValueNode, new TargetType(type));
             checkedVisit(userValueNode, semanticScope);
             decorateWithCast(userValueNode, semanticScope);
+
+            if (semanticScope.getCondition(userDeclarationNode, EffectivelyFinal.class)) {
+                inferredType = inferExactType(userValueNode, semanticScope);
+            }
         }
 
         Location location = userDeclarationNode.getLocation();
-        Variable variable = semanticScope.defineVariable(location, type, symbol, false);
+        Variable variable = semanticScope.defineVariable(location, type, inferredType, symbol, false);
         semanticScope.putDecoration(userDeclarationNode, new SemanticVariable(variable));
     }
 
+    /**
+     * Returns the exact type of the values of an expression if it is known at compile time, otherwise {@code null}. This is
+     * the case for values of a final class or of an array type, and for newly created objects, lists and maps.
+     */
+    protected Class<?> inferExactType(AExpression userValueNode, SemanticScope semanticScope) {
+        Class<?> valueType = semanticScope.getDecoration(userValueNode, ValueType.class).getValueType();
+
+        if (valueType == def.class || valueType == void.class || valueType.isPrimitive()) {
+            return null;
+        }
+
+        if (valueType.isArray() || Modifier.isFinal(valueType.getModifiers()) ||
+                userValueNode instanceof ENewObj || userValueNode instanceof EListInit || userValueNode instanceof EMapInit) {
+            return valueType;
+        }
+
+        return null;
+    }
+
+    /**
+     * Resolves an access on a def variable against the exact type inferred for the variable instead of at runtime. The variable
+     * is cast to that type when it is loaded, which cannot fail as it never holds anything else.
+     */
+    protected Class<?> useInferredType(AExpression userPrefixNode, SemanticScope semanticScope) {
+        Class<?> inferredType = semanticScope.getDecoration(userPrefixNode, InferredType.class).getInferredType();
+        PainlessCast painlessCast = AnalyzerCaster.getLegalCast(userPrefixNode.getLocation(), def.class, inferredType, false, false);
+        semanticScope.putDecoration(userPrefixNode, new InferredPainlessCast(painlessCast));
+        semanticScope.putDecoration(userPrefixNode, new ValueType(inferredType));
+
+        return inferredType;
+    }
+
     /**
      * Visits a return statement and casts the value to the return type if possible.
      * Checks: type validation
@@ -2426,6 +2466,10 @@ public class DefaultSemanticAnalysisPhase extends UserTreeBaseVisitor<SemanticSc
 
             Class<?> valueType = variable.getType();
             semanticScope.putDecoration(userSymbolNode, new ValueType(valueType));
+
+            if (write == false && variable.getInferredType() != null) {
+                semanticScope.putDecoration(userSymbolNode, new InferredType(variable.getInferredType()));
+            }
         } else {
             semanticScope.putDecoration(userSymbolNode, new PartialCanonicalTypeName(symbol));
         }
@@ -2730,6 +2774,14 @@ public class DefaultSemanticAnalysisPhase extends UserTreeBaseVisitor<SemanticSc
         checkedVisit(userPrefixNode, semanticScope);
         Class<?> prefixValueType = semanticScope.getDecoration(userPrefixNode, ValueType.class).getValueType();
 
+        if (semanticScope.hasDecoration(userPrefixNode, InferredType.class)) {
+            Class<?> inferredType = semanticScope.getDecoration(userPrefixNode, InferredType.class).getInferredType();
+
+            if (inferredType.isArray() || Map.class.isAssignableFrom(inferredType) || List.class.isAssignableFrom(inferredType)) {
+                prefixValueType = useInferredType(userPrefixNode, semanticScope);
+            }
+        }
+
         AExpression userIndexNode = userBraceNode.getIndexNode();
         Class<?> valueType;
 
@@ -2880,6 +2932,16 @@ public class DefaultSemanticAnalysisPhase extends UserTreeBaseVisitor<SemanticSc
                     "[" + semanticScope.getDecoration(userPrefixNode, PartialCanonicalTypeName.class).getPartialCanonicalTypeName() + "]"));
         }
 
+        if (semanticScope.hasDecoration(userPrefixNode, InferredType.class)) {
+            Class<?> inferredType = semanticScope.getDecoration(userPrefixNode, InferredType.class).getInferredType();
+
+            if (semanticScope.getScriptScope().getPainlessLookup().lookupPainlessMethod(
+                    inferredType, false, methodName, userArgumentsSize) != null) {
+                useInferredType(userPrefixNode, semanticScope);
+                prefixValueType = semanticScope.getDecoration(userPrefixNode, ValueType.class);
+            }
+        }
+
         Class<?> valueType;
 
         if (prefixValueType != null && prefixValueType.getValueType() == def.class) {
@@ -181,6 +181,7 @@ import org.opensearch.painless.symbol.Decorations.Explicit;
 import org.opensearch.painless.symbol.Decorations.ExpressionPainlessCast;
 import org.opensearch.painless.symbol.Decorations.GetterPainlessMethod;
 import org.opensearch.painless.symbol.Decorations.IRNodeDecoration;
+import org.opensearch.painless.symbol.Decorations.InferredPainlessCast;
 import org.opensearch.painless.symbol.Decorations.InstanceType;
 import org.opensearch.painless.symbol.Decorations.IterablePainlessMethod;
 import org.opensearch.painless.symbol.Decorations.ListShortcut;
@@ -1448,6 +1449,19 @@ public class DefaultUserTreeToIRTreePhase implements UserTreeVisitor<ScriptScope
                 irLoadVariableNode.setExpressionType(valueType);
                 irLoadVariableNode.setName(symbol);
                 irLoadNode = irLoadVariableNode;
+
+                InferredPainlessCast inferredPainlessCast = scriptScope.getDecoration(userSymbolNode, InferredPainlessCast.class);
+
+                // a def variable used as the exact type inferred for it
+                if (inferredPainlessCast != null) {
+                    irLoadVariableNode.setExpressionType(def.class);
+
+                    CastNode irCastNode = new CastNode(location);
+                    irCastNode.setExpressionType(valueType);
+                    irCastNode.setCast(inferredPainlessCast.getInferredPainlessCast());
+                    irCastNode.setChildNode(irLoadVariableNode);
+                    irLoadNode = irCastNode;
+                }
             }
 
             scriptScope.putDecoration(userSymbolNode, new AccessDepth(0));
@@ -630,4 +630,36 @@ public class Decorations {
     public interface IsDocument extends Condition {
 
     }
+
+    // collect additional information about def variables whose exact type is known
+
+    public interface EffectivelyFinal extends Condition {
+
+    }
+
+    public static class InferredType implements Decoration {
+
+        private final Class<?> inferredType;
+
+        public InferredType(Class<?> inferredType) {
+            this.inferredType = Objects.requireNonNull(inferredType);
+        }
+
+        public Class<?> getInferredType() {
+            return inferredType;
+        }
+    }
+
+    public static class InferredPainlessCast implements Decoration {
+
+        private final PainlessCast inferredPainlessCast;
+
+        public InferredPainlessCast(PainlessCast inferredPainlessCast) {
+            this.inferredPainlessCast = Objects.requireNonNull(inferredPainlessCast);
+        }
+
+        public PainlessCast getInferredPainlessCast() {
+            return inferredPainlessCast;
+        }
+    }
 }
@@ -36,6 +36,7 @@ import org.opensearch.painless.lookup.PainlessLookupUtility;
 import org.objectweb.asm.commons.Method;
 
 import java.lang.invoke.MethodType;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -141,4 +142,8 @@ public class FunctionTable {
     public LocalFunction getFunction(String functionKey) {
         return localFunctions.get(functionKey);
     }
+
+    public Collection<LocalFunction> getFunctions() {
+        return Collections.unmodifiableCollection(localFunctions.values());
+    }
 }
@@ -63,6 +63,7 @@ public class ScriptScope extends Decorator {
     protected List<String> docFields = new ArrayList<>();
     protected Set<String> usedVariables = Collections.emptySet();
     protected Map<String, Object> staticConstants = new HashMap<>();
+    protected byte[] bytecode;
 
     public ScriptScope(PainlessLookup painlessLookup, CompilerSettings compilerSettings,
                       ScriptClassInfo scriptClassInfo, String scriptName, String scriptSource, int nodeCount) {
@@ -148,6 +149,17 @@ public class ScriptScope extends Decorator {
         return Collections.unmodifiableMap(staticConstants);
     }
 
+    public void setBytecode(byte[] bytecode) {
+        this.bytecode = bytecode;
+    }
+
+    /**
+     * The bytecode generated for the script class
+     */
+    public byte[] getBytecode() {
+        return bytecode;
+    }
+
     public <T extends Decoration> T putDecoration(ANode node, T decoration) {
         return put(node.getIdentifier(), decoration);
     }
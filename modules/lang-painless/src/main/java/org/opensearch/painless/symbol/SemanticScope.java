@@ -65,11 +65,17 @@ public abstract class SemanticScope {
     public static class Variable {
 
         protected final Class<?> type;
+        protected final Class<?> inferredType;
         protected final String name;
         protected final boolean isFinal;
 
         public Variable(Class<?> type, String name, boolean isFinal) {
+            this(type, null, name, isFinal);
+        }
+
+        public Variable(Class<?> type, Class<?> inferredType, String name, boolean isFinal) {
             this.type = Objects.requireNonNull(type);
+            this.inferredType = inferredType;
             this.name = Objects.requireNonNull(name);
             this.isFinal = isFinal;
         }
@@ -78,6 +84,14 @@ public abstract class SemanticScope {
             return type;
         }
 
+        /**
+         * Returns the exact type of the values held by a {@code def} variable
+         * if it is known at compile time, otherwise {@code null}.
+         */
+        public Class<?> getInferredType() {
+            return inferredType;
+        }
+
         /**
          * Shortcut method to return this variable's canonical type name
          * often used in error messages.
@@ -351,11 +365,15 @@ public abstract class SemanticScope {
     public abstract String getReturnCanonicalTypeName();
 
     public Variable defineVariable(Location location, Class<?> type, String name, boolean isReadOnly) {
+        return defineVariable(location, type, null, name, isReadOnly);
+    }
+
+    public Variable defineVariable(Location location, Class<?> type, Class<?> inferredType, String name, boolean isReadOnly) {
         if (isVariableDefined(name)) {
             throw location.createError(new IllegalArgumentException("variable [" + name + "] is already defined"));
         }
 
-        Variable variable = new Variable(type, name, isReadOnly);
+        Variable variable = new Variable(type, inferredType, name, isReadOnly);
         variables.put(name, variable);
 
         return variable;
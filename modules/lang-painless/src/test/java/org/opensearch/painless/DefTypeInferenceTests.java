@@ -0,0 +1,96 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.painless;
+
+import java.util.Collections;
+import java.util.Map;
+
+public class DefTypeInferenceTests extends ScriptTestCase {
+
+    private static final Map<String, String> INFER_DEF_TYPES =
+        Collections.singletonMap(CompilerSettings.INFER_DEF_TYPES_OPTION, "true");
+
+    private static String bytecode(String script, boolean inferDefTypes) {
+        CompilerSettings settings = new CompilerSettings();
+        settings.setInferDefTypes(inferDefTypes);
+        return Debugger.toString(PainlessTestScript.class, script, settings);
+    }
+
+    private Object execInferred(String script) {
+        return exec(script, null, INFER_DEF_TYPES, true);
+    }
+
+    public void testMethodCallsOnNewObject() {
+        String script = "def list = new ArrayList(); list.add(1); list.add(2); return list.size();";
+        String asm = bytecode(script, true);
+        assertFalse(asm, asm.contains("INVOKEDYNAMIC add("));
+        assertFalse(asm, asm.contains("INVOKEDYNAMIC size("));
+        assertTrue(asm, asm.contains("CHECKCAST java/util/ArrayList"));
+        assertEquals(2, execInferred(script));
+    }
+
+    public void testMethodCallsOnFinalClass() {
+        String script = "def s = 'painless'; return s.substring(0, 4).length();";
+        String asm = bytecode(script, true);
+        assertFalse(asm, asm.contains("INVOKEDYNAMIC substring("));
+        assertEquals(4, execInferred(script));
+    }
+
+    public void testBraceAccessOnInitializers() {
+        String script = "def map = [:]; def list = [1, 2, 3]; map['a'] = list[2]; return map['a'];";
+        String asm = bytecode(script, true);
+        assertFalse(asm, asm.contains("INVOKEDYNAMIC arrayLoad("));
+        assertFalse(asm, asm.contains("INVOKEDYNAMIC arrayStore("));
+        assertEquals(3, execInferred(script));
+
+        script = "def array = new int[] {1, 2}; array[1] = 5; return array[0] + array[1];";
+        asm = bytecode(script, true);
+        assertFalse(asm, asm.contains("INVOKEDYNAMIC arrayLoad("));
+        assertEquals(6, execInferred(script));
+    }
+
+    public void testReassignedVariablesAreNotInferred() {
+        String script = "def list = new ArrayList(); list = new LinkedList(); list.add(1); return list.size();";
+        assertTrue(bytecode(script, true).contains("INVOKEDYNAMIC size("));
+        assertEquals(1, execInferred(script));
+
+        // variables of the same name in another block count as well
+        script = "def count = new ArrayList(); for (int i = 0; i < 2; ++i) { def list = [i]; list.add(i); count.addAll(list); }" +
+            "if (count.size() > 0) { def list = []; list = [1]; } return count.size();";
+        String asm = bytecode(script, true);
+        assertTrue(asm, asm.contains("INVOKEDYNAMIC add("));
+        assertFalse(asm, asm.contains("INVOKEDYNAMIC addAll("));
+        assertEquals(4, execInferred(script));
+    }
+
+    public void testValuesOfNonExactTypesAreNotInferred() {
+        String script = "def p = params; return p.size();";
+        assertTrue(bytecode(script, true).contains("INVOKEDYNAMIC size("));
+        assertEquals(1, exec(script, Collections.singletonMap("a", 1), INFER_DEF_TYPES, true));
+    }
+
+    public void testUnresolvedAccessesStayDynamic() {
+        String script = "def s = 'painless'; return s.bogus();";
+        assertTrue(bytecode(script, true).contains("INVOKEDYNAMIC bogus("));
+        IllegalArgumentException e = expectScriptThrows(IllegalArgumentException.class, () -> execInferred(script));
+        assertTrue(e.getMessage(), e.getMessage().contains("dynamic method [java.lang.String, bogus/0] not found"));
+    }
+
+    public void testCapturedVariablesAreNotInferred() {
+        String script = "def list = [1, 2]; return [3].stream().mapToInt(x -> list.size() + x).sum();";
+        assertTrue(bytecode(script, true).contains("INVOKEDYNAMIC size("));
+        assertEquals(5, execInferred(script));
+    }
+
+    public void testDisabledByDefault() {
+        String script = "def list = new ArrayList(); list.add(1); return list.size();";
+        assertTrue(bytecode(script, false).contains("INVOKEDYNAMIC size("));
+        assertEquals(1, exec(script));
+    }
+}
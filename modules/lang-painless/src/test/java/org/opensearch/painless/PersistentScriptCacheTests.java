@@ -0,0 +1,207 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.painless;
+
+import org.opensearch.common.settings.SecureString;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.painless.action.PainlessExecuteAction.PainlessTestScript;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class PersistentScriptCacheTests extends ScriptTestCase {
+
+    private static final String SCRIPT =
+        "int twice(int x) { return 2 * x } return twice(params.a) + [1, 2].stream().mapToInt(x -> x * params.a).sum()";
+
+    private static final SecureString KEY = new SecureString("0123456789abcdef".toCharArray());
+
+    private final Map<String, Object> params = Collections.singletonMap("a", 3);
+
+    private PersistentScriptCache openCache(Path directory, int maxEntries, String buildId, PainlessScriptEngine engine)
+            throws IOException {
+        return openCache(directory, maxEntries, KEY, buildId, engine);
+    }
+
+    private PersistentScriptCache openCache(Path directory, int maxEntries, SecureString key, String buildId,
+                                            PainlessScriptEngine engine) throws IOException {
+        PersistentScriptCache cache = new PersistentScriptCache(directory, maxEntries, engine.getContextsToLookups(), key, buildId);
+        engine.setPersistentCache(cache);
+        return cache;
+    }
+
+    private Object run(PainlessScriptEngine engine, String script) {
+        return run(engine, script, () -> {});
+    }
+
+    private Object run(PainlessScriptEngine engine, String script, Runnable beforeCompilation) {
+        PainlessTestScript.Factory factory =
+            engine.compile(null, script, PainlessTestScript.CONTEXT, Collections.emptyMap(), beforeCompilation);
+        return factory.newInstance(params).execute();
+    }
+
+    private static boolean isCached(PersistentScriptCache cache, String script, CompilerSettings settings) {
+        return cache.contains(cache.key(PainlessTestScript.CONTEXT, null, script, settings));
+    }
+
+    private static boolean isCached(PersistentScriptCache cache, String script) {
+        return isCached(cache, script, new CompilerSettings());
+    }
+
+    public void testScriptsSurviveRestart() throws IOException {
+        Path directory = createTempDir();
+        PainlessScriptEngine engine = new PainlessScriptEngine(Settings.EMPTY, newDefaultContexts());
+        PersistentScriptCache cache = openCache(directory, 10, "build", engine);
+        assertFalse(isCached(cache, SCRIPT));
+        AtomicInteger compilations = new AtomicInteger();
+        assertEquals(15, run(engine, SCRIPT, compilations::incrementAndGet));
+        assertEquals(1, compilations.get());
+        assertEquals(1, cache.size());
+        assertEquals(0, cache.hits());
+        assertTrue(isCached(cache, SCRIPT));
+
+        PainlessScriptEngine restarted = new PainlessScriptEngine(Settings.EMPTY, newDefaultContexts());
+        PersistentScriptCache reopened = openCache(directory, 10, "build", restarted);
+        assertEquals(1, reopened.size());
+        assertTrue(isCached(reopened, SCRIPT));
+        assertEquals(15, run(restarted, SCRIPT, compilations::incrementAndGet));
+        assertEquals(1, compilations.get());
+        assertEquals(1, reopened.hits());
+        CompilerSettings picky = new CompilerSettings();
+        picky.setPicky(true);
+        assertFalse(isCached(reopened, SCRIPT, picky));
+    }
+
+    public void testEntriesOfOtherBuildsAreDeleted() throws IOException {
+        Path directory = createTempDir();
+        PainlessScriptEngine engine = new PainlessScriptEngine(Settings.EMPTY, newDefaultContexts());
+        openCache(directory, 10, "build", engine);
+        assertEquals(15, run(engine, SCRIPT));
+        assertEquals(1, entries(directory).size());
+
+        PainlessScriptEngine upgraded = new PainlessScriptEngine(Settings.EMPTY, newDefaultContexts());
+        PersistentScriptCache cache = openCache(directory, 10, "other build", upgraded);
+        assertEquals(0, cache.size());
+        assertEquals(0, entries(directory).size());
+        assertFalse(isCached(cache, SCRIPT));
+    }
+
+    public void testEntriesWrittenWithAnotherKeyAreDeleted() throws IOException {
+        Path directory = createTempDir();
+        PainlessScriptEngine engine = new PainlessScriptEngine(Settings.EMPTY, newDefaultContexts());
+        openCache(directory, 10, "build", engine);
+        assertEquals(15, run(engine, SCRIPT));
+        assertEquals(1, entries(directory).size());
+
+        PainlessScriptEngine restarted = new PainlessScriptEngine(Settings.EMPTY, newDefaultContexts());
+        SecureString otherKey = new SecureString("fedcba9876543210".toCharArray());
+        PersistentScriptCache cache = openCache(directory, 10, otherKey, "build", restarted);
+        assertEquals(0, cache.size());
+        assertEquals(0, entries(directory).size());
+        AtomicInteger compilations = new AtomicInteger();
+        assertEquals(15, run(restarted, SCRIPT, compilations::incrementAndGet));
+        assertEquals(1, compilations.get());
+        assertEquals(0, cache.hits());
+    }
+
+    public void testRequiresKey() {
+        PainlessScriptEngine engine = new PainlessScriptEngine(Settings.EMPTY, newDefaultContexts());
+        IllegalArgumentException e = expectThrows(IllegalArgumentException.class,
+            () -> openCache(createTempDir(), 10, new SecureString(new char[0]), "build", engine));
+        assertEquals("[script.painless.persistent_cache.enabled] requires the secure setting [script.painless.persistent_cache.key] "
+            + "to be set to at least [16] characters", e.getMessage());
+        expectThrows(IllegalArgumentException.class,
+            () -> openCache(createTempDir(), 10, new SecureString("too short".toCharArray()), "build", engine));
+    }
+
+    public void testCorruptEntriesAreCompiledAgain() throws IOException {
+        Path directory = createTempDir();
+        PainlessScriptEngine engine = new PainlessScriptEngine(Settings.EMPTY, newDefaultContexts());
+        openCache(directory, 10, "build", engine);
+        assertEquals(15, run(engine, SCRIPT));
+        Path entry = entries(directory).get(0);
+        byte[] bytes = Files.readAllBytes(entry);
+        int corrupted = bytes.length - 1 - randomIntBetween(8, 64);
+        bytes[corrupted] = (byte) ~bytes[corrupted];
+        Files.write(entry, bytes);
+
+        PainlessScriptEngine restarted = new PainlessScriptEngine(Settings.EMPTY, newDefaultContexts());
+        PersistentScriptCache cache = openCache(directory, 10, "build", restarted);
+        // the corrupt entry was deleted when the cache was opened
+        assertEquals(0, cache.size());
+        AtomicInteger compilations = new AtomicInteger();
+        assertEquals(15, run(restarted, SCRIPT, compilations::incrementAndGet));
+        assertEquals(1, compilations.get());
+        assertEquals(0, cache.hits());
+        // and replaced
+        assertEquals(1, cache.size());
+        assertEquals(1, entries(directory).size());
+    }
+
+    public void testEvictsLeastRecentlyUsedEntries() throws IOException {
+        Path directory = createTempDir();
+        PainlessScriptEngine engine = new PainlessScriptEngine(Settings.EMPTY, newDefaultContexts());
+        PersistentScriptCache cache = openCache(directory, 2, "build", engine);
+        assertEquals(15, run(engine, SCRIPT));
+        assertEquals(4, run(engine, "return params.a + 1"));
+        assertEquals(2, cache.size());
+        // uses the first script again, so the second one is evicted
+        assertEquals(15, run(engine, SCRIPT));
+        assertEquals(1, cache.hits());
+        assertEquals(5, run(engine, "return params.a + 2"));
+        assertEquals(2, cache.size());
+        assertEquals(2, entries(directory).size());
+        assertTrue(isCached(cache, SCRIPT));
+        assertFalse(isCached(cache, "return params.a + 1"));
+        assertTrue(isCached(cache, "return params.a + 2"));
+
+        // a smaller maximum evicts entries when the cache is opened
+        PainlessScriptEngine restarted = new PainlessScriptEngine(Settings.EMPTY, newDefaultContexts());
+        PersistentScriptCache reopened = openCache(directory, 1, "build", restarted);
+        assertEquals(1, reopened.size());
+        assertEquals(1, entries(directory).size());
+    }
+
+    public void testNoEntriesAreStoredWithoutMaxEntries() throws IOException {
+        Path directory = createTempDir();
+        PainlessScriptEngine engine = new PainlessScriptEngine(Settings.EMPTY, newDefaultContexts());
+        PersistentScriptCache cache = openCache(directory, 0, "build", engine);
+        assertEquals(15, run(engine, SCRIPT));
+        assertEquals(0, cache.size());
+        assertEquals(0, entries(directory).size());
+    }
+
+    public void testKeyDependsOnSourceAndSettings() throws IOException {
+        PainlessScriptEngine engine = new PainlessScriptEngine(Settings.EMPTY, newDefaultContexts());
+        PersistentScriptCache cache = openCache(createTempDir(), 10, "build", engine);
+        CompilerSettings settings = new CompilerSettings();
+        String key = cache.key(PainlessTestScript.CONTEXT, null, SCRIPT, settings);
+        assertEquals(key, cache.key(PainlessTestScript.CONTEXT, null, SCRIPT, new CompilerSettings()));
+        assertNotEquals(key, cache.key(PainlessTestScript.CONTEXT, null, SCRIPT + " ", settings));
+        assertNotEquals(key, cache.key(PainlessTestScript.CONTEXT, "stored", SCRIPT, settings));
+        CompilerSettings picky = new CompilerSettings();
+        picky.setPicky(true);
+        assertNotEquals(key, cache.key(PainlessTestScript.CONTEXT, null, SCRIPT, picky));
+    }
+
+    private static List<Path> entries(Path directory) throws IOException {
+        List<Path> entries = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*.pbc")) {
+            files.forEach(entries::add);
+        }
+        return entries;
+    }
+}
@@ -66,6 +66,16 @@ public class Netty4HttpChannel implements HttpChannel {
         return (InetSocketAddress) channel.remoteAddress();
     }
 
+    @Override
+    public void suspendReads() {
+        channel.config().setAutoRead(false);
+    }
+
+    @Override
+    public void resumeReads() {
+        channel.config().setAutoRead(true);
+    }
+
     @Override
     public void addCloseListener(ActionListener<Void> listener) {
         closeContext.addListener(ActionListener.toBiConsumer(listener));
@@ -32,25 +32,49 @@
 
 package org.opensearch.http.netty4;
 
+import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelDuplexHandler;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelPromise;
+import io.netty.handler.codec.http.DefaultHttpContent;
+import io.netty.handler.codec.http.DefaultLastHttpContent;
+import io.netty.handler.codec.http.HttpContent;
 import org.apache.logging.log4j.Logger;
+import org.opensearch.common.bytes.ReleasableBytesReference;
 import org.opensearch.common.collect.Tuple;
+import org.opensearch.common.unit.ByteSizeUnit;
+import org.opensearch.common.unit.ByteSizeValue;
+import org.opensearch.common.util.BigArrays;
 import org.opensearch.http.HttpPipelinedRequest;
 import org.opensearch.http.HttpPipelinedResponse;
 import org.opensearch.http.HttpPipeliningAggregator;
+import org.opensearch.rest.ChunkedRestResponseBody;
+import org.opensearch.transport.NettyAllocator;
+import org.opensearch.transport.netty4.Netty4Utils;
 
 import java.nio.channels.ClosedChannelException;
+import java.util.ArrayDeque;
 import java.util.List;
+import java.util.Queue;
 
 /**
  * Implements HTTP pipelining ordering, ensuring that responses are completely served in the same order as their corresponding requests.
+ * Responses with a chunked body are encoded one chunk at a time, only while the channel is writable, and the responses that follow them
+ * are held back until their last chunk has been written.
  */
 public class Netty4HttpPipeliningHandler extends ChannelDuplexHandler {
 
+    // chunks of this size fit into a single allocation and are not compressed as one large batch
+    static final int CHUNK_SIZE_HINT = (int) Math.min(new ByteSizeValue(256, ByteSizeUnit.KB).getBytes(),
+        NettyAllocator.suggestedMaxAllocationSize());
+
     private final Logger logger;
     private final HttpPipeliningAggregator<ChannelPromise> aggregator;
+    private final BigArrays bigArrays;
+
+    // the chunked response that is currently being written and the responses that became ready while it is being written
+    private Tuple<Netty4ChunkedHttpResponse, ChannelPromise> currentChunkedWrite;
+    private final Queue<Tuple<Object, ChannelPromise>> queuedWrites = new ArrayDeque<>();
 
     /**
      * Construct a new pipelining handler; this handler should be used downstream of HTTP decoding/aggregation.
@@ -58,10 +82,12 @@ public class Netty4HttpPipeliningHandler extends ChannelDuplexHandler {
      * @param logger        for logging unexpected errors
      * @param maxEventsHeld the maximum number of channel events that will be retained prior to aborting the channel connection; this is
      *                      required as events cannot queue up indefinitely
+     * @param bigArrays     the source of the pages that chunked responses are encoded into
      */
-    public Netty4HttpPipeliningHandler(Logger logger, final int maxEventsHeld) {
+    public Netty4HttpPipeliningHandler(Logger logger, final int maxEventsHeld, BigArrays bigArrays) {
         this.logger = logger;
         this.aggregator = new HttpPipeliningAggregator<>(maxEventsHeld);
+        this.bigArrays = bigArrays;
     }
 
     @Override
@@ -79,7 +105,7 @@ public class Netty4HttpPipeliningHandler extends ChannelDuplexHandler {
         try {
             List<Tuple<HttpPipelinedResponse, ChannelPromise>> readyResponses = aggregator.write(response, promise);
             for (Tuple<HttpPipelinedResponse, ChannelPromise> readyResponse : readyResponses) {
-                ctx.write(readyResponse.v1().getDelegateRequest(), readyResponse.v2());
+                doWrite(ctx, readyResponse.v1().getDelegateRequest(), readyResponse.v2());
             }
             success = true;
         } catch (IllegalStateException e) {
@@ -91,12 +117,84 @@ public class Netty4HttpPipeliningHandler extends ChannelDuplexHandler {
         }
     }
 
+    private void doWrite(ChannelHandlerContext ctx, Object response, ChannelPromise promise) {
+        if (currentChunkedWrite != null) {
+            queuedWrites.add(new Tuple<>(response, promise));
+        } else if (response instanceof Netty4ChunkedHttpResponse) {
+            currentChunkedWrite = new Tuple<>((Netty4ChunkedHttpResponse) response, promise);
+            ctx.write(response, ctx.newPromise().addListener(f -> {
+                if (f.isSuccess() == false) {
+                    promise.tryFailure(f.cause());
+                }
+            }));
+            writeChunks(ctx);
+        } else {
+            ctx.write(response, promise);
+        }
+    }
+
+    @Override
+    public void channelWritabilityChanged(ChannelHandlerContext ctx) throws Exception {
+        if (ctx.channel().isWritable() && currentChunkedWrite != null) {
+            writeChunks(ctx);
+        }
+        super.channelWritabilityChanged(ctx);
+    }
+
+    /**
+     * Writes chunks of the current chunked response for as long as the channel is writable, so that no more than a few chunks are ever
+     * buffered on heap. Writing resumes once the channel becomes writable again.
+     */
+    private void writeChunks(ChannelHandlerContext ctx) {
+        while (currentChunkedWrite != null && ctx.channel().isWritable()) {
+            if (writeChunk(ctx, currentChunkedWrite.v1().body(), currentChunkedWrite.v2())) {
+                currentChunkedWrite = null;
+                while (currentChunkedWrite == null && queuedWrites.isEmpty() == false) {
+                    final Tuple<Object, ChannelPromise> queuedWrite = queuedWrites.poll();
+                    doWrite(ctx, queuedWrite.v1(), queuedWrite.v2());
+                }
+            }
+            ctx.flush();
+        }
+    }
+
+    /**
+     * Encodes and writes the next chunk of the given body, returning whether it was the last one.
+     */
+    private boolean writeChunk(ChannelHandlerContext ctx, ChunkedRestResponseBody body, ChannelPromise promise) {
+        final ReleasableBytesReference chunk;
+        try {
+            chunk = body.encodeChunk(CHUNK_SIZE_HINT, bigArrays);
+        } catch (Exception e) {
+            // the head of the response is already sent, all we can do is to close the connection
+            logger.warn("failed to encode chunk of http response", e);
+            promise.tryFailure(e);
+            ctx.close();
+            return true;
+        }
+        final ByteBuf content = Netty4Utils.toByteBuf(chunk);
+        final boolean last = body.isDone();
+        final HttpContent httpContent = last ? new DefaultLastHttpContent(content) : new DefaultHttpContent(content);
+        final ChannelPromise chunkPromise = last ? promise : ctx.newPromise();
+        // the pages of the chunk can be reused as soon as the chunk has been written to the socket
+        chunkPromise.addListener(f -> chunk.close());
+        if (last == false) {
+            chunkPromise.addListener(f -> {
+                if (f.isSuccess() == false) {
+                    promise.tryFailure(f.cause());
+                }
+            });
+        }
+        ctx.write(httpContent, chunkPromise);
+        return last;
+    }
+
     @Override
     public void close(ChannelHandlerContext ctx, ChannelPromise promise) {
         List<Tuple<HttpPipelinedResponse, ChannelPromise>> inflightResponses = aggregator.removeAllInflightResponses();
 
+        ClosedChannelException closedChannelException = new ClosedChannelException();
         if (inflightResponses.isEmpty() == false) {
-            ClosedChannelException closedChannelException = new ClosedChannelException();
             for (Tuple<HttpPipelinedResponse, ChannelPromise> inflightResponse : inflightResponses) {
                 try {
                     inflightResponse.v2().setFailure(closedChannelException);
@@ -105,6 +203,14 @@ public class Netty4HttpPipeliningHandler extends ChannelDuplexHandler {
                 }
             }
         }
+        if (currentChunkedWrite != null) {
+            currentChunkedWrite.v2().tryFailure(closedChannelException);
+            currentChunkedWrite = null;
+        }
+        Tuple<Object, ChannelPromise> queuedWrite;
+        while ((queuedWrite = queuedWrites.poll()) != null) {
+            queuedWrite.v2().tryFailure(closedChannelException);
+        }
         ctx.close(promise);
     }
 }
@@ -40,17 +40,33 @@ import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
+import io.netty.channel.ChannelPipeline;
 import io.netty.channel.FixedRecvByteBufAllocator;
 import io.netty.channel.RecvByteBufAllocator;
 import io.netty.channel.socket.nio.NioChannelOption;
 import io.netty.handler.codec.ByteToMessageDecoder;
+import io.netty.handler.codec.http.FullHttpRequest;
 import io.netty.handler.codec.http.HttpContentCompressor;
 import io.netty.handler.codec.http.HttpContentDecompressor;
+import io.netty.handler.codec.http.HttpHeaders;
 import io.netty.handler.codec.http.HttpObjectAggregator;
 import io.netty.handler.codec.http.HttpRequestDecoder;
 import io.netty.handler.codec.http.HttpResponseEncoder;
+import io.netty.handler.codec.http.HttpServerCodec;
+import io.netty.handler.codec.http.HttpServerUpgradeHandler;
+import io.netty.handler.codec.http2.CleartextHttp2ServerUpgradeHandler;
+import io.netty.handler.codec.http2.Http2CodecUtil;
+import io.netty.handler.codec.http2.Http2FrameCodec;
+import io.netty.handler.codec.http2.Http2FrameCodecBuilder;
+import io.netty.handler.codec.http2.Http2MultiplexHandler;
+import io.netty.handler.codec.http2.Http2ServerUpgradeCodec;
+import io.netty.handler.codec.http2.Http2Settings;
+import io.netty.handler.codec.http2.Http2StreamFrameToHttpObjectCodec;
+import io.netty.handler.ssl.ApplicationProtocolNames;
+import io.netty.handler.ssl.ApplicationProtocolNegotiationHandler;
 import io.netty.handler.timeout.ReadTimeoutException;
 import io.netty.handler.timeout.ReadTimeoutHandler;
+import io.netty.util.AsciiString;
 import io.netty.util.AttributeKey;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -80,6 +96,7 @@ import org.opensearch.transport.netty4.Netty4Utils;
 
 import java.net.InetSocketAddress;
 import java.net.SocketOption;
+import java.util.Collection;
 import java.util.concurrent.TimeUnit;
 
 import static org.opensearch.http.HttpTransportSettings.SETTING_HTTP_MAX_CHUNK_SIZE;
@@ -143,6 +160,20 @@ public class Netty4HttpServerTransport extends AbstractHttpServerTransport {
     public static final Setting<ByteSizeValue> SETTING_HTTP_NETTY_RECEIVE_PREDICTOR_SIZE =
         Setting.byteSizeSetting("http.netty.receive_predictor_size", new ByteSizeValue(64, ByteSizeUnit.KB), Property.NodeScope);
 
+    /**
+     * Enables HTTP/2 next to HTTP/1.1. Cleartext connections can either upgrade to HTTP/2 (h2c) or start with the HTTP/2 connection
+     * preface, TLS connections negotiate the protocol through ALPN if the channel handler that adds TLS supports it, see
+     * {@link HttpChannelHandler#negotiatesApplicationProtocol()}.
+     */
+    public static final Setting<Boolean> SETTING_HTTP_NETTY_HTTP2_ENABLED =
+        Setting.boolSetting("http.netty.http2.enabled", false, Property.NodeScope);
+
+    /**
+     * The maximum number of concurrent streams, i.e. requests that are in flight, that a client may open on a single HTTP/2 connection.
+     */
+    public static final Setting<Integer> SETTING_HTTP_NETTY_HTTP2_MAX_CONCURRENT_STREAMS =
+        Setting.intSetting("http.netty.http2.max_concurrent_streams", 128, 1, Property.NodeScope);
+
     private final ByteSizeValue maxInitialLineLength;
     private final ByteSizeValue maxHeaderSize;
     private final ByteSizeValue maxChunkSize;
@@ -155,6 +186,9 @@ public class Netty4HttpServerTransport extends AbstractHttpServerTransport {
 
     private final int maxCompositeBufferComponents;
 
+    private final boolean http2Enabled;
+    private final int http2MaxConcurrentStreams;
+
     private volatile ServerBootstrap serverBootstrap;
     private volatile SharedGroupFactory.SharedGroup sharedGroup;
 
@@ -175,13 +209,16 @@ public class Netty4HttpServerTransport extends AbstractHttpServerTransport {
 
         this.readTimeoutMillis = Math.toIntExact(SETTING_HTTP_READ_TIMEOUT.get(settings).getMillis());
 
+        this.http2Enabled = SETTING_HTTP_NETTY_HTTP2_ENABLED.get(settings);
+        this.http2MaxConcurrentStreams = SETTING_HTTP_NETTY_HTTP2_MAX_CONCURRENT_STREAMS.get(settings);
+
         ByteSizeValue receivePredictor = SETTING_HTTP_NETTY_RECEIVE_PREDICTOR_SIZE.get(settings);
         recvByteBufAllocator = new FixedRecvByteBufAllocator(receivePredictor.bytesAsInt());
 
         logger.debug("using max_chunk_size[{}], max_header_size[{}], max_initial_line_length[{}], max_content_length[{}], " +
-                "receive_predictor[{}], max_composite_buffer_components[{}], pipelining_max_events[{}]",
+                "receive_predictor[{}], max_composite_buffer_components[{}], pipelining_max_events[{}], http2_enabled[{}]",
             maxChunkSize, maxHeaderSize, maxInitialLineLength, maxContentLength, receivePredictor, maxCompositeBufferComponents,
-            pipeliningMaxEvents);
+            pipeliningMaxEvents, http2Enabled);
     }
 
     public Settings settings() {
@@ -296,6 +333,9 @@ public class Netty4HttpServerTransport extends AbstractHttpServerTransport {
 
     protected static class HttpChannelHandler extends ChannelInitializer<Channel> {
 
+        private static final String[] REQUEST_HANDLER_NAMES =
+            { "decoder_compress", "aggregator", "encoder_compress", "request_creator", "response_creator", "pipelining", "handler" };
+
         private final Netty4HttpServerTransport transport;
         private final NettyByteBufSizer byteBufSizer;
         private final Netty4HttpRequestCreator requestCreator;
@@ -318,25 +358,146 @@ public class Netty4HttpServerTransport extends AbstractHttpServerTransport {
             ch.attr(HTTP_CHANNEL_KEY).set(nettyHttpChannel);
             ch.pipeline().addLast("byte_buf_sizer", byteBufSizer);
             ch.pipeline().addLast("read_timeout", new ReadTimeoutHandler(transport.readTimeoutMillis, TimeUnit.MILLISECONDS));
+            if (transport.http2Enabled == false) {
+                configureHttp11(ch.pipeline());
+            } else if (negotiatesApplicationProtocol()) {
+                ch.pipeline().addLast("alpn", new ApplicationProtocolNegotiationHandler(ApplicationProtocolNames.HTTP_1_1) {
+                    @Override
+                    protected void configurePipeline(ChannelHandlerContext ctx, String protocol) {
+                        if (ApplicationProtocolNames.HTTP_2.equals(protocol)) {
+                            configureHttp2(ctx.pipeline());
+                        } else if (ApplicationProtocolNames.HTTP_1_1.equals(protocol)) {
+                            configureHttp11(ctx.pipeline());
+                        } else {
+                            throw new IllegalStateException("unsupported application protocol [" + protocol + "]");
+                        }
+                    }
+                });
+            } else {
+                configureCleartextHttp2(ch.pipeline());
+            }
+            transport.serverAcceptedChannel(nettyHttpChannel);
+        }
+
+        /**
+         * Whether the protocol of a connection is negotiated through ALPN. Subclasses that add a TLS handler to the pipeline, with an
+         * SSL context that advertises both {@code h2} and {@code http/1.1}, should return {@code true} so that TLS connections can use
+         * HTTP/2 if it is enabled.
+         */
+        protected boolean negotiatesApplicationProtocol() {
+            return false;
+        }
+
+        private void configureHttp11(ChannelPipeline pipeline) {
             final HttpRequestDecoder decoder = new HttpRequestDecoder(
                 handlingSettings.getMaxInitialLineLength(),
                 handlingSettings.getMaxHeaderSize(),
                 handlingSettings.getMaxChunkSize());
             decoder.setCumulator(ByteToMessageDecoder.COMPOSITE_CUMULATOR);
-            ch.pipeline().addLast("decoder", decoder);
-            ch.pipeline().addLast("decoder_compress", new HttpContentDecompressor());
-            ch.pipeline().addLast("encoder", new HttpResponseEncoder());
+            pipeline.addLast("decoder", decoder);
+            pipeline.addLast("encoder", new HttpResponseEncoder());
+            addRequestHandlers(pipeline);
+        }
+
+        /**
+         * Serves HTTP/1.1 unless the client either upgrades the connection to HTTP/2 or starts it with the HTTP/2 connection preface.
+         */
+        private void configureCleartextHttp2(ChannelPipeline pipeline) {
+            final HttpServerCodec sourceCodec = new HttpServerCodec(
+                handlingSettings.getMaxInitialLineLength(),
+                handlingSettings.getMaxHeaderSize(),
+                handlingSettings.getMaxChunkSize());
+            final HttpServerUpgradeHandler upgradeHandler = new HttpServerUpgradeHandler(sourceCodec, protocol -> {
+                if (AsciiString.contentEquals(Http2CodecUtil.HTTP_UPGRADE_PROTOCOL_NAME, protocol) == false) {
+                    return null;
+                }
+                final Http2ServerUpgradeCodec upgradeCodec = new Http2ServerUpgradeCodec(newHttp2FrameCodec(), newHttp2MultiplexHandler());
+                return new HttpServerUpgradeHandler.UpgradeCodec() {
+                    @Override
+                    public Collection<CharSequence> requiredUpgradeHeaders() {
+                        return upgradeCodec.requiredUpgradeHeaders();
+                    }
+
+                    @Override
+                    public boolean prepareUpgradeResponse(ChannelHandlerContext ctx, FullHttpRequest upgradeRequest,
+                                                          HttpHeaders upgradeHeaders) {
+                        return upgradeCodec.prepareUpgradeResponse(ctx, upgradeRequest, upgradeHeaders);
+                    }
+
+                    @Override
+                    public void upgradeTo(ChannelHandlerContext ctx, FullHttpRequest upgradeRequest) {
+                        upgradeCodec.upgradeTo(ctx, upgradeRequest);
+                        removeRequestHandlers(ctx.pipeline());
+                    }
+                };
+            }, handlingSettings.getMaxContentLength());
+            pipeline.addLast("h2c", new CleartextHttp2ServerUpgradeHandler(sourceCodec, upgradeHandler, new ChannelInboundHandlerAdapter() {
+                @Override
+                public void handlerAdded(ChannelHandlerContext ctx) {
+                    // replaces itself with the HTTP/2 handlers once the connection preface has been received
+                    ctx.pipeline().addAfter(ctx.name(), "h2_multiplex", newHttp2MultiplexHandler());
+                    ctx.pipeline().addAfter(ctx.name(), "h2_codec", newHttp2FrameCodec());
+                    ctx.pipeline().remove(this);
+                    removeRequestHandlers(ctx.pipeline());
+                }
+            }));
+            addRequestHandlers(pipeline);
+        }
+
+        private void configureHttp2(ChannelPipeline pipeline) {
+            pipeline.addLast("h2_codec", newHttp2FrameCodec());
+            pipeline.addLast("h2_multiplex", newHttp2MultiplexHandler());
+        }
+
+        private Http2FrameCodec newHttp2FrameCodec() {
+            return Http2FrameCodecBuilder.forServer()
+                .initialSettings(Http2Settings.defaultSettings()
+                    .maxConcurrentStreams(transport.http2MaxConcurrentStreams)
+                    .maxHeaderListSize(handlingSettings.getMaxHeaderSize()))
+                .build();
+        }
+
+        /**
+         * Each HTTP/2 stream is served by its own child channel, so requests are dispatched and responded to independently of each
+         * other and the writes of a response are subject to the flow control window of its stream. Only the channel of the connection is
+         * accepted by the transport, so the HTTP stats count connections rather than streams. Stream channels are closed along with
+         * their connection when the transport stops.
+         */
+        private Http2MultiplexHandler newHttp2MultiplexHandler() {
+            return new Http2MultiplexHandler(new ChannelInitializer<Channel>() {
+                @Override
+                protected void initChannel(Channel ch) {
+                    ch.attr(HTTP_CHANNEL_KEY).set(new Netty4HttpChannel(ch));
+                    ch.pipeline().addLast("h2_stream_codec", new Http2StreamFrameToHttpObjectCodec(true));
+                    addRequestHandlers(ch.pipeline());
+                }
+            });
+        }
+
+        /**
+         * Removes the handlers of HTTP/1.1 requests from a connection that switched to HTTP/2, whose requests are handled by the
+         * pipelines of its streams instead.
+         */
+        private static void removeRequestHandlers(ChannelPipeline pipeline) {
+            for (String name : REQUEST_HANDLER_NAMES) {
+                if (pipeline.get(name) != null) {
+                    pipeline.remove(name);
+                }
+            }
+        }
+
+        private void addRequestHandlers(ChannelPipeline pipeline) {
+            pipeline.addLast("decoder_compress", new HttpContentDecompressor());
             final HttpObjectAggregator aggregator = new HttpObjectAggregator(handlingSettings.getMaxContentLength());
             aggregator.setMaxCumulationBufferComponents(transport.maxCompositeBufferComponents);
-            ch.pipeline().addLast("aggregator", aggregator);
+            pipeline.addLast("aggregator", aggregator);
             if (handlingSettings.isCompression()) {
-                ch.pipeline().addLast("encoder_compress", new HttpContentCompressor(handlingSettings.getCompressionLevel()));
+                pipeline.addLast("encoder_compress", new HttpContentCompressor(handlingSettings.getCompressionLevel()));
             }
-            ch.pipeline().addLast("request_creator", requestCreator);
-            ch.pipeline().addLast("response_creator", responseCreator);
-            ch.pipeline().addLast("pipelining", new Netty4HttpPipeliningHandler(logger, transport.pipeliningMaxEvents));
-            ch.pipeline().addLast("handler", requestHandler);
-            transport.serverAcceptedChannel(nettyHttpChannel);
+            pipeline.addLast("request_creator", requestCreator);
+            pipeline.addLast("response_creator", responseCreator);
+            pipeline.addLast("pipelining", new Netty4HttpPipeliningHandler(logger, transport.pipeliningMaxEvents, transport.bigArrays));
+            pipeline.addLast("handler", requestHandler);
         }
 
         @Override
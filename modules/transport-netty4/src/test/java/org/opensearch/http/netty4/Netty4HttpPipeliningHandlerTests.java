@@ -39,18 +39,25 @@ import io.netty.channel.SimpleChannelInboundHandler;
 import io.netty.channel.embedded.EmbeddedChannel;
 import io.netty.handler.codec.http.DefaultFullHttpRequest;
 import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpContent;
 import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpUtil;
+import io.netty.handler.codec.http.LastHttpContent;
 import io.netty.handler.codec.http.QueryStringDecoder;
 import org.opensearch.common.Randomness;
 import org.opensearch.common.bytes.BytesArray;
 import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.bytes.ReleasableBytesReference;
+import org.opensearch.common.util.BigArrays;
 import org.opensearch.http.HttpPipelinedRequest;
 import org.opensearch.http.HttpPipelinedResponse;
 import org.opensearch.http.HttpResponse;
+import org.opensearch.rest.ChunkedRestResponseBody;
 import org.opensearch.rest.RestStatus;
 import org.opensearch.test.OpenSearchTestCase;
 import org.junit.After;
 
+import java.io.IOException;
 import java.nio.channels.ClosedChannelException;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
@@ -100,7 +107,8 @@ public class Netty4HttpPipeliningHandlerTests extends OpenSearchTestCase {
 
     public void testThatPipeliningWorksWithFastSerializedRequests() throws InterruptedException {
         final int numberOfRequests = randomIntBetween(2, 128);
-        final EmbeddedChannel embeddedChannel = new EmbeddedChannel(new Netty4HttpPipeliningHandler(logger, numberOfRequests),
+        final EmbeddedChannel embeddedChannel = new EmbeddedChannel(
+            new Netty4HttpPipeliningHandler(logger, numberOfRequests, BigArrays.NON_RECYCLING_INSTANCE),
             new WorkEmulatorHandler());
 
         for (int i = 0; i < numberOfRequests; i++) {
@@ -127,7 +135,8 @@ public class Netty4HttpPipeliningHandlerTests extends OpenSearchTestCase {
 
     public void testThatPipeliningWorksWhenSlowRequestsInDifferentOrder() throws InterruptedException {
         final int numberOfRequests = randomIntBetween(2, 128);
-        final EmbeddedChannel embeddedChannel = new EmbeddedChannel(new Netty4HttpPipeliningHandler(logger, numberOfRequests),
+        final EmbeddedChannel embeddedChannel = new EmbeddedChannel(
+            new Netty4HttpPipeliningHandler(logger, numberOfRequests, BigArrays.NON_RECYCLING_INSTANCE),
             new WorkEmulatorHandler());
 
         for (int i = 0; i < numberOfRequests; i++) {
@@ -157,7 +166,8 @@ public class Netty4HttpPipeliningHandlerTests extends OpenSearchTestCase {
 
     public void testThatPipeliningClosesConnectionWithTooManyEvents() throws InterruptedException {
         final int numberOfRequests = randomIntBetween(2, 128);
-        final EmbeddedChannel embeddedChannel = new EmbeddedChannel(new Netty4HttpPipeliningHandler(logger, numberOfRequests),
+        final EmbeddedChannel embeddedChannel = new EmbeddedChannel(
+            new Netty4HttpPipeliningHandler(logger, numberOfRequests, BigArrays.NON_RECYCLING_INSTANCE),
             new WorkEmulatorHandler());
 
         for (int i = 0; i < 1 + numberOfRequests + 1; i++) {
@@ -186,7 +196,7 @@ public class Netty4HttpPipeliningHandlerTests extends OpenSearchTestCase {
     public void testPipeliningRequestsAreReleased() throws InterruptedException {
         final int numberOfRequests = 10;
         final EmbeddedChannel embeddedChannel =
-            new EmbeddedChannel(new Netty4HttpPipeliningHandler(logger, numberOfRequests + 1));
+            new EmbeddedChannel(new Netty4HttpPipeliningHandler(logger, numberOfRequests + 1, BigArrays.NON_RECYCLING_INSTANCE));
 
         for (int i = 0; i < numberOfRequests; i++) {
             embeddedChannel.writeInbound(createHttpRequest("/" + i));
@@ -217,6 +227,50 @@ public class Netty4HttpPipeliningHandlerTests extends OpenSearchTestCase {
         }
     }
 
+    public void testChunkedResponseIsWrittenInChunksAndHoldsBackLaterResponses() throws IOException {
+        final EmbeddedChannel embeddedChannel =
+            new EmbeddedChannel(new Netty4HttpPipeliningHandler(logger, 10, BigArrays.NON_RECYCLING_INSTANCE));
+        embeddedChannel.writeInbound(createHttpRequest("/0"));
+        embeddedChannel.writeInbound(createHttpRequest("/1"));
+        final HttpPipelinedRequest first = embeddedChannel.readInbound();
+        final HttpPipelinedRequest second = embeddedChannel.readInbound();
+
+        final int numberOfChunks = randomIntBetween(1, 10);
+        final ChannelPromise chunkedPromise = embeddedChannel.newPromise();
+        embeddedChannel.writeAndFlush(first.createResponse(RestStatus.OK, new ChunkedRestResponseBody() {
+            private int chunks;
+
+            @Override
+            public boolean isDone() {
+                return chunks == numberOfChunks;
+            }
+
+            @Override
+            public ReleasableBytesReference encodeChunk(int sizeHint, BigArrays bigArrays) {
+                return ReleasableBytesReference.wrap(new BytesArray(Integer.toString(chunks++)));
+            }
+
+            @Override
+            public String getResponseContentTypeString() {
+                return "text/plain";
+            }
+        }), chunkedPromise);
+        final ChannelPromise fullPromise = embeddedChannel.newPromise();
+        embeddedChannel.writeAndFlush(second.createResponse(RestStatus.OK, new BytesArray("1")), fullPromise);
+
+        final Object head = embeddedChannel.outboundMessages().poll();
+        assertTrue(head instanceof Netty4ChunkedHttpResponse);
+        assertTrue(HttpUtil.isTransferEncodingChunked((Netty4ChunkedHttpResponse) head));
+        for (int i = 0; i < numberOfChunks; i++) {
+            final HttpContent chunk = (HttpContent) embeddedChannel.outboundMessages().poll();
+            assertEquals(i == numberOfChunks - 1, chunk instanceof LastHttpContent);
+            assertThat(chunk.content().toString(StandardCharsets.UTF_8), is(Integer.toString(i)));
+        }
+        assertTrue(chunkedPromise.isSuccess());
+        assertReadHttpMessageHasContent(embeddedChannel, "1");
+        assertTrue(fullPromise.isSuccess());
+    }
+
 
     private void assertReadHttpMessageHasContent(EmbeddedChannel embeddedChannel, String expectedContent) {
         FullHttpResponse response = (FullHttpResponse) embeddedChannel.outboundMessages().poll();
@@ -57,6 +57,7 @@ import org.opensearch.common.blobstore.BlobMetadata;
 import org.opensearch.common.blobstore.BlobPath;
 import org.opensearch.common.blobstore.BlobStoreException;
 import org.opensearch.common.blobstore.DeleteResult;
+import org.opensearch.common.blobstore.MultipartBlobWriter;
 import org.opensearch.common.blobstore.support.AbstractBlobContainer;
 import org.opensearch.common.blobstore.support.PlainBlobMetadata;
 import org.opensearch.common.collect.Tuple;
@@ -72,11 +73,14 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static org.opensearch.repositories.s3.S3Repository.MAX_FILE_SIZE;
 import static org.opensearch.repositories.s3.S3Repository.MAX_FILE_SIZE_USING_MULTIPART;
+import static org.opensearch.repositories.s3.S3Repository.MAX_MULTIPART_PARTS;
+import static org.opensearch.repositories.s3.S3Repository.MAX_PART_SIZE_USING_MULTIPART;
 import static org.opensearch.repositories.s3.S3Repository.MIN_PART_SIZE_USING_MULTIPART;
 
 class S3BlobContainer extends AbstractBlobContainer {
@@ -398,15 +402,7 @@ class S3BlobContainer extends AbstractBlobContainer {
         final String bucketName = blobStore.bucket();
         boolean success = false;
 
-        final InitiateMultipartUploadRequest initRequest = new InitiateMultipartUploadRequest(bucketName, blobName);
-        initRequest.setStorageClass(blobStore.getStorageClass());
-        initRequest.setCannedACL(blobStore.getCannedACL());
-        initRequest.setRequestMetricCollector(blobStore.multiPartUploadMetricCollector);
-        if (blobStore.serverSideEncryption()) {
-            final ObjectMetadata md = new ObjectMetadata();
-            md.setSSEAlgorithm(ObjectMetadata.AES_256_SERVER_SIDE_ENCRYPTION);
-            initRequest.setObjectMetadata(md);
-        }
+        final InitiateMultipartUploadRequest initRequest = initiateMultipartUploadRequest(blobStore, blobName);
         try (AmazonS3Reference clientReference = blobStore.clientReference()) {
 
             uploadId.set(SocketAccess.doPrivileged(() -> clientReference.client().initiateMultipartUpload(initRequest).getUploadId()));
@@ -462,6 +458,126 @@ class S3BlobContainer extends AbstractBlobContainer {
         }
     }
 
+    private static InitiateMultipartUploadRequest initiateMultipartUploadRequest(final S3BlobStore blobStore, final String blobName) {
+        final InitiateMultipartUploadRequest initRequest = new InitiateMultipartUploadRequest(blobStore.bucket(), blobName);
+        initRequest.setStorageClass(blobStore.getStorageClass());
+        initRequest.setCannedACL(blobStore.getCannedACL());
+        initRequest.setRequestMetricCollector(blobStore.multiPartUploadMetricCollector);
+        if (blobStore.serverSideEncryption()) {
+            final ObjectMetadata md = new ObjectMetadata();
+            md.setSSEAlgorithm(ObjectMetadata.AES_256_SERVER_SIDE_ENCRYPTION);
+            initRequest.setObjectMetadata(md);
+        }
+        return initRequest;
+    }
+
+    @Override
+    public boolean supportsMultipartWrites() {
+        return true;
+    }
+
+    /**
+     * Writes the parts of the blob as the parts of a multipart upload, which allows uploading them concurrently. Like
+     * {@link #writeBlob} this does not fail if the blob already exists.
+     */
+    @Override
+    public MultipartBlobWriter multipartWriter(String blobName, long blobSize, long partSize) throws IOException {
+        ensureMultiPartUploadSize(blobSize);
+        if (partSize < MIN_PART_SIZE_USING_MULTIPART.getBytes() || partSize > MAX_PART_SIZE_USING_MULTIPART.getBytes()) {
+            throw new IllegalArgumentException("Multipart upload part size [" + partSize + "] must be between "
+                + MIN_PART_SIZE_USING_MULTIPART + " and " + MAX_PART_SIZE_USING_MULTIPART);
+        }
+        final long parts = numberOfMultiparts(blobSize, partSize).v1();
+        if (parts > MAX_MULTIPART_PARTS) {
+            throw new IllegalArgumentException("Multipart upload of [" + blobSize + "] bytes in parts of [" + partSize
+                + "] bytes exceeds the maximum number of parts [" + MAX_MULTIPART_PARTS + "]");
+        }
+        return SocketAccess.doPrivilegedIOException(() -> new S3MultipartBlobWriter(buildKey(blobName), blobSize, partSize, (int) parts));
+    }
+
+    private class S3MultipartBlobWriter implements MultipartBlobWriter {
+
+        private final String key;
+        private final long blobSize;
+        private final long partSize;
+        private final String uploadId;
+        private final AtomicReferenceArray<PartETag> partETags;
+
+        S3MultipartBlobWriter(String key, long blobSize, long partSize, int parts) throws IOException {
+            this.key = key;
+            this.blobSize = blobSize;
+            this.partSize = partSize;
+            this.partETags = new AtomicReferenceArray<>(parts);
+            final InitiateMultipartUploadRequest initRequest = initiateMultipartUploadRequest(blobStore, key);
+            try (AmazonS3Reference clientReference = blobStore.clientReference()) {
+                uploadId = clientReference.client().initiateMultipartUpload(initRequest).getUploadId();
+            } catch (final AmazonClientException e) {
+                throw new IOException("Unable to initiate multipart upload of object [" + key + "]", e);
+            }
+            if (Strings.isEmpty(uploadId)) {
+                throw new IOException("Failed to initialize multipart upload " + key);
+            }
+        }
+
+        @Override
+        public void writePart(int partNumber, InputStream inputStream, long size) throws IOException {
+            assert inputStream.markSupported() : "No mark support on inputStream breaks the S3 SDK's ability to retry requests";
+            final boolean lastPart = partNumber == partETags.length() - 1;
+            final long expectedSize = lastPart ? blobSize - partNumber * partSize : partSize;
+            if (size != expectedSize) {
+                throw new IllegalArgumentException("Part [" + partNumber + "] must have [" + expectedSize + "] bytes but got [" + size
+                    + "]");
+            }
+            final UploadPartRequest uploadRequest = new UploadPartRequest();
+            uploadRequest.setBucketName(blobStore.bucket());
+            uploadRequest.setKey(key);
+            uploadRequest.setUploadId(uploadId);
+            // S3 part numbers are one based
+            uploadRequest.setPartNumber(partNumber + 1);
+            uploadRequest.setInputStream(inputStream);
+            uploadRequest.setPartSize(size);
+            uploadRequest.setLastPart(lastPart);
+            uploadRequest.setRequestMetricCollector(blobStore.multiPartUploadMetricCollector);
+            try (AmazonS3Reference clientReference = blobStore.clientReference()) {
+                final UploadPartResult uploadResponse =
+                    SocketAccess.doPrivileged(() -> clientReference.client().uploadPart(uploadRequest));
+                partETags.set(partNumber, uploadResponse.getPartETag());
+            } catch (final AmazonClientException e) {
+                throw new IOException("Unable to upload part [" + partNumber + "] of object [" + key + "]", e);
+            }
+        }
+
+        @Override
+        public void complete() throws IOException {
+            final List<PartETag> parts = new ArrayList<>(partETags.length());
+            for (int i = 0; i < partETags.length(); i++) {
+                final PartETag partETag = partETags.get(i);
+                if (partETag == null) {
+                    throw new IOException("Cannot complete multipart upload of object [" + key + "], part [" + i + "] is missing");
+                }
+                parts.add(partETag);
+            }
+            final CompleteMultipartUploadRequest complRequest =
+                new CompleteMultipartUploadRequest(blobStore.bucket(), key, uploadId, parts);
+            complRequest.setRequestMetricCollector(blobStore.multiPartUploadMetricCollector);
+            try (AmazonS3Reference clientReference = blobStore.clientReference()) {
+                SocketAccess.doPrivilegedVoid(() -> clientReference.client().completeMultipartUpload(complRequest));
+            } catch (final AmazonClientException e) {
+                throw new IOException("Unable to complete multipart upload of object [" + key + "]", e);
+            }
+        }
+
+        @Override
+        public void abort() throws IOException {
+            final AbortMultipartUploadRequest abortRequest = new AbortMultipartUploadRequest(blobStore.bucket(), key, uploadId);
+            try (AmazonS3Reference clientReference = blobStore.clientReference()) {
+                SocketAccess.doPrivilegedVoid(() -> clientReference.client().abortMultipartUpload(abortRequest));
+            } catch (final AmazonClientException e) {
+                throw new IOException("Unable to abort multipart upload of object [" + key + "]", e);
+            }
+        }
+    }
+
     // non-static, package private for testing
     void ensureMultiPartUploadSize(final long blobSize) {
         if (blobSize > MAX_FILE_SIZE_USING_MULTIPART.getBytes()) {
@@ -0,0 +1,222 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search;
+
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.ResourceNotFoundException;
+import org.opensearch.action.bulk.BulkRequestBuilder;
+import org.opensearch.action.search.AsyncSearchResponse;
+import org.opensearch.action.search.AsyncSearchTask;
+import org.opensearch.action.search.GetAsyncSearchAction;
+import org.opensearch.action.search.GetAsyncSearchRequest;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SubmitAsyncSearchAction;
+import org.opensearch.action.search.SubmitAsyncSearchRequest;
+import org.opensearch.action.support.WriteRequest;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.plugins.Plugin;
+import org.opensearch.plugins.PluginsService;
+import org.opensearch.script.Script;
+import org.opensearch.script.ScriptType;
+import org.opensearch.search.SearchCancellationIT.ScriptedBlockPlugin;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.tasks.Task;
+import org.opensearch.tasks.TaskResultsService;
+import org.opensearch.test.OpenSearchIntegTestCase;
+import org.opensearch.transport.TransportService;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import static org.opensearch.index.query.QueryBuilders.matchAllQuery;
+import static org.opensearch.index.query.QueryBuilders.scriptQuery;
+import static org.opensearch.search.SearchCancellationIT.ScriptedBlockPlugin.SCRIPT_NAME;
+import static org.opensearch.test.hamcrest.OpenSearchAssertions.assertNoFailures;
+
+@OpenSearchIntegTestCase.ClusterScope(scope = OpenSearchIntegTestCase.Scope.SUITE)
+public class AsyncSearchIT extends OpenSearchIntegTestCase {
+
+    private static final int NUM_DOCS = 20;
+
+    @Override
+    protected Collection<Class<? extends Plugin>> nodePlugins() {
+        return Collections.singleton(ScriptedBlockPlugin.class);
+    }
+
+    private void indexTestData() {
+        BulkRequestBuilder bulkRequestBuilder = client().prepareBulk().setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE);
+        for (int i = 0; i < NUM_DOCS; i++) {
+            bulkRequestBuilder.add(client().prepareIndex("test", "_doc", Integer.toString(i)).setSource("field", "value"));
+        }
+        assertNoFailures(bulkRequestBuilder.get());
+    }
+
+    public void testWaitForCompletion() {
+        indexTestData();
+        SubmitAsyncSearchRequest request = submitRequest(matchAllSource());
+        request.setWaitForCompletionTimeout(TimeValue.timeValueMinutes(1));
+        AsyncSearchResponse response = client().execute(SubmitAsyncSearchAction.INSTANCE, request).actionGet();
+        assertFalse(response.isRunning());
+        assertFalse(response.isPartial());
+        assertNull(response.getFailure());
+        assertEquals(NUM_DOCS, response.getSearchResponse().getHits().getTotalHits().value);
+        assertEquals(10, response.getSearchResponse().getHits().getHits().length);
+
+        // the completed search is retrieved from its stored result
+        AsyncSearchResponse stored = getAsyncSearch(response.getId());
+        assertFalse(stored.isRunning());
+        assertFalse(stored.isPartial());
+        assertEquals(NUM_DOCS, stored.getSearchResponse().getHits().getTotalHits().value);
+        assertEquals(10, stored.getSearchResponse().getHits().getHits().length);
+        assertEquals(response.getExpirationTimeMillis(), stored.getExpirationTimeMillis());
+    }
+
+    public void testGetWhileRunningAndAfterCompletion() throws Exception {
+        indexTestData();
+        List<ScriptedBlockPlugin> plugins = initBlockFactory();
+        try {
+            SubmitAsyncSearchRequest request = submitRequest(blockingSource());
+            request.setWaitForCompletionTimeout(TimeValue.ZERO);
+            AsyncSearchResponse response = client().execute(SubmitAsyncSearchAction.INSTANCE, request).actionGet();
+            assertTrue(response.isRunning());
+            assertTrue(response.isPartial());
+            // partial results carry no hits
+            assertEquals(0, response.getSearchResponse().getHits().getHits().length);
+
+            AsyncSearchResponse running = getAsyncSearch(response.getId());
+            assertTrue(running.isRunning());
+            assertTrue(running.isPartial());
+            assertEquals(response.getId(), running.getId());
+
+            disableBlocks(plugins);
+            assertBusy(() -> {
+                AsyncSearchResponse completed = getAsyncSearch(response.getId());
+                assertFalse(completed.isRunning());
+                assertFalse(completed.isPartial());
+                assertNull(completed.getFailure());
+                assertEquals(NUM_DOCS, completed.getSearchResponse().getHits().getTotalHits().value);
+            });
+        } finally {
+            disableBlocks(plugins);
+        }
+    }
+
+    public void testCancelThroughTasksApi() throws Exception {
+        indexTestData();
+        List<ScriptedBlockPlugin> plugins = initBlockFactory();
+        try {
+            SubmitAsyncSearchRequest request = submitRequest(blockingSource());
+            request.setWaitForCompletionTimeout(TimeValue.ZERO);
+            AsyncSearchResponse response = client().execute(SubmitAsyncSearchAction.INSTANCE, request).actionGet();
+            assertTrue(response.isRunning());
+
+            client().admin().cluster().prepareCancelTasks().setActions(SubmitAsyncSearchAction.NAME).get();
+            disableBlocks(plugins);
+            assertBusy(() -> {
+                AsyncSearchResponse cancelled = getAsyncSearch(response.getId());
+                assertFalse(cancelled.isRunning());
+                assertTrue(cancelled.getFailure() != null || cancelled.getSearchResponse().getFailedShards() > 0);
+            });
+        } finally {
+            disableBlocks(plugins);
+        }
+    }
+
+    public void testExpiredResultIsDeleted() throws Exception {
+        indexTestData();
+        SubmitAsyncSearchRequest request = submitRequest(matchAllSource());
+        request.setWaitForCompletionTimeout(TimeValue.timeValueMinutes(1));
+        request.setKeepAlive(TimeValue.timeValueSeconds(1));
+        AsyncSearchResponse response = client().execute(SubmitAsyncSearchAction.INSTANCE, request).actionGet();
+        assertFalse(response.isRunning());
+
+        assertBusy(() -> expectNotFound(response.getId()));
+        assertBusy(() -> assertFalse(client().prepareGet().setIndex(TaskResultsService.TASK_INDEX).setId(response.getId()).get()
+            .isExists()));
+    }
+
+    public void testExpiryCancelsRunningSearch() throws Exception {
+        indexTestData();
+        List<ScriptedBlockPlugin> plugins = initBlockFactory();
+        try {
+            SubmitAsyncSearchRequest request = submitRequest(blockingSource());
+            request.setWaitForCompletionTimeout(TimeValue.ZERO);
+            request.setKeepAlive(TimeValue.timeValueSeconds(1));
+            AsyncSearchResponse response = client().execute(SubmitAsyncSearchAction.INSTANCE, request).actionGet();
+            assertTrue(response.isRunning());
+
+            assertBusy(() -> {
+                List<AsyncSearchTask> tasks = new ArrayList<>();
+                for (TransportService transportService : internalCluster().getInstances(TransportService.class)) {
+                    for (Task task : transportService.getTaskManager().getTasks().values()) {
+                        if (task instanceof AsyncSearchTask) {
+                            tasks.add((AsyncSearchTask) task);
+                        }
+                    }
+                }
+                assertEquals(1, tasks.size());
+                assertTrue(tasks.get(0).isCancelled());
+            });
+            disableBlocks(plugins);
+            assertBusy(() -> assertTrue(client().admin().cluster().prepareListTasks().setActions(SubmitAsyncSearchAction.NAME).get()
+                .getTasks().isEmpty()));
+            // the result the cancelled search stored after it expired is deleted when it is retrieved
+            expectNotFound(response.getId());
+        } finally {
+            disableBlocks(plugins);
+        }
+    }
+
+    public void testUnknownId() {
+        expectNotFound("node:1");
+        expectNotFound("not a task id");
+    }
+
+    private static SearchSourceBuilder matchAllSource() {
+        return new SearchSourceBuilder().query(matchAllQuery());
+    }
+
+    private static SearchSourceBuilder blockingSource() {
+        return new SearchSourceBuilder().query(scriptQuery(new Script(ScriptType.INLINE, "mockscript", SCRIPT_NAME,
+            Collections.emptyMap())));
+    }
+
+    private static SubmitAsyncSearchRequest submitRequest(SearchSourceBuilder source) {
+        return new SubmitAsyncSearchRequest(new SearchRequest("test").source(source));
+    }
+
+    private AsyncSearchResponse getAsyncSearch(String id) {
+        return client().execute(GetAsyncSearchAction.INSTANCE, new GetAsyncSearchRequest(id)).actionGet();
+    }
+
+    private void expectNotFound(String id) {
+        Exception e = expectThrows(Exception.class, () -> getAsyncSearch(id));
+        assertNotNull(ExceptionsHelper.unwrap(e, ResourceNotFoundException.class));
+    }
+
+    private List<ScriptedBlockPlugin> initBlockFactory() {
+        List<ScriptedBlockPlugin> plugins = new ArrayList<>();
+        for (PluginsService pluginsService : internalCluster().getDataNodeInstances(PluginsService.class)) {
+            plugins.addAll(pluginsService.filterPlugins(ScriptedBlockPlugin.class));
+        }
+        for (ScriptedBlockPlugin plugin : plugins) {
+            plugin.reset();
+            plugin.enableBlock();
+        }
+        return plugins;
+    }
+
+    private static void disableBlocks(List<ScriptedBlockPlugin> plugins) {
+        for (ScriptedBlockPlugin plugin : plugins) {
+            plugin.disableBlock();
+        }
+    }
+}
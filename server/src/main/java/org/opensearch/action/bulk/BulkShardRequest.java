@@ -38,12 +38,20 @@ import org.opensearch.LegacyESVersion;
 import org.opensearch.Version;
 import org.opensearch.action.support.replication.ReplicatedWriteRequest;
 import org.opensearch.action.support.replication.ReplicationRequest;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.bytes.ReleasableBytesReference;
+import org.opensearch.common.io.stream.FilterStreamInput;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.lease.Releasables;
+import org.opensearch.common.util.concurrent.AbstractRefCounted;
+import org.opensearch.common.util.concurrent.RefCounted;
 import org.opensearch.index.shard.ShardId;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Stream;
 
@@ -53,16 +61,44 @@ public class BulkShardRequest extends ReplicatedWriteRequest<BulkShardRequest> i
     private static final long SHALLOW_SIZE = RamUsageEstimator.shallowSizeOfInstance(BulkShardRequest.class);
 
     private final BulkItemRequest[] items;
+    // releases the slices of the network buffers that the item sources were read as, null if this request was not read from the wire
+    private final RefCounted retainedSources;
 
     public BulkShardRequest(StreamInput in) throws IOException {
         super(in);
         final ShardId itemShardId = in.getVersion().onOrAfter(COMPACT_SHARD_ID_VERSION) ? shardId : null;
-        items = in.readArray(i -> i.readOptionalWriteable(inpt -> new BulkItemRequest(itemShardId, inpt)), BulkItemRequest[]::new);
+        // document sources make up most of a bulk request, so they are read as slices of the inbound buffers instead of being copied
+        final List<ReleasableBytesReference> sources = new ArrayList<>();
+        final StreamInput itemsInput = new FilterStreamInput(in) {
+            @Override
+            public BytesReference readBytesReference() throws IOException {
+                final ReleasableBytesReference source = readReleasableBytesReference();
+                sources.add(source);
+                return source;
+            }
+        };
+        boolean success = false;
+        try {
+            items = itemsInput.readArray(i -> i.readOptionalWriteable(inpt -> new BulkItemRequest(itemShardId, inpt)),
+                BulkItemRequest[]::new);
+            success = true;
+        } finally {
+            if (success == false) {
+                Releasables.close(sources);
+            }
+        }
+        retainedSources = sources.isEmpty() ? null : new AbstractRefCounted("bulk-shard-request-sources") {
+            @Override
+            protected void closeInternal() {
+                Releasables.close(sources);
+            }
+        };
     }
 
     public BulkShardRequest(ShardId shardId, RefreshPolicy refreshPolicy, BulkItemRequest[] items) {
         super(shardId);
         this.items = items;
+        this.retainedSources = null;
         setRefreshPolicy(refreshPolicy);
     }
 
@@ -87,6 +123,23 @@ public class BulkShardRequest extends ReplicatedWriteRequest<BulkShardRequest> i
         return indices.toArray(new String[0]);
     }
 
+    @Override
+    public void incRef() {
+        if (retainedSources != null) {
+            retainedSources.incRef();
+        }
+    }
+
+    @Override
+    public boolean tryIncRef() {
+        return retainedSources == null || retainedSources.tryIncRef();
+    }
+
+    @Override
+    public boolean decRef() {
+        return retainedSources != null && retainedSources.decRef();
+    }
+
     @Override
     public void writeTo(StreamOutput out) throws IOException {
         super.writeTo(out);
@@ -0,0 +1,143 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.OpenSearchException;
+import org.opensearch.action.ActionResponse;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.xcontent.StatusToXContentObject;
+import org.opensearch.common.xcontent.XContentBuilder;
+import org.opensearch.rest.RestStatus;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * The state of an async search: the partial results while the search is running, or its final response or failure once it completed.
+ */
+public class AsyncSearchResponse extends ActionResponse implements StatusToXContentObject {
+
+    private final String id;
+    @Nullable
+    private final SearchResponse searchResponse;
+    @Nullable
+    private final Exception failure;
+    private final boolean isPartial;
+    private final boolean isRunning;
+    private final long startTimeMillis;
+    private final long expirationTimeMillis;
+
+    public AsyncSearchResponse(String id, @Nullable SearchResponse searchResponse, @Nullable Exception failure, boolean isPartial,
+                               boolean isRunning, long startTimeMillis, long expirationTimeMillis) {
+        this.id = Objects.requireNonNull(id);
+        this.searchResponse = searchResponse;
+        this.failure = failure;
+        this.isPartial = isPartial;
+        this.isRunning = isRunning;
+        this.startTimeMillis = startTimeMillis;
+        this.expirationTimeMillis = expirationTimeMillis;
+    }
+
+    public AsyncSearchResponse(StreamInput in) throws IOException {
+        super(in);
+        id = in.readString();
+        searchResponse = in.readOptionalWriteable(SearchResponse::new);
+        failure = in.readException();
+        isPartial = in.readBoolean();
+        isRunning = in.readBoolean();
+        startTimeMillis = in.readLong();
+        expirationTimeMillis = in.readLong();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeString(id);
+        out.writeOptionalWriteable(searchResponse);
+        out.writeException(failure);
+        out.writeBoolean(isPartial);
+        out.writeBoolean(isRunning);
+        out.writeLong(startTimeMillis);
+        out.writeLong(expirationTimeMillis);
+    }
+
+    /**
+     * The id to retrieve the async search with, which is the id of the task that runs it.
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * The results of the search so far, or <code>null</code> if the search failed before returning any.
+     */
+    @Nullable
+    public SearchResponse getSearchResponse() {
+        return searchResponse;
+    }
+
+    /**
+     * The failure of the search, or <code>null</code> if it did not fail.
+     */
+    @Nullable
+    public Exception getFailure() {
+        return failure;
+    }
+
+    /**
+     * Whether the search response only covers part of the shards or clusters, either because the search is still running or because
+     * it failed.
+     */
+    public boolean isPartial() {
+        return isPartial;
+    }
+
+    public boolean isRunning() {
+        return isRunning;
+    }
+
+    public long getStartTimeMillis() {
+        return startTimeMillis;
+    }
+
+    /**
+     * The time after which the search is cancelled if it is still running, and its stored response is no longer returned.
+     */
+    public long getExpirationTimeMillis() {
+        return expirationTimeMillis;
+    }
+
+    @Override
+    public RestStatus status() {
+        return failure == null ? RestStatus.OK : ExceptionsHelper.status(failure);
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject();
+        builder.field("id", id);
+        builder.field("is_partial", isPartial);
+        builder.field("is_running", isRunning);
+        builder.timeField("start_time_in_millis", "start_time", startTimeMillis);
+        builder.timeField("expiration_time_in_millis", "expiration_time", expirationTimeMillis);
+        if (searchResponse != null) {
+            builder.field("response");
+            searchResponse.toXContent(builder, params);
+        }
+        if (failure != null) {
+            builder.startObject("error");
+            OpenSearchException.generateThrowableXContent(builder, params, failure);
+            builder.endObject();
+        }
+        builder.endObject();
+        return builder;
+    }
+}
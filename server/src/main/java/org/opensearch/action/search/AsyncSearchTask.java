@@ -0,0 +1,226 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.apache.lucene.search.TotalHits;
+import org.opensearch.action.search.SearchResponse.Clusters;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.xcontent.XContentBuilder;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
+import org.opensearch.search.SearchShardTarget;
+import org.opensearch.search.aggregations.InternalAggregation;
+import org.opensearch.search.aggregations.InternalAggregations;
+import org.opensearch.search.internal.InternalSearchResponse;
+import org.opensearch.tasks.Task;
+import org.opensearch.tasks.TaskId;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Task of a search that was submitted through the async search API. It keeps track of the progress of the search so that its partial
+ * results can be retrieved while it runs, and exposes them as its {@link #getStatus() status}.
+ * <p>
+ * Partial results carry the shard counts, the total hits and the aggregations of the latest reduce, but no hits. Hits are only fetched
+ * once the query phase completed on all shards, and the progress events do not expose the top documents of partial reduces, so they
+ * are first returned with the final response.
+ */
+public class AsyncSearchTask extends SearchTask {
+
+    private final String asyncSearchId;
+    private final long expirationTimeMillis;
+    private final InternalAggregation.ReduceContextBuilder aggReduceContextBuilder;
+    private final AtomicInteger successfulShards = new AtomicInteger();
+    private final List<ShardSearchFailure> shardFailures = new CopyOnWriteArrayList<>();
+
+    private volatile int totalShards;
+    private volatile int skippedShards;
+    private volatile Clusters clusters = Clusters.EMPTY;
+    private volatile Reduce latestReduce;
+    private volatile SearchResponse latestClusterResponse;
+    private volatile AsyncSearchResponse finalResponse;
+
+    public AsyncSearchTask(long id, String type, String action, Supplier<String> descriptionSupplier, TaskId parentTaskId,
+                           Map<String, String> headers, String nodeId, TimeValue keepAlive,
+                           InternalAggregation.ReduceContextBuilder aggReduceContextBuilder) {
+        super(id, type, action, descriptionSupplier, parentTaskId, headers);
+        this.asyncSearchId = new TaskId(nodeId, id).toString();
+        this.expirationTimeMillis = getStartTime() + keepAlive.millis();
+        this.aggReduceContextBuilder = aggReduceContextBuilder;
+        setProgressListener(new Listener());
+    }
+
+    public String getAsyncSearchId() {
+        return asyncSearchId;
+    }
+
+    public long getExpirationTimeMillis() {
+        return expirationTimeMillis;
+    }
+
+    /**
+     * Records the final response of the search, which is returned from now on instead of the partial results.
+     */
+    AsyncSearchResponse onCompletion(SearchResponse response) {
+        finalResponse = new AsyncSearchResponse(asyncSearchId, response, null, false, false, getStartTime(), expirationTimeMillis);
+        return finalResponse;
+    }
+
+    /**
+     * Records the failure of the search along with whatever partial results were gathered before it failed.
+     */
+    AsyncSearchResponse onFailure(Exception e) {
+        finalResponse = new AsyncSearchResponse(asyncSearchId, buildPartialSearchResponse(), e, true, false, getStartTime(),
+            expirationTimeMillis);
+        return finalResponse;
+    }
+
+    /**
+     * Returns the final response if the search completed, or otherwise the results gathered so far, which have no hits. Aggregations of the latest partial
+     * reduce are reduced once more for this, so that they render like the aggregations of a completed search. That reduction is only
+     * done once per reduce phase, however often the partial results are retrieved.
+     */
+    public AsyncSearchResponse getCurrentResponse() {
+        final AsyncSearchResponse response = finalResponse;
+        if (response != null) {
+            return response;
+        }
+        return new AsyncSearchResponse(asyncSearchId, buildPartialSearchResponse(), null, true, true, getStartTime(),
+            expirationTimeMillis);
+    }
+
+    private SearchResponse buildPartialSearchResponse() {
+        final SearchResponse clusterResponse = latestClusterResponse;
+        if (clusterResponse != null) {
+            // cross-cluster searches that minimize round trips only report progress once per cluster
+            return clusterResponse;
+        }
+        final Reduce reduce = latestReduce;
+        final TotalHits totalHits = reduce == null ? null : reduce.totalHits;
+        final InternalAggregations aggs = reduce == null ? null : reduce.finalAggs(aggReduceContextBuilder);
+        // hits are only fetched for the final response
+        final SearchHits hits = new SearchHits(new SearchHit[0], totalHits, Float.NaN);
+        final InternalSearchResponse internal = new InternalSearchResponse(hits, aggs, null, null, false, null,
+            reduce == null ? 0 : reduce.reducePhase);
+        final long tookInMillis = TimeValue.nsecToMSec(System.nanoTime() - getStartTimeNanos());
+        return new SearchResponse(internal, null, totalShards, successfulShards.get(), skippedShards, tookInMillis,
+            shardFailures.toArray(ShardSearchFailure.EMPTY_ARRAY), clusters);
+    }
+
+    @Override
+    public Status getStatus() {
+        return new Status(getCurrentResponse());
+    }
+
+    private static final class Reduce {
+        private final TotalHits totalHits;
+        private final int reducePhase;
+        private InternalAggregations aggs;
+        private boolean isFinal;
+
+        private Reduce(TotalHits totalHits, InternalAggregations aggs, int reducePhase, boolean isFinal) {
+            this.totalHits = totalHits;
+            this.aggs = aggs;
+            this.reducePhase = reducePhase;
+            this.isFinal = isFinal;
+        }
+
+        /**
+         * Returns the aggregations of this reduce as if it was the final one, replacing the partially reduced aggregations with the
+         * result the first time this is called.
+         */
+        synchronized InternalAggregations finalAggs(InternalAggregation.ReduceContextBuilder aggReduceContextBuilder) {
+            if (aggs != null && isFinal == false) {
+                aggs = InternalAggregations.topLevelReduce(Collections.singletonList(aggs), aggReduceContextBuilder.forFinalReduction());
+                isFinal = true;
+            }
+            return aggs;
+        }
+    }
+
+    private class Listener extends SearchProgressListener {
+
+        @Override
+        protected void onListShards(List<SearchShard> shards, List<SearchShard> skipped, Clusters searchClusters, boolean fetchPhase) {
+            totalShards = shards.size() + skipped.size();
+            skippedShards = skipped.size();
+            clusters = searchClusters;
+        }
+
+        @Override
+        protected void onQueryResult(int shardIndex) {
+            successfulShards.incrementAndGet();
+        }
+
+        @Override
+        protected void onQueryFailure(int shardIndex, SearchShardTarget shardTarget, Exception exc) {
+            shardFailures.add(new ShardSearchFailure(exc, shardTarget));
+        }
+
+        @Override
+        protected void onPartialReduce(List<SearchShard> shards, TotalHits totalHits, InternalAggregations aggs, int reducePhase) {
+            latestReduce = new Reduce(totalHits, aggs, reducePhase, false);
+        }
+
+        @Override
+        protected void onFinalReduce(List<SearchShard> shards, TotalHits totalHits, InternalAggregations aggs, int reducePhase) {
+            latestReduce = new Reduce(totalHits, aggs, reducePhase, true);
+        }
+
+        @Override
+        protected void onClusterResponse(String clusterAlias, Clusters searchClusters, SearchResponse partialResponse) {
+            latestClusterResponse = partialResponse;
+        }
+    }
+
+    /**
+     * Status of an async search task, which carries the current response of the search.
+     */
+    public static class Status implements Task.Status {
+        public static final String NAME = "async_search";
+
+        private final AsyncSearchResponse response;
+
+        public Status(AsyncSearchResponse response) {
+            this.response = Objects.requireNonNull(response);
+        }
+
+        public Status(StreamInput in) throws IOException {
+            response = new AsyncSearchResponse(in);
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            response.writeTo(out);
+        }
+
+        @Override
+        public String getWriteableName() {
+            return NAME;
+        }
+
+        public AsyncSearchResponse getResponse() {
+            return response;
+        }
+
+        @Override
+        public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+            return response.toXContent(builder, params);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.opensearch.common.io.stream.StreamInput;
+
+import java.io.IOException;
+
+/**
+ * Response to closing a point in time. It reports the number of freed reader contexts the same way clearing a scroll does.
+ */
+public class ClosePointInTimeResponse extends ClearScrollResponse {
+
+    public ClosePointInTimeResponse(boolean succeeded, int numFreed) {
+        super(succeeded, numFreed);
+    }
+
+    public ClosePointInTimeResponse(StreamInput in) throws IOException {
+        super(in);
+    }
+}
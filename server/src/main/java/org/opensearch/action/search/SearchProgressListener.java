@@ -45,6 +45,7 @@ import org.opensearch.search.aggregations.InternalAggregations;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
@@ -121,6 +122,16 @@ public abstract class SearchProgressListener {
      */
     protected void onFetchFailure(int shardIndex, SearchShardTarget shardTarget, Exception exc) {}
 
+    /**
+     * Executed when a cluster of a cross-cluster search that minimizes round trips returns its results and other clusters are still
+     * pending. The results of the last cluster are only part of the final response.
+     *
+     * @param clusterAlias The alias of the cluster that returned its results.
+     * @param clusters The statistics for the clusters that have responded so far.
+     * @param partialResponse The results of all clusters that have responded so far, merged together.
+     */
+    protected void onClusterResponse(String clusterAlias, Clusters clusters, SearchResponse partialResponse) {}
+
     final void notifyListShards(List<SearchShard> shards, List<SearchShard> skippedShards, Clusters clusters, boolean fetchPhase) {
         this.shards = shards;
         try {
@@ -182,6 +193,14 @@ public abstract class SearchProgressListener {
         }
     }
 
+    final void notifyClusterResponse(String clusterAlias, Clusters clusters, Supplier<SearchResponse> partialResponse) {
+        try {
+            onClusterResponse(clusterAlias, clusters, partialResponse.get());
+        } catch (Exception e) {
+            logger.warn(() -> new ParameterizedMessage("[{}] Failed to execute progress listener on cluster response", clusterAlias), e);
+        }
+    }
+
     static List<SearchShard> buildSearchShards(List<? extends SearchPhaseResult> results) {
         List<SearchShard> lst = results.stream()
             .filter(Objects::nonNull)
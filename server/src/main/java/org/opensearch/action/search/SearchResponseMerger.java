@@ -90,6 +90,7 @@ final class SearchResponseMerger {
     private final TransportSearchAction.SearchTimeProvider searchTimeProvider;
     private final InternalAggregation.ReduceContextBuilder aggReduceContextBuilder;
     private final List<SearchResponse> searchResponses = new CopyOnWriteArrayList<>();
+    private volatile boolean clusterTimedOut;
 
     SearchResponseMerger(int from, int size, int trackTotalHitsUpTo, TransportSearchAction.SearchTimeProvider searchTimeProvider,
                          InternalAggregation.ReduceContextBuilder aggReduceContextBuilder) {
@@ -115,11 +116,30 @@ final class SearchResponseMerger {
         return searchResponses.size();
     }
 
+    /**
+     * Records that a cluster did not respond in time, so that the merged response is flagged as timed out.
+     */
+    void markClusterTimedOut() {
+        clusterTimedOut = true;
+    }
+
     /**
      * Returns the merged response. To be called once all responses have been added through {@link #add(SearchResponse)}
      * so that all responses are merged into a single one.
      */
     SearchResponse getMergedResponse(SearchResponse.Clusters clusters) {
+        return merge(clusters, true);
+    }
+
+    /**
+     * Returns the responses that were added so far merged together, while more responses may still be added. Aggregations are only
+     * partially reduced and suggestions are left out, as reducing them would modify the responses that the final merge still needs.
+     */
+    SearchResponse getPartialMergedResponse(SearchResponse.Clusters clusters) {
+        return merge(clusters, false);
+    }
+
+    private SearchResponse merge(SearchResponse.Clusters clusters, boolean isFinal) {
         //if the search is only across remote clusters, none of them are available, and all of them have skip_unavailable set to true,
         //we end up calling merge without anything to merge, we just return an empty search response
         if (searchResponses.size() == 0) {
@@ -202,15 +222,21 @@ final class SearchResponseMerger {
         setTopDocsShardIndex(shards, topDocsList);
         TopDocs topDocs = SearchPhaseController.mergeTopDocs(topDocsList, size, from);
         SearchHits mergedSearchHits = topDocsToSearchHits(topDocs, topDocsStats);
-        setSuggestShardIndex(shards, groupedSuggestions);
-        Suggest suggest = groupedSuggestions.isEmpty() ? null : new Suggest(Suggest.reduce(groupedSuggestions));
-        InternalAggregations reducedAggs = InternalAggregations.topLevelReduce(aggs, aggReduceContextBuilder.forFinalReduction());
+        final Suggest suggest;
+        if (isFinal && groupedSuggestions.isEmpty() == false) {
+            setSuggestShardIndex(shards, groupedSuggestions);
+            suggest = new Suggest(Suggest.reduce(groupedSuggestions));
+        } else {
+            suggest = null;
+        }
+        InternalAggregations reducedAggs = InternalAggregations.topLevelReduce(aggs,
+            isFinal ? aggReduceContextBuilder.forFinalReduction() : aggReduceContextBuilder.forPartialReduction());
         ShardSearchFailure[] shardFailures = failures.toArray(ShardSearchFailure.EMPTY_ARRAY);
         SearchProfileShardResults profileShardResults = profileResults.isEmpty() ? null : new SearchProfileShardResults(profileResults);
         //make failures ordering consistent between ordinary search and CCS by looking at the shard they come from
         Arrays.sort(shardFailures, FAILURES_COMPARATOR);
         InternalSearchResponse response = new InternalSearchResponse(mergedSearchHits, reducedAggs, suggest, profileShardResults,
-            topDocsStats.timedOut, topDocsStats.terminatedEarly, numReducePhases);
+            topDocsStats.timedOut || clusterTimedOut, topDocsStats.terminatedEarly, numReducePhases);
         long tookInMillis = searchTimeProvider.buildTookInMillis();
         return new SearchResponse(response, null, totalShards, successfulShards, skippedShards, tookInMillis, shardFailures,
             clusters, null);
@@ -32,7 +32,10 @@
 
 package org.opensearch.action.search;
 
+import org.opensearch.common.collect.Iterators;
 import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.xcontent.ChunkedToXContent;
+import org.opensearch.common.xcontent.ToXContent;
 import org.opensearch.common.xcontent.ToXContentFragment;
 import org.opensearch.common.xcontent.XContentBuilder;
 import org.opensearch.search.SearchHits;
@@ -43,6 +46,7 @@ import org.opensearch.search.suggest.Suggest;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.Map;
 
 /**
@@ -53,7 +57,7 @@ import java.util.Map;
  * to parse aggregations into, which are not serializable. This is the common part that can be
  * shared between core and client.
  */
-public class SearchResponseSections implements ToXContentFragment {
+public class SearchResponseSections implements ToXContentFragment, ChunkedToXContent {
 
     protected final SearchHits hits;
     protected final Aggregations aggregations;
@@ -116,17 +120,16 @@ public class SearchResponseSections implements ToXContentFragment {
 
     @Override
     public final XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
-        hits.toXContent(builder, params);
-        if (aggregations != null) {
-            aggregations.toXContent(builder, params);
-        }
-        if (suggest != null) {
-            suggest.toXContent(builder, params);
-        }
-        if (profileResults != null) {
-            profileResults.toXContent(builder, params);
-        }
-        return builder;
+        return ChunkedToXContent.toXContent(this, builder, params);
+    }
+
+    @Override
+    public final Iterator<ToXContent> toXContentChunked(Params params) {
+        return Iterators.<ToXContent>concat(
+            hits.toXContentChunked(params),
+            aggregations == null ? Collections.<ToXContent>emptyIterator() : aggregations.toXContentChunked(params),
+            suggest == null ? Collections.<ToXContent>emptyIterator() : Collections.singletonList(suggest).iterator(),
+            profileResults == null ? Collections.<ToXContent>emptyIterator() : Collections.singletonList(profileResults).iterator());
     }
 
     protected void writeTo(StreamOutput out) throws IOException {
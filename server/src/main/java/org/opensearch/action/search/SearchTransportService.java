@@ -42,10 +42,15 @@ import org.opensearch.action.support.ChannelActionListener;
 import org.opensearch.action.support.IndicesOptions;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.common.Nullable;
+import org.opensearch.common.breaker.CircuitBreaker;
+import org.opensearch.common.breaker.NoopCircuitBreaker;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.io.stream.Writeable;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.ConcurrentCollections;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.search.SearchHit;
 import org.opensearch.search.SearchPhaseResult;
 import org.opensearch.search.SearchService;
 import org.opensearch.search.dfs.DfsSearchResult;
@@ -64,6 +69,7 @@ import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.RemoteClusterService;
 import org.opensearch.transport.Transport;
 import org.opensearch.transport.TransportActionProxy;
+import org.opensearch.transport.TransportChannel;
 import org.opensearch.transport.TransportException;
 import org.opensearch.transport.TransportRequest;
 import org.opensearch.transport.TransportRequestOptions;
@@ -71,7 +77,10 @@ import org.opensearch.transport.TransportResponse;
 import org.opensearch.transport.TransportService;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.function.BiFunction;
@@ -93,14 +102,25 @@ public class SearchTransportService {
     public static final String FETCH_ID_SCROLL_ACTION_NAME = "indices:data/read/search[phase/fetch/id/scroll]";
     public static final String FETCH_ID_ACTION_NAME = "indices:data/read/search[phase/fetch/id]";
     public static final String QUERY_CAN_MATCH_NAME = "indices:data/read/search[can_match]";
+    public static final String OPEN_READER_CONTEXT_ACTION_NAME = "indices:data/read/search[open_reader_context]";
 
     private final TransportService transportService;
+    private final CircuitBreaker inFlightRequestsBreaker;
     private final BiFunction<Transport.Connection, SearchActionListener, ActionListener> responseWrapper;
     private final Map<String, Long> clientConnections = ConcurrentCollections.newConcurrentMapWithAggressiveConcurrency();
 
     public SearchTransportService(TransportService transportService,
                                   BiFunction<Transport.Connection, SearchActionListener, ActionListener> responseWrapper) {
+        this(transportService, new NoopCircuitBreaker(CircuitBreaker.IN_FLIGHT_REQUESTS), responseWrapper);
+    }
+
+    /**
+     * @param inFlightRequestsBreaker the breaker that the chunks of fetch results are accounted for until their response is complete
+     */
+    public SearchTransportService(TransportService transportService, CircuitBreaker inFlightRequestsBreaker,
+                                  BiFunction<Transport.Connection, SearchActionListener, ActionListener> responseWrapper) {
         this.transportService = transportService;
+        this.inFlightRequestsBreaker = inFlightRequestsBreaker;
         this.responseWrapper = responseWrapper;
     }
 
@@ -125,6 +145,16 @@ public class SearchTransportService {
             TransportRequestOptions.EMPTY, new ActionListenerResponseHandler<>(listener, SearchFreeContextResponse::new));
     }
 
+    /**
+     * Opens a reader context on the given shard that is kept open for the given keep alive, to back a point in time.
+     */
+    public void sendOpenReaderContext(Transport.Connection connection, ShardId shardId, OriginalIndices originalIndices,
+                                      TimeValue keepAlive, SearchTask task, ActionListener<SearchPhaseResult> listener) {
+        transportService.sendChildRequest(connection, OPEN_READER_CONTEXT_ACTION_NAME,
+            new OpenReaderContextRequest(shardId, originalIndices, keepAlive), task,
+            new ConnectionCountingHandler<>(listener, OpenReaderContextResponse::new, clientConnections, connection.getNode().getId()));
+    }
+
     public void sendCanMatch(Transport.Connection connection, final ShardSearchRequest request, SearchTask task, final
                             ActionListener<SearchService.CanMatchResponse> listener) {
         transportService.sendChildRequest(connection, QUERY_CAN_MATCH_NAME, request, task,
@@ -186,7 +216,7 @@ public class SearchTransportService {
     private void sendExecuteFetch(Transport.Connection connection, String action, final ShardFetchRequest request, SearchTask task,
                                   final SearchActionListener<FetchSearchResult> listener) {
         transportService.sendChildRequest(connection, action, request, task,
-                new ConnectionCountingHandler<>(listener, FetchSearchResult::new, clientConnections, connection.getNode().getId()));
+                new FetchResultHandler(listener, clientConnections, connection.getNode().getId(), action, inFlightRequestsBreaker));
     }
 
     /**
@@ -294,6 +324,68 @@ public class SearchTransportService {
         }
     }
 
+    static class OpenReaderContextRequest extends TransportRequest implements IndicesRequest {
+        private final ShardId shardId;
+        private final OriginalIndices originalIndices;
+        private final TimeValue keepAlive;
+
+        OpenReaderContextRequest(ShardId shardId, OriginalIndices originalIndices, TimeValue keepAlive) {
+            this.shardId = Objects.requireNonNull(shardId);
+            this.originalIndices = Objects.requireNonNull(originalIndices);
+            this.keepAlive = Objects.requireNonNull(keepAlive);
+        }
+
+        OpenReaderContextRequest(StreamInput in) throws IOException {
+            super(in);
+            shardId = new ShardId(in);
+            originalIndices = OriginalIndices.readOriginalIndices(in);
+            keepAlive = in.readTimeValue();
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            super.writeTo(out);
+            shardId.writeTo(out);
+            OriginalIndices.writeOriginalIndices(originalIndices, out);
+            out.writeTimeValue(keepAlive);
+        }
+
+        ShardId shardId() {
+            return shardId;
+        }
+
+        TimeValue keepAlive() {
+            return keepAlive;
+        }
+
+        @Override
+        public String[] indices() {
+            return originalIndices.indices();
+        }
+
+        @Override
+        public IndicesOptions indicesOptions() {
+            return originalIndices.indicesOptions();
+        }
+    }
+
+    static class OpenReaderContextResponse extends SearchPhaseResult {
+
+        OpenReaderContextResponse(ShardSearchContextId contextId) {
+            this.contextId = contextId;
+        }
+
+        OpenReaderContextResponse(StreamInput in) throws IOException {
+            super(in);
+            contextId = new ShardSearchContextId(in);
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            contextId.writeTo(out);
+        }
+    }
+
     static boolean keepStatesInContext(Version version) {
         return version.before(LegacyESVersion.V_7_10_0);
     }
@@ -360,14 +452,14 @@ public class SearchTransportService {
         transportService.registerRequestHandler(FETCH_ID_SCROLL_ACTION_NAME, ThreadPool.Names.SAME, ShardFetchRequest::new,
             (request, channel, task) -> {
                 searchService.executeFetchPhase(request, (SearchShardTask) task,
-                    new ChannelActionListener<>(channel, FETCH_ID_SCROLL_ACTION_NAME, request));
+                    fetchResultListener(channel, FETCH_ID_SCROLL_ACTION_NAME, request, searchService.getFetchResponseChunkSize()));
             });
         TransportActionProxy.registerProxyAction(transportService, FETCH_ID_SCROLL_ACTION_NAME, FetchSearchResult::new);
 
         transportService.registerRequestHandler(FETCH_ID_ACTION_NAME, ThreadPool.Names.SAME, true, true, ShardFetchSearchRequest::new,
             (request, channel, task) -> {
                 searchService.executeFetchPhase(request, (SearchShardTask) task,
-                    new ChannelActionListener<>(channel, FETCH_ID_ACTION_NAME, request));
+                    fetchResultListener(channel, FETCH_ID_ACTION_NAME, request, searchService.getFetchResponseChunkSize()));
             });
         TransportActionProxy.registerProxyAction(transportService, FETCH_ID_ACTION_NAME, FetchSearchResult::new);
 
@@ -377,6 +469,15 @@ public class SearchTransportService {
                 searchService.canMatch(request, new ChannelActionListener<>(channel, QUERY_CAN_MATCH_NAME, request));
             });
         TransportActionProxy.registerProxyAction(transportService, QUERY_CAN_MATCH_NAME, SearchService.CanMatchResponse::new);
+
+        transportService.registerRequestHandler(OPEN_READER_CONTEXT_ACTION_NAME, ThreadPool.Names.SAME, OpenReaderContextRequest::new,
+            (request, channel, task) -> {
+                final ChannelActionListener<OpenReaderContextResponse, OpenReaderContextRequest> listener =
+                    new ChannelActionListener<>(channel, OPEN_READER_CONTEXT_ACTION_NAME, request);
+                searchService.openReaderContext(request.shardId(), request.keepAlive(),
+                    ActionListener.map(listener, OpenReaderContextResponse::new));
+            });
+        TransportActionProxy.registerProxyAction(transportService, OPEN_READER_CONTEXT_ACTION_NAME, OpenReaderContextResponse::new);
     }
 
 
@@ -395,7 +496,26 @@ public class SearchTransportService {
         }
     }
 
-    final class ConnectionCountingHandler<Response extends TransportResponse> extends ActionListenerResponseHandler<Response> {
+    /**
+     * Returns a listener that sends a fetch result back to the coordinating node, streaming its hits in chunks of the given size if
+     * the result is large and the coordinating node can consume a chunked response.
+     */
+    private static ActionListener<FetchSearchResult> fetchResultListener(TransportChannel channel, String action,
+                                                                         TransportRequest request, int chunkSize) {
+        final ChannelActionListener<FetchSearchResult, TransportRequest> listener = new ChannelActionListener<>(channel, action, request);
+        if (channel.supportsResponseChunks() == false) {
+            return listener;
+        }
+        return ActionListener.wrap(result -> {
+            if (result.hits().getHits().length <= chunkSize) {
+                listener.onResponse(result);
+            } else {
+                TransportChannel.sendResponseChunks(channel, action, result.leadingChunks(chunkSize), result.lastChunk(chunkSize));
+            }
+        }, listener::onFailure);
+    }
+
+    class ConnectionCountingHandler<Response extends TransportResponse> extends ActionListenerResponseHandler<Response> {
         private final Map<String, Long> clientConnections;
         private final String nodeId;
 
@@ -437,4 +557,77 @@ public class SearchTransportService {
             return true;
         }
     }
+
+    /**
+     * Re-assembles fetch results whose hits are streamed in chunks, see {@link FetchSearchResult#leadingChunks(int)}. The chunks are
+     * accounted for in the in-flight requests circuit breaker until the response completes or fails, so that a large result can't
+     * get past the breaker by being split up.
+     */
+    final class FetchResultHandler extends ConnectionCountingHandler<FetchSearchResult> {
+        private final String action;
+        private final CircuitBreaker breaker;
+        // guarded by this, chunks are received on the network thread while the response may fail on any thread
+        private List<SearchHit> chunkedHits = new ArrayList<>();
+        private long reservedBytes;
+        private boolean released;
+
+        FetchResultHandler(ActionListener<? super FetchSearchResult> listener, Map<String, Long> clientConnections, String nodeId,
+                           String action, CircuitBreaker breaker) {
+            super(listener, FetchSearchResult::new, clientConnections, nodeId);
+            this.action = action;
+            this.breaker = breaker;
+        }
+
+        @Override
+        public boolean supportsResponseChunks() {
+            return true;
+        }
+
+        @Override
+        public synchronized void handleResponseChunk(FetchSearchResult chunk, int sizeInBytes) {
+            if (released) {
+                // the response already failed
+                return;
+            }
+            breaker.addEstimateBytesAndMaybeBreak(sizeInBytes, "<" + action + " chunk>");
+            reservedBytes += sizeInBytes;
+            Collections.addAll(chunkedHits, chunk.hits().getHits());
+        }
+
+        @Override
+        public void handleResponse(FetchSearchResult response) {
+            final List<SearchHit> hits;
+            synchronized (this) {
+                hits = release();
+            }
+            super.handleResponse(hits.isEmpty() ? response : FetchSearchResult.mergeChunks(hits, response));
+        }
+
+        @Override
+        public void handleException(TransportException e) {
+            synchronized (this) {
+                release();
+            }
+            super.handleException(e);
+        }
+
+        /**
+         * Releases the chunks from the breaker and returns their hits.
+         */
+        private List<SearchHit> release() {
+            assert Thread.holdsLock(this);
+            final List<SearchHit> hits = chunkedHits;
+            if (released == false) {
+                released = true;
+                chunkedHits = Collections.emptyList();
+                breaker.addWithoutBreaking(-reservedBytes);
+                reservedBytes = 0;
+            }
+            return hits;
+        }
+
+        synchronized long getReservedBytes() {
+            return reservedBytes;
+        }
+    }
 }
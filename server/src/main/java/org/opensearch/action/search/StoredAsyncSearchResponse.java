@@ -0,0 +1,74 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.opensearch.Version;
+import org.opensearch.action.ActionResponse;
+import org.opensearch.common.bytes.BytesArray;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.io.stream.NamedWriteableAwareStreamInput;
+import org.opensearch.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.xcontent.ToXContentObject;
+import org.opensearch.common.xcontent.XContentBuilder;
+
+import java.io.IOException;
+import java.util.Base64;
+import java.util.Map;
+
+/**
+ * Wraps the final response of an async search for storing it as the result of its task. Search responses can't be parsed back from
+ * their XContent on the server, as it has no parsers for aggregation results, so the response is stored in its wire format instead.
+ */
+final class StoredAsyncSearchResponse extends ActionResponse implements ToXContentObject {
+
+    static final String ID_FIELD = "id";
+    static final String EXPIRATION_TIME_FIELD = "expiration_time_in_millis";
+    static final String VERSION_FIELD = "version";
+    static final String RESULT_FIELD = "result";
+
+    private final AsyncSearchResponse response;
+
+    StoredAsyncSearchResponse(AsyncSearchResponse response) {
+        this.response = response;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        response.writeTo(out);
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            out.setVersion(Version.CURRENT);
+            response.writeTo(out);
+            builder.startObject();
+            builder.field(ID_FIELD, response.getId());
+            builder.field(EXPIRATION_TIME_FIELD, response.getExpirationTimeMillis());
+            builder.field(VERSION_FIELD, Version.CURRENT.id);
+            builder.field(RESULT_FIELD, Base64.getEncoder().encodeToString(BytesReference.toBytes(out.bytes())));
+            return builder.endObject();
+        }
+    }
+
+    static long getExpirationTimeMillis(Map<String, Object> source) {
+        return ((Number) source.get(EXPIRATION_TIME_FIELD)).longValue();
+    }
+
+    static AsyncSearchResponse decode(Map<String, Object> source, NamedWriteableRegistry namedWriteableRegistry) throws IOException {
+        final byte[] bytes = Base64.getDecoder().decode((String) source.get(RESULT_FIELD));
+        try (StreamInput in = new NamedWriteableAwareStreamInput(new BytesArray(bytes).streamInput(), namedWriteableRegistry)) {
+            in.setVersion(Version.fromId(((Number) source.get(VERSION_FIELD)).intValue()));
+            return new AsyncSearchResponse(in);
+        }
+    }
+}
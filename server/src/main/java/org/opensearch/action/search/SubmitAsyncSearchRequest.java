@@ -0,0 +1,108 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.opensearch.action.ActionRequest;
+import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.unit.TimeValue;
+
+import java.io.IOException;
+import java.util.Objects;
+
+import static org.opensearch.action.ValidateActions.addValidationError;
+
+/**
+ * Request to start a search that keeps running after the request returns, see {@link SubmitAsyncSearchAction}.
+ */
+public class SubmitAsyncSearchRequest extends ActionRequest {
+
+    public static final TimeValue DEFAULT_WAIT_FOR_COMPLETION_TIMEOUT = TimeValue.timeValueSeconds(1);
+    public static final TimeValue DEFAULT_KEEP_ALIVE = TimeValue.timeValueDays(5);
+    public static final TimeValue MIN_KEEP_ALIVE = TimeValue.timeValueSeconds(1);
+    /**
+     * Async searches reduce shard results in smaller batches than regular searches by default, so that partial results are available
+     * early on.
+     */
+    public static final int DEFAULT_BATCHED_REDUCE_SIZE = 5;
+
+    private final SearchRequest searchRequest;
+    private TimeValue waitForCompletionTimeout = DEFAULT_WAIT_FOR_COMPLETION_TIMEOUT;
+    private TimeValue keepAlive = DEFAULT_KEEP_ALIVE;
+
+    public SubmitAsyncSearchRequest(SearchRequest searchRequest) {
+        this.searchRequest = Objects.requireNonNull(searchRequest);
+    }
+
+    public SubmitAsyncSearchRequest(StreamInput in) throws IOException {
+        super(in);
+        searchRequest = new SearchRequest(in);
+        waitForCompletionTimeout = in.readTimeValue();
+        keepAlive = in.readTimeValue();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        searchRequest.writeTo(out);
+        out.writeTimeValue(waitForCompletionTimeout);
+        out.writeTimeValue(keepAlive);
+    }
+
+    public SearchRequest getSearchRequest() {
+        return searchRequest;
+    }
+
+    /**
+     * Sets how long the submit request waits for the search to complete before it returns the partial results gathered so far.
+     */
+    public SubmitAsyncSearchRequest setWaitForCompletionTimeout(TimeValue waitForCompletionTimeout) {
+        this.waitForCompletionTimeout = Objects.requireNonNull(waitForCompletionTimeout);
+        return this;
+    }
+
+    public TimeValue getWaitForCompletionTimeout() {
+        return waitForCompletionTimeout;
+    }
+
+    /**
+     * Sets how long after it was submitted the search is kept, after which it is cancelled if still running and its results are deleted.
+     */
+    public SubmitAsyncSearchRequest setKeepAlive(TimeValue keepAlive) {
+        this.keepAlive = Objects.requireNonNull(keepAlive);
+        return this;
+    }
+
+    public TimeValue getKeepAlive() {
+        return keepAlive;
+    }
+
+    @Override
+    public ActionRequestValidationException validate() {
+        ActionRequestValidationException validationException = searchRequest.validate();
+        if (searchRequest.scroll() != null) {
+            validationException = addValidationError("[scroll] is not supported by async search", validationException);
+        }
+        if (keepAlive.compareTo(MIN_KEEP_ALIVE) < 0) {
+            validationException = addValidationError("[keep_alive] must be at least [" + MIN_KEEP_ALIVE + "] but was [" + keepAlive + "]",
+                validationException);
+        }
+        if (waitForCompletionTimeout.millis() < 0) {
+            validationException = addValidationError("[wait_for_completion_timeout] must not be negative but was ["
+                + waitForCompletionTimeout + "]", validationException);
+        }
+        return validationException;
+    }
+
+    @Override
+    public String getDescription() {
+        return searchRequest.buildDescription();
+    }
+}
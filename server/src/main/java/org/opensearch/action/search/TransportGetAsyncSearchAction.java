@@ -0,0 +1,99 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.ResourceNotFoundException;
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.admin.cluster.node.tasks.get.GetTaskRequest;
+import org.opensearch.action.delete.DeleteRequest;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.HandledTransportAction;
+import org.opensearch.client.Client;
+import org.opensearch.client.OriginSettingClient;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.tasks.Task;
+import org.opensearch.tasks.TaskId;
+import org.opensearch.tasks.TaskResult;
+import org.opensearch.tasks.TaskResultsService;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportService;
+
+import java.util.Map;
+
+import static org.opensearch.action.admin.cluster.node.tasks.get.GetTaskAction.TASKS_ORIGIN;
+
+/**
+ * Returns the current state of an async search. This is looked up through the get task API, which returns the status of the
+ * {@link AsyncSearchTask} if it is still running on its node, and otherwise its stored result.
+ */
+public class TransportGetAsyncSearchAction extends HandledTransportAction<GetAsyncSearchRequest, AsyncSearchResponse> {
+
+    private final ClusterService clusterService;
+    private final ThreadPool threadPool;
+    private final Client client;
+    private final NamedWriteableRegistry namedWriteableRegistry;
+
+    @Inject
+    public TransportGetAsyncSearchAction(TransportService transportService, ActionFilters actionFilters, ClusterService clusterService,
+                                         Client client, NamedWriteableRegistry namedWriteableRegistry) {
+        super(GetAsyncSearchAction.NAME, transportService, actionFilters, GetAsyncSearchRequest::new);
+        this.clusterService = clusterService;
+        this.threadPool = transportService.getThreadPool();
+        this.client = new OriginSettingClient(client, TASKS_ORIGIN);
+        this.namedWriteableRegistry = namedWriteableRegistry;
+    }
+
+    @Override
+    protected void doExecute(Task task, GetAsyncSearchRequest request, ActionListener<AsyncSearchResponse> listener) {
+        final TaskId taskId;
+        try {
+            taskId = new TaskId(request.getId());
+        } catch (IllegalArgumentException e) {
+            listener.onFailure(notFound(request.getId()));
+            return;
+        }
+        final GetTaskRequest getTaskRequest = new GetTaskRequest().setTaskId(taskId);
+        getTaskRequest.setParentTask(clusterService.localNode().getId(), task.getId());
+        client.admin().cluster().getTask(getTaskRequest, ActionListener.wrap(
+            response -> onTaskResult(request.getId(), response.getTask(), listener),
+            e -> listener.onFailure(ExceptionsHelper.unwrapCause(e) instanceof ResourceNotFoundException ? notFound(request.getId()) : e)));
+    }
+
+    private void onTaskResult(String id, TaskResult result, ActionListener<AsyncSearchResponse> listener) throws Exception {
+        if (SubmitAsyncSearchAction.NAME.equals(result.getTask().getAction()) == false) {
+            listener.onFailure(notFound(id));
+        } else if (result.isCompleted() == false) {
+            final Task.Status status = result.getTask().getStatus();
+            if (status instanceof AsyncSearchTask.Status) {
+                listener.onResponse(((AsyncSearchTask.Status) status).getResponse());
+            } else {
+                listener.onFailure(notFound(id));
+            }
+        } else {
+            final Map<String, Object> stored = result.getResponseAsMap();
+            if (stored.containsKey(StoredAsyncSearchResponse.RESULT_FIELD) == false) {
+                listener.onFailure(notFound(id));
+            } else if (StoredAsyncSearchResponse.getExpirationTimeMillis(stored) <= threadPool.absoluteTimeInMillis()) {
+                client.delete(new DeleteRequest(TaskResultsService.TASK_INDEX, id), ActionListener.wrap(r -> {},
+                    e -> logger.debug(() -> new ParameterizedMessage("failed to delete expired async search [{}]", id), e)));
+                listener.onFailure(notFound(id));
+            } else {
+                listener.onResponse(StoredAsyncSearchResponse.decode(stored, namedWriteableRegistry));
+            }
+        }
+    }
+
+    private static ResourceNotFoundException notFound(String id) {
+        return new ResourceNotFoundException("async search [{}] not found", id);
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.HandledTransportAction;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.tasks.Task;
+import org.opensearch.transport.TransportService;
+
+/**
+ * Opens a point in time by running a single phase search that opens a reader context on every target shard instead of querying it.
+ * The id of the point in time encodes these reader contexts, see {@link SearchContextId}.
+ */
+public class TransportOpenPointInTimeAction extends HandledTransportAction<OpenPointInTimeRequest, OpenPointInTimeResponse> {
+
+    private final TransportSearchAction transportSearchAction;
+    private final SearchTransportService searchTransportService;
+
+    @Inject
+    public TransportOpenPointInTimeAction(TransportService transportService, ActionFilters actionFilters,
+                                          TransportSearchAction transportSearchAction, SearchTransportService searchTransportService) {
+        super(OpenPointInTimeAction.NAME, transportService, actionFilters, OpenPointInTimeRequest::new);
+        this.transportSearchAction = transportSearchAction;
+        this.searchTransportService = searchTransportService;
+    }
+
+    @Override
+    protected void doExecute(Task task, OpenPointInTimeRequest request, ActionListener<OpenPointInTimeResponse> listener) {
+        final SearchRequest searchRequest = new SearchRequest()
+            .indices(request.indices())
+            .indicesOptions(request.indicesOptions())
+            .preference(request.preference())
+            .routing(request.routing())
+            .allowPartialSearchResults(false);
+        // remote clusters must open their reader contexts shard by shard as well
+        searchRequest.setCcsMinimizeRoundtrips(false);
+        transportSearchAction.executeRequest(task, searchRequest, OpenPointInTimeAction.NAME, true,
+            (searchTask, shardTarget, connection, phaseListener) -> searchTransportService.sendOpenReaderContext(connection,
+                shardTarget.getShardId(), shardTarget.getOriginalIndices(), request.keepAlive(), searchTask, phaseListener),
+            ActionListener.map(listener, r -> new OpenPointInTimeResponse(r.pointInTimeId())));
+    }
+}
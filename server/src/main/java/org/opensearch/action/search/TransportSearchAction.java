@@ -83,6 +83,7 @@ import org.opensearch.search.profile.ProfileShardResult;
 import org.opensearch.search.profile.SearchProfileShardResults;
 import org.opensearch.tasks.Task;
 import org.opensearch.tasks.TaskId;
+import org.opensearch.threadpool.Scheduler;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.RemoteClusterAware;
 import org.opensearch.transport.RemoteClusterService;
@@ -101,6 +102,7 @@ import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
@@ -121,6 +123,10 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
     public static final Setting<Long> SHARD_COUNT_LIMIT_SETTING = Setting.longSetting(
             "action.search.shard_count.limit", Long.MAX_VALUE, 1L, Property.Dynamic, Property.NodeScope);
 
+    /** How long a cross-cluster search that minimizes round trips waits for each remote cluster before leaving it out of the results */
+    public static final Setting<TimeValue> CCS_REMOTE_CLUSTER_TIMEOUT_SETTING = Setting.timeSetting(
+            "action.search.ccs.remote_cluster_timeout", TimeValue.MINUS_ONE, Property.Dynamic, Property.NodeScope);
+
     private final NodeClient client;
     private final ThreadPool threadPool;
     private final ClusterService clusterService;
@@ -319,7 +325,8 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
                 if (shouldMinimizeRoundtrips(searchRequest)) {
                     ccsRemoteReduce(searchRequest, localIndices, remoteClusterIndices, timeProvider,
                         searchService.aggReduceContextBuilder(searchRequest),
-                        remoteClusterService, threadPool, listener,
+                        remoteClusterService, threadPool, ((SearchTask) task).getProgressListener(),
+                        clusterService.getClusterSettings().get(CCS_REMOTE_CLUSTER_TIMEOUT_SETTING), listener,
                         (r, l) -> executeLocalSearch(
                             task, timeProvider, r, localIndices, clusterState, l, searchContext, searchAsyncActionProvider));
                 } else {
@@ -381,7 +388,8 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
 
     static void ccsRemoteReduce(SearchRequest searchRequest, OriginalIndices localIndices, Map<String, OriginalIndices> remoteIndices,
                                 SearchTimeProvider timeProvider, InternalAggregation.ReduceContextBuilder aggReduceContextBuilder,
-                                RemoteClusterService remoteClusterService, ThreadPool threadPool, ActionListener<SearchResponse> listener,
+                                RemoteClusterService remoteClusterService, ThreadPool threadPool, SearchProgressListener progressListener,
+                                TimeValue remoteClusterTimeout, ActionListener<SearchResponse> listener,
                                 BiConsumer<SearchRequest, ActionListener<SearchResponse>> localSearchConsumer) {
 
         if (localIndices == null && remoteIndices.size() == 1) {
@@ -431,14 +439,18 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
                 OriginalIndices indices = entry.getValue();
                 SearchRequest ccsSearchRequest = SearchRequest.subSearchRequest(searchRequest, indices.indices(),
                     clusterAlias, timeProvider.getAbsoluteStartMillis(), false);
-                ActionListener<SearchResponse> ccsListener = createCCSListener(clusterAlias, skipUnavailable, countDown,
-                    skippedClusters, exceptions, searchResponseMerger, totalClusters,  listener);
+                CCSActionListener<SearchResponse, SearchResponse> ccsListener = createCCSListener(clusterAlias, skipUnavailable,
+                    countDown, skippedClusters, exceptions, searchResponseMerger, totalClusters, progressListener, listener);
+                if (remoteClusterTimeout.millis() >= 0) {
+                    // a cluster that does not respond in time is reported as skipped rather than holding back the other results
+                    ccsListener.setTimeout(threadPool.schedule(ccsListener::onTimeout, remoteClusterTimeout, ThreadPool.Names.SEARCH));
+                }
                 Client remoteClusterClient = remoteClusterService.getRemoteClusterClient(threadPool, clusterAlias);
                 remoteClusterClient.search(ccsSearchRequest, ccsListener);
             }
             if (localIndices != null) {
                 ActionListener<SearchResponse> ccsListener = createCCSListener(RemoteClusterAware.LOCAL_CLUSTER_GROUP_KEY,
-                    false, countDown, skippedClusters, exceptions, searchResponseMerger, totalClusters, listener);
+                    false, countDown, skippedClusters, exceptions, searchResponseMerger, totalClusters, progressListener, listener);
                 SearchRequest ccsLocalSearchRequest = SearchRequest.subSearchRequest(searchRequest, localIndices.indices(),
                     RemoteClusterAware.LOCAL_CLUSTER_GROUP_KEY, timeProvider.getAbsoluteStartMillis(), false);
                 localSearchConsumer.accept(ccsLocalSearchRequest, ccsListener);
@@ -497,15 +509,28 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
         }
     }
 
-    private static ActionListener<SearchResponse> createCCSListener(String clusterAlias, boolean skipUnavailable, CountDown countDown,
-                                                             AtomicInteger skippedClusters, AtomicReference<Exception> exceptions,
+    private static CCSActionListener<SearchResponse, SearchResponse> createCCSListener(String clusterAlias, boolean skipUnavailable,
+                                                             CountDown countDown, AtomicInteger skippedClusters,
+                                                             AtomicReference<Exception> exceptions,
                                                              SearchResponseMerger searchResponseMerger, int totalClusters,
+                                                             SearchProgressListener progressListener,
                                                              ActionListener<SearchResponse> originalListener) {
         return new CCSActionListener<SearchResponse, SearchResponse>(clusterAlias, skipUnavailable, countDown, skippedClusters,
             exceptions, originalListener) {
             @Override
             void innerOnResponse(SearchResponse searchResponse) {
                 searchResponseMerger.add(searchResponse);
+                final int numResponses = searchResponseMerger.numResponses();
+                if (progressListener != SearchProgressListener.NOOP && numResponses + skippedClusters.get() < totalClusters) {
+                    SearchResponse.Clusters clusters = new SearchResponse.Clusters(totalClusters, numResponses, skippedClusters.get());
+                    progressListener.notifyClusterResponse(clusterAlias, clusters,
+                        () -> searchResponseMerger.getPartialMergedResponse(clusters));
+                }
+            }
+
+            @Override
+            void innerOnTimeout() {
+                searchResponseMerger.markClusterTimedOut();
             }
 
             @Override
@@ -862,6 +887,8 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
         private final AtomicInteger skippedClusters;
         private final AtomicReference<Exception> exceptions;
         private final ActionListener<FinalResponse> originalListener;
+        private final AtomicBoolean completed = new AtomicBoolean();
+        private volatile Scheduler.Cancellable timeout;
 
         CCSActionListener(String clusterAlias, boolean skipUnavailable, CountDown countDown, AtomicInteger skippedClusters,
                           AtomicReference<Exception> exceptions, ActionListener<FinalResponse> originalListener) {
@@ -873,16 +900,42 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
             this.originalListener = originalListener;
         }
 
+        /**
+         * Sets the scheduled timeout of the cluster, which is cancelled once the cluster responded so that it does not linger until it
+         * would have fired.
+         */
+        final void setTimeout(Scheduler.Cancellable timeout) {
+            this.timeout = timeout;
+            if (completed.get()) {
+                // the cluster may have responded before the timeout was set
+                timeout.cancel();
+            }
+        }
+
+        private void cancelTimeout() {
+            final Scheduler.Cancellable timeout = this.timeout;
+            if (timeout != null) {
+                timeout.cancel();
+            }
+        }
+
         @Override
         public final void onResponse(Response response) {
-            innerOnResponse(response);
-            maybeFinish();
+            if (completed.compareAndSet(false, true)) {
+                cancelTimeout();
+                innerOnResponse(response);
+                maybeFinish();
+            }
         }
 
         abstract void innerOnResponse(Response response);
 
         @Override
         public final void onFailure(Exception e) {
+            if (completed.compareAndSet(false, true) == false) {
+                return;
+            }
+            cancelTimeout();
             if (skipUnavailable) {
                 skippedClusters.incrementAndGet();
             } else {
@@ -900,6 +953,21 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
             maybeFinish();
         }
 
+        /**
+         * Gives up waiting for the cluster, which is then counted as skipped instead of failing the request. A response or failure
+         * that arrives afterwards is ignored. Does nothing if the cluster already responded.
+         */
+        final void onTimeout() {
+            if (completed.compareAndSet(false, true)) {
+                skippedClusters.incrementAndGet();
+                innerOnTimeout();
+                maybeFinish();
+            }
+        }
+
+        void innerOnTimeout() {
+        }
+
         private void maybeFinish() {
             if (countDown.countDown()) {
                 Exception exception = exceptions.get();
@@ -0,0 +1,131 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.delete.DeleteRequest;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.HandledTransportAction;
+import org.opensearch.client.Client;
+import org.opensearch.client.OriginSettingClient;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.search.SearchService;
+import org.opensearch.search.aggregations.InternalAggregation;
+import org.opensearch.tasks.Task;
+import org.opensearch.tasks.TaskAwareRequest;
+import org.opensearch.tasks.TaskId;
+import org.opensearch.tasks.TaskResultsService;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportService;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.opensearch.action.admin.cluster.node.tasks.get.GetTaskAction.TASKS_ORIGIN;
+
+/**
+ * Starts a search in the background and returns its partial results once it completed or the wait for completion timeout elapsed,
+ * whichever comes first. The search runs under its own {@link AsyncSearchTask}, whose id identifies the async search, and stores its
+ * final response as the result of that task once done.
+ */
+public class TransportSubmitAsyncSearchAction extends HandledTransportAction<SubmitAsyncSearchRequest, AsyncSearchResponse> {
+
+    private final ClusterService clusterService;
+    private final ThreadPool threadPool;
+    private final TransportSearchAction searchAction;
+    private final SearchService searchService;
+    private final Client client;
+
+    @Inject
+    public TransportSubmitAsyncSearchAction(TransportService transportService, ActionFilters actionFilters, ClusterService clusterService,
+                                            TransportSearchAction searchAction, SearchService searchService, Client client) {
+        super(SubmitAsyncSearchAction.NAME, transportService, actionFilters, SubmitAsyncSearchRequest::new);
+        this.clusterService = clusterService;
+        this.threadPool = transportService.getThreadPool();
+        this.searchAction = searchAction;
+        this.searchService = searchService;
+        this.client = new OriginSettingClient(client, TASKS_ORIGIN);
+    }
+
+    @Override
+    protected void doExecute(Task task, SubmitAsyncSearchRequest request, ActionListener<AsyncSearchResponse> listener) {
+        final SearchRequest searchRequest = request.getSearchRequest();
+        final String localNodeId = clusterService.localNode().getId();
+        final InternalAggregation.ReduceContextBuilder aggReduceContextBuilder = searchService.aggReduceContextBuilder(searchRequest);
+        // the search outlives the submit request, so its task is not a child of the submit task
+        final AsyncSearchTask searchTask = (AsyncSearchTask) taskManager.register("transport", SubmitAsyncSearchAction.NAME,
+            new TaskAwareRequest() {
+                @Override
+                public void setParentTask(TaskId taskId) {
+                    throw new UnsupportedOperationException("async searches have no parent task");
+                }
+
+                @Override
+                public TaskId getParentTask() {
+                    return TaskId.EMPTY_TASK_ID;
+                }
+
+                @Override
+                public Task createTask(long id, String type, String action, TaskId parentTaskId, Map<String, String> headers) {
+                    return new AsyncSearchTask(id, type, action, searchRequest::buildDescription, parentTaskId, headers, localNodeId,
+                        request.getKeepAlive(), aggReduceContextBuilder);
+                }
+            });
+
+        final AtomicBoolean responded = new AtomicBoolean();
+        final Scheduler.ScheduledCancellable waitForCompletion = threadPool.schedule(() -> {
+            if (responded.compareAndSet(false, true)) {
+                listener.onResponse(searchTask.getCurrentResponse());
+            }
+        }, request.getWaitForCompletionTimeout(), ThreadPool.Names.GENERIC);
+        // only the ids are captured, so that the task and the results it holds can be collected once the search completed
+        final long taskId = searchTask.getId();
+        final String asyncSearchId = searchTask.getAsyncSearchId();
+        threadPool.schedule(() -> expire(taskId, asyncSearchId), request.getKeepAlive(), ThreadPool.Names.GENERIC);
+
+        searchAction.execute(searchTask, searchRequest, new ActionListener<SearchResponse>() {
+            @Override
+            public void onResponse(SearchResponse searchResponse) {
+                storeAndUnregister(searchTask.onCompletion(searchResponse));
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                storeAndUnregister(searchTask.onFailure(e));
+            }
+
+            private void storeAndUnregister(AsyncSearchResponse response) {
+                // the task is only unregistered once its result is stored, so that getting the async search always finds one of them
+                taskManager.storeResult(searchTask, new StoredAsyncSearchResponse(response),
+                    ActionListener.wrap(stored -> onStored(response), e -> onStored(response)));
+            }
+
+            private void onStored(AsyncSearchResponse response) {
+                taskManager.unregister(searchTask);
+                if (responded.compareAndSet(false, true)) {
+                    waitForCompletion.cancel();
+                    listener.onResponse(response);
+                }
+            }
+        });
+    }
+
+    private void expire(long taskId, String asyncSearchId) {
+        final Task task = taskManager.getTask(taskId);
+        if (task instanceof AsyncSearchTask) {
+            taskManager.cancel((AsyncSearchTask) task, "async search expired", () -> {});
+        }
+        // a result that a cancelled search stores after this is cleaned up when it is next retrieved
+        client.delete(new DeleteRequest(TaskResultsService.TASK_INDEX, asyncSearchId), ActionListener.wrap(r -> {},
+            e -> logger.debug(() -> new ParameterizedMessage("failed to delete expired async search [{}]", asyncSearchId), e)));
+    }
+}
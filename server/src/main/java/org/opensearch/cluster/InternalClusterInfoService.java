@@ -59,6 +59,8 @@ import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.AbstractRunnable;
 import org.opensearch.common.util.concurrent.OpenSearchRejectedExecutionException;
+import org.opensearch.index.search.stats.SearchStats;
+import org.opensearch.index.shard.IndexingStats;
 import org.opensearch.index.store.StoreStats;
 import org.opensearch.monitor.fs.FsInfo;
 import org.opensearch.threadpool.ThreadPool;
@@ -81,8 +83,9 @@ import java.util.function.Consumer;
  * Listens for changes in the number of data nodes and immediately submits a
  * ClusterInfoUpdateJob if a node has been added.
  *
- * Every time the timer runs, gathers information about the disk usage and
- * shard sizes across the cluster.
+ * Every time the timer runs, gathers information about the disk usage,
+ * shard sizes and shard loads across the cluster. Shard loads are derived
+ * from the indexing and search time spent on each shard since the previous run.
  */
 public class InternalClusterInfoService implements ClusterInfoService, ClusterStateListener {
 
@@ -102,6 +105,8 @@ public class InternalClusterInfoService implements ClusterInfoService, ClusterSt
     private volatile ImmutableOpenMap<String, DiskUsage> leastAvailableSpaceUsages;
     private volatile ImmutableOpenMap<String, DiskUsage> mostAvailableSpaceUsages;
     private volatile IndicesStatsSummary indicesStatsSummary;
+    // cumulative indexing and search time per shard copy as of the previous refresh, keyed by allocation id
+    private volatile ShardBusyTimes previousShardBusyTimes = ShardBusyTimes.EMPTY;
     // null if this node is not currently the master
     private final AtomicReference<RefreshAndRescheduleRunnable> refreshAndRescheduleRunnable = new AtomicReference<>();
     private volatile boolean enabled;
@@ -193,7 +198,8 @@ public class InternalClusterInfoService implements ClusterInfoService, ClusterSt
     public ClusterInfo getClusterInfo() {
         final IndicesStatsSummary indicesStatsSummary = this.indicesStatsSummary; // single volatile read
         return new ClusterInfo(leastAvailableSpaceUsages, mostAvailableSpaceUsages,
-            indicesStatsSummary.shardSizes, indicesStatsSummary.shardRoutingToDataPath, indicesStatsSummary.reservedSpace);
+            indicesStatsSummary.shardSizes, indicesStatsSummary.shardRoutingToDataPath, indicesStatsSummary.reservedSpace,
+            indicesStatsSummary.shardLoads);
     }
 
     /**
@@ -219,6 +225,8 @@ public class InternalClusterInfoService implements ClusterInfoService, ClusterSt
         final IndicesStatsRequest indicesStatsRequest = new IndicesStatsRequest();
         indicesStatsRequest.clear();
         indicesStatsRequest.store(true);
+        indicesStatsRequest.indexing(true);
+        indicesStatsRequest.search(true);
         indicesStatsRequest.indicesOptions(IndicesOptions.STRICT_EXPAND_OPEN_CLOSED_HIDDEN);
 
         client.admin().indices().stats(indicesStatsRequest, new LatchedActionListener<>(listener, latch));
@@ -277,10 +285,16 @@ public class InternalClusterInfoService implements ClusterInfoService, ClusterSt
                 final ImmutableOpenMap.Builder<ClusterInfo.NodeAndPath, ClusterInfo.ReservedSpace> rsrvdSpace = ImmutableOpenMap.builder();
                 reservedSpaceBuilders.forEach((nodeAndPath, builder) -> rsrvdSpace.put(nodeAndPath, builder.build()));
 
+                final ImmutableOpenMap.Builder<String, Double> shardLoadByIdentifierBuilder = ImmutableOpenMap.builder();
+                final ShardBusyTimes shardBusyTimes = new ShardBusyTimes(threadPool.relativeTimeInMillis(), stats);
+                buildShardLoads(logger, stats, previousShardBusyTimes, shardBusyTimes, shardLoadByIdentifierBuilder);
+                previousShardBusyTimes = shardBusyTimes;
+
                 indicesStatsSummary = new IndicesStatsSummary(
                     shardSizeByIdentifierBuilder.build(),
                     dataPathByShardRoutingBuilder.build(),
-                    rsrvdSpace.build());
+                    rsrvdSpace.build(),
+                    shardLoadByIdentifierBuilder.build());
             }
 
             @Override
@@ -363,6 +377,35 @@ public class InternalClusterInfoService implements ClusterInfoService, ClusterSt
         }
     }
 
+    /**
+     * Computes the load of every shard copy as the indexing and search time spent on it between the previous and the current stats,
+     * divided by the elapsed time, i.e. the average number of threads that were busy with the shard. Shard copies that are not part of
+     * the previous stats have no load yet. Replicas share their identifier, so the busiest copy determines the load.
+     */
+    static void buildShardLoads(Logger logger, ShardStats[] stats, ShardBusyTimes previous, ShardBusyTimes current,
+                                ImmutableOpenMap.Builder<String, Double> shardLoads) {
+        final long elapsedMillis = current.timestampMillis - previous.timestampMillis;
+        if (elapsedMillis <= 0) {
+            return;
+        }
+        for (ShardStats s : stats) {
+            final ShardRouting shardRouting = s.getShardRouting();
+            final Long previousBusyMillis = previous.busyMillis(shardRouting);
+            final Long currentBusyMillis = current.busyMillis(shardRouting);
+            if (previousBusyMillis == null || currentBusyMillis == null) {
+                continue;
+            }
+            // stats restart from zero if the shard copy is recovered again, don't report a negative load in that case
+            final double load = Math.max(0L, currentBusyMillis - previousBusyMillis) / (double) elapsedMillis;
+            final String shardIdentifier = ClusterInfo.shardIdentifierFromRouting(shardRouting);
+            logger.trace("shard: {} load: {}", shardIdentifier, load);
+            final Double existing = shardLoads.get(shardIdentifier);
+            if (existing == null || existing < load) {
+                shardLoads.put(shardIdentifier, load);
+            }
+        }
+    }
+
     static void fillDiskUsagePerNode(Logger logger, List<NodeStats> nodeStatsArray,
             ImmutableOpenMap.Builder<String, DiskUsage> newLeastAvailableUsages,
             ImmutableOpenMap.Builder<String, DiskUsage> newMostAvailableUsages) {
@@ -415,18 +458,52 @@ public class InternalClusterInfoService implements ClusterInfoService, ClusterSt
 
     private static class IndicesStatsSummary {
         static final IndicesStatsSummary EMPTY
-            = new IndicesStatsSummary(ImmutableOpenMap.of(), ImmutableOpenMap.of(), ImmutableOpenMap.of());
+            = new IndicesStatsSummary(ImmutableOpenMap.of(), ImmutableOpenMap.of(), ImmutableOpenMap.of(), ImmutableOpenMap.of());
 
         final ImmutableOpenMap<String, Long> shardSizes;
         final ImmutableOpenMap<ShardRouting, String> shardRoutingToDataPath;
         final ImmutableOpenMap<ClusterInfo.NodeAndPath, ClusterInfo.ReservedSpace> reservedSpace;
+        final ImmutableOpenMap<String, Double> shardLoads;
 
         IndicesStatsSummary(ImmutableOpenMap<String, Long> shardSizes,
                             ImmutableOpenMap<ShardRouting, String> shardRoutingToDataPath,
-                            ImmutableOpenMap<ClusterInfo.NodeAndPath, ClusterInfo.ReservedSpace> reservedSpace) {
+                            ImmutableOpenMap<ClusterInfo.NodeAndPath, ClusterInfo.ReservedSpace> reservedSpace,
+                            ImmutableOpenMap<String, Double> shardLoads) {
             this.shardSizes = shardSizes;
             this.shardRoutingToDataPath = shardRoutingToDataPath;
             this.reservedSpace = reservedSpace;
+            this.shardLoads = shardLoads;
+        }
+    }
+
+    /**
+     * The cumulative time spent indexing into and searching each shard copy at a point in time
+     */
+    static class ShardBusyTimes {
+        static final ShardBusyTimes EMPTY = new ShardBusyTimes(0L, new ShardStats[0]);
+
+        final long timestampMillis;
+        private final Map<String, Long> busyMillisByAllocationId = new HashMap<>();
+
+        ShardBusyTimes(long timestampMillis, ShardStats[] stats) {
+            this.timestampMillis = timestampMillis;
+            for (ShardStats s : stats) {
+                final ShardRouting shardRouting = s.getShardRouting();
+                final IndexingStats indexingStats = s.getStats().getIndexing();
+                final SearchStats searchStats = s.getStats().getSearch();
+                if (shardRouting.allocationId() == null || indexingStats == null || searchStats == null) {
+                    continue;
+                }
+                final long busyMillis = indexingStats.getTotal().getIndexTime().millis()
+                    + indexingStats.getTotal().getDeleteTime().millis()
+                    + searchStats.getTotal().getQueryTimeInMillis()
+                    + searchStats.getTotal().getFetchTimeInMillis();
+                busyMillisByAllocationId.put(shardRouting.allocationId().getId(), busyMillis);
+            }
+        }
+
+        Long busyMillis(ShardRouting shardRouting) {
+            return shardRouting.allocationId() == null ? null : busyMillisByAllocationId.get(shardRouting.allocationId().getId());
         }
     }
 
@@ -0,0 +1,112 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.cluster.routing.allocation;
+
+import org.opensearch.cluster.routing.RoutingChangesObserver;
+import org.opensearch.cluster.routing.RoutingNodes;
+import org.opensearch.cluster.routing.ShardRouting;
+import org.opensearch.cluster.routing.UnassignedInfo;
+import org.opensearch.cluster.routing.allocation.decider.AllocationDecider;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Caches values computed by {@link AllocationDecider}s that only depend on the node, for the duration of a single
+ * {@link RoutingAllocation}. Deciders are called for every shard-node pair, so on large clusters recomputing per-node state such as
+ * cluster-level filters or disk usage including relocations dominates the cost of a reroute.
+ *
+ * Entries of a node are invalidated whenever the allocation changes the shards on that node through {@link RoutingNodes}, so callers
+ * may cache values that depend on the shards currently assigned to the node. Values must not depend on the shard being decided on.
+ */
+public class NodeDecisionCache extends RoutingChangesObserver.AbstractRoutingChangesObserver {
+
+    private final Map<String, Map<String, Object>> cache = new HashMap<>();
+
+    private long hits;
+    private long misses;
+
+    /**
+     * Returns the value cached under the given key for the given node, computing it with the supplier if absent.
+     * The supplier must not return {@code null}.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T computeIfAbsent(String key, String nodeId, Supplier<T> supplier) {
+        final Map<String, Object> nodeEntries = cache.computeIfAbsent(nodeId, k -> new HashMap<>());
+        Object value = nodeEntries.get(key);
+        if (value == null) {
+            misses++;
+            value = supplier.get();
+            assert value != null : "node decision cache does not support null values for key [" + key + "]";
+            nodeEntries.put(key, value);
+        } else {
+            hits++;
+        }
+        return (T) value;
+    }
+
+    /**
+     * Drops all cached values of the given node.
+     */
+    public void invalidate(String nodeId) {
+        if (nodeId != null) {
+            cache.remove(nodeId);
+        }
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    private void invalidate(ShardRouting shardRouting) {
+        invalidate(shardRouting.currentNodeId());
+        invalidate(shardRouting.relocatingNodeId());
+    }
+
+    @Override
+    public void shardInitialized(ShardRouting unassignedShard, ShardRouting initializedShard) {
+        invalidate(initializedShard);
+    }
+
+    @Override
+    public void shardStarted(ShardRouting initializingShard, ShardRouting startedShard) {
+        invalidate(initializingShard);
+    }
+
+    @Override
+    public void relocationStarted(ShardRouting startedShard, ShardRouting targetRelocatingShard) {
+        invalidate(startedShard);
+        invalidate(targetRelocatingShard);
+    }
+
+    @Override
+    public void shardFailed(ShardRouting failedShard, UnassignedInfo unassignedInfo) {
+        invalidate(failedShard);
+    }
+
+    @Override
+    public void relocationCompleted(ShardRouting removedRelocationSource) {
+        invalidate(removedRelocationSource);
+    }
+
+    @Override
+    public void relocationSourceRemoved(ShardRouting removedReplicaRelocationSource) {
+        invalidate(removedReplicaRelocationSource);
+    }
+
+    @Override
+    public void initializedReplicaReinitialized(ShardRouting oldReplica, ShardRouting reinitializedReplica) {
+        invalidate(oldReplica);
+    }
+}
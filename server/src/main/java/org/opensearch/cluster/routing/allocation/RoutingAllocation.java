@@ -92,8 +92,9 @@ public class RoutingAllocation {
     private final IndexMetadataUpdater indexMetadataUpdater = new IndexMetadataUpdater();
     private final RoutingNodesChangedObserver nodesChangedObserver = new RoutingNodesChangedObserver();
     private final RestoreInProgressUpdater restoreInProgressUpdater = new RestoreInProgressUpdater();
+    private final NodeDecisionCache nodeDecisionCache = new NodeDecisionCache();
     private final RoutingChangesObserver routingChangesObserver = new RoutingChangesObserver.DelegatingRoutingChangesObserver(
-        nodesChangedObserver, indexMetadataUpdater, restoreInProgressUpdater
+        nodesChangedObserver, indexMetadataUpdater, restoreInProgressUpdater, nodeDecisionCache
     );
 
 
@@ -253,6 +254,13 @@ public class RoutingAllocation {
         return routingChangesObserver;
     }
 
+    /**
+     * Returns the cache of node-level values computed by deciders during this allocation round
+     */
+    public NodeDecisionCache nodeDecisionCache() {
+        return nodeDecisionCache;
+    }
+
     /**
      * Returns updated {@link Metadata} based on the changes that were made to the routing nodes
      */
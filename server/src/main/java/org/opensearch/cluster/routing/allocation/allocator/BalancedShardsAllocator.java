@@ -61,6 +61,7 @@ import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Setting.Property;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.gateway.PriorityComparator;
 
 import java.util.ArrayList;
@@ -72,6 +73,8 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
 import java.util.stream.StreamSupport;
 
 import static org.opensearch.cluster.routing.ShardRoutingState.RELOCATING;
@@ -84,8 +87,12 @@ import static org.opensearch.cluster.routing.ShardRoutingState.RELOCATING;
  * for shards allocated on a {@link RoutingNode}</li>
  * <li><code>cluster.routing.allocation.balance.index</code> - The <b>index balance</b> defines a factor to the number
  * of {@link org.opensearch.cluster.routing.ShardRouting}s per index allocated on a specific node</li>
+ * <li><code>cluster.routing.allocation.balance.load</code> - The <b>load balance</b> defines a factor to the indexing and
+ * search load of the shards allocated on a specific node, as reported by the {@link org.opensearch.cluster.ClusterInfo}</li>
  * <li><code>cluster.routing.allocation.balance.threshold</code> - A <b>threshold</b> to set the minimal optimization
  * value of operations that should be performed</li>
+ * <li><code>cluster.routing.allocation.balance.time_budget</code> - The maximum time a single reroute spends on rebalancing
+ * once it has relocated at least one shard. Rebalancing continues from the resulting state on the next reroute.</li>
  * </ul>
  * <p>
  * These parameters are combined in a {@link WeightFunction} that allows calculation of node weights which
@@ -99,12 +106,19 @@ public class BalancedShardsAllocator implements ShardsAllocator {
         Setting.floatSetting("cluster.routing.allocation.balance.index", 0.55f, 0.0f, Property.Dynamic, Property.NodeScope);
     public static final Setting<Float> SHARD_BALANCE_FACTOR_SETTING =
         Setting.floatSetting("cluster.routing.allocation.balance.shard", 0.45f, 0.0f, Property.Dynamic, Property.NodeScope);
+    public static final Setting<Float> LOAD_BALANCE_FACTOR_SETTING =
+        Setting.floatSetting("cluster.routing.allocation.balance.load", 0.0f, 0.0f, Property.Dynamic, Property.NodeScope);
     public static final Setting<Float> THRESHOLD_SETTING =
         Setting.floatSetting("cluster.routing.allocation.balance.threshold", 1.0f, 0.0f,
             Property.Dynamic, Property.NodeScope);
+    public static final Setting<TimeValue> BALANCE_TIME_BUDGET_SETTING =
+        Setting.timeSetting("cluster.routing.allocation.balance.time_budget", TimeValue.MINUS_ONE, TimeValue.MINUS_ONE,
+            Property.Dynamic, Property.NodeScope);
 
     private volatile WeightFunction weightFunction;
     private volatile float threshold;
+    private volatile TimeValue balanceTimeBudget;
+    private volatile BalancingRound lastBalancingRound = BalancingRound.EMPTY;
 
     public BalancedShardsAllocator(Settings settings) {
         this(settings, new ClusterSettings(settings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS));
@@ -112,30 +126,43 @@ public class BalancedShardsAllocator implements ShardsAllocator {
 
     @Inject
     public BalancedShardsAllocator(Settings settings, ClusterSettings clusterSettings) {
-        setWeightFunction(INDEX_BALANCE_FACTOR_SETTING.get(settings), SHARD_BALANCE_FACTOR_SETTING.get(settings));
+        weightFunction = new WeightFunction(INDEX_BALANCE_FACTOR_SETTING.get(settings), SHARD_BALANCE_FACTOR_SETTING.get(settings),
+            LOAD_BALANCE_FACTOR_SETTING.get(settings));
         setThreshold(THRESHOLD_SETTING.get(settings));
+        setBalanceTimeBudget(BALANCE_TIME_BUDGET_SETTING.get(settings));
         clusterSettings.addSettingsUpdateConsumer(INDEX_BALANCE_FACTOR_SETTING, SHARD_BALANCE_FACTOR_SETTING, this::setWeightFunction);
+        clusterSettings.addSettingsUpdateConsumer(LOAD_BALANCE_FACTOR_SETTING, this::setLoadBalance);
         clusterSettings.addSettingsUpdateConsumer(THRESHOLD_SETTING, this::setThreshold);
+        clusterSettings.addSettingsUpdateConsumer(BALANCE_TIME_BUDGET_SETTING, this::setBalanceTimeBudget);
     }
 
     private void setWeightFunction(float indexBalance, float shardBalanceFactor) {
-        weightFunction = new WeightFunction(indexBalance, shardBalanceFactor);
+        weightFunction = new WeightFunction(indexBalance, shardBalanceFactor, weightFunction.loadBalance);
+    }
+
+    private void setLoadBalance(float loadBalance) {
+        weightFunction = new WeightFunction(weightFunction.indexBalance, weightFunction.shardBalance, loadBalance);
     }
 
     private void setThreshold(float threshold) {
         this.threshold = threshold;
     }
 
+    private void setBalanceTimeBudget(TimeValue balanceTimeBudget) {
+        this.balanceTimeBudget = balanceTimeBudget;
+    }
+
     @Override
     public void allocate(RoutingAllocation allocation) {
         if (allocation.routingNodes().size() == 0) {
             failAllocationOfNewPrimaries(allocation);
             return;
         }
-        final Balancer balancer = new Balancer(logger, allocation, weightFunction, threshold);
+        final Balancer balancer = new Balancer(logger, allocation, weightFunction, threshold, balanceTimeBudget.nanos());
         balancer.allocateUnassigned();
         balancer.moveShards();
         balancer.balance();
+        lastBalancingRound = balancer.getBalancingRound();
     }
 
     @Override
@@ -193,12 +220,78 @@ public class BalancedShardsAllocator implements ShardsAllocator {
         return weightFunction.shardBalance;
     }
 
+    /**
+     * Returns the load related weight factor.
+     */
+    public float getLoadBalance() {
+        return weightFunction.loadBalance;
+    }
+
+    /**
+     * Returns the maximum time a single reroute spends on rebalancing, or {@code -1} if rebalancing is not time bounded.
+     */
+    public TimeValue getBalanceTimeBudget() {
+        return balanceTimeBudget;
+    }
+
+    /**
+     * Returns the statistics of the rebalancing done by the most recent call to {@link #allocate(RoutingAllocation)}.
+     */
+    public BalancingRound getLastBalancingRound() {
+        return lastBalancingRound;
+    }
+
+    /**
+     * The time spent and the relocations computed while rebalancing during a single reroute.
+     */
+    public static final class BalancingRound {
+
+        static final BalancingRound EMPTY = new BalancingRound(0L, 0, false);
+
+        private final long tookInNanos;
+        private final int relocations;
+        private final boolean timedOut;
+
+        BalancingRound(long tookInNanos, int relocations, boolean timedOut) {
+            this.tookInNanos = tookInNanos;
+            this.relocations = relocations;
+            this.timedOut = timedOut;
+        }
+
+        /**
+         * The time spent rebalancing
+         */
+        public TimeValue getTook() {
+            return new TimeValue(tookInNanos, TimeUnit.NANOSECONDS);
+        }
+
+        /**
+         * The number of relocations started by the rebalancing
+         */
+        public int getRelocations() {
+            return relocations;
+        }
+
+        /**
+         * Whether the rebalancing stopped because the time budget was exhausted before the cluster was balanced
+         */
+        public boolean isTimedOut() {
+            return timedOut;
+        }
+
+        @Override
+        public String toString() {
+            return "BalancingRound{took=" + getTook() + ", relocations=" + relocations + ", timedOut=" + timedOut + '}';
+        }
+    }
+
     /**
      * This class is the primary weight function used to create balanced over nodes and shards in the cluster.
      * Currently this function has 3 properties:
      * <ul>
      * <li><code>index balance</code> - balance property over shards per index</li>
      * <li><code>shard balance</code> - balance property over shards per cluster</li>
+     * <li><code>load balance</code> - balance property over the indexing and search load per cluster</li>
      * </ul>
      * <p>
      * Each of these properties are expressed as factor such that the properties factor defines the relative
@@ -214,8 +307,16 @@ public class BalancedShardsAllocator implements ShardsAllocator {
      * <li>
      * <code>weight<sub>node</sub>(node, index) = shardBalance * (node.numShards() - avgShardsPerNode)</code>
      * </li>
+     * <li>
+     * <code>weight<sub>load</sub>(node, index) = loadBalance * (node.load() - avgLoadPerNode) / avgLoadPerShard</code>
+     * </li>
      * </ul>
-     * <code>weight(node, index) = weight<sub>index</sub>(node, index) + weight<sub>node</sub>(node, index)</code>
+     * <code>weight(node, index) = weight<sub>index</sub>(node, index) + weight<sub>node</sub>(node, index)
+     * + weight<sub>load</sub>(node, index)</code>
+     * <p>
+     * The load is expressed in multiples of the average shard load so that a shard with an average load weighs as
+     * much as a shard does for the other properties. The load balance defaults to {@code 0.0}, which ignores load.
+     * </p>
      *
      * package-private for testing
      */
@@ -223,22 +324,37 @@ public class BalancedShardsAllocator implements ShardsAllocator {
 
         private final float indexBalance;
         private final float shardBalance;
+        private final float loadBalance;
         private final float theta0;
         private final float theta1;
+        private final float theta2;
         private AllocationConstraints constraints;
 
         WeightFunction(float indexBalance, float shardBalance) {
-            float sum = indexBalance + shardBalance;
+            this(indexBalance, shardBalance, 0.0f);
+        }
+
+        WeightFunction(float indexBalance, float shardBalance, float loadBalance) {
+            float sum = indexBalance + shardBalance + loadBalance;
             if (sum <= 0.0f) {
                 throw new IllegalArgumentException("Balance factors must sum to a value > 0 but was: " + sum);
             }
             theta0 = shardBalance / sum;
             theta1 = indexBalance / sum;
+            theta2 = loadBalance / sum;
             this.indexBalance = indexBalance;
             this.shardBalance = shardBalance;
+            this.loadBalance = loadBalance;
             this.constraints = new AllocationConstraints();
         }
 
+        /**
+         * Returns {@code true} iff the load of the shards contributes to the weight
+         */
+        boolean isLoadAware() {
+            return theta2 > 0.0f;
+        }
+
         public float weightWithAllocationConstraints(Balancer balancer, ModelNode node, String index) {
             float balancerWeight = weight(balancer, node, index);
             return balancerWeight + constraints.weight(balancer, node, index);
@@ -247,7 +363,23 @@ public class BalancedShardsAllocator implements ShardsAllocator {
         float weight(Balancer balancer, ModelNode node, String index) {
             final float weightShard = node.numShards() - balancer.avgShardsPerNode();
             final float weightIndex = node.numShards(index) - balancer.avgShardsPerNode(index);
-            return theta0 * weightShard + theta1 * weightIndex;
+            final float weightLoad = loadUnits(balancer, node.load() - balancer.avgLoadPerNode());
+            return theta0 * weightShard + theta1 * weightIndex + theta2 * weightLoad;
+        }
+
+        /**
+         * Returns how much the weight of a node changes when the given shard is added to or removed from it.
+         */
+        float shardWeight(Balancer balancer, ShardRouting shard) {
+            return theta0 + theta1 + theta2 * loadUnits(balancer, balancer.shardLoad(shard));
+        }
+
+        private float loadUnits(Balancer balancer, double load) {
+            final double avgLoadPerShard = balancer.avgLoadPerShard();
+            if (theta2 == 0.0f || avgLoadPerShard <= 0.0d) {
+                return 0.0f;
+            }
+            return (float) (load / avgLoadPerShard);
         }
     }
 
@@ -264,18 +396,38 @@ public class BalancedShardsAllocator implements ShardsAllocator {
         private final float threshold;
         private final Metadata metadata;
         private final float avgShardsPerNode;
+        private final double avgLoadPerNode;
+        private final double avgLoadPerShard;
         private final NodeSorter sorter;
         private final Set<RoutingNode> inEligibleTargetNode;
+        private final long balanceTimeBudgetNanos;
+        private long balanceStartNanos;
+        private long balanceTookNanos;
+        private int balanceRelocations;
+        private boolean balanceTimedOut;
 
         public Balancer(Logger logger, RoutingAllocation allocation, WeightFunction weight, float threshold) {
+            this(logger, allocation, weight, threshold, -1L);
+        }
+
+        public Balancer(Logger logger, RoutingAllocation allocation, WeightFunction weight, float threshold, long balanceTimeBudgetNanos) {
             this.logger = logger;
             this.allocation = allocation;
             this.weight = weight;
             this.threshold = threshold;
+            this.balanceTimeBudgetNanos = balanceTimeBudgetNanos;
             this.routingNodes = allocation.routingNodes();
             this.metadata = allocation.metadata();
             avgShardsPerNode = ((float) metadata.getTotalNumberOfShards()) / routingNodes.size();
             nodes = Collections.unmodifiableMap(buildModelFromAssigned());
+            double totalLoad = 0.0d;
+            int totalAssignedShards = 0;
+            for (ModelNode node : nodes.values()) {
+                totalLoad += node.load();
+                totalAssignedShards += node.numShards();
+            }
+            avgLoadPerNode = nodes.isEmpty() ? 0.0d : totalLoad / nodes.size();
+            avgLoadPerShard = totalAssignedShards == 0 ? 0.0d : totalLoad / totalAssignedShards;
             sorter = newNodeSorter();
             inEligibleTargetNode = new HashSet<>();
         }
@@ -301,6 +453,30 @@ public class BalancedShardsAllocator implements ShardsAllocator {
             return avgShardsPerNode;
         }
 
+        /**
+         * Returns the global average of the load per node
+         */
+        public double avgLoadPerNode() {
+            return avgLoadPerNode;
+        }
+
+        /**
+         * Returns the global average of the load per assigned shard
+         */
+        public double avgLoadPerShard() {
+            return avgLoadPerShard;
+        }
+
+        /**
+         * Returns the indexing and search load of the given shard, or {@code 0} if the load is not taken into account or unknown.
+         */
+        double shardLoad(ShardRouting shard) {
+            if (weight.isLoadAware() == false || allocation.clusterInfo() == null) {
+                return 0.0d;
+            }
+            return allocation.clusterInfo().getShardLoad(shard, 0.0d);
+        }
+
         /**
          * Returns a new {@link NodeSorter} that sorts the nodes based on their
          * current weight with respect to the index passed to the sorter. The
@@ -357,7 +533,39 @@ public class BalancedShardsAllocator implements ShardsAllocator {
                 logger.trace("skipping rebalance as single node only");
                 return;
             }
+            balanceStartNanos = System.nanoTime();
             balanceByWeights();
+            balanceTookNanos = System.nanoTime() - balanceStartNanos;
+            if (balanceTimedOut) {
+                logger.debug("stopped balancing after [{}] with [{}] relocations as the time budget of [{}] was exhausted",
+                    new TimeValue(balanceTookNanos, TimeUnit.NANOSECONDS), balanceRelocations,
+                    new TimeValue(balanceTimeBudgetNanos, TimeUnit.NANOSECONDS));
+            } else if (logger.isTraceEnabled()) {
+                logger.trace("finished balancing after [{}] with [{}] relocations",
+                    new TimeValue(balanceTookNanos, TimeUnit.NANOSECONDS), balanceRelocations);
+            }
+        }
+
+        /**
+         * Returns the time spent and relocations started by {@link #balance()}.
+         */
+        BalancingRound getBalancingRound() {
+            return new BalancingRound(balanceTookNanos, balanceRelocations, balanceTimedOut);
+        }
+
+        /**
+         * Returns {@code true} iff balancing must stop because the time budget is exhausted. Balancing only stops once at least one
+         * shard was relocated, so that every round makes progress and the relocation triggers the reroute that resumes balancing
+         * from the resulting state.
+         */
+        private boolean balanceTimeBudgetExhausted() {
+            if (balanceTimeBudgetNanos < 0 || balanceRelocations == 0) {
+                return false;
+            }
+            if (System.nanoTime() - balanceStartNanos >= balanceTimeBudgetNanos) {
+                balanceTimedOut = true;
+            }
+            return balanceTimedOut;
         }
 
         /**
@@ -492,6 +700,9 @@ public class BalancedShardsAllocator implements ShardsAllocator {
             final ModelNode[] modelNodes = sorter.modelNodes;
             final float[] weights = sorter.weights;
             for (String index : buildWeightOrderedIndices()) {
+                if (balanceTimeBudgetExhausted()) {
+                    return;
+                }
                 IndexMetadata indexMetadata = metadata.index(index);
 
                 // find nodes that have a shard of this index or where shards of this index are allowed to be allocated to,
@@ -559,7 +770,11 @@ public class BalancedShardsAllocator implements ShardsAllocator {
                              */
                             logger.trace("Couldn't find shard to relocate from node [{}] to node [{}]",
                                 maxNode.getNodeId(), minNode.getNodeId());
-                        } else if (tryRelocateShard(minNode, maxNode, index)) {
+                        } else if (tryRelocateShard(minNode, maxNode, index, delta)) {
+                            balanceRelocations++;
+                            if (balanceTimeBudgetExhausted()) {
+                                return;
+                            }
                             /*
                              * TODO we could be a bit smarter here, we don't need to fully sort necessarily
                              * we could just find the place to insert linearly but the win might be minor
@@ -815,7 +1030,7 @@ public class BalancedShardsAllocator implements ShardsAllocator {
         private Map<String, ModelNode> buildModelFromAssigned() {
             Map<String, ModelNode> nodes = new HashMap<>();
             for (RoutingNode rn : routingNodes) {
-                ModelNode node = new ModelNode(rn);
+                ModelNode node = new ModelNode(rn, this::shardLoad);
                 nodes.put(rn.nodeId(), node);
                 for (ShardRouting shard : rn) {
                     assert rn.nodeId().equals(shard.currentNodeId());
@@ -1050,9 +1265,10 @@ public class BalancedShardsAllocator implements ShardsAllocator {
         /**
          * Tries to find a relocation from the max node to the minimal node for an arbitrary shard of the given index on the
          * balance model. Iff this method returns a <code>true</code> the relocation has already been executed on the
-         * simulation model as well as on the cluster.
+         * simulation model as well as on the cluster. Shards whose weight is not below the given weight delta between the two
+         * nodes are skipped, since moving them would not bring the nodes closer to balance.
          */
-        private boolean tryRelocateShard(ModelNode minNode, ModelNode maxNode, String idx) {
+        private boolean tryRelocateShard(ModelNode minNode, ModelNode maxNode, String idx, float delta) {
             final ModelIndex index = maxNode.getIndex(idx);
             if (index != null) {
                 logger.trace("Try relocating shard of [{}] from [{}] to [{}]", idx, maxNode.getNodeId(), minNode.getNodeId());
@@ -1064,6 +1280,10 @@ public class BalancedShardsAllocator implements ShardsAllocator {
 
                 final AllocationDeciders deciders = allocation.deciders();
                 for (ShardRouting shard : shardRoutings) {
+                    if (weight.isLoadAware() && weight.shardWeight(this, shard) >= delta) {
+                        // a hot shard would just swap the imbalance between the two nodes
+                        continue;
+                    }
                     final Decision rebalanceDecision = deciders.canRebalance(shard, allocation);
                     if (rebalanceDecision.type() == Type.NO) {
                         continue;
@@ -1101,10 +1321,13 @@ public class BalancedShardsAllocator implements ShardsAllocator {
     public static class ModelNode implements Iterable<ModelIndex> {
         private final Map<String, ModelIndex> indices = new HashMap<>();
         private int numShards = 0;
+        private double load = 0.0d;
         private final RoutingNode routingNode;
+        private final ToDoubleFunction<ShardRouting> shardLoad;
 
-        ModelNode(RoutingNode routingNode) {
+        ModelNode(RoutingNode routingNode, ToDoubleFunction<ShardRouting> shardLoad) {
             this.routingNode = routingNode;
+            this.shardLoad = shardLoad;
         }
 
         public ModelIndex getIndex(String indexId) {
@@ -1123,6 +1346,10 @@ public class BalancedShardsAllocator implements ShardsAllocator {
             return numShards;
         }
 
+        public double load() {
+            return load;
+        }
+
         public int numShards(String idx) {
             ModelIndex index = indices.get(idx);
             return index == null ? 0 : index.numShards();
@@ -1144,6 +1371,7 @@ public class BalancedShardsAllocator implements ShardsAllocator {
             }
             index.addShard(shard);
             numShards++;
+            load += shardLoad.applyAsDouble(shard);
         }
 
         public void removeShard(ShardRouting shard) {
@@ -1155,6 +1383,7 @@ public class BalancedShardsAllocator implements ShardsAllocator {
                 }
             }
             numShards--;
+            load -= shardLoad.applyAsDouble(shard);
         }
 
         @Override
@@ -97,6 +97,9 @@ public class DiskThresholdDecider extends AllocationDecider {
         Setting.boolSetting("cluster.routing.allocation.disk.watermark.enable_for_single_data_node", false, Setting.Property.NodeScope);
 
     private final DiskThresholdSettings diskThresholdSettings;
+    private static final String ALLOCATE_USAGE_CACHE_KEY = NAME + ".allocate_usage";
+    private static final String REMAIN_USAGE_CACHE_KEY = NAME + ".remain_usage";
+
     private final boolean enableForSingleDataNode;
 
     public DiskThresholdDecider(Settings settings, ClusterSettings clusterSettings) {
@@ -388,6 +391,14 @@ public class DiskThresholdDecider extends AllocationDecider {
 
     private DiskUsageWithRelocations getDiskUsage(RoutingNode node, RoutingAllocation allocation,
                                                   ImmutableOpenMap<String, DiskUsage> usages, boolean subtractLeavingShards) {
+        // the usage only depends on the cluster info and the shards on the node, so it can be reused for every shard that is
+        // checked against this node until the allocation changes the shards on it
+        return allocation.nodeDecisionCache().computeIfAbsent(subtractLeavingShards ? REMAIN_USAGE_CACHE_KEY : ALLOCATE_USAGE_CACHE_KEY,
+            node.nodeId(), () -> computeDiskUsage(node, allocation, usages, subtractLeavingShards));
+    }
+
+    private DiskUsageWithRelocations computeDiskUsage(RoutingNode node, RoutingAllocation allocation,
+                                                      ImmutableOpenMap<String, DiskUsage> usages, boolean subtractLeavingShards) {
         DiskUsage usage = usages.get(node.nodeId());
         if (usage == null) {
             // If there is no usage, and we have other nodes in the cluster,
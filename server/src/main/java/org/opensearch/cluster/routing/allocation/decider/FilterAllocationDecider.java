@@ -94,6 +94,8 @@ public class FilterAllocationDecider extends AllocationDecider {
         Setting.prefixKeySetting(CLUSTER_ROUTING_EXCLUDE_GROUP_PREFIX + ".", key ->
             Setting.simpleString(key, value -> IP_VALIDATOR.accept(key, value), Property.Dynamic, Property.NodeScope));
 
+    private static final String CLUSTER_FILTER_CACHE_KEY = NAME + ".cluster_filter";
+
     private volatile DiscoveryNodeFilters clusterRequireFilters;
     private volatile DiscoveryNodeFilters clusterIncludeFilters;
     private volatile DiscoveryNodeFilters clusterExcludeFilters;
@@ -200,6 +202,18 @@ public class FilterAllocationDecider extends AllocationDecider {
     }
 
     private Decision shouldClusterFilter(DiscoveryNode node, RoutingAllocation allocation) {
+        if (allocation.debugDecision()) {
+            return computeClusterFilter(node, allocation);
+        }
+        // cluster level filters only depend on the node, so without debug explanations the decision can be shared by all shards
+        final Decision decision = allocation.nodeDecisionCache().computeIfAbsent(CLUSTER_FILTER_CACHE_KEY, node.getId(), () -> {
+            final Decision clusterFilterDecision = computeClusterFilter(node, allocation);
+            return clusterFilterDecision == null ? Decision.ALWAYS : clusterFilterDecision;
+        });
+        return decision == Decision.ALWAYS ? null : decision;
+    }
+
+    private Decision computeClusterFilter(DiscoveryNode node, RoutingAllocation allocation) {
         if (clusterRequireFilters != null) {
             if (clusterRequireFilters.match(node) == false) {
                 return allocation.decision(Decision.NO, NAME, "node does not match cluster setting [%s] filters [%s]",
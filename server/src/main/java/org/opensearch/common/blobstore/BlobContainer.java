@@ -143,6 +143,32 @@ public interface BlobContainer {
      */
     void writeBlobAtomic(String blobName, InputStream inputStream, long blobSize, boolean failIfAlreadyExists) throws IOException;
 
+    /**
+     * Returns whether this container can write a single blob out of concurrently written parts through
+     * {@link #multipartWriter(String, long, long)}.
+     */
+    default boolean supportsMultipartWrites() {
+        return false;
+    }
+
+    /**
+     * Starts writing a blob with the given name out of parts of the given size that may be written concurrently. An existing blob of the
+     * same name is overwritten once the returned writer is completed.
+     *
+     * @param   blobName
+     *          The name of the blob to write.
+     * @param   blobSize
+     *          The size of the blob to be written, in bytes.
+     * @param   partSize
+     *          The size of every part but the last one, in bytes.
+     * @return  the writer to write the parts of the blob with
+     * @throws  IOException if the write could not be started.
+     * @throws  UnsupportedOperationException if {@link #supportsMultipartWrites()} is {@code false}
+     */
+    default MultipartBlobWriter multipartWriter(String blobName, long blobSize, long partSize) throws IOException {
+        throw new UnsupportedOperationException("multipart writes are not supported by [" + getClass().getName() + "]");
+    }
+
     /**
      * Deletes this container and all its contents from the repository.
      *
@@ -0,0 +1,49 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.blobstore;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Writes a single blob out of parts that may be written concurrently and in any order. All parts have the part size the writer was
+ * created with, except for the last part which holds the remaining bytes of the blob. The blob only becomes visible in its container
+ * once {@link #complete()} returned.
+ *
+ * @see BlobContainer#multipartWriter(String, long, long)
+ */
+public interface MultipartBlobWriter {
+
+    /**
+     * Writes one part of the blob. This method may be called concurrently for different parts.
+     *
+     * @param   partNumber
+     *          The zero based number of the part, the part starts at {@code partNumber * partSize} bytes into the blob.
+     * @param   inputStream
+     *          The input stream from which to retrieve the bytes of the part.
+     * @param   partSize
+     *          The size of this part, in bytes.
+     * @throws  IOException if the input stream could not be read, or the part could not be written.
+     */
+    void writePart(int partNumber, InputStream inputStream, long partSize) throws IOException;
+
+    /**
+     * Makes the blob visible in its container once all parts have been written successfully.
+     *
+     * @throws  IOException if not all parts have been written, or if the blob could not be assembled from its parts.
+     */
+    void complete() throws IOException;
+
+    /**
+     * Discards all parts written so far. The blob does not become visible in its container.
+     *
+     * @throws  IOException if the written parts could not be cleaned up.
+     */
+    void abort() throws IOException;
+}
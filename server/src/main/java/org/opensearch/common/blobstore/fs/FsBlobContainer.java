@@ -37,16 +37,20 @@ import org.opensearch.common.blobstore.BlobContainer;
 import org.opensearch.common.blobstore.BlobMetadata;
 import org.opensearch.common.blobstore.BlobPath;
 import org.opensearch.common.blobstore.DeleteResult;
+import org.opensearch.common.blobstore.MultipartBlobWriter;
 import org.opensearch.common.blobstore.support.AbstractBlobContainer;
 import org.opensearch.common.blobstore.support.PlainBlobMetadata;
 import org.opensearch.common.io.Streams;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.core.internal.io.IOUtils;
 
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.channels.SeekableByteChannel;
 import java.nio.file.DirectoryStream;
 import java.nio.file.FileAlreadyExistsException;
@@ -62,6 +66,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicLong;
 
 import static java.util.Collections.unmodifiableMap;
@@ -222,6 +227,78 @@ public class FsBlobContainer extends AbstractBlobContainer {
         }
     }
 
+    @Override
+    public boolean supportsMultipartWrites() {
+        return true;
+    }
+
+    /**
+     * Writes the parts of the blob with positional writes into a temporary blob which is moved atomically to its final name once all
+     * parts are written.
+     */
+    @Override
+    public MultipartBlobWriter multipartWriter(String blobName, long blobSize, long partSize) throws IOException {
+        if (partSize <= 0) {
+            throw new IllegalArgumentException("part size must be greater than zero but was [" + partSize + "]");
+        }
+        final String tempBlob = tempBlobName(blobName);
+        final Path tempBlobPath = path.resolve(tempBlob);
+        Files.newByteChannel(tempBlobPath, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE).close();
+        final long parts = blobSize == 0L ? 1L : (blobSize + partSize - 1) / partSize;
+        final Set<Integer> writtenParts = ConcurrentCollections.newConcurrentSet();
+        return new MultipartBlobWriter() {
+            @Override
+            public void writePart(int partNumber, InputStream inputStream, long size) throws IOException {
+                if (partNumber < 0 || partNumber >= parts) {
+                    throw new IllegalArgumentException("part [" + partNumber + "] is out of bounds for [" + parts + "] parts");
+                }
+                final long start = partNumber * partSize;
+                final long expectedSize = Math.min(partSize, blobSize - start);
+                if (size != expectedSize) {
+                    throw new IllegalArgumentException("part [" + partNumber + "] must have [" + expectedSize + "] bytes but got [" + size
+                        + "]");
+                }
+                final int bufferSize = blobStore.bufferSizeInBytes();
+                final byte[] buffer = new byte[size < bufferSize ? Math.toIntExact(size) : bufferSize];
+                long position = start;
+                try (FileChannel channel = FileChannel.open(tempBlobPath, StandardOpenOption.WRITE)) {
+                    int read;
+                    while (position < start + size && (read = inputStream.read(buffer, 0,
+                        (int) Math.min(buffer.length, start + size - position))) != -1) {
+                        final ByteBuffer byteBuffer = ByteBuffer.wrap(buffer, 0, read);
+                        while (byteBuffer.hasRemaining()) {
+                            position += channel.write(byteBuffer, position);
+                        }
+                    }
+                }
+                if (position != start + size) {
+                    throw new IOException("part [" + partNumber + "] of blob [" + blobName + "] ended after [" + (position - start)
+                        + "] of [" + size + "] bytes");
+                }
+                writtenParts.add(partNumber);
+            }
+
+            @Override
+            public void complete() throws IOException {
+                if (writtenParts.size() != parts) {
+                    throw new IOException("cannot complete blob [" + blobName + "], only [" + writtenParts.size() + "] of [" + parts
+                        + "] parts were written");
+                }
+                try {
+                    IOUtils.fsync(tempBlobPath, false);
+                    moveBlobAtomic(tempBlob, blobName, false);
+                } finally {
+                    IOUtils.fsync(path, true);
+                }
+            }
+
+            @Override
+            public void abort() throws IOException {
+                deleteBlobsIgnoringIfNotExists(Collections.singletonList(tempBlob));
+            }
+        };
+    }
+
     private void writeToPath(InputStream inputStream, Path tempBlobPath, long blobSize) throws IOException {
         try (OutputStream outputStream = Files.newOutputStream(tempBlobPath, StandardOpenOption.CREATE_NEW)) {
             final int bufferSize = blobStore.bufferSizeInBytes();
@@ -34,6 +34,7 @@ package org.opensearch.common.bytes;
 
 import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.BytesRefIterator;
+import org.opensearch.common.io.stream.FilterStreamInput;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.util.concurrent.AbstractRefCounted;
@@ -117,7 +118,7 @@ public final class ReleasableBytesReference implements Releasable, BytesReferenc
 
     @Override
     public StreamInput streamInput() throws IOException {
-        return delegate.streamInput();
+        return new RetainingStreamInput(delegate.streamInput());
     }
 
     @Override
@@ -165,6 +166,49 @@ public final class ReleasableBytesReference implements Releasable, BytesReferenc
         return delegate.hashCode();
     }
 
+    /**
+     * Reads releasable bytes references as retained slices of this reference rather than copying them.
+     */
+    private final class RetainingStreamInput extends FilterStreamInput {
+
+        RetainingStreamInput(StreamInput delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public ReleasableBytesReference readReleasableBytesReference() throws IOException {
+            final int length = readArraySize();
+            if (length == 0) {
+                return wrap(BytesArray.EMPTY);
+            }
+            final int offset = length() - available();
+            final ReleasableBytesReference slice = retainedSlice(offset, length);
+            final long skipped = skip(length);
+            assert skipped == length : skipped + " vs " + length;
+            return slice;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            return delegate.read(b, off, len);
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            return delegate.skip(n);
+        }
+
+        @Override
+        public boolean markSupported() {
+            return delegate.markSupported();
+        }
+
+        @Override
+        public void mark(int readLimit) {
+            delegate.mark(readLimit);
+        }
+    }
+
     private static final class RefCountedReleasable extends AbstractRefCounted {
 
         private final Releasable releasable;
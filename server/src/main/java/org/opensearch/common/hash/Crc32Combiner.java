@@ -0,0 +1,80 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.hash;
+
+/**
+ * Combines the CRC32 checksums of consecutive byte sequences into the checksum of their concatenation, without access to the bytes
+ * themselves. This allows computing the checksum of a file from the checksums of parts that were read concurrently.
+ * Port of zlib's {@code crc32_combine}.
+ */
+public final class Crc32Combiner {
+
+    /** The reversed CRC-32 polynomial as used by {@link java.util.zip.CRC32} */
+    private static final long POLYNOMIAL = 0xedb88320L;
+
+    private Crc32Combiner() {}
+
+    /**
+     * Returns the CRC32 of the concatenation of two byte sequences.
+     *
+     * @param crc1 the CRC32 of the first byte sequence
+     * @param crc2 the CRC32 of the second byte sequence
+     * @param length2 the length of the second byte sequence
+     */
+    public static long combine(long crc1, long crc2, long length2) {
+        if (length2 <= 0) {
+            return crc1;
+        }
+        // operator for one zero bit in odd, the following squarings move it to two and four zero bits
+        final long[] odd = new long[32];
+        final long[] even = new long[32];
+        odd[0] = POLYNOMIAL;
+        long row = 1;
+        for (int n = 1; n < 32; n++) {
+            odd[n] = row;
+            row <<= 1;
+        }
+        square(even, odd);
+        square(odd, even);
+
+        // apply length2 zero bytes to crc1, the first squaring yields the operator for one zero byte
+        do {
+            square(even, odd);
+            if ((length2 & 1) != 0) {
+                crc1 = times(even, crc1);
+            }
+            length2 >>= 1;
+            if (length2 == 0) {
+                break;
+            }
+            square(odd, even);
+            if ((length2 & 1) != 0) {
+                crc1 = times(odd, crc1);
+            }
+            length2 >>= 1;
+        } while (length2 != 0);
+        return crc1 ^ crc2;
+    }
+
+    private static long times(long[] matrix, long vector) {
+        long sum = 0;
+        for (int i = 0; vector != 0; i++, vector >>>= 1) {
+            if ((vector & 1) != 0) {
+                sum ^= matrix[i];
+            }
+        }
+        return sum;
+    }
+
+    private static void square(long[] square, long[] matrix) {
+        for (int n = 0; n < 32; n++) {
+            square[n] = times(matrix, matrix[n]);
+        }
+    }
+}
@@ -262,76 +262,106 @@ public class ScriptScoreQuery extends Query {
 
     }
 
-    private static class ScriptScorable extends Scorable {
-        private final ScoreScript scoreScript;
-        private final Scorable subQueryScorer;
-        private final float boost;
-        private final ExplanationHolder explanation;
-
-        ScriptScorable(ScoreScript scoreScript, Scorable subQueryScorer,
-                ScoreMode subQueryScoreMode, float boost, ExplanationHolder explanation) {
-            this.scoreScript = scoreScript;
-            if (subQueryScoreMode == ScoreMode.COMPLETE) {
-                scoreScript.setScorer(subQueryScorer);
-            }
-            this.subQueryScorer = subQueryScorer;
-            this.boost = boost;
-            this.explanation = explanation;
-        }
-
-        @Override
-        public float score() throws IOException {
-            int docId = docID();
-            scoreScript.setDocument(docId);
-            float score = (float) scoreScript.execute(explanation);
-            if (score < 0f || Float.isNaN(score)) {
-                throw new IllegalArgumentException("script_score script returned an invalid score [" + score + "] " +
-                    "for doc [" + docId + "]. Must be a non-negative score!");
-            }
-            return score * boost;
-        }
-        @Override
-        public int docID() {
-            return subQueryScorer.docID();
-        }
-    }
-
     /**
      * Use the {@link BulkScorer} of the sub-query,
-     * as it may be significantly faster (e.g. BooleanScorer) than iterating over the scorer
+     * as it may be significantly faster (e.g. BooleanScorer) than iterating over the scorer.
+     * Matching documents are buffered and scored by the script a block at a time, see {@link ScoreScript#execute(int[], double[], int)},
+     * before they are passed on to the collector.
      */
     private static class ScriptScoreBulkScorer extends BulkScorer {
+        static final int BLOCK_SIZE = 128;
+
         private final BulkScorer subQueryBulkScorer;
-        private final ScoreMode subQueryScoreMode;
+        private final boolean needsScore;
         private final ScoreScript scoreScript;
         private final float boost;
+        private final int[] docIds = new int[BLOCK_SIZE];
+        private final double[] scores = new double[BLOCK_SIZE];
 
         ScriptScoreBulkScorer(BulkScorer subQueryBulkScorer, ScoreMode subQueryScoreMode, ScoreScript scoreScript, float boost) {
             this.subQueryBulkScorer = subQueryBulkScorer;
-            this.subQueryScoreMode = subQueryScoreMode;
+            this.needsScore = subQueryScoreMode == ScoreMode.COMPLETE;
             this.scoreScript = scoreScript;
             this.boost = boost;
         }
 
         @Override
         public int score(LeafCollector collector, Bits acceptDocs, int min, int max) throws IOException {
-            return subQueryBulkScorer.score(wrapCollector(collector), acceptDocs, min, max);
+            BlockCollector blockCollector = new BlockCollector(collector);
+            int next = subQueryBulkScorer.score(blockCollector, acceptDocs, min, max);
+            blockCollector.flush();
+            return next;
+        }
+
+        @Override
+        public long cost() {
+            return subQueryBulkScorer.cost();
         }
 
-        private LeafCollector wrapCollector(LeafCollector collector) {
-            return new FilterLeafCollector(collector) {
-                @Override
-                public void setScorer(Scorable scorer) throws IOException {
-                    in.setScorer(new ScriptScorable(scoreScript, scorer, subQueryScoreMode, boost, null));
+        private class BlockCollector extends FilterLeafCollector {
+            private final BlockScorable scorable = new BlockScorable();
+            private Scorable subQueryScorer;
+            private int count;
+
+            BlockCollector(LeafCollector in) {
+                super(in);
+            }
+
+            @Override
+            public void setScorer(Scorable scorer) throws IOException {
+                flush();
+                subQueryScorer = scorer;
+                in.setScorer(scorable);
+            }
+
+            @Override
+            public void collect(int doc) throws IOException {
+                docIds[count] = doc;
+                if (needsScore) {
+                    scores[count] = subQueryScorer.score();
+                }
+                if (++count == BLOCK_SIZE) {
+                    flush();
+                }
+            }
+
+            void flush() throws IOException {
+                final int size = count;
+                if (size == 0) {
+                    return;
+                }
+                count = 0;
+                scoreScript.execute(docIds, scores, size);
+                for (int i = 0; i < size; i++) {
+                    float score = (float) scores[i];
+                    if (score < 0f || Float.isNaN(score)) {
+                        throw new IllegalArgumentException("script_score script returned an invalid score [" + score + "] " +
+                            "for doc [" + docIds[i] + "]. Must be a non-negative score!");
+                    }
+                    scorable.docId = docIds[i];
+                    scorable.score = score * boost;
+                    in.collect(docIds[i]);
                 }
-            };
+            }
         }
+    }
+
+    /**
+     * Exposes the precomputed score of the document that is currently passed on to the collector.
+     */
+    private static class BlockScorable extends Scorable {
+        private int docId = -1;
+        private float score;
 
         @Override
-        public long cost() {
-            return subQueryBulkScorer.cost();
+        public float score() {
+            return score;
         }
 
+        @Override
+        public int docID() {
+            return docId;
+        }
     }
 
 }
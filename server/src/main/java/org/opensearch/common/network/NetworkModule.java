@@ -32,6 +32,7 @@
 
 package org.opensearch.common.network;
 
+import org.opensearch.action.search.AsyncSearchTask;
 import org.opensearch.action.support.replication.ReplicationTask;
 import org.opensearch.cluster.routing.allocation.command.AllocateEmptyPrimaryAllocationCommand;
 import org.opensearch.cluster.routing.allocation.command.AllocateReplicaAllocationCommand;
@@ -111,6 +112,8 @@ public final class NetworkModule {
             new NamedWriteableRegistry.Entry(Task.Status.class, RawTaskStatus.NAME, RawTaskStatus::new));
         namedWriteables.add(
             new NamedWriteableRegistry.Entry(Task.Status.class, ResyncTask.Status.NAME, ResyncTask.Status::new));
+        namedWriteables.add(
+            new NamedWriteableRegistry.Entry(Task.Status.class, AsyncSearchTask.Status.NAME, AsyncSearchTask.Status::new));
     }
 
     private final Map<String, Supplier<Transport>> transportFactories = new HashMap<>();
@@ -55,6 +55,7 @@ import org.opensearch.index.mapper.MapperService;
 import org.opensearch.index.similarity.SimilarityService;
 import org.opensearch.index.store.FsDirectoryFactory;
 import org.opensearch.index.store.Store;
+import org.opensearch.index.store.remote.RemoteSnapshotDirectoryFactory;
 import org.opensearch.indices.IndicesRequestCache;
 
 import java.util.Arrays;
@@ -126,6 +127,7 @@ public final class IndexScopedSettings extends AbstractScopedSettings {
         IndexSortConfig.INDEX_SORT_MODE_SETTING,
         IndexSettings.INDEX_TRANSLOG_DURABILITY_SETTING,
         IndexSettings.INDEX_WARMER_ENABLED_SETTING,
+        IndexSettings.INDEX_WARMER_BACKGROUND_GLOBAL_ORDINALS_SETTING,
         IndexSettings.INDEX_REFRESH_INTERVAL_SETTING,
         IndexSettings.MAX_RESULT_WINDOW_SETTING,
         IndexSettings.MAX_INNER_RESULT_WINDOW_SETTING,
@@ -178,6 +180,10 @@ public final class IndexScopedSettings extends AbstractScopedSettings {
         IndexModule.INDEX_RECOVERY_TYPE_SETTING,
         IndexModule.INDEX_QUERY_CACHE_ENABLED_SETTING,
         FsDirectoryFactory.INDEX_LOCK_FACTOR_SETTING,
+        RemoteSnapshotDirectoryFactory.SEARCHABLE_SNAPSHOT_REPOSITORY,
+        RemoteSnapshotDirectoryFactory.SEARCHABLE_SNAPSHOT_ID_UUID,
+        RemoteSnapshotDirectoryFactory.SEARCHABLE_SNAPSHOT_ID_NAME,
+        RemoteSnapshotDirectoryFactory.SEARCHABLE_SNAPSHOT_INDEX_ID,
         Store.FORCE_RAM_TERM_DICT,
         EngineConfig.INDEX_CODEC_SETTING,
         EngineConfig.INDEX_OPTIMIZE_AUTO_GENERATED_IDS,
@@ -137,6 +137,21 @@ public class OpenSearchExecutors {
             queue, threadFactory, new OpenSearchAbortPolicy(), contextHolder);
     }
 
+    /**
+     * Return a new executor that runs each task on a new thread of the given factory, with at most {@code size} tasks running at the same
+     * time and the others waiting in a queue of the given capacity, see {@link OpenSearchThreadPerTaskExecutor}.
+     */
+    public static OpenSearchThreadPoolExecutor newThreadPerTask(String name, int size, int queueCapacity, ThreadFactory threadFactory,
+                                                                ThreadContext contextHolder) {
+        BlockingQueue<Runnable> queue;
+        if (queueCapacity < 0) {
+            queue = ConcurrentCollections.newBlockingQueue();
+        } else {
+            queue = new SizeBlockingQueue<>(ConcurrentCollections.<Runnable>newBlockingQueue(), queueCapacity);
+        }
+        return new OpenSearchThreadPerTaskExecutor(name, size, queue, threadFactory, contextHolder);
+    }
+
     /**
      * Return a new executor that will automatically adjust the queue size based on queue throughput.
      *
@@ -280,6 +295,62 @@ public class OpenSearchExecutors {
         return new OpenSearchThreadFactory(namePrefix);
     }
 
+    private static final ThreadFactory VIRTUAL_THREAD_FACTORY = lookupVirtualThreadFactory();
+
+    /**
+     * Looks up {@code Thread.ofVirtual().factory()}, which only exists on Java 21 and later. Returns {@code null} if the JVM has no virtual
+     * threads, or only has them as a disabled preview feature.
+     */
+    private static ThreadFactory lookupVirtualThreadFactory() {
+        try {
+            final Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            return (ThreadFactory) Class.forName("java.lang.Thread$Builder").getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Whether this JVM supports virtual threads, see {@link #virtualThreadFactory(String)}.
+     */
+    public static boolean virtualThreadsSupported() {
+        return VIRTUAL_THREAD_FACTORY != null;
+    }
+
+    /**
+     * Returns a factory of virtual threads, for use with {@link #newThreadPerTask}. Tasks that block on such threads don't hold on to a
+     * platform thread while blocked.
+     *
+     * @throws UnsupportedOperationException if this JVM does not support virtual threads
+     */
+    public static ThreadFactory virtualThreadFactory(String namePrefix) {
+        if (VIRTUAL_THREAD_FACTORY == null) {
+            throw new UnsupportedOperationException("virtual threads require Java 21 or later");
+        }
+        return new VirtualThreadFactory(namePrefix, VIRTUAL_THREAD_FACTORY);
+    }
+
+    static class VirtualThreadFactory implements ThreadFactory {
+
+        final AtomicInteger threadNumber = new AtomicInteger(1);
+        final String namePrefix;
+        final ThreadFactory delegate;
+
+        VirtualThreadFactory(String namePrefix, ThreadFactory delegate) {
+            this.namePrefix = namePrefix;
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Thread newThread(Runnable r) {
+            // virtual threads are always daemon threads
+            Thread t = delegate.newThread(r);
+            t.setName(namePrefix + "[V#" + threadNumber.getAndIncrement() + "]");
+            return t;
+        }
+
+    }
+
     static class OpenSearchThreadFactory implements ThreadFactory {
 
         final ThreadGroup group;
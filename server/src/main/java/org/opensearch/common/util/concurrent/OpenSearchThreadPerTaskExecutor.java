@@ -0,0 +1,216 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.util.concurrent;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * An executor that starts a new thread for every task, while a semaphore limits how many tasks run at the same time. Tasks that are
+ * submitted while all permits are taken wait in the queue and are rejected once it is full, the same way as for a fixed
+ * {@link OpenSearchThreadPoolExecutor}. It is meant to run on virtual threads: a task that blocks then does not hold on to a platform
+ * thread, and no thread is kept around while the executor is idle, so the limit can be set well above the number of processors.
+ * <p>
+ * This reuses the queue, the rejection handling and the stats of {@link OpenSearchThreadPoolExecutor}, but never starts any of the
+ * workers of the underlying {@link java.util.concurrent.ThreadPoolExecutor}.
+ */
+public final class OpenSearchThreadPerTaskExecutor extends OpenSearchThreadPoolExecutor {
+
+    private final int maxConcurrentTasks;
+    private final Semaphore permits;
+    private final Set<Thread> runningThreads = ConcurrentCollections.newConcurrentSet();
+    private final AtomicInteger running = new AtomicInteger();
+    private final AtomicInteger largest = new AtomicInteger();
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicInteger submitting = new AtomicInteger();
+    private final CountDownLatch terminated = new CountDownLatch(1);
+    private volatile boolean shutdown;
+
+    OpenSearchThreadPerTaskExecutor(String name, int maxConcurrentTasks, BlockingQueue<Runnable> workQueue, ThreadFactory threadFactory,
+                                    ThreadContext contextHolder) {
+        super(name, maxConcurrentTasks, maxConcurrentTasks, 0, TimeUnit.MILLISECONDS, workQueue, threadFactory, new OpenSearchAbortPolicy(),
+            contextHolder);
+        this.maxConcurrentTasks = maxConcurrentTasks;
+        this.permits = new Semaphore(maxConcurrentTasks);
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        command = wrapRunnable(command);
+        try {
+            doExecute(command);
+        } catch (OpenSearchRejectedExecutionException ex) {
+            if (command instanceof AbstractRunnable) {
+                // If we are an abstract runnable we can handle the rejection
+                // directly and don't need to rethrow it.
+                try {
+                    ((AbstractRunnable) command).onRejection(ex);
+                } finally {
+                    ((AbstractRunnable) command).onAfter();
+                }
+            } else {
+                throw ex;
+            }
+        }
+    }
+
+    private void doExecute(Runnable command) {
+        // counted before checking for shutdown, so that termination waits for a submission that did not see the shutdown yet
+        submitting.incrementAndGet();
+        try {
+            if (shutdown) {
+                // rejects the task, unless it must be executed in which case the rejection handler queues it
+                getRejectedExecutionHandler().rejectedExecution(command, this);
+            } else if (permits.tryAcquire()) {
+                start(command);
+                return;
+            } else if (getQueue().offer(command) == false) {
+                getRejectedExecutionHandler().rejectedExecution(command, this);
+            }
+        } finally {
+            submitting.decrementAndGet();
+            tryTerminate();
+        }
+        // a permit may have been released after the attempt to acquire one but before the task was queued
+        startQueuedTasks();
+    }
+
+    private void startQueuedTasks() {
+        while (getQueue().isEmpty() == false && permits.tryAcquire()) {
+            final Runnable next = getQueue().poll();
+            if (next == null) {
+                permits.release();
+            } else {
+                start(next);
+            }
+        }
+        tryTerminate();
+    }
+
+    /**
+     * Runs the given task on a new thread, the caller must hold a permit which is released once the task completed.
+     */
+    private void start(Runnable command) {
+        largest.accumulateAndGet(running.incrementAndGet(), Math::max);
+        boolean started = false;
+        try {
+            getThreadFactory().newThread(() -> run(command)).start();
+            started = true;
+        } finally {
+            if (started == false) {
+                running.decrementAndGet();
+                permits.release();
+            }
+        }
+    }
+
+    private void run(Runnable command) {
+        final Thread thread = Thread.currentThread();
+        runningThreads.add(thread);
+        Throwable failure = null;
+        try {
+            beforeExecute(thread, command);
+            command.run();
+        } catch (RuntimeException | Error e) {
+            failure = e;
+            throw e;
+        } finally {
+            try {
+                afterExecute(command, failure);
+            } finally {
+                runningThreads.remove(thread);
+                completed.incrementAndGet();
+                onCompletion();
+            }
+        }
+    }
+
+    private void onCompletion() {
+        running.decrementAndGet();
+        permits.release();
+        startQueuedTasks();
+    }
+
+    private void tryTerminate() {
+        // a permit is taken before a queued task is polled, so no task can be in between the queue and running here, and a submission
+        // that is in flight calls this again once its task is either running, queued or rejected
+        if (shutdown && submitting.get() == 0 && getQueue().isEmpty() && permits.availablePermits() == maxConcurrentTasks) {
+            terminated.countDown();
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        shutdown = true;
+        super.shutdown();
+        tryTerminate();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        shutdown = true;
+        final List<Runnable> queued = super.shutdownNow();
+        runningThreads.forEach(Thread::interrupt);
+        tryTerminate();
+        return queued;
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    @Override
+    public boolean isTerminating() {
+        return shutdown && isTerminated() == false;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return terminated.getCount() == 0;
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return terminated.await(timeout, unit);
+    }
+
+    @Override
+    public int getPoolSize() {
+        return running.get();
+    }
+
+    @Override
+    public int getActiveCount() {
+        return running.get();
+    }
+
+    @Override
+    public int getLargestPoolSize() {
+        return largest.get();
+    }
+
+    @Override
+    public long getCompletedTaskCount() {
+        return completed.get();
+    }
+
+    @Override
+    protected void appendThreadPoolExecutorDetails(StringBuilder sb) {
+        sb.append("max concurrent tasks = ").append(maxConcurrentTasks).append(", ");
+        sb.append("running tasks = ").append(running.get()).append(", ");
+    }
+}
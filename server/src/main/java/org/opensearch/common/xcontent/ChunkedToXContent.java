@@ -0,0 +1,36 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.xcontent;
+
+import java.io.IOException;
+import java.util.Iterator;
+
+/**
+ * Objects whose x-content can be rendered in several fragments, one after the other, so that the rendered bytes of large objects do
+ * not need to be held in memory all at once. The fragments on their own are not necessarily well-formed, only their concatenation is.
+ */
+public interface ChunkedToXContent {
+
+    /**
+     * Returns the fragments of the x-content of this object, in the order in which they must be rendered.
+     */
+    Iterator<? extends ToXContent> toXContentChunked(ToXContent.Params params);
+
+    /**
+     * Renders all fragments of the given object into the given builder.
+     */
+    static XContentBuilder toXContent(ChunkedToXContent chunkedToXContent, XContentBuilder builder,
+                                      ToXContent.Params params) throws IOException {
+        final Iterator<? extends ToXContent> fragments = chunkedToXContent.toXContentChunked(params);
+        while (fragments.hasNext()) {
+            fragments.next().toXContent(builder, params);
+        }
+        return builder;
+    }
+}
@@ -71,6 +71,7 @@ import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.DoubleSupplier;
 
 import static org.opensearch.http.HttpTransportSettings.SETTING_HTTP_BIND_HOST;
 import static org.opensearch.http.HttpTransportSettings.SETTING_HTTP_MAX_CONTENT_LENGTH;
@@ -102,6 +103,7 @@ public abstract class AbstractHttpServerTransport extends AbstractLifecycleCompo
     private final Set<HttpServerChannel> httpServerChannels = Collections.newSetFromMap(new ConcurrentHashMap<>());
 
     private final HttpTracer tracer;
+    private final HttpReadBackpressure readBackpressure;
 
     protected AbstractHttpServerTransport(Settings settings, NetworkService networkService, BigArrays bigArrays, ThreadPool threadPool,
                                           NamedXContentRegistry xContentRegistry, Dispatcher dispatcher, ClusterSettings clusterSettings) {
@@ -127,6 +129,7 @@ public abstract class AbstractHttpServerTransport extends AbstractLifecycleCompo
 
         this.maxContentLength = SETTING_HTTP_MAX_CONTENT_LENGTH.get(settings);
         this.tracer = new HttpTracer(settings, clusterSettings);
+        this.readBackpressure = new HttpReadBackpressure(settings, threadPool);
     }
 
     @Override
@@ -145,7 +148,13 @@ public abstract class AbstractHttpServerTransport extends AbstractLifecycleCompo
 
     @Override
     public HttpStats stats() {
-        return new HttpStats(httpChannels.size(), totalChannelsAccepted.get());
+        return new HttpStats(httpChannels.size(), totalChannelsAccepted.get(), readBackpressure.getCurrentPaused(),
+            readBackpressure.getTotalPauses(), readBackpressure.getTotalPausedTimeInMillis());
+    }
+
+    @Override
+    public void addReadPressureSource(DoubleSupplier utilization) {
+        readBackpressure.addSource(utilization);
     }
 
     protected void bindServer() {
@@ -319,6 +328,7 @@ public abstract class AbstractHttpServerTransport extends AbstractLifecycleCompo
      * @param httpChannel that received the http request
      */
     public void incomingRequest(final HttpRequest httpRequest, final HttpChannel httpChannel) {
+        readBackpressure.maybePause(httpChannel);
         handleIncomingRequest(httpRequest, httpChannel, httpRequest.getInboundException());
     }
 
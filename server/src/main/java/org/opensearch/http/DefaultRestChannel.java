@@ -44,11 +44,14 @@ import org.opensearch.common.network.CloseableChannel;
 import org.opensearch.common.util.BigArrays;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.rest.AbstractRestChannel;
+import org.opensearch.rest.ChunkedRestResponseBody;
 import org.opensearch.rest.RestChannel;
 import org.opensearch.rest.RestRequest;
 import org.opensearch.rest.RestResponse;
 import org.opensearch.rest.RestStatus;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -110,23 +113,22 @@ public class DefaultRestChannel extends AbstractRestChannel implements RestChann
         String opaque = null;
         String contentLength = null;
         try {
-            final BytesReference content = restResponse.content();
-            if (content instanceof Releasable) {
-                toClose.add((Releasable) content);
-            }
-
-            BytesReference finalContent = content;
-            try {
-                if (request.method() == RestRequest.Method.HEAD) {
-                    finalContent = BytesArray.EMPTY;
+            final HttpResponse httpResponse;
+            final BytesReference content;
+            final ChunkedRestResponseBody chunkedContent = restResponse.chunkedContent();
+            if (chunkedContent != null && isHeadRequest(restResponse) == false) {
+                // the content is rendered while it is sent, so its length is not known up front
+                content = null;
+                httpResponse = httpRequest.createResponse(restResponse.status(), chunkedContent);
+            } else {
+                content = restResponse.content();
+                if (content instanceof Releasable) {
+                    toClose.add((Releasable) content);
                 }
-            } catch (IllegalArgumentException ignored) {
-                assert restResponse.status() == RestStatus.METHOD_NOT_ALLOWED :
-                    "request HTTP method is unsupported but HTTP status is not METHOD_NOT_ALLOWED(405)";
+                final BytesReference finalContent = isHeadRequest(restResponse) ? BytesArray.EMPTY : content;
+                httpResponse = httpRequest.createResponse(restResponse.status(), finalContent);
             }
 
-            final HttpResponse httpResponse = httpRequest.createResponse(restResponse.status(), finalContent);
-
             corsHandler.setCorsResponseHeaders(httpRequest, httpResponse);
 
             opaque = request.header(X_OPAQUE_ID);
@@ -140,9 +142,11 @@ public class DefaultRestChannel extends AbstractRestChannel implements RestChann
 
             // If our response doesn't specify a content-type header, set one
             setHeaderField(httpResponse, CONTENT_TYPE, restResponse.contentType(), false);
-            // If our response has no content-length, calculate and set one
-            contentLength = String.valueOf(restResponse.content().length());
-            setHeaderField(httpResponse, CONTENT_LENGTH, contentLength, false);
+            if (content != null) {
+                // If our response has no content-length, calculate and set one
+                contentLength = String.valueOf(content.length());
+                setHeaderField(httpResponse, CONTENT_LENGTH, contentLength, false);
+            }
 
             addCookies(httpResponse);
 
@@ -154,6 +158,8 @@ public class DefaultRestChannel extends AbstractRestChannel implements RestChann
             ActionListener<Void> listener = ActionListener.wrap(() -> Releasables.close(toClose));
             httpChannel.sendResponse(httpResponse, listener);
             success = true;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         } finally {
             if (success == false) {
                 Releasables.close(toClose);
@@ -164,6 +170,16 @@ public class DefaultRestChannel extends AbstractRestChannel implements RestChann
         }
     }
 
+    private boolean isHeadRequest(RestResponse restResponse) {
+        try {
+            return request.method() == RestRequest.Method.HEAD;
+        } catch (IllegalArgumentException ignored) {
+            assert restResponse.status() == RestStatus.METHOD_NOT_ALLOWED :
+                "request HTTP method is unsupported but HTTP status is not METHOD_NOT_ALLOWED(405)";
+            return false;
+        }
+    }
+
     private void setHeaderField(HttpResponse response, String headerField, String value) {
         setHeaderField(response, headerField, value, true);
     }
@@ -62,4 +62,17 @@ public interface HttpChannel extends CloseableChannel {
      */
     InetSocketAddress getRemoteAddress();
 
+    /**
+     * Stops reading further requests from this channel until {@link #resumeReads()} is called, leaving unread data in the socket
+     * buffers so that flow control pushes back on the client. Channels that cannot suspend reads ignore this call.
+     */
+    default void suspendReads() {
+    }
+
+    /**
+     * Resumes reading requests from this channel after a call to {@link #suspendReads()}.
+     */
+    default void resumeReads() {
+    }
+
 }
@@ -0,0 +1,142 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.http;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.SizeBlockingQueue;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.DoubleSupplier;
+
+import static org.opensearch.http.HttpTransportSettings.SETTING_HTTP_READ_BACKPRESSURE_CHECK_INTERVAL;
+import static org.opensearch.http.HttpTransportSettings.SETTING_HTTP_READ_BACKPRESSURE_ENABLED;
+import static org.opensearch.http.HttpTransportSettings.SETTING_HTTP_READ_BACKPRESSURE_THRESHOLD;
+
+/**
+ * Suspends reads on http channels while any of the registered load sources is above the configured threshold, so that requests which
+ * would only be rejected once they reach a full thread pool queue stay in the client's socket instead of on our heap. Each paused channel
+ * polls until the node has capacity again and then resumes independently of the others.
+ */
+final class HttpReadBackpressure {
+
+    private static final Logger logger = LogManager.getLogger(HttpReadBackpressure.class);
+
+    private final ThreadPool threadPool;
+    private final boolean enabled;
+    private final double threshold;
+    private final TimeValue checkInterval;
+    private final List<DoubleSupplier> sources = new CopyOnWriteArrayList<>();
+    private final Map<HttpChannel, Long> pausedSinceMillis = new ConcurrentHashMap<>();
+    private final AtomicLong totalPauses = new AtomicLong();
+    private final AtomicLong completedPausedMillis = new AtomicLong();
+
+    HttpReadBackpressure(Settings settings, ThreadPool threadPool) {
+        this.threadPool = threadPool;
+        this.enabled = SETTING_HTTP_READ_BACKPRESSURE_ENABLED.get(settings);
+        this.threshold = SETTING_HTTP_READ_BACKPRESSURE_THRESHOLD.get(settings);
+        this.checkInterval = SETTING_HTTP_READ_BACKPRESSURE_CHECK_INTERVAL.get(settings);
+        if (enabled) {
+            addSource(queueUtilization(threadPool, ThreadPool.Names.WRITE));
+            addSource(queueUtilization(threadPool, ThreadPool.Names.SEARCH));
+        }
+    }
+
+    void addSource(DoubleSupplier utilization) {
+        sources.add(utilization);
+    }
+
+    boolean isSaturated() {
+        for (DoubleSupplier source : sources) {
+            if (source.getAsDouble() >= threshold) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Suspends reads on the given channel if the node is currently saturated. Called for every incoming request, so that a client that
+     * keeps sending while we are busy is paused after its next request rather than having all of its pipelined requests buffered.
+     */
+    void maybePause(HttpChannel channel) {
+        if (enabled == false || isSaturated() == false) {
+            return;
+        }
+        if (pausedSinceMillis.putIfAbsent(channel, threadPool.relativeTimeInMillis()) == null) {
+            totalPauses.incrementAndGet();
+            logger.trace(() -> new ParameterizedMessage("suspending reads on http channel [{}]", channel));
+            channel.suspendReads();
+            scheduleResumeCheck(channel);
+        }
+    }
+
+    private void scheduleResumeCheck(HttpChannel channel) {
+        threadPool.scheduleUnlessShuttingDown(checkInterval, ThreadPool.Names.SAME, () -> {
+            if (channel.isOpen() && isSaturated()) {
+                scheduleResumeCheck(channel);
+            } else {
+                resume(channel);
+            }
+        });
+    }
+
+    private void resume(HttpChannel channel) {
+        final Long pausedSince = pausedSinceMillis.remove(channel);
+        if (pausedSince != null) {
+            completedPausedMillis.addAndGet(threadPool.relativeTimeInMillis() - pausedSince);
+            logger.trace(() -> new ParameterizedMessage("resuming reads on http channel [{}]", channel));
+            channel.resumeReads();
+        }
+    }
+
+    long getCurrentPaused() {
+        return pausedSinceMillis.size();
+    }
+
+    long getTotalPauses() {
+        return totalPauses.get();
+    }
+
+    /**
+     * Total time that channels spent with reads suspended, including the time so far of channels that are still paused.
+     */
+    long getTotalPausedTimeInMillis() {
+        final long now = threadPool.relativeTimeInMillis();
+        long pausedMillis = completedPausedMillis.get();
+        for (Long pausedSince : pausedSinceMillis.values()) {
+            pausedMillis += Math.max(0L, now - pausedSince);
+        }
+        return pausedMillis;
+    }
+
+    static DoubleSupplier queueUtilization(ThreadPool threadPool, String name) {
+        final ExecutorService executor = threadPool.executor(name);
+        if (executor instanceof ThreadPoolExecutor) {
+            final BlockingQueue<Runnable> queue = ((ThreadPoolExecutor) executor).getQueue();
+            if (queue instanceof SizeBlockingQueue) {
+                final SizeBlockingQueue<Runnable> sizeBlockingQueue = (SizeBlockingQueue<Runnable>) queue;
+                return () -> (double) sizeBlockingQueue.size() / Math.max(1, sizeBlockingQueue.capacity());
+            }
+        }
+        // unbounded queues never reject, so they do not warrant pausing reads either
+        return () -> 0.0;
+    }
+}
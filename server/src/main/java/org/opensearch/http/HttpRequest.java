@@ -34,9 +34,11 @@ package org.opensearch.http;
 
 import org.opensearch.common.Nullable;
 import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.rest.ChunkedRestResponseBody;
 import org.opensearch.rest.RestRequest;
 import org.opensearch.rest.RestStatus;
 
+import java.io.IOException;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -99,6 +101,14 @@ public interface HttpRequest {
      */
     HttpResponse createResponse(RestStatus status, BytesReference content);
 
+    /**
+     * Create an http response from this request and the supplied status and content that is sent in chunks. Implementations that
+     * cannot send responses in chunks render the whole content up front.
+     */
+    default HttpResponse createResponse(RestStatus status, ChunkedRestResponseBody content) throws IOException {
+        return createResponse(status, ChunkedRestResponseBody.encodeFully(content));
+    }
+
     @Nullable
     Exception getInboundException();
 
@@ -39,6 +39,8 @@ import org.opensearch.node.ReportingService;
 import org.opensearch.rest.RestChannel;
 import org.opensearch.rest.RestRequest;
 
+import java.util.function.DoubleSupplier;
+
 public interface HttpServerTransport extends LifecycleComponent, ReportingService<HttpInfo> {
 
     String HTTP_SERVER_WORKER_THREAD_NAME_PREFIX = "http_server_worker";
@@ -50,6 +52,13 @@ public interface HttpServerTransport extends LifecycleComponent, ReportingServic
 
     HttpStats stats();
 
+    /**
+     * Registers a source of load, reported as the fraction of its capacity that is in use, which is consulted to decide whether
+     * channels should stop reading new requests while the node is saturated. Transports that do not apply read backpressure ignore it.
+     */
+    default void addReadPressureSource(DoubleSupplier utilization) {
+    }
+
     /**
      * Dispatches HTTP requests.
      */
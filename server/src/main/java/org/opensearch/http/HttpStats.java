@@ -32,9 +32,11 @@
 
 package org.opensearch.http;
 
+import org.opensearch.Version;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.io.stream.Writeable;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.xcontent.ToXContentFragment;
 import org.opensearch.common.xcontent.XContentBuilder;
 
@@ -44,21 +46,45 @@ public class HttpStats implements Writeable, ToXContentFragment {
 
     private final long serverOpen;
     private final long totalOpen;
+    private final long currentReadPaused;
+    private final long totalReadPauses;
+    private final long totalReadPausedTimeInMillis;
 
     public HttpStats(long serverOpen, long totalOpened) {
+        this(serverOpen, totalOpened, 0L, 0L, 0L);
+    }
+
+    public HttpStats(long serverOpen, long totalOpened, long currentReadPaused, long totalReadPauses, long totalReadPausedTimeInMillis) {
         this.serverOpen = serverOpen;
         this.totalOpen = totalOpened;
+        this.currentReadPaused = currentReadPaused;
+        this.totalReadPauses = totalReadPauses;
+        this.totalReadPausedTimeInMillis = totalReadPausedTimeInMillis;
     }
 
     public HttpStats(StreamInput in) throws IOException {
         serverOpen = in.readVLong();
         totalOpen = in.readVLong();
+        if (in.getVersion().onOrAfter(Version.V_1_1_0)) {
+            currentReadPaused = in.readVLong();
+            totalReadPauses = in.readVLong();
+            totalReadPausedTimeInMillis = in.readVLong();
+        } else {
+            currentReadPaused = 0L;
+            totalReadPauses = 0L;
+            totalReadPausedTimeInMillis = 0L;
+        }
     }
 
     @Override
     public void writeTo(StreamOutput out) throws IOException {
         out.writeVLong(serverOpen);
         out.writeVLong(totalOpen);
+        if (out.getVersion().onOrAfter(Version.V_1_1_0)) {
+            out.writeVLong(currentReadPaused);
+            out.writeVLong(totalReadPauses);
+            out.writeVLong(totalReadPausedTimeInMillis);
+        }
     }
 
     public long getServerOpen() {
@@ -69,10 +95,30 @@ public class HttpStats implements Writeable, ToXContentFragment {
         return this.totalOpen;
     }
 
+    /**
+     * Number of channels whose reads are currently suspended because the node is saturated.
+     */
+    public long getCurrentReadPaused() {
+        return this.currentReadPaused;
+    }
+
+    public long getTotalReadPauses() {
+        return this.totalReadPauses;
+    }
+
+    public long getTotalReadPausedTimeInMillis() {
+        return this.totalReadPausedTimeInMillis;
+    }
+
     static final class Fields {
         static final String HTTP = "http";
         static final String CURRENT_OPEN = "current_open";
         static final String TOTAL_OPENED = "total_opened";
+        static final String READ_BACKPRESSURE = "read_backpressure";
+        static final String CURRENT_PAUSED = "current_paused";
+        static final String TOTAL_PAUSES = "total_pauses";
+        static final String TOTAL_PAUSED_TIME = "total_paused_time";
+        static final String TOTAL_PAUSED_TIME_IN_MILLIS = "total_paused_time_in_millis";
     }
 
     @Override
@@ -80,6 +126,12 @@ public class HttpStats implements Writeable, ToXContentFragment {
         builder.startObject(Fields.HTTP);
         builder.field(Fields.CURRENT_OPEN, serverOpen);
         builder.field(Fields.TOTAL_OPENED, totalOpen);
+        builder.startObject(Fields.READ_BACKPRESSURE);
+        builder.field(Fields.CURRENT_PAUSED, currentReadPaused);
+        builder.field(Fields.TOTAL_PAUSES, totalReadPauses);
+        builder.humanReadableField(Fields.TOTAL_PAUSED_TIME_IN_MILLIS, Fields.TOTAL_PAUSED_TIME,
+            new TimeValue(totalReadPausedTimeInMillis));
+        builder.endObject();
         builder.endObject();
         return builder;
     }
@@ -120,6 +120,15 @@ public final class HttpTransportSettings {
     public static final Setting<TimeValue> SETTING_HTTP_READ_TIMEOUT =
         Setting.timeSetting("http.read_timeout", new TimeValue(0), new TimeValue(0), Property.NodeScope);
 
+    // Stop reading from http channels while the node is saturated instead of buffering requests that are then rejected
+    public static final Setting<Boolean> SETTING_HTTP_READ_BACKPRESSURE_ENABLED =
+        Setting.boolSetting("http.read_backpressure.enabled", false, Property.NodeScope);
+    public static final Setting<Double> SETTING_HTTP_READ_BACKPRESSURE_THRESHOLD =
+        Setting.doubleSetting("http.read_backpressure.threshold", 0.9, 0.0, 1.0, Property.NodeScope);
+    public static final Setting<TimeValue> SETTING_HTTP_READ_BACKPRESSURE_CHECK_INTERVAL =
+        Setting.timeSetting("http.read_backpressure.check_interval", TimeValue.timeValueMillis(100), TimeValue.timeValueMillis(1),
+            Property.NodeScope);
+
     // Tcp socket settings
 
     public static final Setting<Boolean> OLD_SETTING_HTTP_TCP_NO_DELAY =
@@ -45,6 +45,7 @@ import org.opensearch.index.shard.IndexShard;
 import org.opensearch.index.shard.IndexShardState;
 import org.opensearch.threadpool.ThreadPool;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -53,6 +54,7 @@ import java.util.Map;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public final class IndexWarmer {
 
@@ -139,6 +141,13 @@ public final class IndexWarmer {
                 }
                 warmUpGlobalOrdinals.put(indexName, fieldType);
             }
+            // when building in the background the refresh doesn't wait for the build, searches on the new reader will wait for
+            // the build in flight instead since they load the same cache entry
+            final boolean background = indexShard.indexSettings().isBackgroundGlobalOrdinals();
+            if (background && (warmUpGlobalOrdinals.isEmpty() || reader.tryIncRef() == false)) {
+                return TerminationHandle.NO_WAIT;
+            }
+            final AtomicInteger pending = new AtomicInteger(warmUpGlobalOrdinals.size());
             final CountDownLatch latch = new CountDownLatch(warmUpGlobalOrdinals.size());
             for (final MappedFieldType fieldType : warmUpGlobalOrdinals.values()) {
                 executor.execute(() -> {
@@ -167,10 +176,17 @@ public final class IndexWarmer {
                             .warn(() -> new ParameterizedMessage("failed to warm-up global ordinals for [{}]", fieldType.name()), e);
                     } finally {
                         latch.countDown();
+                        if (background && pending.decrementAndGet() == 0) {
+                            try {
+                                reader.decRef();
+                            } catch (IOException e) {
+                                indexShard.warmerService().logger().warn("failed to release reader after warming global ordinals", e);
+                            }
+                        }
                     }
                 });
             }
-            return () -> latch.await();
+            return background ? TerminationHandle.NO_WAIT : () -> latch.await();
         }
     }
 
@@ -173,6 +173,15 @@ public class IndexingPressure {
         return currentReplicaBytes.get();
     }
 
+    /**
+     * Returns the fraction of the coordinating and primary limit that is in use, counting replica bytes in the same way as the check
+     * that rejects new coordinating and primary operations.
+     */
+    public double getCoordinatingAndPrimaryUtilization() {
+        final long totalBytes = currentCombinedCoordinatingAndPrimaryBytes.get() + currentReplicaBytes.get();
+        return primaryAndCoordinatingLimits > 0 ? (double) totalBytes / primaryAndCoordinatingLimits : 0.0;
+    }
+
     public IndexingPressureStats stats() {
         return new IndexingPressureStats(totalCombinedCoordinatingAndPrimaryBytes.get(), totalCoordinatingBytes.get(),
             totalPrimaryBytes.get(), totalReplicaBytes.get(), currentCombinedCoordinatingAndPrimaryBytes.get(),
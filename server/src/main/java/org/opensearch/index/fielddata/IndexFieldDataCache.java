@@ -68,6 +68,13 @@ public interface IndexFieldDataCache {
          * Called after the fielddata is unloaded
          */
         default void onRemoval(ShardId shardId, String fieldName, boolean wasEvicted, long sizeInBytes){}
+
+        /**
+         * Called after the given fielddata is unloaded
+         */
+        default void onRemoval(ShardId shardId, String fieldName, boolean wasEvicted, Accountable ramUsage) {
+            onRemoval(shardId, fieldName, wasEvicted, ramUsage.ramBytesUsed());
+        }
     }
 
     class None implements IndexFieldDataCache {
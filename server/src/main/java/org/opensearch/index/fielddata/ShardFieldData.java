@@ -39,16 +39,21 @@ import org.opensearch.common.metrics.CounterMetric;
 import org.opensearch.common.regex.Regex;
 import org.opensearch.common.util.CollectionUtils;
 import org.opensearch.common.util.concurrent.ConcurrentCollections;
+import org.opensearch.index.fielddata.ordinals.GlobalOrdinalsIndexFieldData;
 import org.opensearch.index.shard.ShardId;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
 
 public class ShardFieldData implements IndexFieldDataCache.Listener {
 
     private final CounterMetric evictionsMetric = new CounterMetric();
     private final CounterMetric totalMetric = new CounterMetric();
     private final ConcurrentMap<String, CounterMetric> perFieldTotals = ConcurrentCollections.newConcurrentMap();
+    private final CounterMetric globalOrdinalsBuildsMetric = new CounterMetric();
+    private final CounterMetric globalOrdinalsBuildTimeMetric = new CounterMetric();
+    private final CounterMetric globalOrdinalsMemoryMetric = new CounterMetric();
 
     public FieldDataStats stats(String... fields) {
         ObjectLongHashMap<String> fieldTotals = null;
@@ -61,12 +66,18 @@ public class ShardFieldData implements IndexFieldDataCache.Listener {
             }
         }
         return new FieldDataStats(totalMetric.count(), evictionsMetric.count(), fieldTotals == null ? null :
-            new FieldMemoryStats(fieldTotals));
+            new FieldMemoryStats(fieldTotals), globalOrdinalsBuildsMetric.count(),
+            TimeUnit.NANOSECONDS.toMillis(globalOrdinalsBuildTimeMetric.count()), globalOrdinalsMemoryMetric.count());
     }
 
     @Override
     public void onCache(ShardId shardId, String fieldName, Accountable ramUsage) {
         totalMetric.inc(ramUsage.ramBytesUsed());
+        if (ramUsage instanceof GlobalOrdinalsIndexFieldData) {
+            globalOrdinalsBuildsMetric.inc();
+            globalOrdinalsBuildTimeMetric.inc(((GlobalOrdinalsIndexFieldData) ramUsage).getBuildTimeInNanos());
+            globalOrdinalsMemoryMetric.inc(ramUsage.ramBytesUsed());
+        }
         CounterMetric total = perFieldTotals.get(fieldName);
         if (total != null) {
             total.inc(ramUsage.ramBytesUsed());
@@ -80,6 +91,14 @@ public class ShardFieldData implements IndexFieldDataCache.Listener {
         }
     }
 
+    @Override
+    public void onRemoval(ShardId shardId, String fieldName, boolean wasEvicted, Accountable ramUsage) {
+        if (ramUsage instanceof GlobalOrdinalsIndexFieldData) {
+            globalOrdinalsMemoryMetric.dec(ramUsage.ramBytesUsed());
+        }
+        onRemoval(shardId, fieldName, wasEvicted, ramUsage.ramBytesUsed());
+    }
+
     @Override
     public void onRemoval(ShardId shardId, String fieldName, boolean wasEvicted, long sizeInBytes) {
         if (wasEvicted) {
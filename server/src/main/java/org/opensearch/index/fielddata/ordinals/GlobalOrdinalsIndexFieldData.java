@@ -71,6 +71,7 @@ public final class GlobalOrdinalsIndexFieldData implements IndexOrdinalsFieldDat
     private final String fieldName;
     private final ValuesSourceType valuesSourceType;
     private final long memorySizeInBytes;
+    private final long buildTimeInNanos;
 
     private final OrdinalMap ordinalMap;
     private final LeafOrdinalsFieldData[] segmentAfd;
@@ -81,10 +82,12 @@ public final class GlobalOrdinalsIndexFieldData implements IndexOrdinalsFieldDat
                                            LeafOrdinalsFieldData[] segmentAfd,
                                            OrdinalMap ordinalMap,
                                            long memorySizeInBytes,
+                                           long buildTimeInNanos,
                                            Function<SortedSetDocValues, ScriptDocValues<?>> scriptFunction) {
         this.fieldName = fieldName;
         this.valuesSourceType = valuesSourceType;
         this.memorySizeInBytes = memorySizeInBytes;
+        this.buildTimeInNanos = buildTimeInNanos;
         this.ordinalMap = ordinalMap;
         this.segmentAfd = segmentAfd;
         this.scriptFunction = scriptFunction;
@@ -135,6 +138,13 @@ public final class GlobalOrdinalsIndexFieldData implements IndexOrdinalsFieldDat
         return memorySizeInBytes;
     }
 
+    /**
+     * The time it took to build the ordinal map of these global ordinals.
+     */
+    public long getBuildTimeInNanos() {
+        return buildTimeInNanos;
+    }
+
     @Override
     public Collection<Accountable> getChildResources() {
         // TODO: break down ram usage?
@@ -172,6 +172,10 @@ public class DocumentMapper implements ToXContentFragment {
         return mapping;
     }
 
+    DocumentParser documentParser() {
+        return documentParser;
+    }
+
     public String type() {
         return this.type;
     }
@@ -40,6 +40,7 @@ import org.opensearch.common.Strings;
 import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.time.DateFormatter;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.common.xcontent.LoggingDeprecationHandler;
 import org.opensearch.common.xcontent.XContentHelper;
 import org.opensearch.common.xcontent.XContentParser;
@@ -51,8 +52,10 @@ import java.io.IOException;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 import static org.opensearch.index.mapper.FieldMapper.IGNORE_MALFORMED_SETTING;
@@ -60,14 +63,74 @@ import static org.opensearch.index.mapper.FieldMapper.IGNORE_MALFORMED_SETTING;
 /** A parser for documents, given mappings from a DocumentMapper */
 final class DocumentParser {
 
+    /**
+     * The maximum number of field names that are resolved once and then remembered per object mapper. This keeps objects whose
+     * field names are not mapped and keep changing, e.g. because they are not dynamic, from growing the cache without bounds.
+     */
+    static final int MAX_RESOLVED_FIELDS_PER_OBJECT = 1024;
+
     private final IndexSettings indexSettings;
     private final DocumentMapperParser docMapperParser;
     private final DocumentMapper docMapper;
+    /**
+     * The fields that were resolved per object mapper of the mapping. A document parser is created for every version of the
+     * mapping so these never go stale, object mappers that are created dynamically while parsing have no entry.
+     */
+    private final Map<ObjectMapper, Map<String, ResolvedField>> resolvedFields;
 
     DocumentParser(IndexSettings indexSettings, DocumentMapperParser docMapperParser, DocumentMapper docMapper) {
         this.indexSettings = indexSettings;
         this.docMapperParser = docMapperParser;
         this.docMapper = docMapper;
+        final Map<ObjectMapper, Map<String, ResolvedField>> resolvedFields = new IdentityHashMap<>();
+        addObjectMappers(docMapper.root(), resolvedFields);
+        this.resolvedFields = Collections.unmodifiableMap(resolvedFields);
+    }
+
+    private static void addObjectMappers(ObjectMapper objectMapper, Map<ObjectMapper, Map<String, ResolvedField>> resolvedFields) {
+        resolvedFields.put(objectMapper, ConcurrentCollections.newConcurrentMap());
+        for (Mapper mapper : objectMapper) {
+            if (mapper instanceof ObjectMapper) {
+                addObjectMappers((ObjectMapper) mapper, resolvedFields);
+            }
+        }
+    }
+
+    /**
+     * A field name of a document, split on dots, together with the mapper it resolves to relative to the object that contains it.
+     */
+    private static final class ResolvedField {
+        private final String[] paths;
+        private final boolean inDisabledObject;
+        private final Mapper mapper;
+
+        ResolvedField(String[] paths, boolean inDisabledObject, Mapper mapper) {
+            this.paths = paths;
+            this.inDisabledObject = inDisabledObject;
+            this.mapper = mapper;
+        }
+    }
+
+    // pkg-private for testing
+    int resolvedFieldCount(ObjectMapper objectMapper) {
+        final Map<String, ResolvedField> fields = resolvedFields.get(objectMapper);
+        return fields == null ? 0 : fields.size();
+    }
+
+    // splits the field name and looks up its mapper once per object mapper of the mapping instead of for every document
+    private static ResolvedField resolveField(ParseContext context, ObjectMapper objectMapper, String fieldName) {
+        final Map<String, ResolvedField> resolvedFields = context.docMapper().documentParser().resolvedFields.get(objectMapper);
+        ResolvedField field = resolvedFields == null ? null : resolvedFields.get(fieldName);
+        if (field == null) {
+            final String[] paths = splitAndValidatePath(fieldName);
+            final boolean inDisabledObject = containsDisabledObjectMapper(objectMapper, paths);
+            final Mapper mapper = inDisabledObject ? null : getMapper(objectMapper, fieldName, paths);
+            field = new ResolvedField(paths, inDisabledObject, mapper);
+            if (resolvedFields != null && resolvedFields.size() < MAX_RESOLVED_FIELDS_PER_OBJECT) {
+                resolvedFields.put(fieldName, field);
+            }
+        }
+        return field;
     }
 
     ParsedDocument parseDocument(SourceToParse source, MetadataFieldMapper[] metadataFieldsMappers) throws MapperParsingException {
@@ -415,26 +478,26 @@ final class DocumentParser {
     private static void innerParseObject(ParseContext context, ObjectMapper mapper, XContentParser parser,
                                          String currentFieldName, XContentParser.Token token) throws IOException {
         assert token == XContentParser.Token.FIELD_NAME || token == XContentParser.Token.END_OBJECT;
-        String[] paths = null;
+        ResolvedField field = null;
         while (token != XContentParser.Token.END_OBJECT) {
             if (token == XContentParser.Token.FIELD_NAME) {
                 currentFieldName = parser.currentName();
-                paths = splitAndValidatePath(currentFieldName);
-                if (containsDisabledObjectMapper(mapper, paths)) {
+                field = resolveField(context, mapper, currentFieldName);
+                if (field.inDisabledObject) {
                     parser.nextToken();
                     parser.skipChildren();
                 }
             } else if (token == XContentParser.Token.START_OBJECT) {
-                parseObject(context, mapper, currentFieldName, paths);
+                parseObject(context, mapper, currentFieldName, field);
             } else if (token == XContentParser.Token.START_ARRAY) {
-                parseArray(context, mapper, currentFieldName, paths);
+                parseArray(context, mapper, currentFieldName, field);
             } else if (token == XContentParser.Token.VALUE_NULL) {
-                parseNullValue(context, mapper, currentFieldName, paths);
+                parseNullValue(context, mapper, currentFieldName, field);
             } else if (token == null) {
                 throw new MapperParsingException("object mapping for [" + mapper.name() + "] tried to parse field [" + currentFieldName
                     + "] as object, but got EOF, has a concrete value been provided to it?");
             } else if (token.isValue()) {
-                parseValue(context, mapper, currentFieldName, token, paths);
+                parseValue(context, mapper, currentFieldName, token, field);
             }
             token = parser.nextToken();
         }
@@ -506,10 +569,11 @@ final class DocumentParser {
     }
 
     private static void parseObject(final ParseContext context, ObjectMapper mapper, String currentFieldName,
-                                    String[] paths) throws IOException {
+                                    ResolvedField field) throws IOException {
         assert currentFieldName != null;
 
-        Mapper objectMapper = getMapper(context, mapper, currentFieldName, paths);
+        Mapper objectMapper = getMapper(context, field, currentFieldName);
+        final String[] paths = field.paths;
         if (objectMapper != null) {
             context.path().add(currentFieldName);
             parseObjectOrField(context, objectMapper);
@@ -543,10 +607,11 @@ final class DocumentParser {
     }
 
     private static void parseArray(ParseContext context, ObjectMapper parentMapper, String lastFieldName,
-                                   String[] paths) throws IOException {
+                                   ResolvedField field) throws IOException {
         String arrayFieldName = lastFieldName;
 
-        Mapper mapper = getMapper(context, parentMapper, lastFieldName, paths);
+        Mapper mapper = getMapper(context, field, lastFieldName);
+        final String[] paths = field.paths;
         if (mapper != null) {
             // There is a concrete mapper for this field already. Need to check if the mapper
             // expects an array, if so we pass the context straight to the mapper and if not
@@ -599,36 +664,36 @@ final class DocumentParser {
                                              final String lastFieldName, String arrayFieldName) throws IOException {
         XContentParser parser = context.parser();
         XContentParser.Token token;
-        final String[] paths = splitAndValidatePath(lastFieldName);
+        final ResolvedField field = resolveField(context, mapper, lastFieldName);
         while ((token = parser.nextToken()) != XContentParser.Token.END_ARRAY) {
             if (token == XContentParser.Token.START_OBJECT) {
-                parseObject(context, mapper, lastFieldName, paths);
+                parseObject(context, mapper, lastFieldName, field);
             } else if (token == XContentParser.Token.START_ARRAY) {
-                parseArray(context, mapper, lastFieldName, paths);
+                parseArray(context, mapper, lastFieldName, field);
             } else if (token == XContentParser.Token.VALUE_NULL) {
-                parseNullValue(context, mapper, lastFieldName, paths);
+                parseNullValue(context, mapper, lastFieldName, field);
             } else if (token == null) {
                 throw new MapperParsingException("object mapping for [" + mapper.name() + "] with array for [" + arrayFieldName
                     + "] tried to parse as array, but got EOF, is there a mismatch in types for the same field?");
             } else {
                 assert token.isValue();
-                parseValue(context, mapper, lastFieldName, token, paths);
+                parseValue(context, mapper, lastFieldName, token, field);
             }
         }
     }
 
     private static void parseValue(final ParseContext context, ObjectMapper parentMapper,
-                                   String currentFieldName, XContentParser.Token token, String[] paths) throws IOException {
+                                   String currentFieldName, XContentParser.Token token, ResolvedField field) throws IOException {
         if (currentFieldName == null) {
             throw new MapperParsingException("object mapping [" + parentMapper.name() + "] trying to serialize a value with"
                 + " no field associated with it, current value [" + context.parser().textOrNull() + "]");
         }
-        Mapper mapper = getMapper(context, parentMapper, currentFieldName, paths);
+        Mapper mapper = getMapper(context, field, currentFieldName);
         if (mapper != null) {
             parseObjectOrField(context, mapper);
         } else {
-            currentFieldName = paths[paths.length - 1];
-            Tuple<Integer, ObjectMapper> parentMapperTuple = getDynamicParentMapper(context, paths, parentMapper);
+            currentFieldName = field.paths[field.paths.length - 1];
+            Tuple<Integer, ObjectMapper> parentMapperTuple = getDynamicParentMapper(context, field.paths, parentMapper);
             parentMapper = parentMapperTuple.v2();
             parseDynamicValue(context, parentMapper, currentFieldName, token);
             for (int i = 0; i < parentMapperTuple.v1(); i++) {
@@ -638,9 +703,9 @@ final class DocumentParser {
     }
 
     private static void parseNullValue(ParseContext context, ObjectMapper parentMapper, String lastFieldName,
-                                       String[] paths) throws IOException {
+                                       ResolvedField field) throws IOException {
         // we can only handle null values if we have mappings for them
-        Mapper mapper = getMapper(context, parentMapper, lastFieldName, paths);
+        Mapper mapper = getMapper(context, field, lastFieldName);
         if (mapper != null) {
             // TODO: passing null to an object seems bogus?
             parseObjectOrField(context, mapper);
@@ -907,17 +972,23 @@ final class DocumentParser {
         return dynamic;
     }
 
-    // looks up a child mapper, but takes into account field names that expand to objects
-    private static Mapper getMapper(final ParseContext context, ObjectMapper objectMapper, String fieldName, String[] subfields) {
-        String fieldPath = context.path().pathAsText(fieldName);
-        // Check if mapper is a metadata mapper first
-        Mapper mapper = context.docMapper().mapping().getMetadataMapper(fieldPath);
-        if (mapper != null) {
-            return mapper;
+    // looks up the mapper of a resolved field, metadata mappers take precedence
+    private static Mapper getMapper(final ParseContext context, ResolvedField field, String fieldName) {
+        // metadata fields live at the root of the document, their names never contain dots so they can't be matched
+        // by the full path of a field inside an object
+        if (context.path().length() == 0) {
+            Mapper mapper = context.docMapper().mapping().getMetadataMapper(fieldName);
+            if (mapper != null) {
+                return mapper;
+            }
         }
+        return field.mapper;
+    }
 
+    // looks up a child mapper, but takes into account field names that expand to objects
+    private static Mapper getMapper(ObjectMapper objectMapper, String fieldName, String[] subfields) {
         for (int i = 0; i < subfields.length - 1; ++i) {
-            mapper = objectMapper.getMapper(subfields[i]);
+            Mapper mapper = objectMapper.getMapper(subfields[i]);
             if (mapper == null || (mapper instanceof ObjectMapper) == false) {
                 return null;
             }
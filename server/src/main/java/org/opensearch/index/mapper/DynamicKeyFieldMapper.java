@@ -49,8 +49,8 @@ import org.apache.lucene.document.FieldType;
  * sure to passes an empty multi-fields list to help prevent conflicting sub-keys from being
  * registered.
  *
- * Note: we anticipate that 'flattened' fields will be the only implementation of this
- * interface. Flattened object fields live in the 'mapper-flattened' module.
+ * Note: we anticipate that flat object fields, see {@link FlatObjectFieldMapper}, will be the
+ * only implementation of this interface.
  */
 public abstract class DynamicKeyFieldMapper extends FieldMapper {
 
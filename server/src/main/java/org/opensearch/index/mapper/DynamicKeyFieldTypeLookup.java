@@ -42,8 +42,8 @@ import java.util.Map;
  * 'path_to_field.path_to_key', the container will dynamically return a new {@link MappedFieldType} that is
  * suitable for performing searches on the sub-key.
  *
- * Note: we anticipate that 'flattened' fields will be the only implementation {@link DynamicKeyFieldMapper}.
- * Flattened object fields live in the 'mapper-flattened' module.
+ * Note: we anticipate that flat object fields, see {@link FlatObjectFieldMapper}, will be the only implementation
+ * of {@link DynamicKeyFieldMapper}.
  */
 class DynamicKeyFieldTypeLookup {
     private final Map<String, DynamicKeyFieldMapper> mappers;
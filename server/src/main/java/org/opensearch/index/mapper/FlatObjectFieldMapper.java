@@ -0,0 +1,364 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.mapper;
+
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.FieldType;
+import org.apache.lucene.index.IndexOptions;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.MultiTermQuery;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.TermRangeQuery;
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.OpenSearchException;
+import org.opensearch.common.lucene.BytesRefs;
+import org.opensearch.common.lucene.Lucene;
+import org.opensearch.common.unit.Fuzziness;
+import org.opensearch.common.xcontent.XContentBuilder;
+import org.opensearch.common.xcontent.XContentParser;
+import org.opensearch.common.xcontent.support.XContentMapValues;
+import org.opensearch.index.query.QueryShardContext;
+import org.opensearch.search.lookup.SearchLookup;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static org.opensearch.common.xcontent.XContentParserUtils.ensureExpectedToken;
+import static org.opensearch.search.SearchService.ALLOW_EXPENSIVE_QUERIES;
+
+/**
+ * A field mapper that indexes all leaf values of a JSON object as keywords into a single pair of Lucene fields, no matter which
+ * keys the object has, so that objects with arbitrary keys don't grow the mapping. The field itself holds the values, while the
+ * keyed field holds every value prefixed with the dotted path of its key within the object.
+ *
+ * A key of the object can be searched like a field of its own, e.g. 'labels.team' for the key 'team' of the field 'labels'. Such
+ * searches are served by a {@link KeyedFlatObjectFieldType} and support term, terms, prefix, range and exists queries.
+ */
+public final class FlatObjectFieldMapper extends DynamicKeyFieldMapper {
+
+    public static final String CONTENT_TYPE = "flat_object";
+    public static final String KEYED_FIELD_SUFFIX = "._keyed";
+    /** Separates the key from the value in the terms of the keyed field. */
+    static final char SEPARATOR = '\0';
+
+    public static class Defaults {
+        public static final FieldType FIELD_TYPE = new FieldType();
+
+        static {
+            FIELD_TYPE.setTokenized(false);
+            FIELD_TYPE.setOmitNorms(true);
+            FIELD_TYPE.setIndexOptions(IndexOptions.DOCS);
+            FIELD_TYPE.freeze();
+        }
+
+        public static final int IGNORE_ABOVE = Integer.MAX_VALUE;
+        public static final int DEPTH_LIMIT = 20;
+    }
+
+    public static class Builder extends FieldMapper.Builder<Builder> {
+        private int ignoreAbove = Defaults.IGNORE_ABOVE;
+        private int depthLimit = Defaults.DEPTH_LIMIT;
+
+        public Builder(String name) {
+            super(name, Defaults.FIELD_TYPE);
+            builder = this;
+        }
+
+        public Builder ignoreAbove(int ignoreAbove) {
+            if (ignoreAbove < 0) {
+                throw new IllegalArgumentException("[ignore_above] must be positive, got [" + ignoreAbove + "]");
+            }
+            this.ignoreAbove = ignoreAbove;
+            return builder;
+        }
+
+        public Builder depthLimit(int depthLimit) {
+            if (depthLimit < 1) {
+                throw new IllegalArgumentException("[depth_limit] must be at least 1, got [" + depthLimit + "]");
+            }
+            this.depthLimit = depthLimit;
+            return builder;
+        }
+
+        @Override
+        public FlatObjectFieldMapper build(BuilderContext context) {
+            return new FlatObjectFieldMapper(name, fieldType, new FlatObjectFieldType(buildFullName(context), meta),
+                ignoreAbove, depthLimit);
+        }
+    }
+
+    public static class TypeParser implements Mapper.TypeParser {
+        @Override
+        public Mapper.Builder<?> parse(String name, Map<String, Object> node, ParserContext parserContext)
+                throws MapperParsingException {
+            Builder builder = new Builder(name);
+            for (Iterator<Map.Entry<String, Object>> iterator = node.entrySet().iterator(); iterator.hasNext();) {
+                Map.Entry<String, Object> entry = iterator.next();
+                String propName = entry.getKey();
+                Object propNode = entry.getValue();
+                TypeParsers.checkNull(propName, propNode);
+                if (propName.equals("ignore_above")) {
+                    builder.ignoreAbove(XContentMapValues.nodeIntegerValue(propNode));
+                    iterator.remove();
+                } else if (propName.equals("depth_limit")) {
+                    builder.depthLimit(XContentMapValues.nodeIntegerValue(propNode));
+                    iterator.remove();
+                } else if (propName.equals("meta")) {
+                    builder.meta(TypeParsers.parseMeta(name, propNode));
+                    iterator.remove();
+                }
+            }
+            return builder;
+        }
+    }
+
+    /**
+     * The field type of the field itself, it searches the values of all keys.
+     */
+    public static final class FlatObjectFieldType extends StringFieldType {
+
+        public FlatObjectFieldType(String name, Map<String, String> meta) {
+            super(name, true, false, false, TextSearchInfo.SIMPLE_MATCH_ONLY, meta);
+            setIndexAnalyzer(Lucene.KEYWORD_ANALYZER);
+        }
+
+        @Override
+        public String typeName() {
+            return CONTENT_TYPE;
+        }
+
+        @Override
+        public ValueFetcher valueFetcher(MapperService mapperService, SearchLookup searchLookup, String format) {
+            return SourceValueFetcher.identity(name(), mapperService, format);
+        }
+    }
+
+    /**
+     * The field type of a key of a flat object field, it searches the values of that key only.
+     */
+    public static final class KeyedFlatObjectFieldType extends StringFieldType {
+
+        private final String rootName;
+        private final String key;
+
+        public KeyedFlatObjectFieldType(String rootName, String key, Map<String, String> meta) {
+            super(rootName + KEYED_FIELD_SUFFIX, true, false, false, TextSearchInfo.SIMPLE_MATCH_ONLY, meta);
+            setIndexAnalyzer(Lucene.KEYWORD_ANALYZER);
+            this.rootName = rootName;
+            this.key = key;
+        }
+
+        public String key() {
+            return key;
+        }
+
+        @Override
+        public String typeName() {
+            return CONTENT_TYPE;
+        }
+
+        @Override
+        protected BytesRef indexedValueForSearch(Object value) {
+            return new BytesRef(keyedValue(key, BytesRefs.toString(value)));
+        }
+
+        @Override
+        public Query existsQuery(QueryShardContext context) {
+            return new PrefixQuery(new Term(name(), keyedValue(key, "")));
+        }
+
+        @Override
+        public Query rangeQuery(Object lowerTerm, Object upperTerm, boolean includeLower, boolean includeUpper,
+                                QueryShardContext context) {
+            if (context.allowExpensiveQueries() == false) {
+                throw new OpenSearchException("[range] queries on [" + CONTENT_TYPE + "] fields cannot be executed when '" +
+                    ALLOW_EXPENSIVE_QUERIES.getKey() + "' is set to false.");
+            }
+            failIfNotIndexed();
+            // open bounds must not reach into the values of other keys
+            BytesRef lower = lowerTerm == null ? new BytesRef(keyedValue(key, "")) : indexedValueForSearch(lowerTerm);
+            BytesRef upper = upperTerm == null ? new BytesRef(key + (char) (SEPARATOR + 1)) : indexedValueForSearch(upperTerm);
+            return new TermRangeQuery(name(), lower, upper, lowerTerm == null || includeLower, upperTerm != null && includeUpper);
+        }
+
+        @Override
+        public Query prefixQuery(String value, MultiTermQuery.RewriteMethod method, boolean caseInsensitive,
+                                 QueryShardContext context) {
+            if (caseInsensitive) {
+                throw unsupported("case insensitive prefix");
+            }
+            return super.prefixQuery(value, method, false, context);
+        }
+
+        @Override
+        public Query termQueryCaseInsensitive(Object value, QueryShardContext context) {
+            throw unsupported("case insensitive term");
+        }
+
+        @Override
+        public Query fuzzyQuery(Object value, Fuzziness fuzziness, int prefixLength, int maxExpansions,
+                                boolean transpositions, QueryShardContext context) {
+            throw unsupported("fuzzy");
+        }
+
+        @Override
+        public Query wildcardQuery(String value, MultiTermQuery.RewriteMethod method, boolean caseInsensitive,
+                                   QueryShardContext context) {
+            throw unsupported("wildcard");
+        }
+
+        @Override
+        public Query regexpQuery(String value, int syntaxFlags, int matchFlags, int maxDeterminizedStates,
+                                 MultiTermQuery.RewriteMethod method, QueryShardContext context) {
+            throw unsupported("regexp");
+        }
+
+        private IllegalArgumentException unsupported(String query) {
+            return new IllegalArgumentException("[" + query + "] queries are not supported on keys of [" + CONTENT_TYPE
+                + "] fields, found on [" + rootName + "." + key + "]");
+        }
+
+        @Override
+        public ValueFetcher valueFetcher(MapperService mapperService, SearchLookup searchLookup, String format) {
+            if (format != null) {
+                throw new IllegalArgumentException("Field [" + rootName + "." + key + "] of type [" + typeName() +
+                    "] doesn't support formats.");
+            }
+            String path = rootName + "." + key;
+            return lookup -> {
+                List<Object> values = new ArrayList<>();
+                for (Object value : lookup.extractRawValues(path)) {
+                    // only leaf values are indexed, objects are keys of their own
+                    if (value != null && value instanceof Map == false && value instanceof List == false) {
+                        values.add(value.toString());
+                    }
+                }
+                return values;
+            };
+        }
+    }
+
+    static String keyedValue(String key, String value) {
+        return key + SEPARATOR + value;
+    }
+
+    private int ignoreAbove;
+    private int depthLimit;
+
+    private FlatObjectFieldMapper(String simpleName, FieldType fieldType, FlatObjectFieldType mappedFieldType,
+                                  int ignoreAbove, int depthLimit) {
+        super(simpleName, fieldType, mappedFieldType, CopyTo.empty());
+        this.ignoreAbove = ignoreAbove;
+        this.depthLimit = depthLimit;
+    }
+
+    @Override
+    public FlatObjectFieldType fieldType() {
+        return (FlatObjectFieldType) super.fieldType();
+    }
+
+    @Override
+    public KeyedFlatObjectFieldType keyedFieldType(String key) {
+        return new KeyedFlatObjectFieldType(name(), key, fieldType().meta());
+    }
+
+    @Override
+    protected FlatObjectFieldMapper clone() {
+        return (FlatObjectFieldMapper) super.clone();
+    }
+
+    @Override
+    protected void parseCreateField(ParseContext context) throws IOException {
+        XContentParser parser = context.parser();
+        if (parser.currentToken() == XContentParser.Token.VALUE_NULL) {
+            return;
+        }
+        ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.currentToken(), parser);
+        if (parseObject(context, parser, null, 1)) {
+            createFieldNamesField(context);
+        }
+    }
+
+    /**
+     * Indexes the leaf values of the object the parser is positioned on and leaves the parser on its end, returns whether
+     * any value was indexed.
+     */
+    private boolean parseObject(ParseContext context, XContentParser parser, String path, int depth) throws IOException {
+        if (depth > depthLimit) {
+            throw new IllegalArgumentException("the object of field [" + name() + "] exceeds the depth limit of [" + depthLimit + "]");
+        }
+        boolean indexed = false;
+        XContentParser.Token token;
+        while ((token = parser.nextToken()) != XContentParser.Token.END_OBJECT) {
+            ensureExpectedToken(XContentParser.Token.FIELD_NAME, token, parser);
+            String name = parser.currentName();
+            if (name.isEmpty() || name.indexOf(SEPARATOR) >= 0) {
+                throw new IllegalArgumentException("keys of field [" + name() + "] must not be empty or contain [\\0], got [" +
+                    name + "]");
+            }
+            String key = path == null ? name : path + "." + name;
+            indexed |= parseValue(context, parser, parser.nextToken(), key, depth);
+        }
+        return indexed;
+    }
+
+    private boolean parseValue(ParseContext context, XContentParser parser, XContentParser.Token token, String key,
+                               int depth) throws IOException {
+        if (token == XContentParser.Token.START_OBJECT) {
+            return parseObject(context, parser, key, depth + 1);
+        } else if (token == XContentParser.Token.START_ARRAY) {
+            boolean indexed = false;
+            while ((token = parser.nextToken()) != XContentParser.Token.END_ARRAY) {
+                indexed |= parseValue(context, parser, token, key, depth);
+            }
+            return indexed;
+        } else if (token == XContentParser.Token.VALUE_NULL) {
+            return false;
+        }
+        String value = parser.text();
+        if (value.length() > ignoreAbove) {
+            return false;
+        }
+        context.doc().add(new Field(name(), value, fieldType));
+        context.doc().add(new Field(name() + KEYED_FIELD_SUFFIX, keyedValue(key, value), fieldType));
+        return true;
+    }
+
+    @Override
+    protected void mergeOptions(FieldMapper other, List<String> conflicts) {
+        FlatObjectFieldMapper mergeWith = (FlatObjectFieldMapper) other;
+        this.ignoreAbove = mergeWith.ignoreAbove;
+        this.depthLimit = mergeWith.depthLimit;
+    }
+
+    @Override
+    protected boolean docValuesByDefault() {
+        return false;
+    }
+
+    @Override
+    protected void doXContentBody(XContentBuilder builder, boolean includeDefaults, Params params) throws IOException {
+        super.doXContentBody(builder, includeDefaults, params);
+        if (includeDefaults || ignoreAbove != Defaults.IGNORE_ABOVE) {
+            builder.field("ignore_above", ignoreAbove);
+        }
+        if (includeDefaults || depthLimit != Defaults.DEPTH_LIMIT) {
+            builder.field("depth_limit", depthLimit);
+        }
+    }
+
+    @Override
+    protected String contentType() {
+        return CONTENT_TYPE;
+    }
+}
@@ -62,6 +62,7 @@ import org.opensearch.index.mapper.MapperService;
 import org.opensearch.index.seqno.SequenceNumbers;
 import org.opensearch.index.snapshots.IndexShardRestoreFailedException;
 import org.opensearch.index.store.Store;
+import org.opensearch.index.store.remote.RemoteSnapshotDirectoryFactory;
 import org.opensearch.index.translog.Translog;
 import org.opensearch.indices.recovery.RecoveryState;
 import org.opensearch.repositories.IndexId;
@@ -486,10 +487,15 @@ final class StoreRecovery {
         if (logger.isTraceEnabled()) {
             logger.trace("[{}] restoring shard [{}]", restoreSource.snapshot(), shardId);
         }
+        final boolean remoteSnapshot = RemoteSnapshotDirectoryFactory.isRemoteSnapshot(indexShard.indexSettings().getSettings());
         final ActionListener<Void> restoreListener = ActionListener.wrap(
             v -> {
                 final Store store = indexShard.store();
-                bootstrap(indexShard, store);
+                if (remoteSnapshot) {
+                    bootstrapRemoteSnapshot(indexShard, store);
+                } else {
+                    bootstrap(indexShard, store);
+                }
                 assert indexShard.shardRouting.primary() : "only primary shards can recover from store";
                 writeEmptyRetentionLeasesFile(indexShard);
                 indexShard.openEngineAndRecoverFromTranslog();
@@ -520,8 +526,14 @@ final class StoreRecovery {
                 indexIdListener.onResponse(indexId);
             }
             assert indexShard.getEngineOrNull() == null;
-            indexIdListener.whenComplete(idx -> repository.restoreShard(indexShard.store(), restoreSource.snapshot().getSnapshotId(),
-                idx, snapshotShardId, indexShard.recoveryState(), restoreListener), restoreListener::onFailure);
+            if (remoteSnapshot) {
+                // the files are read from the repository on demand, there is nothing to copy
+                restoreListener.onResponse(null);
+            } else {
+                indexIdListener.whenComplete(idx -> repository.restoreShard(indexShard.store(),
+                    restoreSource.snapshot().getSnapshotId(), idx, snapshotShardId, indexShard.recoveryState(), restoreListener),
+                    restoreListener::onFailure);
+            }
         } catch (Exception e) {
             restoreListener.onFailure(e);
         }
@@ -535,4 +547,16 @@ final class StoreRecovery {
             indexShard.shardPath().resolveTranslog(), localCheckpoint, shardId, indexShard.getPendingPrimaryTerm());
         store.associateIndexWithNewTranslog(translogUUID);
     }
+
+    /**
+     * The commit of a shard that is read from a snapshot cannot be modified, so instead of bootstrapping a new history and translog in
+     * the commit this creates an empty translog with the translog UUID that is already recorded in the commit.
+     */
+    private void bootstrapRemoteSnapshot(final IndexShard indexShard, final Store store) throws IOException {
+        final SegmentInfos segmentInfos = store.readLastCommittedSegmentsInfo();
+        final long maxSeqNo = Long.parseLong(segmentInfos.userData.get(SequenceNumbers.MAX_SEQ_NO));
+        final String translogUUID = segmentInfos.userData.get(Translog.TRANSLOG_UUID_KEY);
+        Translog.createEmptyTranslog(indexShard.shardPath().resolveTranslog(), shardId, maxSeqNo, indexShard.getPendingPrimaryTerm(),
+            translogUUID, null);
+    }
 }
@@ -80,6 +80,8 @@ public class IndexShardSnapshotStatus {
     private long totalSize;
     private long incrementalSize;
     private long processedSize;
+    private long uploadedSize;
+    private long uploadThrottleTimeInNanos;
     private long indexVersion;
     private String failure;
 
@@ -165,6 +167,20 @@ public class IndexShardSnapshotStatus {
         processedSize += size;
     }
 
+    /**
+     * Increments the number of bytes uploaded to the repository, as they are uploaded rather than once the file is processed
+     */
+    public synchronized void addUploadedSize(long size) {
+        uploadedSize += size;
+    }
+
+    /**
+     * Increments the time uploads of this shard snapshot were paused by the repository's rate limiter
+     */
+    public synchronized void addUploadThrottleTime(long nanos) {
+        uploadThrottleTimeInNanos += nanos;
+    }
+
     /**
      * Returns a copy of the current {@link IndexShardSnapshotStatus}. This method is
      * intended to be used when a coherent state of {@link IndexShardSnapshotStatus} is needed.
@@ -174,7 +190,7 @@ public class IndexShardSnapshotStatus {
     public synchronized IndexShardSnapshotStatus.Copy asCopy() {
         return new IndexShardSnapshotStatus.Copy(stage.get(), startTime, totalTime,
             incrementalFileCount, totalFileCount, processedFileCount,
-            incrementalSize, totalSize, processedSize,
+            incrementalSize, totalSize, processedSize, uploadedSize, uploadThrottleTimeInNanos,
             indexVersion, failure);
     }
 
@@ -212,12 +228,15 @@ public class IndexShardSnapshotStatus {
         private final long totalSize;
         private final long processedSize;
         private final long incrementalSize;
+        private final long uploadedSize;
+        private final long uploadThrottleTimeInNanos;
         private final long indexVersion;
         private final String failure;
 
         public Copy(final Stage stage, final long startTime, final long totalTime,
                     final int incrementalFileCount, final int totalFileCount, final int processedFileCount,
                     final long incrementalSize, final long totalSize, final long processedSize,
+                    final long uploadedSize, final long uploadThrottleTimeInNanos,
                     final long indexVersion, final String failure) {
             this.stage = stage;
             this.startTime = startTime;
@@ -228,6 +247,8 @@ public class IndexShardSnapshotStatus {
             this.totalSize = totalSize;
             this.processedSize = processedSize;
             this.incrementalSize = incrementalSize;
+            this.uploadedSize = uploadedSize;
+            this.uploadThrottleTimeInNanos = uploadThrottleTimeInNanos;
             this.indexVersion = indexVersion;
             this.failure = failure;
         }
@@ -268,6 +289,21 @@ public class IndexShardSnapshotStatus {
             return processedSize;
         }
 
+        public long getUploadedSize() {
+            return uploadedSize;
+        }
+
+        public long getUploadThrottleTimeInNanos() {
+            return uploadThrottleTimeInNanos;
+        }
+
+        /**
+         * Returns the average upload bandwidth in bytes per second over the given elapsed time in milliseconds
+         */
+        public long getUploadBytesPerSecond(long elapsedMillis) {
+            return elapsedMillis <= 0L ? 0L : uploadedSize * 1000L / elapsedMillis;
+        }
+
         public long getIndexVersion() {
             return indexVersion;
         }
@@ -288,6 +324,8 @@ public class IndexShardSnapshotStatus {
                 ", incrementalSize=" + incrementalSize +
                 ", totalSize=" + totalSize +
                 ", processedSize=" + processedSize +
+                ", uploadedSize=" + uploadedSize +
+                ", uploadThrottleTimeInNanos=" + uploadThrottleTimeInNanos +
                 ", indexVersion=" + indexVersion +
                 ", failure='" + failure + '\'' +
                 ')';
@@ -0,0 +1,105 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.snapshots.blobstore;
+
+import org.opensearch.common.hash.Crc32Combiner;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.CRC32;
+
+/**
+ * Computes the CRC32 of the first {@code checksumLength} bytes read from the wrapped stream while they are read. Unlike
+ * {@link java.util.zip.CheckedInputStream} it supports {@link #mark(int)} and {@link #reset()}, so that bytes that are read again after
+ * a reset (e.g. when a blob store client retries a request) are only accounted for once.
+ */
+public class ChecksumInputStream extends FilterInputStream {
+
+    private final long checksumLength;
+
+    // checksum of the bytes up to the last mark, the bytes since then are accumulated in the current checksum
+    private long markedChecksum;
+    private long markedLength;
+    private final CRC32 current = new CRC32();
+    private long currentLength;
+
+    public ChecksumInputStream(InputStream delegate, long checksumLength) {
+        super(delegate);
+        this.checksumLength = checksumLength;
+    }
+
+    @Override
+    public int read() throws IOException {
+        final int b = super.read();
+        if (b != -1 && markedLength + currentLength < checksumLength) {
+            current.update(b);
+            currentLength++;
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        final int n = super.read(b, off, len);
+        if (n > 0) {
+            final int checksummed = (int) Math.min(n, checksumLength - markedLength - currentLength);
+            if (checksummed > 0) {
+                current.update(b, off, checksummed);
+                currentLength += checksummed;
+            }
+        }
+        return n;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        // skipped bytes would be missing from the checksum, read them instead
+        final byte[] buffer = new byte[(int) Math.min(n, 8192)];
+        long skipped = 0;
+        while (skipped < n) {
+            final int read = read(buffer, 0, (int) Math.min(buffer.length, n - skipped));
+            if (read == -1) {
+                break;
+            }
+            skipped += read;
+        }
+        return skipped;
+    }
+
+    @Override
+    public synchronized void mark(int readLimit) {
+        super.mark(readLimit);
+        markedChecksum = getChecksum();
+        markedLength += currentLength;
+        current.reset();
+        currentLength = 0;
+    }
+
+    @Override
+    public synchronized void reset() throws IOException {
+        super.reset();
+        current.reset();
+        currentLength = 0;
+    }
+
+    /**
+     * Returns the CRC32 of the bytes read so far, ignoring any bytes past the checksum length.
+     */
+    public long getChecksum() {
+        return Crc32Combiner.combine(markedChecksum, current.getValue(), currentLength);
+    }
+
+    /**
+     * Returns the number of bytes that the checksum covers.
+     */
+    public long getChecksummedLength() {
+        return markedLength + currentLength;
+    }
+}
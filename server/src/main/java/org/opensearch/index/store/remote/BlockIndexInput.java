@@ -0,0 +1,137 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.store.remote;
+
+import org.apache.lucene.store.BufferedIndexInput;
+import org.apache.lucene.store.IndexInput;
+import org.opensearch.common.blobstore.BlobContainer;
+import org.opensearch.common.io.Streams;
+import org.opensearch.index.snapshots.blobstore.BlobStoreIndexShardSnapshot.FileInfo;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * An {@link IndexInput} over a file of a shard snapshot that reads the file through a {@link FileBlockCache}. Reads are buffered like
+ * any {@link BufferedIndexInput}, the buffer is refilled with positional reads of the cached block, so only the buffer is held on heap
+ * and a switch to another block does not copy the whole block.
+ */
+final class BlockIndexInput extends BufferedIndexInput {
+
+    private final RemoteFile file;
+    // the offset of this input in the file, non-zero for slices
+    private final long offset;
+    private final long length;
+
+    BlockIndexInput(String resourceDescription, RemoteFile file) {
+        this(resourceDescription, file, 0L, file.length(), BUFFER_SIZE);
+    }
+
+    private BlockIndexInput(String resourceDescription, RemoteFile file, long offset, long length, int bufferSize) {
+        super(resourceDescription, bufferSize);
+        this.file = file;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public long length() {
+        return length;
+    }
+
+    @Override
+    public IndexInput slice(String sliceDescription, long offset, long length) throws IOException {
+        if (offset >= 0L && length >= 0L && offset + length <= this.length) {
+            return new BlockIndexInput(sliceDescription, file, this.offset + offset, length, getBufferSize());
+        } else {
+            throw new IllegalArgumentException("slice() " + sliceDescription + " out of bounds: offset=" + offset
+                + ",length=" + length + ",fileLength=" + this.length + ": " + this);
+        }
+    }
+
+    @Override
+    protected void seekInternal(long pos) throws IOException {
+        if (pos > length) {
+            throw new EOFException("read past EOF: pos=" + pos + " vs length=" + length + ": " + this);
+        }
+    }
+
+    @Override
+    protected void readInternal(ByteBuffer b) throws IOException {
+        long filePosition = offset + getFilePointer();
+        if (filePosition + b.remaining() > offset + length) {
+            throw new EOFException("read past EOF: " + this);
+        }
+        while (b.hasRemaining()) {
+            final long blockIndex = filePosition / file.blockSize();
+            final int positionInBlock = (int) (filePosition % file.blockSize());
+            filePosition += file.read(blockIndex, positionInBlock, b);
+        }
+    }
+
+    /**
+     * A file of a shard snapshot, split into the blocks of a {@link FileBlockCache}.
+     */
+    static final class RemoteFile {
+
+        private final String cacheKey;
+        private final FileInfo fileInfo;
+        private final BlobContainer container;
+        private final FileBlockCache cache;
+
+        RemoteFile(String cacheKey, FileInfo fileInfo, BlobContainer container, FileBlockCache cache) {
+            this.cacheKey = cacheKey;
+            this.fileInfo = fileInfo;
+            this.container = container;
+            this.cache = cache;
+        }
+
+        long length() {
+            return fileInfo.length();
+        }
+
+        int blockSize() {
+            return cache.blockSize();
+        }
+
+        int read(long blockIndex, int positionInBlock, ByteBuffer buffer) throws IOException {
+            return cache.read(cacheKey, blockIndex, positionInBlock, buffer, () -> fetchBlock(blockIndex));
+        }
+
+        private byte[] fetchBlock(long blockIndex) throws IOException {
+            final long start = blockIndex * blockSize();
+            final int blockLength = Math.toIntExact(Math.min(blockSize(), length() - start));
+            final byte[] block = new byte[blockLength];
+            // the first parts of a file all have the same size, only the last part can be smaller
+            final long partSize = fileInfo.partBytes(0);
+            int read = 0;
+            while (read < blockLength) {
+                final long position = start + read;
+                final int part = Math.toIntExact(position / partSize);
+                final long positionInPart = position % partSize;
+                final int toRead = Math.toIntExact(Math.min(blockLength - read, fileInfo.partBytes(part) - positionInPart));
+                try (InputStream stream = container.readBlob(fileInfo.partName(part), positionInPart, toRead)) {
+                    final int bytesRead = Streams.readFully(stream, block, read, toRead);
+                    if (bytesRead != toRead) {
+                        throw new EOFException("expected to read [" + toRead + "] bytes from [" + fileInfo.partName(part)
+                            + "] at [" + positionInPart + "] but got [" + bytesRead + "]");
+                    }
+                }
+                read += toRead;
+            }
+            return block;
+        }
+    }
+}
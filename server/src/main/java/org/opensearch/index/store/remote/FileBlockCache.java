@@ -0,0 +1,249 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.store.remote;
+
+import org.opensearch.common.CheckedSupplier;
+import org.opensearch.common.io.Channels;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.metrics.CounterMetric;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.common.unit.ByteSizeUnit;
+import org.opensearch.common.unit.ByteSizeValue;
+import org.opensearch.common.util.concurrent.AbstractRefCounted;
+import org.opensearch.common.util.concurrent.KeyedLock;
+import org.opensearch.core.internal.io.IOUtils;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+/**
+ * A bounded cache on local disk for fixed size blocks of files that live in a remote repository. The blocks are stored in the slots of
+ * a single file, each slot is large enough to hold one block. Blocks are evicted in least recently used order once all slots are taken.
+ * Cached blocks are read with positional reads, so reading from the cache only copies the requested bytes. The cache does not survive a
+ * restart of the node, its directory is wiped when it is created.
+ */
+public final class FileBlockCache implements Closeable {
+
+    public static final Setting<ByteSizeValue> SIZE_SETTING = Setting.byteSizeSetting("node.searchable_snapshot.cache.size",
+        new ByteSizeValue(10, ByteSizeUnit.GB), Property.NodeScope);
+
+    public static final Setting<ByteSizeValue> BLOCK_SIZE_SETTING = Setting.byteSizeSetting("node.searchable_snapshot.cache.block_size",
+        new ByteSizeValue(4, ByteSizeUnit.MB), new ByteSizeValue(4, ByteSizeUnit.KB), new ByteSizeValue(64, ByteSizeUnit.MB),
+        Property.NodeScope);
+
+    static final String BLOCKS_FILE_NAME = "blocks";
+
+    private final long sizeInBytes;
+    private final int blockSize;
+    private final int numberOfSlots;
+    private final FileChannel channel;
+
+    // guarded by this, in access order so that the eldest entry is the least recently used block
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    // guarded by this, the slots that held blocks that were evicted and are no longer read
+    private final Deque<Integer> freedSlots = new ArrayDeque<>();
+    // guarded by this, the slots from this one on were never used
+    private int nextUnusedSlot;
+    // guarded by this
+    private long usedInBytes;
+
+    private final KeyedLock<String> fetchLocks = new KeyedLock<>();
+
+    private final CounterMetric hits = new CounterMetric();
+    private final CounterMetric misses = new CounterMetric();
+    private final CounterMetric evictions = new CounterMetric();
+    private final CounterMetric bytesFetched = new CounterMetric();
+
+    public FileBlockCache(Path cacheDirectory, long sizeInBytes, int blockSize) throws IOException {
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("block size must be greater than zero but was [" + blockSize + "]");
+        }
+        this.sizeInBytes = sizeInBytes;
+        this.blockSize = blockSize;
+        this.numberOfSlots = Math.toIntExact(Math.min(Integer.MAX_VALUE, sizeInBytes / blockSize));
+        IOUtils.rm(cacheDirectory);
+        Files.createDirectories(cacheDirectory);
+        this.channel = FileChannel.open(cacheDirectory.resolve(BLOCKS_FILE_NAME),
+            StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    /**
+     * The size of the blocks that files are split into.
+     */
+    public int blockSize() {
+        return blockSize;
+    }
+
+    /**
+     * Reads bytes of the given block of the given file into the given buffer, loading the block and adding it to the cache if it is not
+     * cached yet. Reads as many bytes as the buffer has remaining, or as the block has from the given position on if that is less.
+     * Concurrent reads of the same missing block only load it once.
+     *
+     * @param fileKey         the key that uniquely identifies the file in the repository
+     * @param blockIndex      the index of the block within the file
+     * @param positionInBlock the position within the block to read from
+     * @param buffer          the buffer to read into
+     * @param loader          loads the contents of the block from the repository
+     * @return the number of bytes read
+     */
+    public int read(String fileKey, long blockIndex, int positionInBlock, ByteBuffer buffer,
+                    CheckedSupplier<byte[], IOException> loader) throws IOException {
+        final String key = fileKey + '#' + blockIndex;
+        int read = readCachedBlock(key, positionInBlock, buffer);
+        if (read >= 0) {
+            hits.inc();
+            return read;
+        }
+        try (Releasable ignored = fetchLocks.acquire(key)) {
+            // another reader might have loaded the block while we were waiting for the lock
+            read = readCachedBlock(key, positionInBlock, buffer);
+            if (read >= 0) {
+                hits.inc();
+                return read;
+            }
+            misses.inc();
+            final byte[] block = loader.get();
+            bytesFetched.inc(block.length);
+            putBlock(key, block);
+            read = Math.min(buffer.remaining(), block.length - positionInBlock);
+            buffer.put(block, positionInBlock, read);
+            return read;
+        }
+    }
+
+    /**
+     * Reads from the given block if it is cached and returns the number of bytes read, or {@code -1} if it is not cached.
+     */
+    private int readCachedBlock(String key, int positionInBlock, ByteBuffer buffer) throws IOException {
+        final Entry entry;
+        synchronized (this) {
+            entry = entries.get(key);
+            // the entry is only released once evicted, which happens under the same lock
+            if (entry == null || entry.tryIncRef() == false) {
+                return -1;
+            }
+        }
+        try {
+            final int read = Math.min(buffer.remaining(), entry.length - positionInBlock);
+            final int limit = buffer.limit();
+            buffer.limit(buffer.position() + read);
+            try {
+                Channels.readFromFileChannelWithEofException(channel, (long) entry.slot * blockSize + positionInBlock, buffer);
+            } finally {
+                buffer.limit(limit);
+            }
+            return read;
+        } finally {
+            entry.decRef();
+        }
+    }
+
+    private void putBlock(String key, byte[] block) throws IOException {
+        final int slot;
+        synchronized (this) {
+            slot = acquireSlot();
+        }
+        if (slot < 0) {
+            // the cache cannot hold any block, or all evicted blocks are still being read
+            return;
+        }
+        boolean success = false;
+        try {
+            Channels.writeToChannel(block, channel, (long) slot * blockSize);
+            success = true;
+        } finally {
+            if (success == false) {
+                synchronized (this) {
+                    freedSlots.push(slot);
+                }
+            }
+        }
+        synchronized (this) {
+            final Entry previous = entries.put(key, new Entry(slot, block.length));
+            usedInBytes += block.length;
+            if (previous != null) {
+                usedInBytes -= previous.length;
+                previous.decRef();
+            }
+        }
+    }
+
+    /**
+     * Returns a slot that is not used by any block, evicting the least recently used blocks if needed, or {@code -1} if there is none.
+     */
+    private int acquireSlot() {
+        assert Thread.holdsLock(this);
+        final Iterator<Entry> iterator = entries.values().iterator();
+        while (true) {
+            if (freedSlots.isEmpty() == false) {
+                return freedSlots.pop();
+            }
+            if (nextUnusedSlot < numberOfSlots) {
+                return nextUnusedSlot++;
+            }
+            if (iterator.hasNext() == false) {
+                return -1;
+            }
+            final Entry eldest = iterator.next();
+            iterator.remove();
+            usedInBytes -= eldest.length;
+            evictions.inc();
+            // frees the slot right away unless the block is being read
+            eldest.decRef();
+        }
+    }
+
+    /**
+     * Returns the statistics of this cache.
+     */
+    public FileBlockCacheStats stats() {
+        final long used;
+        synchronized (this) {
+            used = usedInBytes;
+        }
+        return new FileBlockCacheStats(hits.count(), misses.count(), evictions.count(), bytesFetched.count(), used, sizeInBytes);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * A cached block. The cache holds a reference until the block is evicted, and readers hold one while they read from its slot, which
+     * is freed once all references are released.
+     */
+    private final class Entry extends AbstractRefCounted {
+        private final int slot;
+        private final int length;
+
+        Entry(int slot, int length) {
+            super("cached block");
+            this.slot = slot;
+            this.length = length;
+        }
+
+        @Override
+        protected void closeInternal() {
+            synchronized (FileBlockCache.this) {
+                freedSlots.push(slot);
+            }
+        }
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.store.remote;
+
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.io.stream.Writeable;
+import org.opensearch.common.unit.ByteSizeValue;
+import org.opensearch.common.xcontent.ToXContentFragment;
+import org.opensearch.common.xcontent.XContentBuilder;
+
+import java.io.IOException;
+
+/**
+ * Statistics of a {@link FileBlockCache}.
+ */
+public class FileBlockCacheStats implements Writeable, ToXContentFragment {
+
+    private final long hits;
+    private final long misses;
+    private final long evictions;
+    private final long bytesFetched;
+    private final long usedInBytes;
+    private final long sizeInBytes;
+
+    public FileBlockCacheStats(long hits, long misses, long evictions, long bytesFetched, long usedInBytes, long sizeInBytes) {
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+        this.bytesFetched = bytesFetched;
+        this.usedInBytes = usedInBytes;
+        this.sizeInBytes = sizeInBytes;
+    }
+
+    public FileBlockCacheStats(StreamInput in) throws IOException {
+        hits = in.readVLong();
+        misses = in.readVLong();
+        evictions = in.readVLong();
+        bytesFetched = in.readVLong();
+        usedInBytes = in.readVLong();
+        sizeInBytes = in.readVLong();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeVLong(hits);
+        out.writeVLong(misses);
+        out.writeVLong(evictions);
+        out.writeVLong(bytesFetched);
+        out.writeVLong(usedInBytes);
+        out.writeVLong(sizeInBytes);
+    }
+
+    /**
+     * The number of block reads that were served from the cache.
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * The number of block reads that had to fetch the block from the repository.
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * The ratio of block reads that were served from the cache, {@code 0} if no block was read yet.
+     */
+    public double getHitRatio() {
+        final long total = hits + misses;
+        return total == 0 ? 0.0d : (double) hits / total;
+    }
+
+    /**
+     * The number of blocks that were evicted to make room for other blocks.
+     */
+    public long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * The number of bytes fetched from the repository.
+     */
+    public long getBytesFetched() {
+        return bytesFetched;
+    }
+
+    /**
+     * The number of bytes of blocks currently held on disk.
+     */
+    public long getUsedInBytes() {
+        return usedInBytes;
+    }
+
+    /**
+     * The maximum number of bytes of blocks held on disk.
+     */
+    public long getSizeInBytes() {
+        return sizeInBytes;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject(Fields.SEARCHABLE_SNAPSHOT_CACHE);
+        builder.field(Fields.HITS, hits);
+        builder.field(Fields.MISSES, misses);
+        builder.field(Fields.HIT_RATIO, getHitRatio());
+        builder.field(Fields.EVICTIONS, evictions);
+        builder.humanReadableField(Fields.FETCHED_IN_BYTES, Fields.FETCHED, new ByteSizeValue(bytesFetched));
+        builder.humanReadableField(Fields.USED_IN_BYTES, Fields.USED, new ByteSizeValue(usedInBytes));
+        builder.humanReadableField(Fields.SIZE_IN_BYTES, Fields.SIZE, new ByteSizeValue(sizeInBytes));
+        builder.endObject();
+        return builder;
+    }
+
+    static final class Fields {
+        static final String SEARCHABLE_SNAPSHOT_CACHE = "searchable_snapshot_cache";
+        static final String HITS = "hits";
+        static final String MISSES = "misses";
+        static final String HIT_RATIO = "hit_ratio";
+        static final String EVICTIONS = "evictions";
+        static final String FETCHED = "fetched";
+        static final String FETCHED_IN_BYTES = "fetched_in_bytes";
+        static final String USED = "used";
+        static final String USED_IN_BYTES = "used_in_bytes";
+        static final String SIZE = "size";
+        static final String SIZE_IN_BYTES = "size_in_bytes";
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.store.remote;
+
+import org.apache.lucene.store.BaseDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.store.IndexOutput;
+import org.apache.lucene.store.NoLockFactory;
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.blobstore.BlobContainer;
+import org.opensearch.common.lucene.store.ByteArrayIndexInput;
+import org.opensearch.index.snapshots.blobstore.BlobStoreIndexShardSnapshot;
+import org.opensearch.index.snapshots.blobstore.BlobStoreIndexShardSnapshot.FileInfo;
+
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A read-only {@link Directory} over the files of a shard snapshot in a blob store repository. Files are not copied to the local disk
+ * when the shard is opened, instead their contents are read on demand and kept in a {@link FileBlockCache}.
+ *
+ * The shard snapshot is only loaded on first access since creating the directory happens on the cluster applier thread that must not
+ * block on the repository.
+ */
+public final class RemoteSnapshotDirectory extends BaseDirectory {
+
+    private final Supplier<BlobContainer> containerSupplier;
+    private final Function<BlobContainer, BlobStoreIndexShardSnapshot> snapshotLoader;
+    private final String cacheKeyPrefix;
+    private final FileBlockCache cache;
+
+    private final Object mutex = new Object();
+    private volatile BlobContainer container;
+    private volatile Map<String, FileInfo> files;
+
+    /**
+     * @param containerSupplier supplies the blob container of the shard in the repository
+     * @param snapshotLoader    loads the shard snapshot from the blob container of the shard
+     * @param cacheKeyPrefix    a prefix that makes the names of the files unique across all shard snapshots that use the same cache
+     * @param cache             the cache that the blocks of the files are kept in
+     */
+    public RemoteSnapshotDirectory(Supplier<BlobContainer> containerSupplier,
+                                   Function<BlobContainer, BlobStoreIndexShardSnapshot> snapshotLoader,
+                                   String cacheKeyPrefix, FileBlockCache cache) {
+        super(NoLockFactory.INSTANCE);
+        this.containerSupplier = containerSupplier;
+        this.snapshotLoader = snapshotLoader;
+        this.cacheKeyPrefix = cacheKeyPrefix;
+        this.cache = cache;
+    }
+
+    private Map<String, FileInfo> files() {
+        Map<String, FileInfo> files = this.files;
+        if (files == null) {
+            synchronized (mutex) {
+                files = this.files;
+                if (files == null) {
+                    final BlobContainer container = containerSupplier.get();
+                    final BlobStoreIndexShardSnapshot snapshot = snapshotLoader.apply(container);
+                    files = new HashMap<>();
+                    for (FileInfo fileInfo : snapshot.indexFiles()) {
+                        files.put(fileInfo.physicalName(), fileInfo);
+                    }
+                    files = Collections.unmodifiableMap(files);
+                    this.container = container;
+                    this.files = files;
+                }
+            }
+        }
+        return files;
+    }
+
+    private FileInfo fileInfo(String name) throws NoSuchFileException {
+        final FileInfo fileInfo = files().get(name);
+        if (fileInfo == null) {
+            throw new NoSuchFileException("file [" + name + "] does not exist in the shard snapshot");
+        }
+        return fileInfo;
+    }
+
+    @Override
+    public String[] listAll() {
+        return files().keySet().stream().sorted().toArray(String[]::new);
+    }
+
+    @Override
+    public long fileLength(String name) throws IOException {
+        return fileInfo(name).length();
+    }
+
+    @Override
+    public IndexInput openInput(String name, IOContext context) throws IOException {
+        ensureOpen();
+        final FileInfo fileInfo = fileInfo(name);
+        final String resourceDescription = "RemoteSnapshotDirectory(" + name + ")";
+        if (fileInfo.name().startsWith("v__")) {
+            // virtual files are not uploaded to the repository, their contents are stored in the shard snapshot itself
+            final BytesRef hash = fileInfo.metadata().hash();
+            return new ByteArrayIndexInput(resourceDescription, hash.bytes, hash.offset, hash.length);
+        }
+        final BlockIndexInput.RemoteFile file = new BlockIndexInput.RemoteFile(cacheKeyPrefix + '/' + fileInfo.name(), fileInfo,
+            container, cache);
+        return new BlockIndexInput(resourceDescription, file);
+    }
+
+    @Override
+    public Set<String> getPendingDeletions() {
+        return Collections.emptySet();
+    }
+
+    @Override
+    public void close() {
+        isOpen = false;
+    }
+
+    @Override
+    public void deleteFile(String name) {
+        throw unsupportedOperation();
+    }
+
+    @Override
+    public IndexOutput createOutput(String name, IOContext context) {
+        throw unsupportedOperation();
+    }
+
+    @Override
+    public IndexOutput createTempOutput(String prefix, String suffix, IOContext context) {
+        throw unsupportedOperation();
+    }
+
+    @Override
+    public void sync(Collection<String> names) {
+        throw unsupportedOperation();
+    }
+
+    @Override
+    public void syncMetaData() {
+        throw unsupportedOperation();
+    }
+
+    @Override
+    public void rename(String source, String dest) {
+        throw unsupportedOperation();
+    }
+
+    private static UnsupportedOperationException unsupportedOperation() {
+        return new UnsupportedOperationException("shard snapshots are read-only");
+    }
+
+    @Override
+    public String toString() {
+        return "RemoteSnapshotDirectory(" + cacheKeyPrefix + ")";
+    }
+}
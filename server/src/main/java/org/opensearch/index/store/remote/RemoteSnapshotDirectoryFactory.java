@@ -0,0 +1,91 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.store.remote;
+
+import org.apache.lucene.store.Directory;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.index.IndexModule;
+import org.opensearch.index.IndexSettings;
+import org.opensearch.index.shard.ShardPath;
+import org.opensearch.plugins.IndexStorePlugin;
+import org.opensearch.repositories.IndexId;
+import org.opensearch.repositories.RepositoriesService;
+import org.opensearch.repositories.Repository;
+import org.opensearch.repositories.RepositoryException;
+import org.opensearch.repositories.blobstore.BlobStoreRepository;
+import org.opensearch.snapshots.SnapshotId;
+
+import java.util.function.Supplier;
+
+/**
+ * Creates {@link RemoteSnapshotDirectory} instances for indices with the store type {@value #STORE_TYPE}. Such indices are mounted
+ * from a snapshot in a blob store repository: the repository, snapshot and index they are read from are recorded in private index
+ * settings when the index is restored.
+ */
+public final class RemoteSnapshotDirectoryFactory implements IndexStorePlugin.DirectoryFactory {
+
+    public static final String STORE_TYPE = "remote_snapshot";
+
+    public static final Setting<String> SEARCHABLE_SNAPSHOT_REPOSITORY = Setting.simpleString("index.searchable_snapshot.repository",
+        Property.IndexScope, Property.PrivateIndex);
+
+    public static final Setting<String> SEARCHABLE_SNAPSHOT_ID_UUID = Setting.simpleString("index.searchable_snapshot.snapshot_id.uuid",
+        Property.IndexScope, Property.PrivateIndex);
+
+    public static final Setting<String> SEARCHABLE_SNAPSHOT_ID_NAME = Setting.simpleString("index.searchable_snapshot.snapshot_id.name",
+        Property.IndexScope, Property.PrivateIndex);
+
+    public static final Setting<String> SEARCHABLE_SNAPSHOT_INDEX_ID = Setting.simpleString("index.searchable_snapshot.index.id",
+        Property.IndexScope, Property.PrivateIndex);
+
+    private final Supplier<RepositoriesService> repositoriesService;
+    @Nullable
+    private final FileBlockCache cache;
+
+    /**
+     * @param cache the cache of the blocks read from the repository, {@code null} on nodes that cannot hold data
+     */
+    public RemoteSnapshotDirectoryFactory(Supplier<RepositoriesService> repositoriesService, @Nullable FileBlockCache cache) {
+        this.repositoriesService = repositoriesService;
+        this.cache = cache;
+    }
+
+    /**
+     * Returns {@code true} if the given index settings belong to an index that is read from a snapshot.
+     */
+    public static boolean isRemoteSnapshot(Settings indexSettings) {
+        return STORE_TYPE.equals(IndexModule.INDEX_STORE_TYPE_SETTING.get(indexSettings));
+    }
+
+    @Override
+    public Directory newDirectory(IndexSettings indexSettings, ShardPath shardPath) {
+        if (cache == null) {
+            throw new IllegalStateException("shards of index [" + indexSettings.getIndex().getName() + "] are read from a snapshot and "
+                + "can only be allocated to data nodes");
+        }
+        final Settings settings = indexSettings.getSettings();
+        final String repositoryName = SEARCHABLE_SNAPSHOT_REPOSITORY.get(settings);
+        final Repository repository = repositoriesService.get().repository(repositoryName);
+        if (repository instanceof BlobStoreRepository == false) {
+            throw new RepositoryException(repositoryName, "searchable snapshots are only supported on blob store repositories");
+        }
+        final BlobStoreRepository blobStoreRepository = (BlobStoreRepository) repository;
+        final SnapshotId snapshotId = new SnapshotId(SEARCHABLE_SNAPSHOT_ID_NAME.get(settings), SEARCHABLE_SNAPSHOT_ID_UUID.get(settings));
+        final IndexId indexId = new IndexId(indexSettings.getIndex().getName(), SEARCHABLE_SNAPSHOT_INDEX_ID.get(settings));
+        final int shardId = shardPath.getShardId().id();
+        return new RemoteSnapshotDirectory(
+            () -> blobStoreRepository.shardContainer(indexId, shardId),
+            container -> blobStoreRepository.loadShardSnapshot(container, snapshotId),
+            repositoryName + '/' + indexId.getId() + '/' + shardId,
+            cache);
+    }
+}
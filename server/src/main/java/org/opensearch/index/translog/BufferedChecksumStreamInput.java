@@ -33,6 +33,7 @@
 package org.opensearch.index.translog;
 
 import org.apache.lucene.store.BufferedChecksum;
+import org.opensearch.common.bytes.ReleasableBytesReference;
 import org.opensearch.common.io.stream.FilterStreamInput;
 import org.opensearch.common.io.stream.StreamInput;
 
@@ -85,6 +86,12 @@ public final class BufferedChecksumStreamInput extends FilterStreamInput {
 
     private static final ThreadLocal<byte[]> buffer = ThreadLocal.withInitial(() -> new byte[8]);
 
+    @Override
+    public ReleasableBytesReference readReleasableBytesReference() throws IOException {
+        // the bytes have to pass through the checksum, so they cannot be handed out as a slice of the underlying stream
+        return ReleasableBytesReference.wrap(readBytesReference());
+    }
+
     @Override
     public short readShort() throws IOException {
         final byte[] buf = buffer.get();
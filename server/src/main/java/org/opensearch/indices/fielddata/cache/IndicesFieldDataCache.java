@@ -107,7 +107,7 @@ public class IndicesFieldDataCache implements RemovalListener<IndicesFieldDataCa
             try {
                 listener.onRemoval(
                     key.shardId, indexCache.fieldName,
-                    notification.getRemovalReason() == RemovalNotification.RemovalReason.EVICTED, value.ramBytesUsed()
+                    notification.getRemovalReason() == RemovalNotification.RemovalReason.EVICTED, value
                 );
             } catch (Exception e) {
                 // load anyway since listeners should not throw exceptions
@@ -38,10 +38,13 @@ import org.opensearch.common.collect.Tuple;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.function.LongSupplier;
 import java.util.stream.Collectors;
 
@@ -180,6 +183,81 @@ public class CompoundProcessor implements Processor {
         });
     }
 
+    @Override
+    public void batchExecute(List<IngestDocumentWrapper> ingestDocumentWrappers, Consumer<List<IngestDocumentWrapper>> handler) {
+        innerBatchExecute(0, ingestDocumentWrappers, handler);
+    }
+
+    /**
+     * Executes the processors on a batch of documents the way {@link #innerExecute} does on a single one. Documents that fail are taken
+     * out of the batch and go through the on failure processors on their own, while the others move on to the next processor together.
+     */
+    void innerBatchExecute(int currentProcessor, List<IngestDocumentWrapper> ingestDocumentWrappers,
+                           Consumer<List<IngestDocumentWrapper>> handler) {
+        if (currentProcessor == processorsWithMetrics.size() || ingestDocumentWrappers.isEmpty()) {
+            handler.accept(ingestDocumentWrappers);
+            return;
+        }
+
+        Tuple<Processor, IngestMetric> processorWithMetric = processorsWithMetrics.get(currentProcessor);
+        final Processor processor = processorWithMetric.v1();
+        final IngestMetric metric = processorWithMetric.v2();
+        final long startTimeInNanos = relativeTimeProvider.getAsLong();
+        final Map<Integer, IngestDocument> documentsBySlot = new HashMap<>(ingestDocumentWrappers.size());
+        for (IngestDocumentWrapper wrapper : ingestDocumentWrappers) {
+            metric.preIngest();
+            documentsBySlot.put(wrapper.getSlot(), wrapper.getIngestDocument());
+        }
+        processor.batchExecute(ingestDocumentWrappers, results -> {
+            long ingestTimeInMillis = TimeUnit.NANOSECONDS.toMillis(relativeTimeProvider.getAsLong() - startTimeInNanos);
+            final List<IngestDocumentWrapper> next = new ArrayList<>(results.size());
+            final List<IngestDocumentWrapper> finished = Collections.synchronizedList(new ArrayList<>());
+            final List<IngestDocumentWrapper> failed = new ArrayList<>();
+            for (IngestDocumentWrapper result : results) {
+                // the batch took this long as a whole, so its time is only accounted once
+                metric.postIngest(ingestTimeInMillis);
+                ingestTimeInMillis = 0;
+                if (result.getException() != null) {
+                    metric.ingestFailed();
+                    final IngestDocument ingestDocument = documentsBySlot.get(result.getSlot());
+                    if (ignoreFailure) {
+                        next.add(new IngestDocumentWrapper(result.getSlot(), ingestDocument, null));
+                    } else {
+                        failed.add(new IngestDocumentWrapper(result.getSlot(), ingestDocument,
+                            newCompoundProcessorException(result.getException(), processor, ingestDocument)));
+                    }
+                } else if (result.getIngestDocument() == null) {
+                    finished.add(result);
+                } else {
+                    next.add(result);
+                }
+            }
+
+            final AtomicInteger pending = new AtomicInteger(failed.size() + 1);
+            final Runnable onPartDone = () -> {
+                if (pending.decrementAndGet() == 0) {
+                    handler.accept(finished);
+                }
+            };
+            for (IngestDocumentWrapper failure : failed) {
+                if (onFailureProcessors.isEmpty()) {
+                    finished.add(failure);
+                    onPartDone.run();
+                } else {
+                    executeOnFailureAsync(0, failure.getIngestDocument(), (IngestProcessorException) failure.getException(),
+                        (result, e) -> {
+                            finished.add(new IngestDocumentWrapper(failure.getSlot(), result, e));
+                            onPartDone.run();
+                        });
+                }
+            }
+            innerBatchExecute(currentProcessor + 1, next, nextResults -> {
+                finished.addAll(nextResults);
+                onPartDone.run();
+            });
+        });
+    }
+
     void executeOnFailureAsync(int currentOnFailureProcessor, IngestDocument ingestDocument, OpenSearchException exception,
                                BiConsumer<IngestDocument, Exception> handler) {
         if (currentOnFailureProcessor == 0) {
@@ -0,0 +1,54 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.ingest;
+
+import org.opensearch.script.TemplateScript;
+
+import java.util.Map;
+
+/**
+ * A template without any template snippets, which always renders to the same value. {@link IngestDocument} recognizes these so that it
+ * can skip building the template model, and parses them once if they are used as field paths.
+ */
+final class ConstantTemplateScriptFactory implements TemplateScript.Factory {
+
+    private final String value;
+    private IngestDocument.ParsedPath parsedPath;
+
+    ConstantTemplateScriptFactory(String value) {
+        this.value = value;
+    }
+
+    @Override
+    public TemplateScript newInstance(Map<String, Object> params) {
+        return new TemplateScript(params) {
+            @Override
+            public String execute() {
+                return value;
+            }
+        };
+    }
+
+    String getValue() {
+        return value;
+    }
+
+    /**
+     * Returns the value parsed as a field path. Processors may be called concurrently, but parsing is idempotent and the parsed path
+     * immutable, so at worst a few threads parse it at the same time.
+     */
+    IngestDocument.ParsedPath getParsedPath() {
+        IngestDocument.ParsedPath parsedPath = this.parsedPath;
+        if (parsedPath == null) {
+            parsedPath = new IngestDocument.ParsedPath(value);
+            this.parsedPath = parsedPath;
+        }
+        return parsedPath;
+    }
+}
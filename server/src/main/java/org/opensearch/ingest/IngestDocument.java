@@ -57,6 +57,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 /**
  * Represents a single document being captured before indexing and holds the source and metadata (like id, type and index).
@@ -123,7 +124,11 @@ public final class IngestDocument {
      * or if the field that is found at the provided path is not of the expected type.
      */
     public <T> T getFieldValue(String path, Class<T> clazz) {
-        FieldPath fieldPath = new FieldPath(path);
+        return getFieldValue(new FieldPath(path), clazz);
+    }
+
+    private <T> T getFieldValue(FieldPath fieldPath, Class<T> clazz) {
+        final String path = fieldPath.path;
         Object context = fieldPath.initialContext;
         for (String pathElement : fieldPath.pathElements) {
             context = resolve(pathElement, path, context);
@@ -162,7 +167,7 @@ public final class IngestDocument {
      * or if the field that is found at the provided path is not of the expected type.
      */
     public <T> T getFieldValue(TemplateScript.Factory pathTemplate, Class<T> clazz) {
-        return getFieldValue(renderTemplate(pathTemplate), clazz);
+        return getFieldValue(newFieldPath(pathTemplate), clazz);
     }
 
     /**
@@ -209,7 +214,7 @@ public final class IngestDocument {
      * @throws IllegalArgumentException if the path is null, empty or invalid
      */
     public boolean hasField(TemplateScript.Factory fieldPathTemplate) {
-        return hasField(renderTemplate(fieldPathTemplate));
+        return hasField(newFieldPath(fieldPathTemplate), false);
     }
 
     /**
@@ -230,7 +235,11 @@ public final class IngestDocument {
      * @throws IllegalArgumentException if the path is null, empty or invalid.
      */
     public boolean hasField(String path, boolean failOutOfRange) {
-        FieldPath fieldPath = new FieldPath(path);
+        return hasField(new FieldPath(path), failOutOfRange);
+    }
+
+    private boolean hasField(FieldPath fieldPath, boolean failOutOfRange) {
+        final String path = fieldPath.path;
         Object context = fieldPath.initialContext;
         for (int i = 0; i < fieldPath.pathElements.length - 1; i++) {
             String pathElement = fieldPath.pathElements[i];
@@ -298,7 +307,7 @@ public final class IngestDocument {
      * @throws IllegalArgumentException if the path is null, empty, invalid or if the field doesn't exist.
      */
     public void removeField(TemplateScript.Factory fieldPathTemplate) {
-        removeField(renderTemplate(fieldPathTemplate));
+        removeField(newFieldPath(fieldPathTemplate));
     }
 
     /**
@@ -307,7 +316,11 @@ public final class IngestDocument {
      * @throws IllegalArgumentException if the path is null, empty, invalid or if the field doesn't exist.
      */
     public void removeField(String path) {
-        FieldPath fieldPath = new FieldPath(path);
+        removeField(new FieldPath(path));
+    }
+
+    private void removeField(FieldPath fieldPath) {
+        final String path = fieldPath.path;
         Object context = fieldPath.initialContext;
         for (int i = 0; i < fieldPath.pathElements.length - 1; i++) {
             context = resolve(fieldPath.pathElements[i], path, context);
@@ -426,8 +439,7 @@ public final class IngestDocument {
      * @throws IllegalArgumentException if the path is null, empty or invalid.
      */
     public void appendFieldValue(TemplateScript.Factory fieldPathTemplate, ValueSource valueSource) {
-        Map<String, Object> model = createTemplateModel();
-        appendFieldValue(fieldPathTemplate.newInstance(model).execute(), valueSource.copyAndResolve(model));
+        appendFieldValue(fieldPathTemplate, valueSource, true);
     }
 
     /**
@@ -444,8 +456,8 @@ public final class IngestDocument {
      * @throws IllegalArgumentException if the path is null, empty or invalid.
      */
     public void appendFieldValue(TemplateScript.Factory fieldPathTemplate, ValueSource valueSource, boolean allowDuplicates) {
-        Map<String, Object> model = createTemplateModel();
-        appendFieldValue(fieldPathTemplate.newInstance(model).execute(), valueSource.copyAndResolve(model), allowDuplicates);
+        Map<String, Object> model = createTemplateModel(fieldPathTemplate, valueSource);
+        setFieldValue(newFieldPath(fieldPathTemplate, model), valueSource.copyAndResolve(model), true, allowDuplicates);
     }
 
     /**
@@ -472,8 +484,8 @@ public final class IngestDocument {
      * item identified by the provided path.
      */
     public void setFieldValue(TemplateScript.Factory fieldPathTemplate, ValueSource valueSource) {
-        Map<String, Object> model = createTemplateModel();
-        setFieldValue(fieldPathTemplate.newInstance(model).execute(), valueSource.copyAndResolve(model), false);
+        Map<String, Object> model = createTemplateModel(fieldPathTemplate, valueSource);
+        setFieldValue(newFieldPath(fieldPathTemplate, model), valueSource.copyAndResolve(model), false, true);
     }
 
     /**
@@ -487,7 +499,7 @@ public final class IngestDocument {
      * item identified by the provided path.
      */
     public void setFieldValue(TemplateScript.Factory fieldPathTemplate, ValueSource valueSource, boolean ignoreEmptyValue) {
-        Map<String, Object> model = createTemplateModel();
+        Map<String, Object> model = createTemplateModel(fieldPathTemplate, valueSource);
         Object value = valueSource.copyAndResolve(model);
         if (ignoreEmptyValue && valueSource instanceof ValueSource.TemplatedValue) {
             if (value == null) {
@@ -499,7 +511,7 @@ public final class IngestDocument {
             }
         }
 
-        setFieldValue(fieldPathTemplate.newInstance(model).execute(), value, false);
+        setFieldValue(newFieldPath(fieldPathTemplate, model), value, false, true);
     }
 
     private void setFieldValue(String path, Object value, boolean append) {
@@ -507,7 +519,11 @@ public final class IngestDocument {
     }
 
     private void setFieldValue(String path, Object value, boolean append, boolean allowDuplicates) {
-        FieldPath fieldPath = new FieldPath(path);
+        setFieldValue(new FieldPath(path), value, append, allowDuplicates);
+    }
+
+    private void setFieldValue(FieldPath fieldPath, Object value, boolean append, boolean allowDuplicates) {
+        final String path = fieldPath.path;
         Object context = fieldPath.initialContext;
         for (int i = 0; i < fieldPath.pathElements.length - 1; i++) {
             String pathElement = fieldPath.pathElements[i];
@@ -655,9 +671,37 @@ public final class IngestDocument {
     }
 
     public String renderTemplate(TemplateScript.Factory template) {
+        if (template instanceof ConstantTemplateScriptFactory) {
+            return ((ConstantTemplateScriptFactory) template).getValue();
+        }
         return template.newInstance(createTemplateModel()).execute();
     }
 
+    /**
+     * Creates the model to render templates with, unless neither the given field path template nor the given value source are
+     * templated. Building the model copies the top level of the document, which is wasted for the common case of constant fields.
+     */
+    private Map<String, Object> createTemplateModel(TemplateScript.Factory fieldPathTemplate, ValueSource valueSource) {
+        if (fieldPathTemplate instanceof ConstantTemplateScriptFactory && valueSource.isConstant()) {
+            return Collections.emptyMap();
+        }
+        return createTemplateModel();
+    }
+
+    private FieldPath newFieldPath(TemplateScript.Factory fieldPathTemplate) {
+        if (fieldPathTemplate instanceof ConstantTemplateScriptFactory) {
+            return new FieldPath(((ConstantTemplateScriptFactory) fieldPathTemplate).getParsedPath());
+        }
+        return new FieldPath(renderTemplate(fieldPathTemplate));
+    }
+
+    private FieldPath newFieldPath(TemplateScript.Factory fieldPathTemplate, Map<String, Object> model) {
+        if (fieldPathTemplate instanceof ConstantTemplateScriptFactory) {
+            return new FieldPath(((ConstantTemplateScriptFactory) fieldPathTemplate).getParsedPath());
+        }
+        return new FieldPath(fieldPathTemplate.newInstance(model).execute());
+    }
+
     private Map<String, Object> createTemplateModel() {
         Map<String, Object> model = new HashMap<>(sourceAndMetadata);
         model.put(SourceFieldMapper.NAME, sourceAndMetadata);
@@ -766,6 +810,40 @@ public final class IngestDocument {
         }
     }
 
+    /**
+     * Executes the given pipeline on a batch of documents, the way {@link #executePipeline(Pipeline, BiConsumer)} does on a single one.
+     */
+    static void executePipeline(Pipeline pipeline, List<IngestDocumentWrapper> ingestDocumentWrappers,
+                                Consumer<List<IngestDocumentWrapper>> handler) {
+        final List<IngestDocumentWrapper> toExecute = new ArrayList<>(ingestDocumentWrappers.size());
+        final List<IngestDocumentWrapper> results = new ArrayList<>();
+        final Map<Integer, Object> previousPipelines = new HashMap<>();
+        for (IngestDocumentWrapper wrapper : ingestDocumentWrappers) {
+            final IngestDocument ingestDocument = wrapper.getIngestDocument();
+            if (ingestDocument.executedPipelines.add(pipeline.getId())) {
+                previousPipelines.put(wrapper.getSlot(), ingestDocument.ingestMetadata.put("pipeline", pipeline.getId()));
+                toExecute.add(wrapper);
+            } else {
+                results.add(new IngestDocumentWrapper(wrapper.getSlot(), null,
+                    new IllegalStateException(PIPELINE_CYCLE_ERROR_MESSAGE + pipeline.getId())));
+            }
+        }
+        pipeline.batchExecute(toExecute, executed -> {
+            for (IngestDocumentWrapper wrapper : toExecute) {
+                final IngestDocument ingestDocument = wrapper.getIngestDocument();
+                ingestDocument.executedPipelines.remove(pipeline.getId());
+                final Object previousPipeline = previousPipelines.get(wrapper.getSlot());
+                if (previousPipeline != null) {
+                    ingestDocument.ingestMetadata.put("pipeline", previousPipeline);
+                } else {
+                    ingestDocument.ingestMetadata.remove("pipeline");
+                }
+            }
+            results.addAll(executed);
+            handler.accept(results);
+        });
+    }
+
     /**
      * @return a pipeline stack; all pipelines that are in execution by this document in reverse order
      */
@@ -821,32 +899,54 @@ public final class IngestDocument {
         }
     }
 
-    private class FieldPath {
+    /**
+     * A path in dot-notation split up into its elements. This doesn't depend on any document, so paths that are the same for every
+     * document can be parsed once up front.
+     */
+    static final class ParsedPath {
 
+        private final String path;
+        private final boolean ingestMetadata;
         private final String[] pathElements;
-        private final Object initialContext;
 
-        private FieldPath(String path) {
+        ParsedPath(String path) {
             if (Strings.isEmpty(path)) {
                 throw new IllegalArgumentException("path cannot be null nor empty");
             }
             String newPath;
             if (path.startsWith(INGEST_KEY_PREFIX)) {
-                initialContext = ingestMetadata;
+                ingestMetadata = true;
                 newPath = path.substring(INGEST_KEY_PREFIX.length(), path.length());
             } else {
-                initialContext = sourceAndMetadata;
+                ingestMetadata = false;
                 if (path.startsWith(SOURCE_PREFIX)) {
                     newPath = path.substring(SOURCE_PREFIX.length(), path.length());
                 } else {
                     newPath = path;
                 }
             }
+            this.path = path;
             this.pathElements = newPath.split("\\.");
             if (pathElements.length == 1 && pathElements[0].isEmpty()) {
                 throw new IllegalArgumentException("path [" + path + "] is not valid");
             }
         }
+    }
+
+    private class FieldPath {
 
+        private final String path;
+        private final String[] pathElements;
+        private final Object initialContext;
+
+        private FieldPath(String path) {
+            this(new ParsedPath(path));
+        }
+
+        private FieldPath(ParsedPath parsedPath) {
+            this.path = parsedPath.path;
+            this.pathElements = parsedPath.pathElements;
+            this.initialContext = parsedPath.ingestMetadata ? ingestMetadata : sourceAndMetadata;
+        }
     }
 }
@@ -0,0 +1,45 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.ingest;
+
+import org.opensearch.common.Nullable;
+
+/**
+ * A document of a batch that is processed by {@link Processor#batchExecute}, along with the slot of its request in the bulk request
+ * and the failure of its processing if there was one. A wrapper without document and without failure stands for a dropped document.
+ */
+public final class IngestDocumentWrapper {
+
+    private final int slot;
+    private final IngestDocument ingestDocument;
+    private final Exception exception;
+
+    public IngestDocumentWrapper(int slot, @Nullable IngestDocument ingestDocument, @Nullable Exception exception) {
+        this.slot = slot;
+        this.ingestDocument = ingestDocument;
+        this.exception = exception;
+    }
+
+    /**
+     * The slot of the document in the bulk request, which identifies the document within its batch.
+     */
+    public int getSlot() {
+        return slot;
+    }
+
+    @Nullable
+    public IngestDocument getIngestDocument() {
+        return ingestDocument;
+    }
+
+    @Nullable
+    public Exception getException() {
+        return exception;
+    }
+}
@@ -59,6 +59,8 @@ import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.regex.Regex;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.AbstractRunnable;
@@ -79,6 +81,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -99,6 +102,13 @@ public class IngestService implements ClusterStateApplier, ReportingService<Inge
 
     public static final String INGEST_ORIGIN = "ingest";
 
+    /**
+     * The maximum number of documents of a bulk request that go through the same pipelines together, so that processors can
+     * process them as a batch, see {@link Processor#batchExecute}. Documents are processed one by one by default.
+     */
+    public static final Setting<Integer> BATCH_SIZE_SETTING =
+        Setting.intSetting("ingest.batch_size", 1, 1, Property.NodeScope, Property.Dynamic);
+
     private static final Logger logger = LogManager.getLogger(IngestService.class);
 
     private final ClusterService clusterService;
@@ -113,6 +123,7 @@ public class IngestService implements ClusterStateApplier, ReportingService<Inge
     private final IngestMetric totalMetrics = new IngestMetric();
     private final List<Consumer<ClusterState>> ingestClusterStateListeners = new CopyOnWriteArrayList<>();
     private volatile ClusterState state;
+    private volatile int batchSize = 1;
 
     public IngestService(ClusterService clusterService, ThreadPool threadPool,
                          Environment env, ScriptService scriptService, AnalysisRegistry analysisRegistry,
@@ -258,6 +269,10 @@ public class IngestService implements ClusterStateApplier, ReportingService<Inge
         return scriptService;
     }
 
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
     /**
      * Deletes the pipeline specified by id in the request.
      */
@@ -479,6 +494,9 @@ public class IngestService implements ClusterStateApplier, ReportingService<Inge
             protected void doRun() {
                 final Thread originalThread = Thread.currentThread();
                 final AtomicInteger counter = new AtomicInteger(numberOfActionRequests);
+                final int batchSize = IngestService.this.batchSize;
+                // documents that go through the same pipelines are grouped together if they are processed in batches
+                final Map<Tuple<List<String>, Boolean>, List<BatchItem>> batches = new LinkedHashMap<>();
                 int i = 0;
                 for (DocWriteRequest<?> actionRequest : actionRequests) {
                     IndexRequest indexRequest = TransportBulkAction.getIndexWriteRequest(actionRequest);
@@ -514,15 +532,165 @@ public class IngestService implements ClusterStateApplier, ReportingService<Inge
                         continue;
                     }
 
-                    executePipelines(i, pipelines.iterator(), hasFinalPipeline, indexRequest, onDropped, onFailure, counter,
-                                     onCompletion, originalThread);
+                    if (batchSize > 1) {
+                        batches.computeIfAbsent(new Tuple<>(pipelines, hasFinalPipeline), k -> new ArrayList<>())
+                            .add(new BatchItem(i, indexRequest));
+                    } else {
+                        executePipelines(i, pipelines.iterator(), hasFinalPipeline, indexRequest, onDropped, onFailure, counter,
+                                         onCompletion, originalThread);
+                    }
 
                     i++;
                 }
+                executeBatches(batches, batchSize, executorName, onDropped, onFailure, counter, onCompletion, originalThread);
+            }
+        });
+    }
+
+    /**
+     * Splits the documents that go through the same pipelines into batches of at most the given size. The batches are independent of
+     * each other, so all but the first one, which runs on the current thread, are forked to run in parallel.
+     */
+    private void executeBatches(
+        final Map<Tuple<List<String>, Boolean>, List<BatchItem>> batches,
+        final int batchSize,
+        final String executorName,
+        final IntConsumer onDropped,
+        final BiConsumer<Integer, Exception> onFailure,
+        final AtomicInteger counter,
+        final BiConsumer<Thread, Exception> onCompletion,
+        final Thread originalThread
+    ) {
+        final List<Tuple<Tuple<List<String>, Boolean>, List<BatchItem>>> chunks = new ArrayList<>();
+        for (Map.Entry<Tuple<List<String>, Boolean>, List<BatchItem>> entry : batches.entrySet()) {
+            final List<BatchItem> items = entry.getValue();
+            for (int from = 0; from < items.size(); from += batchSize) {
+                chunks.add(new Tuple<>(entry.getKey(), items.subList(from, Math.min(from + batchSize, items.size()))));
+            }
+        }
+        for (int i = 1; i < chunks.size(); i++) {
+            final Tuple<List<String>, Boolean> key = chunks.get(i).v1();
+            final List<BatchItem> items = chunks.get(i).v2();
+            threadPool.executor(executorName).execute(new AbstractRunnable() {
+                @Override
+                public boolean isForceExecution() {
+                    // the bulk request was accepted already, rejecting parts of it would fail documents that were never processed
+                    return true;
+                }
+
+                @Override
+                public void onFailure(Exception e) {
+                    // the batch did not run, e.g. because the node is shutting down
+                    for (BatchItem item : items) {
+                        onFailure.accept(item.slot, e);
+                        markCompleted(counter, onCompletion, originalThread);
+                    }
+                }
+
+                @Override
+                protected void doRun() {
+                    executePipelinesInBatch(items, key.v1(), 0, key.v2(), onDropped, onFailure, counter, onCompletion, originalThread);
+                }
+            });
+        }
+        if (chunks.isEmpty() == false) {
+            final Tuple<List<String>, Boolean> key = chunks.get(0).v1();
+            executePipelinesInBatch(chunks.get(0).v2(), key.v1(), 0, key.v2(), onDropped, onFailure, counter, onCompletion,
+                originalThread);
+        }
+    }
+
+    /**
+     * Executes the pipeline at the given index on a batch of documents, the way {@link #executePipelines} does on a single document.
+     * Documents whose target index is changed by the pipeline continue with the pipelines of their new index one by one.
+     */
+    private void executePipelinesInBatch(
+        final List<BatchItem> items,
+        final List<String> pipelineIds,
+        final int pipelineIndex,
+        final boolean hasFinalPipeline,
+        final IntConsumer onDropped,
+        final BiConsumer<Integer, Exception> onFailure,
+        final AtomicInteger counter,
+        final BiConsumer<Thread, Exception> onCompletion,
+        final Thread originalThread
+    ) {
+        final String pipelineId = pipelineIds.get(pipelineIndex);
+        final PipelineHolder holder = pipelines.get(pipelineId);
+        if (holder == null) {
+            for (BatchItem item : items) {
+                onFailure.accept(item.slot, new IllegalArgumentException("pipeline with id [" + pipelineId + "] does not exist"));
+                markCompleted(counter, onCompletion, originalThread);
+            }
+            return;
+        }
+
+        final List<BatchItem> toExecute = new ArrayList<>(items.size());
+        final List<IngestDocumentWrapper> ingestDocumentWrappers = new ArrayList<>(items.size());
+        final Map<Integer, String> originalIndices = new HashMap<>();
+        for (BatchItem item : items) {
+            final IndexRequest indexRequest = item.indexRequest;
+            try {
+                ingestDocumentWrappers.add(new IngestDocumentWrapper(item.slot, toIngestDocument(indexRequest), null));
+            } catch (Exception e) {
+                logger.debug(() -> new ParameterizedMessage("failed to execute pipeline [{}] for document [{}/{}]",
+                    pipelineId, indexRequest.index(), indexRequest.id()), e);
+                onFailure.accept(item.slot, e);
+                markCompleted(counter, onCompletion, originalThread);
+                continue;
+            }
+            toExecute.add(item);
+            originalIndices.put(item.slot, indexRequest.indices()[0]);
+        }
+
+        innerBatchExecute(holder.pipeline, toExecute, ingestDocumentWrappers, onDropped, failures -> {
+            final List<BatchItem> next = new ArrayList<>(toExecute.size());
+            for (BatchItem item : toExecute) {
+                final IndexRequest indexRequest = item.indexRequest;
+                final Exception e = failures.get(item.slot);
+                if (e != null) {
+                    logger.debug(() -> new ParameterizedMessage("failed to execute pipeline [{}] for document [{}/{}]",
+                        pipelineId, indexRequest.index(), indexRequest.id()), e);
+                    onFailure.accept(item.slot, e);
+                }
+
+                final boolean lastPipeline = pipelineIndex == pipelineIds.size() - 1;
+                if (Objects.equals(originalIndices.get(item.slot), indexRequest.indices()[0]) == false) {
+                    if (hasFinalPipeline && lastPipeline) {
+                        totalMetrics.ingestFailed();
+                        onFailure.accept(item.slot, new IllegalStateException("final pipeline [" + pipelineId +
+                            "] can't change the target index"));
+                        markCompleted(counter, onCompletion, originalThread);
+                    } else {
+                        indexRequest.isPipelineResolved(false);
+                        resolvePipelines(null, indexRequest, state.metadata());
+                        if (IngestService.NOOP_PIPELINE_NAME.equals(indexRequest.getFinalPipeline()) == false) {
+                            executePipelines(item.slot, Collections.singleton(indexRequest.getFinalPipeline()).iterator(), true,
+                                indexRequest, onDropped, onFailure, counter, onCompletion, originalThread);
+                        } else {
+                            markCompleted(counter, onCompletion, originalThread);
+                        }
+                    }
+                } else if (lastPipeline) {
+                    markCompleted(counter, onCompletion, originalThread);
+                } else {
+                    next.add(item);
+                }
+            }
+            if (next.isEmpty() == false) {
+                executePipelinesInBatch(next, pipelineIds, pipelineIndex + 1, hasFinalPipeline, onDropped, onFailure, counter,
+                    onCompletion, originalThread);
             }
         });
     }
 
+    private static void markCompleted(AtomicInteger counter, BiConsumer<Thread, Exception> onCompletion, Thread originalThread) {
+        if (counter.decrementAndGet() == 0) {
+            onCompletion.accept(originalThread, null);
+        }
+        assert counter.get() >= 0;
+    }
+
     private void executePipelines(
         final int slot,
         final Iterator<String> it,
@@ -610,7 +778,8 @@ public class IngestService implements ClusterStateApplier, ReportingService<Inge
             processorMetrics.forEach(t -> {
                 Processor processor = t.v1();
                 IngestMetric processorMetric = t.v2();
-                statsBuilder.addProcessorMetrics(id, getProcessorName(processor), processor.getType(), processorMetric);
+                statsBuilder.addProcessorMetrics(id, getProcessorName(processor), processor.getType(), processorMetric,
+                    getDetailedStats(processor));
             });
         });
         return statsBuilder.build();
@@ -627,6 +796,13 @@ public class IngestService implements ClusterStateApplier, ReportingService<Inge
         ingestClusterStateListeners.add(listener);
     }
 
+    private static Map<String, IngestStats.Stats> getDetailedStats(Processor processor) {
+        if (processor instanceof ConditionalProcessor) {
+            processor = ((ConditionalProcessor) processor).getInnerProcessor();
+        }
+        return processor.getDetailedStats();
+    }
+
     //package private for testing
     static String getProcessorName(Processor processor) {
         // conditionals are implemented as wrappers around the real processor, so get the real processor for the correct type for the name
@@ -660,14 +836,7 @@ public class IngestService implements ClusterStateApplier, ReportingService<Inge
         // the pipeline specific stat holder may not exist and that is fine:
         // (e.g. the pipeline may have been removed while we're ingesting a document
         totalMetrics.preIngest();
-        String index = indexRequest.index();
-        String type = indexRequest.type();
-        String id = indexRequest.id();
-        String routing = indexRequest.routing();
-        Long version = indexRequest.version();
-        VersionType versionType = indexRequest.versionType();
-        Map<String, Object> sourceAsMap = indexRequest.sourceAsMap();
-        IngestDocument ingestDocument = new IngestDocument(index, type, id, routing, version, versionType, sourceAsMap);
+        IngestDocument ingestDocument = toIngestDocument(indexRequest);
         ingestDocument.executePipeline(pipeline, (result, e) -> {
             long ingestTimeInMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTimeInNanos);
             totalMetrics.postIngest(ingestTimeInMillis);
@@ -678,29 +847,92 @@ public class IngestService implements ClusterStateApplier, ReportingService<Inge
                 itemDroppedHandler.accept(slot);
                 handler.accept(null);
             } else {
-                Map<IngestDocument.Metadata, Object> metadataMap = ingestDocument.extractMetadata();
-                //it's fine to set all metadata fields all the time, as ingest document holds their starting values
-                //before ingestion, which might also get modified during ingestion.
-                indexRequest.index((String) metadataMap.get(IngestDocument.Metadata.INDEX));
-                indexRequest.type((String) metadataMap.get(IngestDocument.Metadata.TYPE));
-                indexRequest.id((String) metadataMap.get(IngestDocument.Metadata.ID));
-                indexRequest.routing((String) metadataMap.get(IngestDocument.Metadata.ROUTING));
-                indexRequest.version(((Number) metadataMap.get(IngestDocument.Metadata.VERSION)).longValue());
-                if (metadataMap.get(IngestDocument.Metadata.VERSION_TYPE) != null) {
-                    indexRequest.versionType(VersionType.fromString((String) metadataMap.get(IngestDocument.Metadata.VERSION_TYPE)));
-                }
-                if (metadataMap.get(IngestDocument.Metadata.IF_SEQ_NO) != null) {
-                    indexRequest.setIfSeqNo(((Number) metadataMap.get(IngestDocument.Metadata.IF_SEQ_NO)).longValue());
-                }
-                if (metadataMap.get(IngestDocument.Metadata.IF_PRIMARY_TERM) != null) {
-                    indexRequest.setIfPrimaryTerm(((Number) metadataMap.get(IngestDocument.Metadata.IF_PRIMARY_TERM)).longValue());
-                }
-                indexRequest.source(ingestDocument.getSourceAndMetadata(), indexRequest.getContentType());
+                updateIndexRequest(indexRequest, ingestDocument);
                 handler.accept(null);
             }
         });
     }
 
+    private void innerBatchExecute(Pipeline pipeline, List<BatchItem> items, List<IngestDocumentWrapper> ingestDocumentWrappers,
+                                   IntConsumer itemDroppedHandler, Consumer<Map<Integer, Exception>> handler) {
+        if (pipeline.getProcessors().isEmpty() || items.isEmpty()) {
+            handler.accept(Collections.emptyMap());
+            return;
+        }
+
+        long startTimeInNanos = System.nanoTime();
+        for (int i = 0; i < items.size(); i++) {
+            totalMetrics.preIngest();
+        }
+        final Map<Integer, IndexRequest> indexRequests = new HashMap<>();
+        for (BatchItem item : items) {
+            indexRequests.put(item.slot, item.indexRequest);
+        }
+        IngestDocument.executePipeline(pipeline, ingestDocumentWrappers, results -> {
+            long ingestTimeInMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTimeInNanos);
+            final Map<Integer, Exception> failures = new HashMap<>();
+            for (IngestDocumentWrapper result : results) {
+                // the batch took this long as a whole, so its time is only accounted once
+                totalMetrics.postIngest(ingestTimeInMillis);
+                ingestTimeInMillis = 0;
+                if (result.getException() != null) {
+                    totalMetrics.ingestFailed();
+                    failures.put(result.getSlot(), result.getException());
+                } else if (result.getIngestDocument() == null) {
+                    itemDroppedHandler.accept(result.getSlot());
+                } else {
+                    updateIndexRequest(indexRequests.get(result.getSlot()), result.getIngestDocument());
+                }
+            }
+            handler.accept(failures);
+        });
+    }
+
+    private static IngestDocument toIngestDocument(IndexRequest indexRequest) {
+        String index = indexRequest.index();
+        String type = indexRequest.type();
+        String id = indexRequest.id();
+        String routing = indexRequest.routing();
+        Long version = indexRequest.version();
+        VersionType versionType = indexRequest.versionType();
+        Map<String, Object> sourceAsMap = indexRequest.sourceAsMap();
+        return new IngestDocument(index, type, id, routing, version, versionType, sourceAsMap);
+    }
+
+    private static void updateIndexRequest(IndexRequest indexRequest, IngestDocument ingestDocument) {
+        Map<IngestDocument.Metadata, Object> metadataMap = ingestDocument.extractMetadata();
+        //it's fine to set all metadata fields all the time, as ingest document holds their starting values
+        //before ingestion, which might also get modified during ingestion.
+        indexRequest.index((String) metadataMap.get(IngestDocument.Metadata.INDEX));
+        indexRequest.type((String) metadataMap.get(IngestDocument.Metadata.TYPE));
+        indexRequest.id((String) metadataMap.get(IngestDocument.Metadata.ID));
+        indexRequest.routing((String) metadataMap.get(IngestDocument.Metadata.ROUTING));
+        indexRequest.version(((Number) metadataMap.get(IngestDocument.Metadata.VERSION)).longValue());
+        if (metadataMap.get(IngestDocument.Metadata.VERSION_TYPE) != null) {
+            indexRequest.versionType(VersionType.fromString((String) metadataMap.get(IngestDocument.Metadata.VERSION_TYPE)));
+        }
+        if (metadataMap.get(IngestDocument.Metadata.IF_SEQ_NO) != null) {
+            indexRequest.setIfSeqNo(((Number) metadataMap.get(IngestDocument.Metadata.IF_SEQ_NO)).longValue());
+        }
+        if (metadataMap.get(IngestDocument.Metadata.IF_PRIMARY_TERM) != null) {
+            indexRequest.setIfPrimaryTerm(((Number) metadataMap.get(IngestDocument.Metadata.IF_PRIMARY_TERM)).longValue());
+        }
+        indexRequest.source(ingestDocument.getSourceAndMetadata(), indexRequest.getContentType());
+    }
+
+    /**
+     * A document of a bulk request that is processed as part of a batch, along with its slot in the bulk request.
+     */
+    private static final class BatchItem {
+        final int slot;
+        final IndexRequest indexRequest;
+
+        BatchItem(int slot, IndexRequest indexRequest) {
+            this.slot = slot;
+            this.indexRequest = indexRequest;
+        }
+    }
+
     @Override
     public void applyClusterState(final ClusterChangedEvent event) {
         state = event.state();
@@ -33,6 +33,7 @@
 package org.opensearch.ingest;
 
 import org.opensearch.LegacyESVersion;
+import org.opensearch.Version;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.io.stream.Writeable;
@@ -88,7 +89,11 @@ public class IngestStats implements Writeable, ToXContentFragment {
                         processorType = in.readString();
                     }
                     Stats processorStat = new Stats(in);
-                    processorStatsPerPipeline.add(new ProcessorStat(processorName, processorType, processorStat));
+                    Map<String, Stats> detailedStats = Collections.emptyMap();
+                    if (in.getVersion().onOrAfter(Version.V_1_1_0)) {
+                        detailedStats = in.readMap(StreamInput::readString, Stats::new);
+                    }
+                    processorStatsPerPipeline.add(new ProcessorStat(processorName, processorType, processorStat, detailedStats));
                 }
                 this.processorStats.put(pipelineId, processorStatsPerPipeline);
             }
@@ -114,6 +119,9 @@ public class IngestStats implements Writeable, ToXContentFragment {
                             out.writeString(processorStat.getType());
                         }
                         processorStat.getStats().writeTo(out);
+                        if (out.getVersion().onOrAfter(Version.V_1_1_0)) {
+                            out.writeMap(processorStat.getDetailedStats(), StreamOutput::writeString, (o, stats) -> stats.writeTo(o));
+                        }
                     }
                 }
             }
@@ -140,6 +148,15 @@ public class IngestStats implements Writeable, ToXContentFragment {
                     builder.startObject("stats");
                     processorStat.getStats().toXContent(builder, params);
                     builder.endObject();
+                    if (processorStat.getDetailedStats().isEmpty() == false) {
+                        builder.startObject("detailed_stats");
+                        for (Map.Entry<String, Stats> entry : processorStat.getDetailedStats().entrySet()) {
+                            builder.startObject(entry.getKey());
+                            entry.getValue().toXContent(builder, params);
+                            builder.endObject();
+                        }
+                        builder.endObject();
+                    }
                     builder.endObject();
                     builder.endObject();
                 }
@@ -285,8 +302,13 @@ public class IngestStats implements Writeable, ToXContentFragment {
         }
 
         Builder addProcessorMetrics(String pipelineId, String processorName, String processorType, IngestMetric metric) {
+            return addProcessorMetrics(pipelineId, processorName, processorType, metric, Collections.emptyMap());
+        }
+
+        Builder addProcessorMetrics(String pipelineId, String processorName, String processorType, IngestMetric metric,
+                                    Map<String, Stats> detailedStats) {
             this.processorStats.computeIfAbsent(pipelineId, k -> new ArrayList<>())
-                .add(new ProcessorStat(processorName, processorType, metric.createStats()));
+                .add(new ProcessorStat(processorName, processorType, metric.createStats(), detailedStats));
             return this;
         }
 
@@ -338,11 +360,17 @@ public class IngestStats implements Writeable, ToXContentFragment {
         private final String name;
         private final String type;
         private final Stats stats;
+        private final Map<String, Stats> detailedStats;
 
         public ProcessorStat(String name, String type, Stats stats) {
+            this(name, type, stats, Collections.emptyMap());
+        }
+
+        public ProcessorStat(String name, String type, Stats stats, Map<String, Stats> detailedStats) {
             this.name = name;
             this.type = type;
             this.stats = stats;
+            this.detailedStats = Objects.requireNonNull(detailedStats);
         }
 
         public String getName() {
@@ -357,6 +385,12 @@ public class IngestStats implements Writeable, ToXContentFragment {
             return stats;
         }
 
+        /**
+         * @return The stats that the processor breaks its work down into, see {@link Processor#getDetailedStats()}.
+         */
+        public Map<String, Stats> getDetailedStats() {
+            return detailedStats;
+        }
 
         @Override
         public boolean equals(Object o) {
@@ -365,12 +399,13 @@ public class IngestStats implements Writeable, ToXContentFragment {
             IngestStats.ProcessorStat that = (IngestStats.ProcessorStat) o;
             return Objects.equals(name, that.name)
                 && Objects.equals(type, that.type)
-                && Objects.equals(stats, that.stats);
+                && Objects.equals(stats, that.stats)
+                && Objects.equals(detailedStats, that.detailedStats);
         }
 
         @Override
         public int hashCode() {
-            return Objects.hash(name, type, stats);
+            return Objects.hash(name, type, stats, detailedStats);
         }
     }
 }
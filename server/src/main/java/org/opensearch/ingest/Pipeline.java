@@ -41,6 +41,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.function.LongSupplier;
 
 import org.opensearch.script.ScriptService;
@@ -120,6 +121,28 @@ public final class Pipeline {
         });
     }
 
+    /**
+     * Modifies a batch of documents with the processors of this pipeline, see {@link Processor#batchExecute}.
+     */
+    public void batchExecute(List<IngestDocumentWrapper> ingestDocumentWrappers, Consumer<List<IngestDocumentWrapper>> handler) {
+        final long startTimeInNanos = relativeTimeProvider.getAsLong();
+        for (int i = 0; i < ingestDocumentWrappers.size(); i++) {
+            metrics.preIngest();
+        }
+        compoundProcessor.batchExecute(ingestDocumentWrappers, results -> {
+            long ingestTimeInMillis = TimeUnit.NANOSECONDS.toMillis(relativeTimeProvider.getAsLong() - startTimeInNanos);
+            for (IngestDocumentWrapper result : results) {
+                // the batch took this long as a whole, so its time is only accounted once
+                metrics.postIngest(ingestTimeInMillis);
+                ingestTimeInMillis = 0;
+                if (result.getException() != null) {
+                    metrics.ingestFailed();
+                }
+            }
+            handler.accept(results);
+        });
+    }
+
     /**
      * The unique id of this pipeline
      */
@@ -33,13 +33,17 @@
 package org.opensearch.ingest;
 
 import org.opensearch.client.Client;
+import org.opensearch.common.util.concurrent.AtomicArray;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.env.Environment;
 import org.opensearch.index.analysis.AnalysisRegistry;
 import org.opensearch.script.ScriptService;
 import org.opensearch.threadpool.Scheduler;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
@@ -78,6 +82,42 @@ public interface Processor {
      */
     IngestDocument execute(IngestDocument ingestDocument) throws Exception;
 
+    /**
+     * Introspect and potentially modify a batch of documents. Processors that can handle several documents at once more efficiently
+     * than one by one, for example by deduplicating lookups across the batch, should override this. By default every document is
+     * executed on its own through {@link #execute(IngestDocument, BiConsumer)}.
+     *
+     * The handler must be called exactly once, with one result per given document. Results are identified by their slot and may be
+     * in any order. A result without document and without exception means that its document was dropped.
+     */
+    default void batchExecute(List<IngestDocumentWrapper> ingestDocumentWrappers, Consumer<List<IngestDocumentWrapper>> handler) {
+        final int size = ingestDocumentWrappers.size();
+        if (size == 0) {
+            handler.accept(Collections.emptyList());
+            return;
+        }
+        final AtomicArray<IngestDocumentWrapper> results = new AtomicArray<>(size);
+        final AtomicInteger counter = new AtomicInteger(size);
+        for (int i = 0; i < size; i++) {
+            final int index = i;
+            final int slot = ingestDocumentWrappers.get(i).getSlot();
+            execute(ingestDocumentWrappers.get(i).getIngestDocument(), (result, e) -> {
+                results.set(index, new IngestDocumentWrapper(slot, result, e));
+                if (counter.decrementAndGet() == 0) {
+                    handler.accept(results.asList());
+                }
+            });
+        }
+    }
+
+    /**
+     * Gets statistics that break down the work of this processor further than the per-processor stats that are kept for every
+     * processor, keyed by what they are about. These are reported along with the processor stats in the ingest stats.
+     */
+    default Map<String, IngestStats.Stats> getDetailedStats() {
+        return Collections.emptyMap();
+    }
+
     /**
      * Gets the type of a processor
      */
@@ -62,6 +62,13 @@ public interface ValueSource {
      */
     Object copyAndResolve(Map<String, Object> model);
 
+    /**
+     * Returns whether this ValueSource resolves to the same value regardless of the model, in which case the model may be left empty.
+     */
+    default boolean isConstant() {
+        return false;
+    }
+
     static ValueSource wrap(Object value, ScriptService scriptService) {
 
         if (value instanceof Map) {
@@ -102,9 +109,11 @@ public interface ValueSource {
     final class MapValue implements ValueSource {
 
         private final Map<ValueSource, ValueSource> map;
+        private final boolean constant;
 
         MapValue(Map<ValueSource, ValueSource> map) {
             this.map = map;
+            this.constant = map.entrySet().stream().allMatch(e -> e.getKey().isConstant() && e.getValue().isConstant());
         }
 
         @Override
@@ -116,6 +125,11 @@ public interface ValueSource {
             return copy;
         }
 
+        @Override
+        public boolean isConstant() {
+            return constant;
+        }
+
         @Override
         public boolean equals(Object o) {
             if (this == o) return true;
@@ -135,9 +149,11 @@ public interface ValueSource {
     final class ListValue implements ValueSource {
 
         private final List<ValueSource> values;
+        private final boolean constant;
 
         ListValue(List<ValueSource> values) {
             this.values = values;
+            this.constant = values.stream().allMatch(ValueSource::isConstant);
         }
 
         @Override
@@ -149,6 +165,11 @@ public interface ValueSource {
             return copy;
         }
 
+        @Override
+        public boolean isConstant() {
+            return constant;
+        }
+
         @Override
         public boolean equals(Object o) {
             if (this == o) return true;
@@ -178,6 +199,11 @@ public interface ValueSource {
             return value;
         }
 
+        @Override
+        public boolean isConstant() {
+            return true;
+        }
+
         @Override
         public boolean equals(Object o) {
             if (this == o) return true;
@@ -206,6 +232,11 @@ public interface ValueSource {
             return value;
         }
 
+        @Override
+        public boolean isConstant() {
+            return true;
+        }
+
         @Override
         public boolean equals(Object o) {
             if (this == o) return true;
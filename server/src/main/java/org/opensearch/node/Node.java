@@ -123,6 +123,8 @@ import org.opensearch.index.IndexSettings;
 import org.opensearch.index.IndexingPressure;
 import org.opensearch.index.analysis.AnalysisRegistry;
 import org.opensearch.index.engine.EngineFactory;
+import org.opensearch.index.store.remote.FileBlockCache;
+import org.opensearch.index.store.remote.RemoteSnapshotDirectoryFactory;
 import org.opensearch.indices.IndicesModule;
 import org.opensearch.indices.IndicesService;
 import org.opensearch.indices.ShardLimitValidator;
@@ -205,6 +207,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -432,6 +435,8 @@ public class Node implements Closeable {
             final IngestService ingestService = new IngestService(clusterService, threadPool, this.environment,
                 scriptService, analysisModule.getAnalysisRegistry(),
                 pluginsService.filterPlugins(IngestPlugin.class), client);
+            ingestService.setBatchSize(IngestService.BATCH_SIZE_SETTING.get(settings));
+            clusterService.getClusterSettings().addSettingsUpdateConsumer(IngestService.BATCH_SIZE_SETTING, ingestService::setBatchSize);
             final SetOnce<RepositoriesService> repositoriesServiceReference = new SetOnce<>();
             final ClusterInfoService clusterInfoService = newClusterInfoService(settings, clusterService, threadPool, client);
             final UsageService usageService = new UsageService();
@@ -502,12 +507,28 @@ public class Node implements Closeable {
                             .collect(Collectors.toList());
 
 
-            final Map<String, IndexStorePlugin.DirectoryFactory> indexStoreFactories =
+            final Map<String, IndexStorePlugin.DirectoryFactory> indexStoreFactories = new HashMap<>(
                     pluginsService.filterPlugins(IndexStorePlugin.class)
                             .stream()
                             .map(IndexStorePlugin::getDirectoryFactories)
                             .flatMap(m -> m.entrySet().stream())
-                            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+                            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)));
+            // only nodes that hold shards read from snapshots, the others neither have nor need a cache directory
+            final FileBlockCache fileBlockCache;
+            if (DiscoveryNode.isDataNode(settings) && nodeEnvironment.hasNodeFile()) {
+                fileBlockCache = new FileBlockCache(
+                    nodeEnvironment.nodeDataPaths()[0].resolve("searchable_snapshot_cache"),
+                    FileBlockCache.SIZE_SETTING.get(settings).getBytes(),
+                    Math.toIntExact(FileBlockCache.BLOCK_SIZE_SETTING.get(settings).getBytes()));
+                resourcesToClose.add(fileBlockCache);
+            } else {
+                fileBlockCache = null;
+            }
+            if (indexStoreFactories.putIfAbsent(RemoteSnapshotDirectoryFactory.STORE_TYPE,
+                new RemoteSnapshotDirectoryFactory(repositoriesServiceReference::get, fileBlockCache)) != null) {
+                throw new IllegalArgumentException("index store type [" + RemoteSnapshotDirectoryFactory.STORE_TYPE
+                    + "] is already registered");
+            }
 
             final Map<String, IndexStorePlugin.RecoveryStateFactory> recoveryStateFactories =
                 pluginsService.filterPlugins(IndexStorePlugin.class)
@@ -597,9 +618,11 @@ public class Node implements Closeable {
             final GatewayMetaState gatewayMetaState = new GatewayMetaState();
             final ResponseCollectorService responseCollectorService = new ResponseCollectorService(clusterService);
             final SearchTransportService searchTransportService =  new SearchTransportService(transportService,
+                circuitBreakerService.getBreaker(CircuitBreaker.IN_FLIGHT_REQUESTS),
                 SearchExecutionStatsCollector.makeWrapper(responseCollectorService));
             final HttpServerTransport httpServerTransport = newHttpTransport(networkModule);
             final IndexingPressure indexingLimits = new IndexingPressure(settings);
+            httpServerTransport.addReadPressureSource(indexingLimits::getCoordinatingAndPrimaryUtilization);
 
             final RecoverySettings recoverySettings = new RecoverySettings(settings, settingsModule.getClusterSettings());
             RepositoriesModule repositoriesModule = new RepositoriesModule(this.environment,
@@ -628,7 +651,7 @@ public class Node implements Closeable {
             this.nodeService = new NodeService(settings, threadPool, monitorService, discoveryModule.getDiscovery(),
                 transportService, indicesService, pluginsService, circuitBreakerService, scriptService,
                 httpServerTransport, ingestService, clusterService, settingsModule.getSettingsFilter(), responseCollectorService,
-                searchTransportService, indexingLimits, searchModule.getValuesSourceRegistry().getUsageService());
+                searchTransportService, indexingLimits, searchModule.getValuesSourceRegistry().getUsageService(), fileBlockCache);
 
             final SearchService searchService = newSearchService(clusterService, indicesService,
                 threadPool, scriptService, bigArrays, searchModule.getFetchPhase(),
@@ -46,6 +46,7 @@ import org.apache.lucene.store.IndexOutput;
 import org.apache.lucene.store.RateLimiter;
 import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.SetOnce;
+import org.apache.lucene.util.ThreadInterruptedException;
 import org.opensearch.ExceptionsHelper;
 import org.opensearch.Version;
 import org.opensearch.action.ActionListener;
@@ -64,6 +65,7 @@ import org.opensearch.cluster.metadata.RepositoryMetadata;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.routing.allocation.AllocationService;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.CheckedConsumer;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.Numbers;
 import org.opensearch.common.Strings;
@@ -73,6 +75,7 @@ import org.opensearch.common.blobstore.BlobMetadata;
 import org.opensearch.common.blobstore.BlobPath;
 import org.opensearch.common.blobstore.BlobStore;
 import org.opensearch.common.blobstore.DeleteResult;
+import org.opensearch.common.blobstore.MultipartBlobWriter;
 import org.opensearch.common.blobstore.fs.FsBlobContainer;
 import org.opensearch.common.bytes.BytesArray;
 import org.opensearch.common.bytes.BytesReference;
@@ -80,6 +83,7 @@ import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.component.AbstractLifecycleComponent;
 import org.opensearch.common.compress.CompressorFactory;
 import org.opensearch.common.compress.NotXContentException;
+import org.opensearch.common.hash.Crc32Combiner;
 import org.opensearch.common.io.Streams;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.lucene.Lucene;
@@ -104,6 +108,7 @@ import org.opensearch.index.snapshots.IndexShardSnapshotFailedException;
 import org.opensearch.index.snapshots.IndexShardSnapshotStatus;
 import org.opensearch.index.snapshots.blobstore.BlobStoreIndexShardSnapshot;
 import org.opensearch.index.snapshots.blobstore.BlobStoreIndexShardSnapshots;
+import org.opensearch.index.snapshots.blobstore.ChecksumInputStream;
 import org.opensearch.index.snapshots.blobstore.RateLimitingInputStream;
 import org.opensearch.index.snapshots.blobstore.SlicedInputStream;
 import org.opensearch.index.snapshots.blobstore.SnapshotFiles;
@@ -144,9 +149,12 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executor;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
@@ -229,12 +237,30 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
      */
     public static final Setting<Boolean> SUPPORT_URL_REPO = Setting.boolSetting("support_url_repo", true, Setting.Property.NodeScope);
 
+    /**
+     * Setting to upload files larger than {@link #PARALLEL_UPLOAD_PART_SIZE_SETTING} in parts that are uploaded concurrently on the
+     * snapshot thread pool, if the repository's blob container supports {@link BlobContainer#supportsMultipartWrites() multipart writes}.
+     */
+    public static final Setting<Boolean> PARALLEL_UPLOADS_SETTING =
+        Setting.boolSetting("parallel_uploads", false, Setting.Property.NodeScope);
+
+    /**
+     * Size of the parts that files are split into when {@link #PARALLEL_UPLOADS_SETTING} is enabled.
+     */
+    public static final Setting<ByteSizeValue> PARALLEL_UPLOAD_PART_SIZE_SETTING = Setting.byteSizeSetting("parallel_upload_part_size",
+        new ByteSizeValue(64, ByteSizeUnit.MB), new ByteSizeValue(5, ByteSizeUnit.MB), new ByteSizeValue(5, ByteSizeUnit.GB),
+        Setting.Property.NodeScope);
+
     protected final boolean supportURLRepo;
 
     private final boolean compress;
 
     private final boolean cacheRepositoryData;
 
+    private final boolean parallelUploads;
+
+    private final long parallelUploadPartSize;
+
     private final RateLimiter snapshotRateLimiter;
 
     private final RateLimiter restoreRateLimiter;
@@ -330,6 +356,8 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
         readOnly = metadata.settings().getAsBoolean("readonly", false);
         cacheRepositoryData = CACHE_REPOSITORY_DATA.get(metadata.settings());
         bufferSize = Math.toIntExact(BUFFER_SIZE_SETTING.get(metadata.settings()).getBytes());
+        parallelUploads = PARALLEL_UPLOADS_SETTING.get(metadata.settings());
+        parallelUploadPartSize = PARALLEL_UPLOAD_PART_SIZE_SETTING.get(metadata.settings()).getBytes();
     }
 
     @Override
@@ -2088,6 +2116,13 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
             allFilesUploadedListener.whenComplete(v -> {
                 final IndexShardSnapshotStatus.Copy lastSnapshotStatus =
                     snapshotStatus.moveToFinalize(snapshotIndexCommit.getGeneration());
+                if (logger.isDebugEnabled()) {
+                    final long uploadMillis = threadPool.absoluteTimeInMillis() - lastSnapshotStatus.getStartTime();
+                    logger.debug("[{}] [{}] uploaded [{}] in [{}] at [{}/s], throttled for [{}]", shardId, snapshotId,
+                        new ByteSizeValue(lastSnapshotStatus.getUploadedSize()), TimeValue.timeValueMillis(uploadMillis),
+                        new ByteSizeValue(lastSnapshotStatus.getUploadBytesPerSecond(uploadMillis)),
+                        TimeValue.timeValueNanos(lastSnapshotStatus.getUploadThrottleTimeInNanos()));
+                }
 
                 // now create and write the commit point
                 logger.trace("[{}] [{}] writing shard snapshot file", shardId, snapshotId);
@@ -2293,6 +2328,13 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
         return maybeRateLimit(stream, () -> snapshotRateLimiter, snapshotRateLimitingTimeInNanos);
     }
 
+    private InputStream maybeRateLimitSnapshots(InputStream stream, IndexShardSnapshotStatus snapshotStatus) {
+        return new RateLimitingInputStream(stream, () -> snapshotRateLimiter, nanos -> {
+            snapshotRateLimitingTimeInNanos.inc(nanos);
+            snapshotStatus.addUploadThrottleTime(nanos);
+        });
+    }
+
     @Override
     public IndexShardSnapshotStatus getShardSnapshotStatus(SnapshotId snapshotId, IndexId indexId, ShardId shardId) {
         BlobStoreIndexShardSnapshot snapshot = loadShardSnapshot(shardContainer(indexId, shardId), snapshotId);
@@ -2479,38 +2521,22 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
     private void snapshotFile(BlobStoreIndexShardSnapshot.FileInfo fileInfo, IndexId indexId, ShardId shardId, SnapshotId snapshotId,
                               IndexShardSnapshotStatus snapshotStatus, Store store) throws IOException {
         final BlobContainer shardContainer = shardContainer(indexId, shardId);
+        if (parallelUploads && fileInfo.length() > parallelUploadPartSize && shardContainer.supportsMultipartWrites()) {
+            snapshotFileInParallel(fileInfo, shardContainer, shardId, snapshotId, snapshotStatus, store);
+            return;
+        }
         final String file = fileInfo.physicalName();
         try (IndexInput indexInput = store.openVerifyingInput(file, IOContext.READONCE, fileInfo.metadata())) {
             for (int i = 0; i < fileInfo.numberOfParts(); i++) {
                 final long partBytes = fileInfo.partBytes(i);
 
-                // Make reads abortable by mutating the snapshotStatus object
-                final InputStream inputStream = new FilterInputStream(maybeRateLimitSnapshots(
-                    new InputStreamIndexInput(indexInput, partBytes))) {
-                    @Override
-                    public int read() throws IOException {
-                        checkAborted();
-                        return super.read();
-                    }
-
-                    @Override
-                    public int read(byte[] b, int off, int len) throws IOException {
-                        checkAborted();
-                        return super.read(b, off, len);
-                    }
-
-                    private void checkAborted() {
-                        if (snapshotStatus.isAborted()) {
-                            logger.debug("[{}] [{}] Aborted on the file [{}], exiting", shardId,
-                                snapshotId, fileInfo.physicalName());
-                            throw new AbortedSnapshotException();
-                        }
-                    }
-                };
+                final InputStream inputStream = abortableInputStream(maybeRateLimitSnapshots(
+                    new InputStreamIndexInput(indexInput, partBytes), snapshotStatus), fileInfo, shardId, snapshotId, snapshotStatus);
                 final String partName = fileInfo.partName(i);
                 logger.trace(() ->
                         new ParameterizedMessage("[{}] Writing [{}] to [{}]", metadata.name(), partName, shardContainer.path()));
                 shardContainer.writeBlob(partName, inputStream, partBytes, false);
+                snapshotStatus.addUploadedSize(partBytes);
             }
             Store.verify(indexInput);
             snapshotStatus.addProcessedFile(fileInfo.length());
@@ -2521,6 +2547,193 @@ public abstract class BlobStoreRepository extends AbstractLifecycleComponent imp
         }
     }
 
+    /**
+     * Snapshots an individual file by splitting its parts into ranges of at most {@link #parallelUploadPartSize} bytes that are uploaded
+     * concurrently, using a {@link MultipartBlobWriter} for parts that consist of more than one range. The checksum of every range is
+     * computed while it is uploaded and the combined checksum is verified before any of the multipart writes is completed. Parts that fit
+     * into a single range are written directly, before the checksum is verified, so like with {@link #snapshotFile} a corrupted file may
+     * leave such part blobs behind. They are never referenced by a shard snapshot and are removed with the other unreferenced blobs.
+     */
+    private void snapshotFileInParallel(BlobStoreIndexShardSnapshot.FileInfo fileInfo, BlobContainer shardContainer, ShardId shardId,
+                                        SnapshotId snapshotId, IndexShardSnapshotStatus snapshotStatus, Store store) throws IOException {
+        final String file = fileInfo.physicalName();
+        // the checksum covers everything but the checksum itself, which makes up the last bytes of the file
+        final long checksumLength = fileInfo.length() - Long.BYTES;
+        final List<MultipartBlobWriter> writers = new ArrayList<>(fileInfo.numberOfParts());
+        final List<UploadRange> ranges = new ArrayList<>();
+        try (IndexInput indexInput = store.directory().openInput(file, IOContext.READ)) {
+            long offset = 0L;
+            for (int i = 0; i < fileInfo.numberOfParts(); i++) {
+                final long partBytes = fileInfo.partBytes(i);
+                if (partBytes > parallelUploadPartSize) {
+                    writers.add(shardContainer.multipartWriter(fileInfo.partName(i), partBytes, parallelUploadPartSize));
+                    int subPart = 0;
+                    for (long position = 0L; position < partBytes; position += parallelUploadPartSize) {
+                        final long length = Math.min(parallelUploadPartSize, partBytes - position);
+                        ranges.add(new UploadRange(i, subPart++, indexInput.slice(file, offset + position, length), offset + position,
+                            length));
+                    }
+                } else {
+                    writers.add(null);
+                    ranges.add(new UploadRange(i, 0, indexInput.slice(file, offset, partBytes), offset, partBytes));
+                }
+                offset += partBytes;
+            }
+
+            final long[] checksums = new long[ranges.size()];
+            final long[] checksummedLengths = new long[ranges.size()];
+            runConcurrently(ranges.size(), r -> {
+                final UploadRange range = ranges.get(r);
+                final ChecksumInputStream checksumInputStream = new ChecksumInputStream(
+                    new InputStreamIndexInput(range.input, range.length),
+                    Math.max(0L, Math.min(range.length, checksumLength - range.offset)));
+                final InputStream inputStream = abortableInputStream(maybeRateLimitSnapshots(checksumInputStream, snapshotStatus),
+                    fileInfo, shardId, snapshotId, snapshotStatus);
+                final String partName = fileInfo.partName(range.part);
+                final MultipartBlobWriter writer = writers.get(range.part);
+                if (writer == null) {
+                    logger.trace(() ->
+                        new ParameterizedMessage("[{}] Writing [{}] to [{}]", metadata.name(), partName, shardContainer.path()));
+                    shardContainer.writeBlob(partName, inputStream, range.length, false);
+                } else {
+                    logger.trace(() -> new ParameterizedMessage("[{}] Writing part [{}] of [{}] to [{}]", metadata.name(),
+                        range.subPart, partName, shardContainer.path()));
+                    writer.writePart(range.subPart, inputStream, range.length);
+                }
+                checksums[r] = checksumInputStream.getChecksum();
+                checksummedLengths[r] = checksumInputStream.getChecksummedLength();
+                snapshotStatus.addUploadedSize(range.length);
+            }, threadPool.executor(ThreadPool.Names.SNAPSHOT), threadPool.info(ThreadPool.Names.SNAPSHOT).getMax() - 1);
+
+            long checksum = 0L;
+            long checksummedLength = 0L;
+            for (int r = 0; r < ranges.size(); r++) {
+                checksum = Crc32Combiner.combine(checksum, checksums[r], checksummedLengths[r]);
+                checksummedLength += checksummedLengths[r];
+            }
+            final String actualChecksum = Store.digestToString(checksum);
+            if (checksummedLength != checksumLength || actualChecksum.equals(fileInfo.checksum()) == false) {
+                throw new CorruptIndexException("checksum failed (hardware problem?) : expected=" + fileInfo.checksum() + " actual="
+                    + actualChecksum + " (checksummed [" + checksummedLength + "] of [" + checksumLength + "] bytes)", file);
+            }
+            for (MultipartBlobWriter writer : writers) {
+                if (writer != null) {
+                    writer.complete();
+                }
+            }
+            snapshotStatus.addProcessedFile(fileInfo.length());
+        } catch (Exception t) {
+            for (MultipartBlobWriter writer : writers) {
+                if (writer != null) {
+                    try {
+                        writer.abort();
+                    } catch (Exception inner) {
+                        t.addSuppressed(inner);
+                    }
+                }
+            }
+            failStoreIfCorrupted(store, t);
+            snapshotStatus.addProcessedFile(0);
+            throw t;
+        }
+    }
+
+    /**
+     * A range of a file that is uploaded as a whole part blob or as one part of a multipart write.
+     */
+    private static final class UploadRange {
+        private final int part;
+        private final int subPart;
+        private final IndexInput input;
+        private final long offset;
+        private final long length;
+
+        UploadRange(int part, int subPart, IndexInput input, long offset, long length) {
+            this.part = part;
+            this.subPart = subPart;
+            this.input = input;
+            this.offset = offset;
+            this.length = length;
+        }
+    }
+
+    /**
+     * Runs the given number of tasks on the calling thread, helped by up to {@code helpers} workers forked to the given executor, and
+     * rethrows the first failure once every task that was started has completed. Tasks are claimed by the workers as they go, so waiting
+     * only ever depends on tasks that are already running: a worker that only gets to run after all tasks were claimed returns
+     * immediately, which makes it safe to call this method from a thread of the executor that it forks to even if that executor is
+     * saturated. Once a task failed the remaining tasks are skipped.
+     */
+    static void runConcurrently(int tasks, CheckedConsumer<Integer, IOException> task, Executor executor, int helpers)
+        throws IOException {
+        final AtomicInteger nextTask = new AtomicInteger();
+        final CountDownLatch done = new CountDownLatch(tasks);
+        final AtomicReference<Exception> failure = new AtomicReference<>();
+        final Runnable worker = () -> {
+            int i;
+            while ((i = nextTask.getAndIncrement()) < tasks) {
+                try {
+                    if (failure.get() == null) {
+                        task.accept(i);
+                    }
+                } catch (Exception e) {
+                    failure.accumulateAndGet(e, ExceptionsHelper::useOrSuppress);
+                } finally {
+                    done.countDown();
+                }
+            }
+        };
+        for (int i = 0; i < Math.min(helpers, tasks - 1); i++) {
+            try {
+                executor.execute(worker);
+            } catch (RejectedExecutionException e) {
+                // the calling thread runs the remaining tasks itself
+                break;
+            }
+        }
+        worker.run();
+        try {
+            done.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ThreadInterruptedException(e);
+        }
+        final Exception e = failure.get();
+        if (e instanceof IOException) {
+            throw (IOException) e;
+        } else if (e != null) {
+            throw ExceptionsHelper.convertToRuntime(e);
+        }
+    }
+
+    /**
+     * Makes reads abortable by mutating the snapshotStatus object
+     */
+    private static InputStream abortableInputStream(InputStream delegate, BlobStoreIndexShardSnapshot.FileInfo fileInfo, ShardId shardId,
+                                                    SnapshotId snapshotId, IndexShardSnapshotStatus snapshotStatus) {
+        return new FilterInputStream(delegate) {
+            @Override
+            public int read() throws IOException {
+                checkAborted();
+                return super.read();
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                checkAborted();
+                return super.read(b, off, len);
+            }
+
+            private void checkAborted() {
+                if (snapshotStatus.isAborted()) {
+                    logger.debug("[{}] [{}] Aborted on the file [{}], exiting", shardId,
+                        snapshotId, fileInfo.physicalName());
+                    throw new AbortedSnapshotException();
+                }
+            }
+        };
+    }
+
     private static void failStoreIfCorrupted(Store store, Exception e) {
         if (Lucene.isCorruptionException(e)) {
             try {
@@ -0,0 +1,139 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.rest;
+
+import org.opensearch.common.bytes.BytesArray;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.bytes.CompositeBytesReference;
+import org.opensearch.common.bytes.ReleasableBytesReference;
+import org.opensearch.common.io.stream.BytesStream;
+import org.opensearch.common.io.stream.ReleasableBytesStreamOutput;
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.common.xcontent.ChunkedToXContent;
+import org.opensearch.common.xcontent.ToXContent;
+import org.opensearch.common.xcontent.XContentBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * The body of a {@link RestResponse} that is rendered and sent in chunks, so that the whole body never needs to be held in memory at
+ * once. The body is rendered lazily, one chunk at a time, when the channel is ready to send the next chunk.
+ */
+public interface ChunkedRestResponseBody {
+
+    /**
+     * Whether all chunks of the body have been encoded.
+     */
+    boolean isDone();
+
+    /**
+     * Encodes the next chunk of the body into pages obtained from the given {@link BigArrays}. The returned bytes must be released
+     * once they have been sent.
+     *
+     * @param sizeHint  the size of the chunk to aim for, chunks may be larger since a chunk always ends after a whole fragment
+     * @param bigArrays the source of the pages that the chunk is encoded into
+     */
+    ReleasableBytesReference encodeChunk(int sizeHint, BigArrays bigArrays) throws IOException;
+
+    /**
+     * The content type of the body.
+     */
+    String getResponseContentTypeString();
+
+    /**
+     * Encodes all remaining chunks of the given body into a single bytes reference that is not backed by pooled pages, for channels
+     * that cannot send a response in chunks.
+     */
+    static BytesReference encodeFully(ChunkedRestResponseBody body) throws IOException {
+        final List<BytesReference> chunks = new ArrayList<>();
+        while (body.isDone() == false) {
+            try (ReleasableBytesReference chunk = body.encodeChunk(Integer.MAX_VALUE, BigArrays.NON_RECYCLING_INSTANCE)) {
+                chunks.add(new BytesArray(BytesReference.toBytes(chunk)));
+            }
+        }
+        return CompositeBytesReference.of(chunks.toArray(new BytesReference[0]));
+    }
+
+    /**
+     * Creates a body that renders the fragments of the given object one after the other into a single {@link XContentBuilder} obtained
+     * from the given channel, so that filtering and pretty printing apply as usual.
+     */
+    static ChunkedRestResponseBody fromXContent(ChunkedToXContent chunkedToXContent, ToXContent.Params params,
+                                                RestChannel channel) throws IOException {
+        return new ChunkedRestResponseBody() {
+
+            // the builder writes to the output of the chunk that is currently being encoded
+            private BytesStream target;
+
+            private final OutputStream out = new OutputStream() {
+                @Override
+                public void write(int b) throws IOException {
+                    target.write(b);
+                }
+
+                @Override
+                public void write(byte[] b, int off, int len) throws IOException {
+                    target.write(b, off, len);
+                }
+
+                @Override
+                public void flush() {
+                }
+
+                @Override
+                public void close() {
+                }
+            };
+
+            private final XContentBuilder builder = channel.newBuilder(channel.request().getXContentType(), null, true, out);
+            private final Iterator<? extends ToXContent> fragments = chunkedToXContent.toXContentChunked(params);
+            private boolean done;
+
+            @Override
+            public boolean isDone() {
+                return done;
+            }
+
+            @Override
+            public ReleasableBytesReference encodeChunk(int sizeHint, BigArrays bigArrays) throws IOException {
+                assert done == false : "body is already fully encoded";
+                final ReleasableBytesStreamOutput chunk = new ReleasableBytesStreamOutput(bigArrays);
+                boolean success = false;
+                try {
+                    target = chunk;
+                    while (fragments.hasNext() && chunk.size() < sizeHint) {
+                        fragments.next().toXContent(builder, params);
+                        builder.flush();
+                    }
+                    if (fragments.hasNext() == false) {
+                        builder.close();
+                        done = true;
+                    }
+                    target = null;
+                    final ReleasableBytesReference result = new ReleasableBytesReference(chunk.bytes(), chunk);
+                    success = true;
+                    return result;
+                } finally {
+                    if (success == false) {
+                        chunk.close();
+                    }
+                }
+            }
+
+            @Override
+            public String getResponseContentTypeString() {
+                return builder.contentType().mediaType();
+            }
+        };
+    }
+}
@@ -33,6 +33,7 @@
 package org.opensearch.rest;
 
 import org.opensearch.OpenSearchException;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.bytes.BytesReference;
 
 import java.util.ArrayList;
@@ -62,6 +63,14 @@ public abstract class RestResponse {
      */
     public abstract RestStatus status();
 
+    /**
+     * The response content if it is sent in chunks, {@code null} if the response is sent as a whole through {@link #content()}.
+     */
+    @Nullable
+    public ChunkedRestResponseBody chunkedContent() {
+        return null;
+    }
+
     public void copyHeaders(OpenSearchException ex) {
         Set<String> headerKeySet = ex.getHeaderKeys();
         if (customHeaders == null) {
@@ -0,0 +1,33 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.rest.action;
+
+import org.opensearch.common.xcontent.ChunkedToXContent;
+import org.opensearch.common.xcontent.StatusToXContentObject;
+import org.opensearch.rest.ChunkedRestResponse;
+import org.opensearch.rest.ChunkedRestResponseBody;
+import org.opensearch.rest.RestChannel;
+import org.opensearch.rest.RestResponse;
+
+/**
+ * A REST based action listener that sends the response in chunks, rendering its x-content fragment by fragment while it is being sent
+ * instead of rendering the whole response up front.
+ */
+public class RestChunkedToXContentListener<Response extends StatusToXContentObject & ChunkedToXContent>
+    extends RestResponseListener<Response> {
+
+    public RestChunkedToXContentListener(RestChannel channel) {
+        super(channel);
+    }
+
+    @Override
+    public RestResponse buildResponse(Response response) throws Exception {
+        return new ChunkedRestResponse(response.status(), ChunkedRestResponseBody.fromXContent(response, channel.request(), channel));
+    }
+}
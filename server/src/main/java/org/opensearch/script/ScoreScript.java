@@ -104,6 +104,11 @@ public abstract class ScoreScript {
 
     private DoubleSupplier scoreSupplier = () -> 0.0;
 
+    /** The scores of the current block, read as {@code _score} while the block is executed one document at a time. */
+    private double[] blockScores;
+    private int blockIndex;
+    private final DoubleSupplier blockScoreSupplier = () -> blockScores[blockIndex];
+
     private final int docBase;
     private int docId;
     private int shardId = -1;
@@ -129,6 +134,59 @@ public abstract class ScoreScript {
 
     public abstract double execute(ExplanationHolder explanation);
 
+    /**
+     * Scores a block of documents of the bound segment, given in increasing doc id order. On entry {@code scores} holds the score of
+     * the inner query for each document if the script {@link LeafFactory#needs_score() needs scores}, and on return the score
+     * computed by the script.
+     * <p>
+     * The default implementation executes the script once per document. Scripts that can compute the scores of a whole block at
+     * once, for example from values preloaded with {@link #loadDoubleValues}, override it to save the per-document overhead. Painless
+     * doesn't generate such an override, so Painless scripts are still executed once per document; only native and plugin scripts
+     * that implement this method score a block at a time.
+     */
+    public void execute(int[] docIds, double[] scores, int count) {
+        final DoubleSupplier previousScoreSupplier = scoreSupplier;
+        scoreSupplier = blockScoreSupplier;
+        blockScores = scores;
+        try {
+            for (blockIndex = 0; blockIndex < count; blockIndex++) {
+                setDocument(docIds[blockIndex]);
+                scores[blockIndex] = execute(null);
+            }
+        } finally {
+            scoreSupplier = previousScoreSupplier;
+            blockScores = null;
+        }
+    }
+
+    /**
+     * Loads the first value of the numeric field {@code field} of each document of a block into {@code values}, or {@code missing}
+     * for documents without a value. Doc values can only be read forward, so this must not be mixed with per-document access to
+     * the same field through {@link #getDoc()} within a block.
+     */
+    protected final void loadDoubleValues(String field, int[] docIds, int count, double missing, double[] values) throws IOException {
+        if (count == 0) {
+            return;
+        }
+        setDocument(docIds[0]);
+        final ScriptDocValues<?> docValues = getDoc().get(field);
+        if (docValues instanceof ScriptDocValues.Doubles) {
+            final ScriptDocValues.Doubles doubles = (ScriptDocValues.Doubles) docValues;
+            for (int i = 0; i < count; i++) {
+                doubles.setNextDocId(docIds[i]);
+                values[i] = doubles.size() == 0 ? missing : doubles.getValue();
+            }
+        } else if (docValues instanceof ScriptDocValues.Longs) {
+            final ScriptDocValues.Longs longs = (ScriptDocValues.Longs) docValues;
+            for (int i = 0; i < count; i++) {
+                longs.setNextDocId(docIds[i]);
+                values[i] = longs.size() == 0 ? missing : longs.getValue();
+            }
+        } else {
+            throw new IllegalArgumentException("field [" + field + "] is not a numeric field, can't load its values for a block");
+        }
+    }
+
     /** Return the parameters for this script. */
     public Map<String, Object> getParams() {
         return params;
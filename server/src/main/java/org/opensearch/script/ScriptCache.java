@@ -46,6 +46,7 @@ import org.opensearch.common.unit.TimeValue;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 
 /**
@@ -118,12 +119,17 @@ public class ScriptCache {
                     logger.trace("context [{}]: compiling script, type: [{}], lang: [{}], options: [{}]", context.name, type,
                         lang, options);
                 }
-                // Check whether too many compilations have happened
-                checkCompilationLimit();
-                Object compiledScript = scriptEngine.compile(id, idOrCode, context, options);
+                // Check whether too many compilations have happened, scripts the engine has cached itself are not compiled again
+                final AtomicBoolean compiled = new AtomicBoolean();
+                Object compiledScript = scriptEngine.compile(id, idOrCode, context, options, () -> {
+                    checkCompilationLimit();
+                    compiled.set(true);
+                });
                 // Since the cache key is the script content itself we don't need to
                 // invalidate/check the cache if an indexed script changes.
-                scriptMetrics.onCompilation();
+                if (compiled.get()) {
+                    scriptMetrics.onCompilation();
+                }
                 return compiledScript;
             }));
         } catch (ExecutionException executionException) {
@@ -62,6 +62,28 @@ public interface ScriptEngine extends Closeable {
         Map<String, String> params
     );
 
+    /**
+     * Compiles a script like {@link #compile(String, String, ScriptContext, Map)}, but calls {@code beforeCompilation} right before
+     * the script is actually compiled. Engines that can produce the script without compiling it, for example from a persistent cache
+     * of compiled scripts, only call it if that fails, so that such scripts don't count against the script compilation rate limit.
+     * @param name the name of the script. {@code null} if it is anonymous (inline). For a stored script, its the identifier.
+     * @param code actual source of the script
+     * @param context the context this script will be used for
+     * @param params compile-time parameters (such as flags to the compiler)
+     * @param beforeCompilation called before the script is compiled, may throw to prevent the compilation
+     * @return A compiled script of the FactoryType from {@link ScriptContext}
+     */
+    default <FactoryType> FactoryType compile(
+        String name,
+        String code,
+        ScriptContext<FactoryType> context,
+        Map<String, String> params,
+        Runnable beforeCompilation
+    ) {
+        beforeCompilation.run();
+        return compile(name, code, context, params);
+    }
+
     @Override
     default void close() throws IOException {}
 
@@ -37,10 +37,13 @@ import org.apache.lucene.search.TotalHits;
 import org.apache.lucene.search.TotalHits.Relation;
 import org.opensearch.LegacyESVersion;
 import org.opensearch.common.Nullable;
+import org.opensearch.common.collect.Iterators;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.io.stream.Writeable;
 import org.opensearch.common.lucene.Lucene;
+import org.opensearch.common.xcontent.ChunkedToXContent;
+import org.opensearch.common.xcontent.ToXContent;
 import org.opensearch.common.xcontent.ToXContentFragment;
 import org.opensearch.common.xcontent.XContentBuilder;
 import org.opensearch.common.xcontent.XContentParser;
@@ -49,13 +52,14 @@ import org.opensearch.rest.action.search.RestSearchAction;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 
 import static org.opensearch.common.xcontent.XContentParserUtils.ensureExpectedToken;
 
-public final class SearchHits implements Writeable, ToXContentFragment, Iterable<SearchHit> {
+public final class SearchHits implements Writeable, ToXContentFragment, ChunkedToXContent, Iterable<SearchHit> {
     public static SearchHits empty() {
         return empty(true);
     }
@@ -208,30 +212,40 @@ public final class SearchHits implements Writeable, ToXContentFragment, Iterable
 
     @Override
     public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
-        builder.startObject(Fields.HITS);
-        boolean totalHitAsInt = params.paramAsBoolean(RestSearchAction.TOTAL_HITS_AS_INT_PARAM, false);
-        if (totalHitAsInt) {
-            long total = totalHits == null ? -1 : totalHits.value;
-            builder.field(Fields.TOTAL, total);
-        } else if (totalHits != null) {
-            builder.startObject(Fields.TOTAL);
-            builder.field("value", totalHits.value);
-            builder.field("relation", totalHits.relation == Relation.EQUAL_TO ? "eq" : "gte");
+        return ChunkedToXContent.toXContent(this, builder, params);
+    }
+
+    @Override
+    public Iterator<ToXContent> toXContentChunked(Params params) {
+        final ToXContent header = (builder, p) -> {
+            builder.startObject(Fields.HITS);
+            boolean totalHitAsInt = p.paramAsBoolean(RestSearchAction.TOTAL_HITS_AS_INT_PARAM, false);
+            if (totalHitAsInt) {
+                long total = totalHits == null ? -1 : totalHits.value;
+                builder.field(Fields.TOTAL, total);
+            } else if (totalHits != null) {
+                builder.startObject(Fields.TOTAL);
+                builder.field("value", totalHits.value);
+                builder.field("relation", totalHits.relation == Relation.EQUAL_TO ? "eq" : "gte");
+                builder.endObject();
+            }
+            if (Float.isNaN(maxScore)) {
+                builder.nullField(Fields.MAX_SCORE);
+            } else {
+                builder.field(Fields.MAX_SCORE, maxScore);
+            }
+            builder.field(Fields.HITS);
+            builder.startArray();
+            return builder;
+        };
+        final ToXContent footer = (builder, p) -> {
+            builder.endArray();
             builder.endObject();
-        }
-        if (Float.isNaN(maxScore)) {
-            builder.nullField(Fields.MAX_SCORE);
-        } else {
-            builder.field(Fields.MAX_SCORE, maxScore);
-        }
-        builder.field(Fields.HITS);
-        builder.startArray();
-        for (SearchHit hit : hits) {
-            hit.toXContent(builder, params);
-        }
-        builder.endArray();
-        builder.endObject();
-        return builder;
+            return builder;
+        };
+        // every hit is rendered on its own so that large hits can be flushed as soon as they are rendered
+        return Iterators.concat(Collections.singletonList(header).iterator(), Arrays.<ToXContent>asList(hits).iterator(),
+            Collections.singletonList(footer).iterator());
     }
 
     public static SearchHits fromXContent(XContentParser parser) throws IOException {
@@ -181,6 +181,13 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
     public static final Setting<Integer> MAX_OPEN_SCROLL_CONTEXT =
         Setting.intSetting("search.max_open_scroll_context", 500, 0, Property.Dynamic, Property.NodeScope);
 
+    /**
+     * The number of hits per chunk in which a shard streams large fetch results to the coordinating node, so that neither of them needs
+     * to hold the serialized hits of the whole result in memory at once.
+     */
+    public static final Setting<Integer> FETCH_RESPONSE_CHUNK_SIZE =
+        Setting.intSetting("search.fetch.response_chunk_size", 100, 1, Property.Dynamic, Property.NodeScope);
+
     public static final int DEFAULT_SIZE = 10;
     public static final int DEFAULT_FROM = 0;
 
@@ -214,6 +221,8 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
 
     private volatile int maxOpenScrollContext;
 
+    private volatile int fetchResponseChunkSize;
+
     private final Cancellable keepAliveReaper;
 
     private final AtomicLong idGenerator = new AtomicLong();
@@ -260,6 +269,9 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
 
         lowLevelCancellation = LOW_LEVEL_CANCELLATION_SETTING.get(settings);
         clusterService.getClusterSettings().addSettingsUpdateConsumer(LOW_LEVEL_CANCELLATION_SETTING, this::setLowLevelCancellation);
+
+        fetchResponseChunkSize = FETCH_RESPONSE_CHUNK_SIZE.get(settings);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(FETCH_RESPONSE_CHUNK_SIZE, this::setFetchResponseChunkSize);
     }
 
     private void validateKeepAlives(TimeValue defaultKeepAlive, TimeValue maxKeepAlive) {
@@ -296,6 +308,17 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         this.lowLevelCancellation = lowLevelCancellation;
     }
 
+    private void setFetchResponseChunkSize(int fetchResponseChunkSize) {
+        this.fetchResponseChunkSize = fetchResponseChunkSize;
+    }
+
+    /**
+     * Returns the number of hits per chunk in which large fetch results are streamed to the coordinating node.
+     */
+    public int getFetchResponseChunkSize() {
+        return fetchResponseChunkSize;
+    }
+
     @Override
     public void afterIndexRemoved(Index index, IndexSettings indexSettings, IndexRemovalReason reason) {
         // once an index is removed due to deletion or closing, we can just clean up all the pending search context information
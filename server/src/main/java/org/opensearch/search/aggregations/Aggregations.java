@@ -33,6 +33,9 @@ package org.opensearch.search.aggregations;
 
 import org.apache.lucene.util.SetOnce;
 import org.opensearch.common.ParsingException;
+import org.opensearch.common.collect.Iterators;
+import org.opensearch.common.xcontent.ChunkedToXContent;
+import org.opensearch.common.xcontent.ToXContent;
 import org.opensearch.common.xcontent.ToXContentFragment;
 import org.opensearch.common.xcontent.XContentBuilder;
 import org.opensearch.common.xcontent.XContentParser;
@@ -54,7 +57,7 @@ import static org.opensearch.common.xcontent.XContentParserUtils.parseTypedKeysO
 /**
  * Represents a set of {@link Aggregation}s
  */
-public class Aggregations implements Iterable<Aggregation>, ToXContentFragment {
+public class Aggregations implements Iterable<Aggregation>, ToXContentFragment, ChunkedToXContent {
 
     public static final String AGGREGATIONS_FIELD = "aggregations";
 
@@ -127,12 +130,18 @@ public class Aggregations implements Iterable<Aggregation>, ToXContentFragment {
 
     @Override
     public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        return ChunkedToXContent.toXContent(this, builder, params);
+    }
+
+    @Override
+    public Iterator<ToXContent> toXContentChunked(Params params) {
         if (aggregations.isEmpty()) {
-            return builder;
+            return Collections.emptyIterator();
         }
-        builder.startObject(AGGREGATIONS_FIELD);
-        toXContentInternal(builder, params);
-        return builder.endObject();
+        final ToXContent header = (builder, p) -> builder.startObject(AGGREGATIONS_FIELD);
+        final ToXContent footer = (builder, p) -> builder.endObject();
+        return Iterators.concat(Collections.singletonList(header).iterator(), aggregations.iterator(),
+            Collections.singletonList(footer).iterator());
     }
 
     /**
@@ -42,6 +42,12 @@ import org.opensearch.search.internal.ShardSearchContextId;
 import org.opensearch.search.query.QuerySearchResult;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
 
 public final class FetchSearchResult extends SearchPhaseResult {
 
@@ -89,6 +95,68 @@ public final class FetchSearchResult extends SearchPhaseResult {
         return hits;
     }
 
+    /**
+     * Returns the results that stream all but the last of the hits of this result in chunks of the given number of hits, see
+     * {@link #lastChunk(int)}. They only carry their hits, and are created one at a time as the iterator advances, so that only the
+     * chunk that is being sent is copied. The chunks are re-assembled with {@link #mergeChunks(List, FetchSearchResult)}.
+     */
+    public Iterator<FetchSearchResult> leadingChunks(int chunkSize) {
+        final SearchHit[] allHits = hits.getHits();
+        final int lastChunkStart = lastChunkStart(chunkSize);
+        return new Iterator<FetchSearchResult>() {
+            private int from = 0;
+
+            @Override
+            public boolean hasNext() {
+                return from < lastChunkStart;
+            }
+
+            @Override
+            public FetchSearchResult next() {
+                if (hasNext() == false) {
+                    throw new NoSuchElementException();
+                }
+                final FetchSearchResult chunk = new FetchSearchResult(contextId, getSearchShardTarget());
+                chunk.hits(new SearchHits(Arrays.copyOfRange(allHits, from, from + chunkSize), null, Float.NaN));
+                from += chunkSize;
+                return chunk;
+            }
+        };
+    }
+
+    /**
+     * Returns the result that streams the remaining hits after {@link #leadingChunks(int)}, along with the total hits and the other
+     * properties of the hits.
+     */
+    public FetchSearchResult lastChunk(int chunkSize) {
+        final SearchHit[] allHits = hits.getHits();
+        final FetchSearchResult last = new FetchSearchResult(contextId, getSearchShardTarget());
+        last.hits(new SearchHits(Arrays.copyOfRange(allHits, lastChunkStart(chunkSize), allHits.length), hits.getTotalHits(),
+            hits.getMaxScore(), hits.getSortFields(), hits.getCollapseField(), hits.getCollapseValues()));
+        return last;
+    }
+
+    private int lastChunkStart(int chunkSize) {
+        final int numberOfHits = hits.getHits().length;
+        return numberOfHits == 0 ? 0 : (numberOfHits - 1) / chunkSize * chunkSize;
+    }
+
+    /**
+     * Re-assembles a result that was streamed in chunks, see {@link #leadingChunks(int)}.
+     *
+     * @param chunkedHits the hits of all chunks but the last, in order
+     * @param last        the last chunk, which the hits of all chunks are merged into
+     */
+    public static FetchSearchResult mergeChunks(List<SearchHit> chunkedHits, FetchSearchResult last) {
+        final SearchHits lastHits = last.hits();
+        final List<SearchHit> allHits = new ArrayList<>(chunkedHits.size() + lastHits.getHits().length);
+        allHits.addAll(chunkedHits);
+        Collections.addAll(allHits, lastHits.getHits());
+        last.hits(new SearchHits(allHits.toArray(new SearchHit[0]), lastHits.getTotalHits(), lastHits.getMaxScore(),
+            lastHits.getSortFields(), lastHits.getCollapseField(), lastHits.getCollapseValues()));
+        return last;
+    }
+
     public FetchSearchResult initCounter() {
         counter = 0;
         return this;
@@ -86,6 +86,7 @@ import org.opensearch.index.Index;
 import org.opensearch.index.IndexSettings;
 import org.opensearch.index.shard.IndexShard;
 import org.opensearch.index.shard.ShardId;
+import org.opensearch.index.store.remote.RemoteSnapshotDirectoryFactory;
 import org.opensearch.indices.ShardLimitValidator;
 import org.opensearch.repositories.IndexId;
 import org.opensearch.repositories.RepositoriesService;
@@ -324,6 +325,9 @@ public class RestoreService implements ClusterStateApplier {
                                 IndexMetadata snapshotIndexMetadata = metadata.index(index);
                                 snapshotIndexMetadata = updateIndexSettings(snapshotIndexMetadata,
                                     request.indexSettings(), request.ignoreIndexSettings());
+                                if (RemoteSnapshotDirectoryFactory.isRemoteSnapshot(snapshotIndexMetadata.getSettings())) {
+                                    snapshotIndexMetadata = addSearchableSnapshotSettings(snapshotIndexMetadata, recoverySource);
+                                }
                                 try {
                                     snapshotIndexMetadata = metadataIndexUpgradeService.upgradeIndexMetadata(snapshotIndexMetadata,
                                         minIndexCompatibilityVersion);
@@ -605,6 +609,25 @@ public class RestoreService implements ClusterStateApplier {
                         return builder.settings(settingsBuilder).build();
                     }
 
+                    /**
+                     * Indices that are restored with the {@link RemoteSnapshotDirectoryFactory#STORE_TYPE} store type keep reading
+                     * their files from the snapshot, record where they live and make sure that they are never written to.
+                     */
+                    private IndexMetadata addSearchableSnapshotSettings(IndexMetadata indexMetadata,
+                                                                        SnapshotRecoverySource recoverySource) {
+                        final Settings settings = Settings.builder()
+                            .put(indexMetadata.getSettings())
+                            .put(RemoteSnapshotDirectoryFactory.SEARCHABLE_SNAPSHOT_REPOSITORY.getKey(), snapshot.getRepository())
+                            .put(RemoteSnapshotDirectoryFactory.SEARCHABLE_SNAPSHOT_ID_NAME.getKey(), snapshot.getSnapshotId().getName())
+                            .put(RemoteSnapshotDirectoryFactory.SEARCHABLE_SNAPSHOT_ID_UUID.getKey(), snapshot.getSnapshotId().getUUID())
+                            .put(RemoteSnapshotDirectoryFactory.SEARCHABLE_SNAPSHOT_INDEX_ID.getKey(), recoverySource.index().getId())
+                            .put(IndexMetadata.SETTING_BLOCKS_WRITE, true)
+                            // replicas would have to copy the files from the primary, instead of reading them from the snapshot
+                            .put(IndexMetadata.SETTING_NUMBER_OF_REPLICAS, 0)
+                            .build();
+                        return IndexMetadata.builder(indexMetadata).settings(settings).build();
+                    }
+
                     @Override
                     public void onFailure(String source, Exception e) {
                         logger.warn(() -> new ParameterizedMessage("[{}] failed to restore snapshot", snapshotId), e);
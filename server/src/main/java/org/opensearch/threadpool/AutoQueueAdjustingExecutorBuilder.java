@@ -61,6 +61,7 @@ public final class AutoQueueAdjustingExecutorBuilder extends ExecutorBuilder<Aut
     private final Setting<Integer> maxQueueSizeSetting;
     private final Setting<TimeValue> targetedResponseTimeSetting;
     private final Setting<Integer> frameSizeSetting;
+    private final Setting<Boolean> virtualThreadsSetting;
 
     AutoQueueAdjustingExecutorBuilder(final Settings settings, final String name, final int size,
                                       final int initialQueueSize, final int minQueueSize,
@@ -144,12 +145,13 @@ public final class AutoQueueAdjustingExecutorBuilder extends ExecutorBuilder<Aut
                 Setting.Property.NodeScope, Setting.Property.Deprecated);
         this.frameSizeSetting = Setting.intSetting(frameSizeKey, frameSize, 100, Setting.Property.NodeScope, Setting.Property.Deprecated,
             Setting.Property.Deprecated);
+        this.virtualThreadsSetting = virtualThreadsSetting(prefix, Setting.Property.NodeScope);
     }
 
     @Override
     public List<Setting<?>> getRegisteredSettings() {
         return Arrays.asList(sizeSetting, queueSizeSetting, minQueueSizeSetting,
-                maxQueueSizeSetting, frameSizeSetting, targetedResponseTimeSetting);
+                maxQueueSizeSetting, frameSizeSetting, targetedResponseTimeSetting, virtualThreadsSetting);
     }
 
     @Override
@@ -161,7 +163,9 @@ public final class AutoQueueAdjustingExecutorBuilder extends ExecutorBuilder<Aut
         final int maxQueueSize = maxQueueSizeSetting.get(settings);
         final int frameSize = frameSizeSetting.get(settings);
         final TimeValue targetedResponseTime = targetedResponseTimeSetting.get(settings);
-        return new AutoExecutorSettings(nodeName, size, initialQueueSize, minQueueSize, maxQueueSize, frameSize, targetedResponseTime);
+        final boolean virtualThreads = virtualThreadsSetting.get(settings);
+        return new AutoExecutorSettings(nodeName, size, initialQueueSize, minQueueSize, maxQueueSize, frameSize, targetedResponseTime,
+            virtualThreads);
     }
 
     @Override
@@ -173,19 +177,24 @@ public final class AutoQueueAdjustingExecutorBuilder extends ExecutorBuilder<Aut
         int maxQueueSize = settings.maxQueueSize;
         int frameSize = settings.frameSize;
         TimeValue targetedResponseTime = settings.targetedResponseTime;
-        final ThreadFactory threadFactory =
-            OpenSearchExecutors.daemonThreadFactory(OpenSearchExecutors.threadName(settings.nodeName, name()));
-        final ExecutorService executor =
-            OpenSearchExecutors.newAutoQueueFixed(
-                        settings.nodeName + "/" + name(),
-                        size,
-                        initialQueueSize,
-                        minQueueSize,
-                        maxQueueSize,
-                        frameSize,
-                        targetedResponseTime,
-                        threadFactory,
-                        threadContext);
+        // tasks that run on virtual threads mostly wait on I/O, so the queue keeps its initial size rather than adjusting to their latency
+        ExecutorService executor =
+            newVirtualThreadExecutor(settings.nodeName, settings.virtualThreads, size, initialQueueSize, threadContext);
+        if (executor == null) {
+            final ThreadFactory threadFactory =
+                OpenSearchExecutors.daemonThreadFactory(OpenSearchExecutors.threadName(settings.nodeName, name()));
+            executor =
+                OpenSearchExecutors.newAutoQueueFixed(
+                            settings.nodeName + "/" + name(),
+                            size,
+                            initialQueueSize,
+                            minQueueSize,
+                            maxQueueSize,
+                            frameSize,
+                            targetedResponseTime,
+                            threadFactory,
+                            threadContext);
+        }
         // TODO: in a subsequent change we hope to extend ThreadPool.Info to be more specific for the thread pool type
         final ThreadPool.Info info =
             new ThreadPool.Info(name(), ThreadPool.ThreadPoolType.FIXED_AUTO_QUEUE_SIZE,
@@ -211,10 +220,11 @@ public final class AutoQueueAdjustingExecutorBuilder extends ExecutorBuilder<Aut
         final int maxQueueSize;
         final int frameSize;
         final TimeValue targetedResponseTime;
+        final boolean virtualThreads;
 
         AutoExecutorSettings(final String nodeName, final int size, final int initialQueueSize,
                              final int minQueueSize, final int maxQueueSize, final int frameSize,
-                             final TimeValue targetedResponseTime) {
+                             final TimeValue targetedResponseTime, final boolean virtualThreads) {
             super(nodeName);
             this.size = size;
             this.initialQueueSize = initialQueueSize;
@@ -222,6 +232,7 @@ public final class AutoQueueAdjustingExecutorBuilder extends ExecutorBuilder<Aut
             this.maxQueueSize = maxQueueSize;
             this.frameSize = frameSize;
             this.targetedResponseTime = targetedResponseTime;
+            this.virtualThreads = virtualThreads;
         }
 
     }
@@ -32,12 +32,15 @@
 
 package org.opensearch.threadpool;
 
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.concurrent.OpenSearchExecutors;
 import org.opensearch.common.util.concurrent.ThreadContext;
 
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 
 /**
  * Base class for executor builders.
@@ -46,6 +49,8 @@ import java.util.List;
  */
 public abstract class ExecutorBuilder<U extends ExecutorBuilder.ExecutorSettings> {
 
+    private static final Logger logger = LogManager.getLogger(ExecutorBuilder.class);
+
     private final String name;
 
     public ExecutorBuilder(String name) {
@@ -68,6 +73,32 @@ public abstract class ExecutorBuilder<U extends ExecutorBuilder.ExecutorSettings
         }
     }
 
+    /**
+     * Setting to run each task of an executor on a new virtual thread. The size of the executor then limits the number of tasks that run
+     * concurrently rather than the number of platform threads, which suits executors whose tasks mostly block on I/O.
+     */
+    protected static Setting<Boolean> virtualThreadsSetting(final String prefix, final Setting.Property... properties) {
+        return Setting.boolSetting(settingsKey(prefix, "virtual_threads"), false, properties);
+    }
+
+    /**
+     * Returns a thread-per-task executor running on virtual threads if they were requested and the JVM supports them, see
+     * {@link OpenSearchExecutors#newThreadPerTask}, or {@code null} if this executor should run on a fixed number of platform threads.
+     */
+    protected ExecutorService newVirtualThreadExecutor(final String nodeName, final boolean virtualThreads, final int size,
+                                                       final int queueSize, final ThreadContext threadContext) {
+        if (virtualThreads == false) {
+            return null;
+        }
+        if (OpenSearchExecutors.virtualThreadsSupported() == false) {
+            logger.warn("thread pool [{}] is configured to use virtual threads, but they require Java 21 or later; using platform threads",
+                name());
+            return null;
+        }
+        return OpenSearchExecutors.newThreadPerTask(nodeName + "/" + name(), size, queueSize,
+            OpenSearchExecutors.virtualThreadFactory(OpenSearchExecutors.threadName(nodeName, name())), threadContext);
+    }
+
     /**
      * The list of settings this builder will register.
      *
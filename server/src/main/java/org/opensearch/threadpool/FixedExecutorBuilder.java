@@ -52,6 +52,7 @@ public final class FixedExecutorBuilder extends ExecutorBuilder<FixedExecutorBui
 
     private final Setting<Integer> sizeSetting;
     private final Setting<Integer> queueSizeSetting;
+    private final Setting<Boolean> virtualThreadsSetting;
 
     /**
      * Construct a fixed executor builder; the settings will have the key prefix "thread_pool." followed by the executor name.
@@ -131,11 +132,12 @@ public final class FixedExecutorBuilder extends ExecutorBuilder<FixedExecutorBui
                 properties);
         final String queueSizeKey = settingsKey(prefix, "queue_size");
         this.queueSizeSetting = Setting.intSetting(queueSizeKey, queueSize, properties);
+        this.virtualThreadsSetting = virtualThreadsSetting(prefix, properties);
     }
 
     @Override
     public List<Setting<?>> getRegisteredSettings() {
-        return Arrays.asList(sizeSetting, queueSizeSetting);
+        return Arrays.asList(sizeSetting, queueSizeSetting, virtualThreadsSetting);
     }
 
     @Override
@@ -143,17 +145,20 @@ public final class FixedExecutorBuilder extends ExecutorBuilder<FixedExecutorBui
         final String nodeName = Node.NODE_NAME_SETTING.get(settings);
         final int size = sizeSetting.get(settings);
         final int queueSize = queueSizeSetting.get(settings);
-        return new FixedExecutorSettings(nodeName, size, queueSize);
+        final boolean virtualThreads = virtualThreadsSetting.get(settings);
+        return new FixedExecutorSettings(nodeName, size, queueSize, virtualThreads);
     }
 
     @Override
     ThreadPool.ExecutorHolder build(final FixedExecutorSettings settings, final ThreadContext threadContext) {
         int size = settings.size;
         int queueSize = settings.queueSize;
-        final ThreadFactory threadFactory =
-            OpenSearchExecutors.daemonThreadFactory(OpenSearchExecutors.threadName(settings.nodeName, name()));
-        final ExecutorService executor =
-            OpenSearchExecutors.newFixed(settings.nodeName + "/" + name(), size, queueSize, threadFactory, threadContext);
+        ExecutorService executor = newVirtualThreadExecutor(settings.nodeName, settings.virtualThreads, size, queueSize, threadContext);
+        if (executor == null) {
+            final ThreadFactory threadFactory =
+                OpenSearchExecutors.daemonThreadFactory(OpenSearchExecutors.threadName(settings.nodeName, name()));
+            executor = OpenSearchExecutors.newFixed(settings.nodeName + "/" + name(), size, queueSize, threadFactory, threadContext);
+        }
         final ThreadPool.Info info =
             new ThreadPool.Info(name(), ThreadPool.ThreadPoolType.FIXED, size, size, null, queueSize < 0 ? null : new SizeValue(queueSize));
         return new ThreadPool.ExecutorHolder(executor, info);
@@ -173,11 +178,13 @@ public final class FixedExecutorBuilder extends ExecutorBuilder<FixedExecutorBui
 
         private final int size;
         private final int queueSize;
+        private final boolean virtualThreads;
 
-        FixedExecutorSettings(final String nodeName, final int size, final int queueSize) {
+        FixedExecutorSettings(final String nodeName, final int size, final int queueSize, final boolean virtualThreads) {
             super(nodeName);
             this.size = size;
             this.queueSize = queueSize;
+            this.virtualThreads = virtualThreads;
         }
 
     }
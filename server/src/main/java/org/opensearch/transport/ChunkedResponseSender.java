@@ -0,0 +1,74 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.transport;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.opensearch.action.ActionListener;
+
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Streams a response to the caller of a transport channel in chunks. Each chunk is only taken from the iterator once the previous one
+ * has been sent, so that a lazy iterator never needs to hold more than a single chunk of the response in memory.
+ */
+final class ChunkedResponseSender {
+
+    private static final Logger logger = LogManager.getLogger(ChunkedResponseSender.class);
+
+    private final TransportChannel channel;
+    private final String actionName;
+    private final Iterator<? extends TransportResponse> chunks;
+    private final TransportResponse finalResponse;
+
+    ChunkedResponseSender(TransportChannel channel, String actionName, Iterator<? extends TransportResponse> chunks,
+                          TransportResponse finalResponse) {
+        assert channel.supportsResponseChunks() : "channel [" + channel + "] does not support chunked responses";
+        this.channel = channel;
+        this.actionName = actionName;
+        this.chunks = chunks;
+        this.finalResponse = finalResponse;
+    }
+
+    void send() {
+        // loops for as long as chunks are sent synchronously and otherwise continues from the listener of the pending chunk
+        while (true) {
+            try {
+                if (chunks.hasNext() == false) {
+                    channel.sendResponse(finalResponse);
+                    return;
+                }
+                final AtomicBoolean sentOrReturned = new AtomicBoolean();
+                channel.sendResponseChunk(chunks.next(), ActionListener.wrap(ignored -> {
+                    if (sentOrReturned.compareAndSet(false, true) == false) {
+                        send();
+                    }
+                }, this::onFailure));
+                if (sentOrReturned.compareAndSet(false, true)) {
+                    return;
+                }
+            } catch (Exception e) {
+                onFailure(e);
+                return;
+            }
+        }
+    }
+
+    private void onFailure(Exception e) {
+        try {
+            channel.sendResponse(e);
+        } catch (Exception inner) {
+            inner.addSuppressed(e);
+            logger.warn(() -> new ParameterizedMessage("failed to send error response for chunked response of action [{}]", actionName),
+                inner);
+        }
+    }
+}
@@ -34,6 +34,7 @@ package org.opensearch.transport;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.ByteSizeValue;
 import org.opensearch.common.unit.TimeValue;
 
 import java.util.ArrayList;
@@ -59,7 +60,8 @@ public final class ConnectionProfile {
         if (profile == null) {
             return fallbackProfile;
         } else if (profile.getConnectTimeout() != null && profile.getHandshakeTimeout() != null
-            && profile.getPingInterval() != null && profile.getCompressionEnabled() != null) {
+            && profile.getPingInterval() != null && profile.getCompressionEnabled() != null
+            && profile.getScaleUpThreshold() != null && profile.getIdleConnectionTimeout() != null) {
             return profile;
         } else {
             ConnectionProfile.Builder builder = new ConnectionProfile.Builder(profile);
@@ -75,6 +77,12 @@ public final class ConnectionProfile {
             if (profile.getCompressionEnabled() == null) {
                 builder.setCompressionEnabled(fallbackProfile.getCompressionEnabled());
             }
+            if (profile.getScaleUpThreshold() == null && fallbackProfile.getScaleUpThreshold() != null) {
+                builder.setScaleUpThreshold(fallbackProfile.getScaleUpThreshold());
+            }
+            if (profile.getIdleConnectionTimeout() == null && fallbackProfile.getIdleConnectionTimeout() != null) {
+                builder.setIdleConnectionTimeout(fallbackProfile.getIdleConnectionTimeout());
+            }
             return builder.build();
         }
     }
@@ -91,18 +99,27 @@ public final class ConnectionProfile {
         int connectionsPerNodeReg = TransportSettings.CONNECTIONS_PER_NODE_REG.get(settings);
         int connectionsPerNodeState = TransportSettings.CONNECTIONS_PER_NODE_STATE.get(settings);
         int connectionsPerNodePing = TransportSettings.CONNECTIONS_PER_NODE_PING.get(settings);
+        int maxConnectionsPerNodeRecovery = TransportSettings.CONNECTIONS_PER_NODE_RECOVERY_MAX.get(settings);
+        int maxConnectionsPerNodeBulk = TransportSettings.CONNECTIONS_PER_NODE_BULK_MAX.get(settings);
+        int maxConnectionsPerNodeReg = TransportSettings.CONNECTIONS_PER_NODE_REG_MAX.get(settings);
         Builder builder = new Builder();
         builder.setConnectTimeout(TransportSettings.CONNECT_TIMEOUT.get(settings));
         builder.setHandshakeTimeout(TransportSettings.CONNECT_TIMEOUT.get(settings));
         builder.setPingInterval(TransportSettings.PING_SCHEDULE.get(settings));
         builder.setCompressionEnabled(TransportSettings.TRANSPORT_COMPRESS.get(settings));
-        builder.addConnections(connectionsPerNodeBulk, TransportRequestOptions.Type.BULK);
+        builder.setScaleUpThreshold(TransportSettings.CONNECTIONS_PER_NODE_SCALE_UP_THRESHOLD.get(settings));
+        builder.setIdleConnectionTimeout(TransportSettings.CONNECTIONS_PER_NODE_IDLE_TIMEOUT.get(settings));
+        builder.addConnections(connectionsPerNodeBulk, maxConnectionsPerNodeBulk, TransportRequestOptions.Type.BULK);
         builder.addConnections(connectionsPerNodePing, TransportRequestOptions.Type.PING);
         // if we are not master eligible we don't need a dedicated channel to publish the state
         builder.addConnections(DiscoveryNode.isMasterNode(settings) ? connectionsPerNodeState : 0, TransportRequestOptions.Type.STATE);
         // if we are not a data-node we don't need any dedicated channels for recovery
-        builder.addConnections(DiscoveryNode.isDataNode(settings) ? connectionsPerNodeRecovery : 0, TransportRequestOptions.Type.RECOVERY);
-        builder.addConnections(connectionsPerNodeReg, TransportRequestOptions.Type.REG);
+        if (DiscoveryNode.isDataNode(settings)) {
+            builder.addConnections(connectionsPerNodeRecovery, maxConnectionsPerNodeRecovery, TransportRequestOptions.Type.RECOVERY);
+        } else {
+            builder.addConnections(0, TransportRequestOptions.Type.RECOVERY);
+        }
+        builder.addConnections(connectionsPerNodeReg, maxConnectionsPerNodeReg, TransportRequestOptions.Type.REG);
         return builder.build();
     }
 
@@ -147,15 +164,20 @@ public final class ConnectionProfile {
     private final TimeValue handshakeTimeout;
     private final TimeValue pingInterval;
     private final Boolean compressionEnabled;
+    private final ByteSizeValue scaleUpThreshold;
+    private final TimeValue idleConnectionTimeout;
 
     private ConnectionProfile(List<ConnectionTypeHandle> handles, int numConnections, TimeValue connectTimeout,
-                              TimeValue handshakeTimeout, TimeValue pingInterval, Boolean compressionEnabled) {
+                              TimeValue handshakeTimeout, TimeValue pingInterval, Boolean compressionEnabled,
+                              ByteSizeValue scaleUpThreshold, TimeValue idleConnectionTimeout) {
         this.handles = handles;
         this.numConnections = numConnections;
         this.connectTimeout = connectTimeout;
         this.handshakeTimeout = handshakeTimeout;
         this.pingInterval = pingInterval;
         this.compressionEnabled = compressionEnabled;
+        this.scaleUpThreshold = scaleUpThreshold;
+        this.idleConnectionTimeout = idleConnectionTimeout;
     }
 
     /**
@@ -169,6 +191,8 @@ public final class ConnectionProfile {
         private TimeValue handshakeTimeout;
         private Boolean compressionEnabled;
         private TimeValue pingInterval;
+        private ByteSizeValue scaleUpThreshold;
+        private TimeValue idleConnectionTimeout;
 
         /** create an empty builder */
         public Builder() {
@@ -183,6 +207,8 @@ public final class ConnectionProfile {
             handshakeTimeout = source.getHandshakeTimeout();
             compressionEnabled = source.getCompressionEnabled();
             pingInterval = source.getPingInterval();
+            scaleUpThreshold = source.getScaleUpThreshold();
+            idleConnectionTimeout = source.getIdleConnectionTimeout();
         }
         /**
          * Sets a connect timeout for this connection profile
@@ -222,22 +248,61 @@ public final class ConnectionProfile {
             return this;
         }
 
+        /**
+         * Sets the number of bytes that must be waiting to be written on every connection of a type before another connection of that
+         * type is opened, up to its maximum number of connections
+         */
+        public Builder setScaleUpThreshold(ByteSizeValue scaleUpThreshold) {
+            if (scaleUpThreshold.getBytes() <= 0) {
+                throw new IllegalArgumentException("scaleUpThreshold must be positive but was: " + scaleUpThreshold);
+            }
+            this.scaleUpThreshold = scaleUpThreshold;
+            return this;
+        }
+
+        /**
+         * Sets how long a connection that was opened beyond the fixed number of connections of its type may stay idle before it is closed
+         */
+        public Builder setIdleConnectionTimeout(TimeValue idleConnectionTimeout) {
+            if (idleConnectionTimeout.millis() <= 0) {
+                throw new IllegalArgumentException("idleConnectionTimeout must be positive but was: " + idleConnectionTimeout);
+            }
+            this.idleConnectionTimeout = idleConnectionTimeout;
+            return this;
+        }
+
         /**
          * Adds a number of connections for one or more types. Each type can only be added once.
          * @param numConnections the number of connections to use in the pool for the given connection types
          * @param types a set of types that should share the given number of connections
          */
         public Builder addConnections(int numConnections, TransportRequestOptions.Type... types) {
+            return addConnections(numConnections, numConnections, types);
+        }
+
+        /**
+         * Adds a number of connections for one or more types that may grow up to a maximum while the connections are busy. Each type can
+         * only be added once.
+         * @param numConnections the number of connections that are opened up-front for the given connection types
+         * @param maxNumConnections the number of connections the pool may grow to, see {@link #setScaleUpThreshold(ByteSizeValue)}
+         * @param types a set of types that should share the given number of connections
+         */
+        public Builder addConnections(int numConnections, int maxNumConnections, TransportRequestOptions.Type... types) {
             if (types == null || types.length == 0) {
                 throw new IllegalArgumentException("types must not be null");
             }
+            if (maxNumConnections < numConnections) {
+                throw new IllegalArgumentException("maxNumConnections [" + maxNumConnections + "] must not be smaller than numConnections ["
+                    + numConnections + "] for types " + Arrays.toString(types));
+            }
             for (TransportRequestOptions.Type type : types) {
                 if (addedTypes.contains(type)) {
                     throw new IllegalArgumentException("type [" + type + "] is already registered");
                 }
             }
             addedTypes.addAll(Arrays.asList(types));
-            handles.add(new ConnectionTypeHandle(this.numConnections, numConnections, EnumSet.copyOf(Arrays.asList(types))));
+            handles.add(new ConnectionTypeHandle(this.numConnections, numConnections, maxNumConnections,
+                EnumSet.copyOf(Arrays.asList(types))));
             this.numConnections += numConnections;
             return this;
         }
@@ -253,7 +318,7 @@ public final class ConnectionProfile {
                 throw new IllegalStateException("not all types are added for this connection profile - missing types: " + types);
             }
             return new ConnectionProfile(Collections.unmodifiableList(handles), numConnections, connectTimeout, handshakeTimeout,
-                pingInterval, compressionEnabled);
+                pingInterval, compressionEnabled, scaleUpThreshold, idleConnectionTimeout);
         }
 
     }
@@ -287,6 +352,22 @@ public final class ConnectionProfile {
         return compressionEnabled;
     }
 
+    /**
+     * Returns the number of pending write bytes on every connection of a type at which another connection of that type is opened or
+     * <code>null</code> if no explicit threshold is set on this profile.
+     */
+    public ByteSizeValue getScaleUpThreshold() {
+        return scaleUpThreshold;
+    }
+
+    /**
+     * Returns how long connections opened beyond the fixed number of connections of a type may stay idle or <code>null</code> if no
+     * explicit timeout is set on this profile.
+     */
+    public TimeValue getIdleConnectionTimeout() {
+        return idleConnectionTimeout;
+    }
+
     /**
      * Returns the total number of connections for this profile
      */
@@ -310,6 +391,19 @@ public final class ConnectionProfile {
         throw new AssertionError("no handle found for type: "  + type);
     }
 
+    /**
+     * Returns the maximum number of connections per type for this profile, which is larger than
+     * {@link #getNumConnectionsPerType(TransportRequestOptions.Type)} if connections are added while the existing ones are busy.
+     */
+    public int getMaxConnectionsPerType(TransportRequestOptions.Type type) {
+        for (ConnectionTypeHandle handle : handles) {
+            if (handle.getTypes().contains(type)) {
+                return handle.maxLength;
+            }
+        }
+        throw new AssertionError("no handle found for type: "  + type);
+    }
+
     /**
      * Returns the type handles for this connection profile
      */
@@ -322,12 +416,14 @@ public final class ConnectionProfile {
      */
     static final class ConnectionTypeHandle {
         public final int length;
+        public final int maxLength;
         public final int offset;
         private final Set<TransportRequestOptions.Type> types;
         private final AtomicInteger counter = new AtomicInteger();
 
-        private ConnectionTypeHandle(int offset, int length, Set<TransportRequestOptions.Type> types) {
+        private ConnectionTypeHandle(int offset, int length, int maxLength, Set<TransportRequestOptions.Type> types) {
             this.length = length;
+            this.maxLength = maxLength;
             this.offset = offset;
             this.types = types;
         }
@@ -41,6 +41,8 @@ import org.opensearch.common.io.stream.ByteBufferStreamInput;
 import org.opensearch.common.io.stream.NamedWriteableAwareStreamInput;
 import org.opensearch.common.io.stream.NamedWriteableRegistry;
 import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.transport.TransportAddress;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.AbstractRunnable;
@@ -50,6 +52,7 @@ import org.opensearch.threadpool.ThreadPool;
 import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicReference;
 
 public class InboundHandler {
 
@@ -118,6 +121,8 @@ public class InboundHandler {
             threadContext.putTransient("_remote_address", remoteAddress);
             if (header.isRequest()) {
                 handleRequest(channel, header, message);
+            } else if (header.isChunked()) {
+                handleResponseChunk(channel, header, message);
             } else {
                 // Responses do not support short circuiting currently
                 assert message.isShortCircuit() == false;
@@ -194,8 +199,18 @@ public class InboundHandler {
                 }
             }
         } else {
+            // the request may hold retained slices of the inbound buffers, which are released together with the reserved bytes once the
+            // response has been sent
+            final AtomicReference<TransportRequest> requestToRelease = new AtomicReference<>();
+            final Releasable releaseRequest = () -> {
+                final TransportRequest toRelease = requestToRelease.getAndSet(null);
+                if (toRelease != null) {
+                    toRelease.decRef();
+                }
+            };
             final TransportChannel transportChannel = new TcpTransportChannel(outboundHandler, channel, action, requestId, version,
-                header.getFeatures(), header.isCompressed(), header.isHandshake(), message.takeBreakerReleaseControl());
+                header.getFeatures(), header.isCompressed(), header.isHandshake(), header.isChunked(),
+                Releasables.wrap(message.takeBreakerReleaseControl(), releaseRequest));
             try {
                 messageListener.onRequestReceived(requestId, action);
                 if (message.isShortCircuit()) {
@@ -206,6 +221,7 @@ public class InboundHandler {
                     final RequestHandlerRegistry<T> reg = requestHandlers.getHandler(action);
                     assert reg != null;
                     final T request = reg.newRequest(stream);
+                    requestToRelease.set(request);
                     request.remoteAddress(new TransportAddress(channel.getRemoteAddress()));
                     // in case we throw an exception, i.e. when the limit is hit, we don't want to verify
                     final int nextByte = stream.read();
@@ -231,6 +247,52 @@ public class InboundHandler {
         }
     }
 
+    private <T extends TransportResponse> void handleResponseChunk(TcpChannel channel, Header header, InboundMessage message)
+        throws IOException {
+        assert message.isShortCircuit() == false;
+        assert header.isError() == false && header.isHandshake() == false;
+        final long requestId = header.getRequestId();
+        @SuppressWarnings("unchecked")
+        final TransportResponseHandler<T> handler = (TransportResponseHandler<T>) responseHandlers.onResponseChunkReceived(requestId);
+        if (handler == null) {
+            // the request has already been completed exceptionally, e.g. because it timed out
+            logger.debug("dropping chunk of response for unknown request id [{}]", requestId);
+            return;
+        }
+        final StreamInput streamInput = namedWriteableStream(message.openOrGetStreamInput());
+        assertRemoteVersion(streamInput, header.getVersion());
+        final T chunk;
+        try {
+            chunk = handler.read(streamInput);
+            chunk.remoteAddress(new TransportAddress(channel.getRemoteAddress()));
+            if (streamInput.read() != -1) {
+                throw new IllegalStateException("Message not fully read (response chunk) for requestId [" + requestId + "], handler ["
+                    + handler + "]; resetting");
+            }
+        } catch (Exception e) {
+            failChunkedResponse(requestId, new TransportSerializationException(
+                "Failed to deserialize response chunk from handler [" + handler + "]", e));
+            return;
+        }
+        // chunks are handled on the network thread so that they are handled in order and before the final response
+        try {
+            handler.handleResponseChunk(chunk, message.getContentLength());
+        } catch (Exception e) {
+            failChunkedResponse(requestId, new ResponseHandlerFailureTransportException(e));
+        }
+    }
+
+    /**
+     * Fails the handler of a chunked response and unregisters it, so that the remaining chunks and the final response are dropped.
+     */
+    private void failChunkedResponse(long requestId, Exception e) {
+        final TransportResponseHandler<?> handler = responseHandlers.onResponseReceived(requestId, messageListener);
+        if (handler != null) {
+            logger.warn(new ParameterizedMessage("failed to handle chunk of response for request id [{}]", requestId), e);
+            handleException(handler, e);
+        }
+    }
+
     private static void sendErrorResponse(String actionName, TransportChannel transportChannel, Exception e) {
         try {
             transportChannel.sendResponse(e);
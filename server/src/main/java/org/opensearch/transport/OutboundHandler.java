@@ -94,9 +94,20 @@ final class OutboundHandler {
     void sendRequest(final DiscoveryNode node, final TcpChannel channel, final long requestId, final String action,
                      final TransportRequest request, final TransportRequestOptions options, final Version channelVersion,
                      final boolean compressRequest, final boolean isHandshake) throws IOException, TransportException {
+        sendRequest(node, channel, requestId, action, request, options, channelVersion, compressRequest, isHandshake, false);
+    }
+
+    /**
+     * Sends the request to the given channel, telling the receiver whether the caller can consume a response that is streamed in
+     * chunks.
+     */
+    void sendRequest(final DiscoveryNode node, final TcpChannel channel, final long requestId, final String action,
+                     final TransportRequest request, final TransportRequestOptions options, final Version channelVersion,
+                     final boolean compressRequest, final boolean isHandshake,
+                     final boolean acceptsResponseChunks) throws IOException, TransportException {
         Version version = Version.min(this.version, channelVersion);
         OutboundMessage.Request message = new OutboundMessage.Request(threadPool.getThreadContext(), features, request, version, action,
-            requestId, isHandshake, compressRequest);
+            requestId, isHandshake, compressRequest, acceptsResponseChunks && version.onOrAfter(Version.V_1_1_0));
         ActionListener<Void> listener = ActionListener.wrap(() ->
             messageListener.onRequestSent(node, requestId, action, request, options));
         sendMessage(channel, message, listener);
@@ -118,6 +129,20 @@ final class OutboundHandler {
         sendMessage(channel, message, listener);
     }
 
+    /**
+     * Sends a chunk of a response that is streamed to the caller in several messages. The given listener is notified once the chunk
+     * has been written to the channel, the next chunk should not be sent before that so that only a single chunk of the response is
+     * ever buffered. The final message of the response is sent through {@link #sendResponse}.
+     */
+    void sendResponseChunk(final Version nodeVersion, final Set<String> features, final TcpChannel channel, final long requestId,
+                           final TransportResponse chunk, final boolean compress, final ActionListener<Void> listener) throws IOException {
+        Version version = Version.min(this.version, nodeVersion);
+        assert version.onOrAfter(Version.V_1_1_0) : "chunked responses are not supported by [" + version + "]";
+        OutboundMessage.Response message = new OutboundMessage.Response(threadPool.getThreadContext(), features, chunk, version,
+            requestId, false, compress, true);
+        sendMessage(channel, message, listener);
+    }
+
     /**
      * Sends back an error response to the caller via the given channel
      */
@@ -208,6 +233,7 @@ final class OutboundHandler {
             try {
                 message = messageSupplier.get();
                 messageSize = message.length();
+                channel.getChannelStats().markWriteQueued(messageSize);
                 TransportLogger.logOutboundMessage(channel, message);
                 return message;
             } catch (Exception e) {
@@ -220,11 +246,15 @@ final class OutboundHandler {
         protected void innerOnResponse(Void v) {
             assert messageSize != -1 : "If onResponse is being called, the message should have been serialized";
             statsTracker.markBytesWritten(messageSize);
+            channel.getChannelStats().markWriteCompleted(messageSize);
             closeAndCallback(() -> listener.onResponse(v));
         }
 
         @Override
         protected void innerOnFailure(Exception e) {
+            if (messageSize != -1) {
+                channel.getChannelStats().markWriteCompleted(messageSize);
+            }
             if (NetworkExceptionHelper.isCloseConnectionException(e)) {
                 logger.debug(() -> new ParameterizedMessage("send message failed [channel: {}]", channel), e);
             } else {
@@ -121,7 +121,12 @@ abstract class OutboundMessage extends NetworkMessage {
 
         Request(ThreadContext threadContext, String[] features, Writeable message, Version version, String action, long requestId,
                 boolean isHandshake, boolean compress) {
-            super(threadContext, version, setStatus(compress, isHandshake, message), requestId, message);
+            this(threadContext, features, message, version, action, requestId, isHandshake, compress, false);
+        }
+
+        Request(ThreadContext threadContext, String[] features, Writeable message, Version version, String action, long requestId,
+                boolean isHandshake, boolean compress, boolean acceptsResponseChunks) {
+            super(threadContext, version, setStatus(compress, isHandshake, acceptsResponseChunks, message), requestId, message);
             this.features = features;
             this.action = action;
         }
@@ -135,7 +140,7 @@ abstract class OutboundMessage extends NetworkMessage {
             stream.writeString(action);
         }
 
-        private static byte setStatus(boolean compress, boolean isHandshake, Writeable message) {
+        private static byte setStatus(boolean compress, boolean isHandshake, boolean acceptsResponseChunks, Writeable message) {
             byte status = 0;
             status = TransportStatus.setRequest(status);
             if (compress && OutboundMessage.canCompress(message)) {
@@ -144,6 +149,9 @@ abstract class OutboundMessage extends NetworkMessage {
             if (isHandshake) {
                 status = TransportStatus.setHandshake(status);
             }
+            if (acceptsResponseChunks) {
+                status = TransportStatus.setChunked(status);
+            }
 
             return status;
         }
@@ -155,7 +163,12 @@ abstract class OutboundMessage extends NetworkMessage {
 
         Response(ThreadContext threadContext, Set<String> features, Writeable message, Version version, long requestId,
                  boolean isHandshake, boolean compress) {
-            super(threadContext, version, setStatus(compress, isHandshake, message), requestId, message);
+            this(threadContext, features, message, version, requestId, isHandshake, compress, false);
+        }
+
+        Response(ThreadContext threadContext, Set<String> features, Writeable message, Version version, long requestId,
+                 boolean isHandshake, boolean compress, boolean isChunk) {
+            super(threadContext, version, setStatus(compress, isHandshake, isChunk, message), requestId, message);
             this.features = features;
         }
 
@@ -165,7 +178,7 @@ abstract class OutboundMessage extends NetworkMessage {
             stream.setFeatures(features);
         }
 
-        private static byte setStatus(boolean compress, boolean isHandshake, Writeable message) {
+        private static byte setStatus(boolean compress, boolean isHandshake, boolean isChunk, Writeable message) {
             byte status = 0;
             status = TransportStatus.setResponse(status);
             if (message instanceof RemoteTransportException) {
@@ -177,6 +190,9 @@ abstract class OutboundMessage extends NetworkMessage {
             if (isHandshake) {
                 status = TransportStatus.setHandshake(status);
             }
+            if (isChunk) {
+                status = TransportStatus.setChunked(status);
+            }
 
             return status;
         }
@@ -33,6 +33,7 @@
 package org.opensearch.transport;
 
 import org.opensearch.Version;
+import org.opensearch.action.ActionListener;
 import org.opensearch.common.lease.Releasable;
 
 import java.io.IOException;
@@ -66,6 +67,16 @@ public class TaskTransportChannel implements TransportChannel {
         }
     }
 
+    @Override
+    public boolean supportsResponseChunks() {
+        return channel.supportsResponseChunks();
+    }
+
+    @Override
+    public void sendResponseChunk(TransportResponse chunk, ActionListener<Void> listener) throws IOException {
+        channel.sendResponseChunk(chunk, listener);
+    }
+
     @Override
     public void sendResponse(Exception exception) throws IOException {
         try {
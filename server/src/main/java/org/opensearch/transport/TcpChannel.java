@@ -38,6 +38,7 @@ import org.opensearch.common.network.CloseableChannel;
 import org.opensearch.common.unit.TimeValue;
 
 import java.net.InetSocketAddress;
+import java.util.concurrent.atomic.AtomicLong;
 
 
 /**
@@ -98,6 +99,7 @@ public interface TcpChannel extends CloseableChannel {
     class ChannelStats {
 
         private volatile long lastAccessedTime;
+        private final AtomicLong pendingWriteBytes = new AtomicLong();
 
         public ChannelStats() {
             lastAccessedTime = TimeValue.nsecToMSec(System.nanoTime());
@@ -110,5 +112,20 @@ public interface TcpChannel extends CloseableChannel {
         long lastAccessedTime() {
             return lastAccessedTime;
         }
+
+        void markWriteQueued(long bytes) {
+            pendingWriteBytes.addAndGet(bytes);
+        }
+
+        void markWriteCompleted(long bytes) {
+            pendingWriteBytes.addAndGet(-bytes);
+        }
+
+        /**
+         * Returns the number of bytes that were handed to this channel but have not been written to the network yet.
+         */
+        long pendingWriteBytes() {
+            return pendingWriteBytes.get();
+        }
     }
 }
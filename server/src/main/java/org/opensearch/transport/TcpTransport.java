@@ -87,11 +87,14 @@ import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.TreeSet;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -134,6 +137,7 @@ public abstract class TcpTransport extends AbstractLifecycleComponent implements
     private final ConcurrentMap<String, BoundTransportAddress> profileBoundAddresses = newConcurrentMap();
     private final Map<String, List<TcpServerChannel>> serverChannels = newConcurrentMap();
     private final Set<TcpChannel> acceptedChannels = ConcurrentCollections.newConcurrentSet();
+    private final Set<NodeChannels> openNodeChannels = ConcurrentCollections.newConcurrentSet();
 
     // this lock is here to make sure we close this transport and disconnect all the client nodes
     // connections while no connect operations is going on
@@ -218,21 +222,33 @@ public abstract class TcpTransport extends AbstractLifecycleComponent implements
 
     public final class NodeChannels extends CloseableConnection {
         private final Map<TransportRequestOptions.Type, ConnectionProfile.ConnectionTypeHandle> typeMapping;
+        private final Map<TransportRequestOptions.Type, ScalingChannels> scalingChannels;
         private final List<TcpChannel> channels;
         private final DiscoveryNode node;
         private final Version version;
         private final boolean compress;
+        private final ConnectionProfile connectionProfile;
         private final AtomicBoolean isClosing = new AtomicBoolean(false);
 
         NodeChannels(DiscoveryNode node, List<TcpChannel> channels, ConnectionProfile connectionProfile, Version handshakeVersion) {
             this.node = node;
             this.channels = Collections.unmodifiableList(channels);
+            this.connectionProfile = connectionProfile;
             assert channels.size() == connectionProfile.getNumConnections() : "expected channels size to be == "
                 + connectionProfile.getNumConnections() + " but was: [" + channels.size() + "]";
             typeMapping = new EnumMap<>(TransportRequestOptions.Type.class);
+            scalingChannels = new EnumMap<>(TransportRequestOptions.Type.class);
+            final boolean canScale = connectionProfile.getScaleUpThreshold() != null
+                && connectionProfile.getIdleConnectionTimeout() != null;
             for (ConnectionProfile.ConnectionTypeHandle handle : connectionProfile.getHandles()) {
-                for (TransportRequestOptions.Type type : handle.getTypes())
+                final ScalingChannels scaling = canScale && handle.length > 0 && handle.maxLength > handle.length
+                    ? new ScalingChannels(handle) : null;
+                for (TransportRequestOptions.Type type : handle.getTypes()) {
                     typeMapping.put(type, handle);
+                    if (scaling != null) {
+                        scalingChannels.put(type, scaling);
+                    }
+                }
             }
             version = handshakeVersion;
             compress = connectionProfile.getCompressionEnabled();
@@ -248,11 +264,45 @@ public abstract class TcpTransport extends AbstractLifecycleComponent implements
         }
 
         public TcpChannel channel(TransportRequestOptions.Type type) {
+            return channel(type, -1L);
+        }
+
+        private TcpChannel channel(TransportRequestOptions.Type type, long requestId) {
             ConnectionProfile.ConnectionTypeHandle connectionTypeHandle = typeMapping.get(type);
             if (connectionTypeHandle == null) {
                 throw new IllegalArgumentException("no type channel for [" + type + "]");
             }
-            return connectionTypeHandle.getChannel(channels);
+            final TcpChannel channel = connectionTypeHandle.getChannel(channels);
+            final ScalingChannels scaling = scalingChannels.get(type);
+            return scaling == null ? channel : scaling.select(channel, requestId);
+        }
+
+        /**
+         * Returns the number of open channels and the bytes waiting to be written on them for each connection type of this connection
+         */
+        Map<TransportRequestOptions.Type, TransportStats.ConnectionTypeStats> getConnectionTypeStats() {
+            final Map<TransportRequestOptions.Type, TransportStats.ConnectionTypeStats> stats =
+                new EnumMap<>(TransportRequestOptions.Type.class);
+            for (Map.Entry<TransportRequestOptions.Type, ConnectionProfile.ConnectionTypeHandle> entry : typeMapping.entrySet()) {
+                final ConnectionProfile.ConnectionTypeHandle handle = entry.getValue();
+                long open = 0;
+                long pendingWriteBytes = 0;
+                for (TcpChannel channel : channels.subList(handle.offset, handle.offset + handle.length)) {
+                    if (channel.isOpen()) {
+                        open++;
+                        pendingWriteBytes += channel.getChannelStats().pendingWriteBytes();
+                    }
+                }
+                final ScalingChannels scaling = scalingChannels.get(entry.getKey());
+                if (scaling != null) {
+                    for (ExtraChannel extraChannel : scaling.extraChannels) {
+                        open++;
+                        pendingWriteBytes += extraChannel.channel.getChannelStats().pendingWriteBytes();
+                    }
+                }
+                stats.put(entry.getKey(), new TransportStats.ConnectionTypeStats(open, pendingWriteBytes));
+            }
+            return stats;
         }
 
         @Override
@@ -260,7 +310,11 @@ public abstract class TcpTransport extends AbstractLifecycleComponent implements
             if (isClosing.compareAndSet(false, true)) {
                 try {
                     boolean block = lifecycle.stopped() && Transports.isTransportThread(Thread.currentThread()) == false;
-                    CloseableChannel.closeChannels(channels, block);
+                    final List<TcpChannel> allChannels = new ArrayList<>(channels);
+                    for (ScalingChannels scaling : new HashSet<>(scalingChannels.values())) {
+                        scaling.extraChannels.forEach(extraChannel -> allChannels.add(extraChannel.channel));
+                    }
+                    CloseableChannel.closeChannels(allChannels, block);
                 } finally {
                     // Call the super method to trigger listeners
                     super.close();
@@ -279,8 +333,197 @@ public abstract class TcpTransport extends AbstractLifecycleComponent implements
             if (isClosing.get()) {
                 throw new NodeNotConnectedException(node, "connection already closed");
             }
-            TcpChannel channel = channel(options.type());
-            outboundHandler.sendRequest(node, channel, requestId, action, request, options, getVersion(), compress, false);
+            TcpChannel channel = channel(options.type(), requestId);
+            outboundHandler.sendRequest(node, channel, requestId, action, request, options, getVersion(), compress, false,
+                responseHandlers.supportsResponseChunks(requestId));
+        }
+
+        /**
+         * Grows the channels of a connection type beyond its fixed number of connections while all of them have at least
+         * {@link ConnectionProfile#getScaleUpThreshold()} bytes waiting to be written, up to the maximum number of connections for the
+         * type. Channels opened this way are closed again once they have not been used for
+         * {@link ConnectionProfile#getIdleConnectionTimeout()} and no response is outstanding on them, whereas the fixed channels live
+         * as long as the connection. Like for the fixed channels, the whole connection is closed if an additional channel is closed
+         * while responses are still outstanding on it so that their handlers are notified.
+         */
+        private final class ScalingChannels {
+
+            private final ConnectionProfile.ConnectionTypeHandle handle;
+            private final long scaleUpThresholdBytes;
+            private final TimeValue idleTimeout;
+            private final List<ExtraChannel> extraChannels = new CopyOnWriteArrayList<>();
+            private final AtomicBoolean opening = new AtomicBoolean();
+
+            private ScalingChannels(ConnectionProfile.ConnectionTypeHandle handle) {
+                this.handle = handle;
+                this.scaleUpThresholdBytes = connectionProfile.getScaleUpThreshold().getBytes();
+                this.idleTimeout = connectionProfile.getIdleConnectionTimeout();
+            }
+
+            /**
+             * Selects the channel to send the request with the given id on. A request id of {@code -1} is not tracked, otherwise the
+             * request counts as outstanding on the selected additional channel until its response handler is removed.
+             */
+            TcpChannel select(TcpChannel channel, long requestId) {
+                long leastPending = channel.getChannelStats().pendingWriteBytes();
+                if (leastPending < scaleUpThresholdBytes) {
+                    return channel;
+                }
+                TcpChannel selected = channel;
+                for (TcpChannel candidate : channels.subList(handle.offset, handle.offset + handle.length)) {
+                    final long pending = candidate.getChannelStats().pendingWriteBytes();
+                    if (pending < leastPending && candidate.isOpen()) {
+                        leastPending = pending;
+                        selected = candidate;
+                    }
+                }
+                ExtraChannel selectedExtra = null;
+                for (ExtraChannel candidate : extraChannels) {
+                    final long pending = candidate.channel.getChannelStats().pendingWriteBytes();
+                    if (pending < leastPending && candidate.channel.isOpen() && candidate.draining.get() == false) {
+                        leastPending = pending;
+                        selectedExtra = candidate;
+                    }
+                }
+                if (leastPending >= scaleUpThresholdBytes && handle.length + extraChannels.size() < handle.maxLength) {
+                    openExtraChannel();
+                }
+                if (selectedExtra == null) {
+                    return selected;
+                }
+                selectedExtra.lastSelectedMillis = threadPool.relativeTimeInMillis();
+                if (requestId != -1L && selectedExtra.track(requestId) == false) {
+                    // the additional channel started draining concurrently, fall back to the fixed channel
+                    return selected;
+                }
+                return selectedExtra.channel;
+            }
+
+            private void openExtraChannel() {
+                if (isClosing.get() || opening.compareAndSet(false, true) == false) {
+                    return;
+                }
+                final TcpChannel channel;
+                try {
+                    channel = initiateChannel(node);
+                } catch (Exception e) {
+                    opening.set(false);
+                    logger.debug(() -> new ParameterizedMessage("failed to open additional {} channel to [{}]", handle.getTypes(),
+                        node), e);
+                    return;
+                }
+                final AtomicBoolean completed = new AtomicBoolean();
+                channel.addConnectListener(ActionListener.wrap(v -> {
+                    if (completed.compareAndSet(false, true) == false) {
+                        return;
+                    }
+                    final long relativeMillisTime = threadPool.relativeTimeInMillis();
+                    channel.getChannelStats().markAccessed(relativeMillisTime);
+                    final ExtraChannel extraChannel = new ExtraChannel(channel, relativeMillisTime);
+                    channel.addCloseListener(ActionListener.wrap(() -> onExtraChannelClosed(extraChannel)));
+                    keepAlive.registerNodeConnection(Collections.singletonList(channel), connectionProfile);
+                    extraChannels.add(extraChannel);
+                    opening.set(false);
+                    logger.trace(() -> new ParameterizedMessage("opened additional {} channel [{}] to [{}]", handle.getTypes(), channel,
+                        node));
+                    if (isClosing.get()) {
+                        CloseableChannel.closeChannel(channel);
+                    } else {
+                        scheduleIdleCheck(extraChannel);
+                    }
+                }, e -> {
+                    if (completed.compareAndSet(false, true)) {
+                        opening.set(false);
+                        logger.debug(() -> new ParameterizedMessage("failed to connect additional {} channel to [{}]", handle.getTypes(),
+                            node), e);
+                        CloseableChannel.closeChannel(channel);
+                    }
+                }));
+                threadPool.schedule(() -> {
+                    if (completed.compareAndSet(false, true)) {
+                        opening.set(false);
+                        logger.debug("timed out connecting additional {} channel to [{}]", handle.getTypes(), node);
+                        CloseableChannel.closeChannel(channel);
+                    }
+                }, connectionProfile.getConnectTimeout(), ThreadPool.Names.GENERIC);
+            }
+
+            private void onExtraChannelClosed(ExtraChannel extraChannel) {
+                extraChannels.remove(extraChannel);
+                if (isClosing.get() == false && extraChannel.closedIdle == false && extraChannel.hasOutstandingResponses()) {
+                    logger.debug(() -> new ParameterizedMessage(
+                        "additional {} channel [{}] to [{}] closed with outstanding responses, closing connection",
+                        handle.getTypes(), extraChannel.channel, node));
+                    NodeChannels.this.close();
+                }
+            }
+
+            private void scheduleIdleCheck(ExtraChannel extraChannel) {
+                threadPool.scheduleUnlessShuttingDown(idleTimeout, ThreadPool.Names.GENERIC, () -> {
+                    final TcpChannel channel = extraChannel.channel;
+                    if (channel.isOpen() == false) {
+                        return;
+                    }
+                    if (channel.getChannelStats().pendingWriteBytes() == 0
+                        && threadPool.relativeTimeInMillis() - extraChannel.lastSelectedMillis >= idleTimeout.millis()
+                        && extraChannel.closeIfIdle()) {
+                        logger.trace(() -> new ParameterizedMessage("closed idle additional {} channel [{}] to [{}]", handle.getTypes(),
+                            channel, node));
+                    } else {
+                        scheduleIdleCheck(extraChannel);
+                    }
+                });
+            }
+        }
+
+        private final class ExtraChannel {
+
+            private final TcpChannel channel;
+            private final Set<Long> outstandingRequestIds = ConcurrentCollections.newConcurrentSet();
+            private final AtomicBoolean draining = new AtomicBoolean();
+            private volatile boolean closedIdle;
+            private volatile long lastSelectedMillis;
+
+            private ExtraChannel(TcpChannel channel, long lastSelectedMillis) {
+                this.channel = channel;
+                this.lastSelectedMillis = lastSelectedMillis;
+            }
+
+            /**
+             * Records a request sent on this channel, returns {@code false} if the channel is draining and must not be used.
+             */
+            boolean track(long requestId) {
+                outstandingRequestIds.add(requestId);
+                if (draining.get()) {
+                    outstandingRequestIds.remove(requestId);
+                    return false;
+                }
+                return true;
+            }
+
+            /**
+             * Returns whether a request sent on this channel still waits for its response, forgetting the requests whose response
+             * handler was already removed because the response arrived, the request timed out or the connection was closed.
+             */
+            boolean hasOutstandingResponses() {
+                outstandingRequestIds.removeIf(requestId -> responseHandlers.contains(requestId) == false);
+                return outstandingRequestIds.isEmpty() == false;
+            }
+
+            /**
+             * Stops selecting this channel and closes it once no response is outstanding on it anymore. Requests are tracked before
+             * the draining flag is read and the flag is set before the outstanding requests are checked, so a request is either seen
+             * here or falls back to another channel.
+             */
+            boolean closeIfIdle() {
+                draining.set(true);
+                if (hasOutstandingResponses()) {
+                    return false;
+                }
+                closedIdle = true;
+                CloseableChannel.closeChannel(channel);
+                return true;
+            }
         }
     }
 
@@ -866,8 +1109,19 @@ public abstract class TcpTransport extends AbstractLifecycleComponent implements
         final long messagesSent = statsTracker.getMessagesSent();
         final long messagesReceived = statsTracker.getMessagesReceived();
         final long bytesRead = statsTracker.getBytesRead();
+        final Map<TransportRequestOptions.Type, long[]> perType = new EnumMap<>(TransportRequestOptions.Type.class);
+        for (NodeChannels nodeChannels : openNodeChannels) {
+            nodeChannels.getConnectionTypeStats().forEach((type, stats) -> {
+                final long[] totals = perType.computeIfAbsent(type, t -> new long[2]);
+                totals[0] += stats.getOpenConnections();
+                totals[1] += stats.getPendingWriteBytes();
+            });
+        }
+        final Map<String, TransportStats.ConnectionTypeStats> connectionsPerType = new TreeMap<>();
+        perType.forEach((type, totals) ->
+            connectionsPerType.put(type.name().toLowerCase(Locale.ROOT), new TransportStats.ConnectionTypeStats(totals[0], totals[1])));
         return new TransportStats(acceptedChannels.size(), outboundConnectionCount.get(),
-                messagesReceived, bytesRead, messagesSent, bytesWritten);
+                messagesReceived, bytesRead, messagesSent, bytesWritten, connectionsPerType);
     }
 
     /**
@@ -968,6 +1222,8 @@ public abstract class TcpTransport extends AbstractLifecycleComponent implements
                         final long connectionId = outboundConnectionCount.incrementAndGet();
                         logger.debug("opened transport connection [{}] to [{}] using channels [{}]", connectionId, node, channels);
                         NodeChannels nodeChannels = new NodeChannels(node, channels, connectionProfile, version);
+                        openNodeChannels.add(nodeChannels);
+                        nodeChannels.addCloseListener(ActionListener.wrap(() -> openNodeChannels.remove(nodeChannels)));
                         long relativeMillisTime = threadPool.relativeTimeInMillis();
                         nodeChannels.channels.forEach(ch -> {
                             // Mark the channel init time
@@ -33,6 +33,7 @@
 package org.opensearch.transport;
 
 import org.opensearch.Version;
+import org.opensearch.action.ActionListener;
 import org.opensearch.common.lease.Releasable;
 
 import java.io.IOException;
@@ -50,10 +51,17 @@ public final class TcpTransportChannel implements TransportChannel {
     private final Set<String> features;
     private final boolean compressResponse;
     private final boolean isHandshake;
+    private final boolean acceptsResponseChunks;
     private final Releasable breakerRelease;
 
     TcpTransportChannel(OutboundHandler outboundHandler, TcpChannel channel, String action, long requestId, Version version,
                         Set<String> features, boolean compressResponse, boolean isHandshake, Releasable breakerRelease) {
+        this(outboundHandler, channel, action, requestId, version, features, compressResponse, isHandshake, false, breakerRelease);
+    }
+
+    TcpTransportChannel(OutboundHandler outboundHandler, TcpChannel channel, String action, long requestId, Version version,
+                        Set<String> features, boolean compressResponse, boolean isHandshake, boolean acceptsResponseChunks,
+                        Releasable breakerRelease) {
         this.version = version;
         this.features = features;
         this.channel = channel;
@@ -62,6 +70,7 @@ public final class TcpTransportChannel implements TransportChannel {
         this.requestId = requestId;
         this.compressResponse = compressResponse;
         this.isHandshake = isHandshake;
+        this.acceptsResponseChunks = acceptsResponseChunks;
         this.breakerRelease = breakerRelease;
     }
 
@@ -79,6 +88,20 @@ public final class TcpTransportChannel implements TransportChannel {
         }
     }
 
+    @Override
+    public boolean supportsResponseChunks() {
+        return acceptsResponseChunks;
+    }
+
+    @Override
+    public void sendResponseChunk(TransportResponse chunk, ActionListener<Void> listener) throws IOException {
+        if (acceptsResponseChunks == false) {
+            throw new IllegalStateException("the caller of [" + action + "] does not accept chunked responses");
+        }
+        // the reserved bytes are only released by the final message of the response
+        outboundHandler.sendResponseChunk(version, features, channel, requestId, chunk, compressResponse, listener);
+    }
+
     @Override
     public void sendResponse(Exception exception) throws IOException {
         try {
@@ -245,6 +245,24 @@ public interface Transport extends LifecycleComponent {
             return holders;
         }
 
+        /**
+         * Returns <code>true</code> if the handler for the given request ID can consume a response that is streamed in chunks.
+         */
+        public boolean supportsResponseChunks(long requestId) {
+            final ResponseContext<? extends TransportResponse> context = handlers.get(requestId);
+            return context != null && context.handler().supportsResponseChunks();
+        }
+
+        /**
+         * called by the {@link Transport} implementation when a chunk of a streamed response has been received for a previously sent
+         * request. Unlike {@link #onResponseReceived} the handler stays registered since further chunks and the final response follow.
+         * Returns the appropriate response handler or null if not found.
+         */
+        public TransportResponseHandler<? extends TransportResponse> onResponseChunkReceived(final long requestId) {
+            final ResponseContext<? extends TransportResponse> context = handlers.get(requestId);
+            return context == null ? null : context.handler();
+        }
+
         /**
          * called by the {@link Transport} implementation when a response or an exception has been received for a previously
          * sent request (before any processing or deserialization was done). Returns the appropriate response handler or null if not
@@ -31,6 +31,7 @@
 
 package org.opensearch.transport;
 
+import org.opensearch.action.ActionListener;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
@@ -97,6 +98,21 @@ public final class TransportActionProxy {
             }
         }
 
+        @Override
+        public boolean supportsResponseChunks() {
+            return channel.supportsResponseChunks();
+        }
+
+        @Override
+        public void handleResponseChunk(T chunk, int sizeInBytes) {
+            try {
+                // a failure to send the chunk means the channel is broken, which the final response will run into as well
+                channel.sendResponseChunk(chunk, ActionListener.wrap(() -> {}));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
         @Override
         public void handleException(TransportException exp) {
             try {
@@ -36,8 +36,10 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.message.ParameterizedMessage;
 import org.opensearch.Version;
+import org.opensearch.action.ActionListener;
 
 import java.io.IOException;
+import java.util.Iterator;
 
 /**
  * A transport channel allows to send a response to a request on the channel.
@@ -54,6 +56,24 @@ public interface TransportChannel {
 
     void sendResponse(Exception exception) throws IOException;
 
+    /**
+     * Returns whether the caller can consume a response that is streamed in chunks, see {@link #sendResponseChunk}.
+     */
+    default boolean supportsResponseChunks() {
+        return false;
+    }
+
+    /**
+     * Sends a chunk of a response that is streamed to the caller in several messages, which the caller consumes through
+     * {@link TransportResponseHandler#handleResponseChunk}. The given listener is notified once the chunk has been sent and the next
+     * chunk should only be produced then, so that a large response never needs to be held in memory at once. The response is completed
+     * by sending the final message through {@link #sendResponse(TransportResponse)} or failed through {@link #sendResponse(Exception)}.
+     * Must only be used if {@link #supportsResponseChunks()} returns {@code true}.
+     */
+    default void sendResponseChunk(TransportResponse chunk, ActionListener<Void> listener) throws IOException {
+        throw new UnsupportedOperationException("channel [" + getChannelType() + "] does not support chunked responses");
+    }
+
     /**
      * Returns the version of the other party that this channel will send a response to.
      */
@@ -61,6 +81,16 @@ public interface TransportChannel {
         return Version.CURRENT;
     }
 
+    /**
+     * A helper method to stream a response to the caller in chunks, each of which is only taken from the given iterator once the previous
+     * one has been sent, followed by the given final response. Failures are sent back to the caller as an error response. Must only be
+     * used if {@link #supportsResponseChunks()} returns {@code true}.
+     */
+    static void sendResponseChunks(TransportChannel channel, String actionName, Iterator<? extends TransportResponse> chunks,
+                                   TransportResponse finalResponse) {
+        new ChunkedResponseSender(channel, actionName, chunks, finalResponse).send();
+    }
+
     /**
      * A helper method to send an exception and handle and log a subsequent exception
      */
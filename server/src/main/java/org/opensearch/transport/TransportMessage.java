@@ -35,8 +35,9 @@ package org.opensearch.transport;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.Writeable;
 import org.opensearch.common.transport.TransportAddress;
+import org.opensearch.common.util.concurrent.RefCounted;
 
-public abstract class TransportMessage implements Writeable {
+public abstract class TransportMessage implements Writeable, RefCounted {
 
     private TransportAddress remoteAddress;
 
@@ -58,4 +59,24 @@ public abstract class TransportMessage implements Writeable {
      * currently a no-op
      */
     public TransportMessage(StreamInput in) {}
+
+    /**
+     * Messages that hold on to retained slices of the network buffer they were read from, see
+     * {@link StreamInput#readReleasableBytesReference()}, release them once their reference count drops to zero. A message read from the
+     * network starts with a single reference which the transport releases once the response to it has been sent. Most messages copy
+     * everything they read and so ignore reference counting.
+     */
+    @Override
+    public void incRef() {
+    }
+
+    @Override
+    public boolean tryIncRef() {
+        return true;
+    }
+
+    @Override
+    public boolean decRef() {
+        return false;
+    }
 }
@@ -42,6 +42,28 @@ public interface TransportResponseHandler<T extends TransportResponse> extends W
 
     void handleResponse(T response);
 
+    /**
+     * Returns whether this handler can consume a response that the remote node streams in chunks, see
+     * {@link #handleResponseChunk(TransportResponse, int)}.
+     */
+    default boolean supportsResponseChunks() {
+        return false;
+    }
+
+    /**
+     * Handles a chunk of a response that the remote node streams in several messages. Chunks are read with {@link #read(StreamInput)}
+     * and handled on the network thread in the order in which they were sent, so this must not block. Once all chunks have been handled
+     * the final message of the response is passed to {@link #handleResponse(TransportResponse)}. Only called if
+     * {@link #supportsResponseChunks()} returns {@code true}.
+     *
+     * @param chunk       the chunk of the response
+     * @param sizeInBytes the size of the serialized chunk, which handlers that hold on to the chunks until the final response
+     *                    account for, or {@code 0} if the chunk was handed over by the local node without serializing it
+     */
+    default void handleResponseChunk(T chunk, int sizeInBytes) {
+        throw new IllegalStateException("handler [" + this + "] does not support chunked responses");
+    }
+
     void handleException(TransportException exp);
 
     String executor();
@@ -54,6 +76,16 @@ public interface TransportResponseHandler<T extends TransportResponse> extends W
                 self.handleResponse(converter.apply(response));
             }
 
+            @Override
+            public boolean supportsResponseChunks() {
+                return self.supportsResponseChunks();
+            }
+
+            @Override
+            public void handleResponseChunk(Q chunk, int sizeInBytes) {
+                self.handleResponseChunk(converter.apply(chunk), sizeInBytes);
+            }
+
             @Override
             public void handleException(TransportException exp) {
                 self.handleException(exp);
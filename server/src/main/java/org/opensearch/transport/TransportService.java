@@ -1208,6 +1208,18 @@ public class TransportService extends AbstractLifecycleComponent implements Repo
             }
         }
 
+        @Override
+        public boolean supportsResponseChunks() {
+            return delegate.supportsResponseChunks();
+        }
+
+        @Override
+        public void handleResponseChunk(T chunk, int sizeInBytes) {
+            try (ThreadContext.StoredContext ignore = contextSupplier.get()) {
+                delegate.handleResponseChunk(chunk, sizeInBytes);
+            }
+        }
+
         @Override
         public void handleException(TransportException exp) {
             if(handler != null) {
@@ -1279,6 +1291,33 @@ public class TransportService extends AbstractLifecycleComponent implements Repo
             }
         }
 
+        @Override
+        public boolean supportsResponseChunks() {
+            return service.responseHandlers.supportsResponseChunks(requestId);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void sendResponseChunk(TransportResponse chunk, ActionListener<Void> listener) {
+            final TransportResponseHandler handler = service.responseHandlers.onResponseChunkReceived(requestId);
+            if (handler == null) {
+                listener.onFailure(new IllegalStateException("no handler found for request id [" + requestId + "]"));
+                return;
+            }
+            // the chunk is handled on the calling thread, which keeps the chunks in order and provides the flow control
+            try {
+                handler.handleResponseChunk(chunk, 0);
+            } catch (Exception e) {
+                final TransportResponseHandler removed = service.responseHandlers.onResponseReceived(requestId, service);
+                if (removed != null) {
+                    processException(removed, wrapInRemote(new ResponseHandlerFailureTransportException(e)));
+                }
+                listener.onFailure(e);
+                return;
+            }
+            listener.onResponse(null);
+        }
+
         @SuppressWarnings("unchecked")
         protected void processResponse(TransportResponseHandler handler, TransportResponse response) {
             try {
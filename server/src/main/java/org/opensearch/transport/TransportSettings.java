@@ -35,6 +35,7 @@ import org.opensearch.action.admin.cluster.node.liveness.TransportLivenessAction
 import org.opensearch.common.network.NetworkService;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.ByteSizeUnit;
 import org.opensearch.common.unit.ByteSizeValue;
 import org.opensearch.common.unit.TimeValue;
 
@@ -172,6 +173,21 @@ public final class TransportSettings {
     public static final Setting<Integer> CONNECTIONS_PER_NODE_PING =
         intSetting("transport.connections_per_node.ping", 1, 1, Setting.Property.NodeScope);
 
+    // Upper bounds up to which connections of a type are added while the existing ones have a backlog of writes. These default to the
+    // fixed number of connections of the type, which disables adding connections.
+    public static final Setting<Integer> CONNECTIONS_PER_NODE_RECOVERY_MAX =
+        intSetting("transport.connections_per_node.recovery_max", CONNECTIONS_PER_NODE_RECOVERY, 1, Setting.Property.NodeScope);
+    public static final Setting<Integer> CONNECTIONS_PER_NODE_BULK_MAX =
+        intSetting("transport.connections_per_node.bulk_max", CONNECTIONS_PER_NODE_BULK, 1, Setting.Property.NodeScope);
+    public static final Setting<Integer> CONNECTIONS_PER_NODE_REG_MAX =
+        intSetting("transport.connections_per_node.reg_max", CONNECTIONS_PER_NODE_REG, 1, Setting.Property.NodeScope);
+    public static final Setting<ByteSizeValue> CONNECTIONS_PER_NODE_SCALE_UP_THRESHOLD =
+        Setting.byteSizeSetting("transport.connections_per_node.scale_up_threshold", new ByteSizeValue(1, ByteSizeUnit.MB),
+            new ByteSizeValue(1), new ByteSizeValue(Long.MAX_VALUE), Setting.Property.NodeScope);
+    public static final Setting<TimeValue> CONNECTIONS_PER_NODE_IDLE_TIMEOUT =
+        timeSetting("transport.connections_per_node.idle_timeout", TimeValue.timeValueMinutes(1), TimeValue.timeValueSeconds(1),
+            Setting.Property.NodeScope);
+
     // Tracer settings
 
     public static final Setting<List<String>> TRACE_LOG_INCLUDE_SETTING =
@@ -33,6 +33,7 @@
 package org.opensearch.transport;
 
 import org.opensearch.LegacyESVersion;
+import org.opensearch.Version;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.io.stream.Writeable;
@@ -41,6 +42,9 @@ import org.opensearch.common.xcontent.ToXContentFragment;
 import org.opensearch.common.xcontent.XContentBuilder;
 
 import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
 
 public class TransportStats implements Writeable, ToXContentFragment {
 
@@ -50,14 +54,21 @@ public class TransportStats implements Writeable, ToXContentFragment {
     private final long rxSize;
     private final long txCount;
     private final long txSize;
+    private final Map<String, ConnectionTypeStats> connectionsPerType;
 
     public TransportStats(long serverOpen, long totalOutboundConnections, long rxCount, long rxSize, long txCount, long txSize) {
+        this(serverOpen, totalOutboundConnections, rxCount, rxSize, txCount, txSize, Collections.emptyMap());
+    }
+
+    public TransportStats(long serverOpen, long totalOutboundConnections, long rxCount, long rxSize, long txCount, long txSize,
+                          Map<String, ConnectionTypeStats> connectionsPerType) {
         this.serverOpen = serverOpen;
         this.totalOutboundConnections = totalOutboundConnections;
         this.rxCount = rxCount;
         this.rxSize = rxSize;
         this.txCount = txCount;
         this.txSize = txSize;
+        this.connectionsPerType = Objects.requireNonNull(connectionsPerType);
     }
 
     public TransportStats(StreamInput in) throws IOException {
@@ -71,6 +82,11 @@ public class TransportStats implements Writeable, ToXContentFragment {
         rxSize = in.readVLong();
         txCount = in.readVLong();
         txSize = in.readVLong();
+        if (in.getVersion().onOrAfter(Version.V_1_1_0)) {
+            connectionsPerType = in.readMap(StreamInput::readString, ConnectionTypeStats::new);
+        } else {
+            connectionsPerType = Collections.emptyMap();
+        }
     }
 
     @Override
@@ -83,6 +99,9 @@ public class TransportStats implements Writeable, ToXContentFragment {
         out.writeVLong(rxSize);
         out.writeVLong(txCount);
         out.writeVLong(txSize);
+        if (out.getVersion().onOrAfter(Version.V_1_1_0)) {
+            out.writeMap(connectionsPerType, StreamOutput::writeString, (o, stats) -> stats.writeTo(o));
+        }
     }
 
     public long serverOpen() {
@@ -125,6 +144,13 @@ public class TransportStats implements Writeable, ToXContentFragment {
         return txSize();
     }
 
+    /**
+     * Returns the number of open outbound connections and the bytes waiting to be written on them, keyed by connection type
+     */
+    public Map<String, ConnectionTypeStats> getConnectionsPerType() {
+        return connectionsPerType;
+    }
+
     @Override
     public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
         builder.startObject(Fields.TRANSPORT);
@@ -134,6 +160,15 @@ public class TransportStats implements Writeable, ToXContentFragment {
         builder.humanReadableField(Fields.RX_SIZE_IN_BYTES, Fields.RX_SIZE, new ByteSizeValue(rxSize));
         builder.field(Fields.TX_COUNT, txCount);
         builder.humanReadableField(Fields.TX_SIZE_IN_BYTES, Fields.TX_SIZE, new ByteSizeValue(txSize));
+        if (connectionsPerType.isEmpty() == false) {
+            builder.startObject(Fields.CONNECTIONS_PER_TYPE);
+            for (Map.Entry<String, ConnectionTypeStats> entry : connectionsPerType.entrySet()) {
+                builder.startObject(entry.getKey());
+                entry.getValue().toXContent(builder, params);
+                builder.endObject();
+            }
+            builder.endObject();
+        }
         builder.endObject();
         return builder;
     }
@@ -148,5 +183,49 @@ public class TransportStats implements Writeable, ToXContentFragment {
         static final String TX_COUNT = "tx_count";
         static final String TX_SIZE = "tx_size";
         static final String TX_SIZE_IN_BYTES = "tx_size_in_bytes";
+        static final String CONNECTIONS_PER_TYPE = "connections_per_type";
+        static final String OPEN = "open";
+        static final String PENDING_WRITE_SIZE = "pending_write_size";
+        static final String PENDING_WRITE_SIZE_IN_BYTES = "pending_write_size_in_bytes";
+    }
+
+    /**
+     * Outbound connection statistics of a single connection type
+     */
+    public static class ConnectionTypeStats implements Writeable, ToXContentFragment {
+
+        private final long openConnections;
+        private final long pendingWriteBytes;
+
+        public ConnectionTypeStats(long openConnections, long pendingWriteBytes) {
+            this.openConnections = openConnections;
+            this.pendingWriteBytes = pendingWriteBytes;
+        }
+
+        public ConnectionTypeStats(StreamInput in) throws IOException {
+            openConnections = in.readVLong();
+            pendingWriteBytes = in.readVLong();
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            out.writeVLong(openConnections);
+            out.writeVLong(pendingWriteBytes);
+        }
+
+        public long getOpenConnections() {
+            return openConnections;
+        }
+
+        public long getPendingWriteBytes() {
+            return pendingWriteBytes;
+        }
+
+        @Override
+        public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+            builder.field(Fields.OPEN, openConnections);
+            builder.humanReadableField(Fields.PENDING_WRITE_SIZE_IN_BYTES, Fields.PENDING_WRITE_SIZE, new ByteSizeValue(pendingWriteBytes));
+            return builder;
+        }
     }
 }
@@ -38,6 +38,8 @@ public final class TransportStatus {
     private static final byte STATUS_ERROR = 1 << 1;
     private static final byte STATUS_COMPRESS = 1 << 2;
     private static final byte STATUS_HANDSHAKE = 1 << 3;
+    // on a request: the sender can consume a response that is streamed in chunks, on a response: more chunks follow this message
+    private static final byte STATUS_CHUNKED = 1 << 4;
 
     public static boolean isRequest(byte value) {
         return (value & STATUS_REQRES) == 0;
@@ -79,4 +81,13 @@ public final class TransportStatus {
         value |= STATUS_HANDSHAKE;
         return value;
     }
+
+    static boolean isChunked(byte value) { // pkg private since it's only used internally
+        return (value & STATUS_CHUNKED) != 0;
+    }
+
+    static byte setChunked(byte value) { // pkg private since it's only used internally
+        value |= STATUS_CHUNKED;
+        return value;
+    }
 }
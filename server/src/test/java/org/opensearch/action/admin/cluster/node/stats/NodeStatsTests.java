@@ -39,6 +39,7 @@ import org.opensearch.discovery.DiscoveryStats;
 import org.opensearch.discovery.zen.PendingClusterStateStats;
 import org.opensearch.discovery.zen.PublishClusterStateStats;
 import org.opensearch.http.HttpStats;
+import org.opensearch.index.store.remote.FileBlockCacheStats;
 import org.opensearch.indices.breaker.AllCircuitBreakerStats;
 import org.opensearch.indices.breaker.CircuitBreakerStats;
 import org.opensearch.ingest.IngestStats;
@@ -233,12 +234,25 @@ public class NodeStatsTests extends OpenSearchTestCase {
                     assertEquals(nodeStats.getTransport().getServerOpen(), deserializedNodeStats.getTransport().getServerOpen());
                     assertEquals(nodeStats.getTransport().getTxCount(), deserializedNodeStats.getTransport().getTxCount());
                     assertEquals(nodeStats.getTransport().getTxSize(), deserializedNodeStats.getTransport().getTxSize());
+                    Map<String, TransportStats.ConnectionTypeStats> connectionsPerType = nodeStats.getTransport().getConnectionsPerType();
+                    Map<String, TransportStats.ConnectionTypeStats> deserializedConnectionsPerType =
+                        deserializedNodeStats.getTransport().getConnectionsPerType();
+                    assertEquals(connectionsPerType.keySet(), deserializedConnectionsPerType.keySet());
+                    for (Map.Entry<String, TransportStats.ConnectionTypeStats> entry : connectionsPerType.entrySet()) {
+                        TransportStats.ConnectionTypeStats deserialized = deserializedConnectionsPerType.get(entry.getKey());
+                        assertEquals(entry.getValue().getOpenConnections(), deserialized.getOpenConnections());
+                        assertEquals(entry.getValue().getPendingWriteBytes(), deserialized.getPendingWriteBytes());
+                    }
                 }
                 if (nodeStats.getHttp() == null) {
                     assertNull(deserializedNodeStats.getHttp());
                 } else {
                     assertEquals(nodeStats.getHttp().getServerOpen(), deserializedNodeStats.getHttp().getServerOpen());
                     assertEquals(nodeStats.getHttp().getTotalOpen(), deserializedNodeStats.getHttp().getTotalOpen());
+                    assertEquals(nodeStats.getHttp().getCurrentReadPaused(), deserializedNodeStats.getHttp().getCurrentReadPaused());
+                    assertEquals(nodeStats.getHttp().getTotalReadPauses(), deserializedNodeStats.getHttp().getTotalReadPauses());
+                    assertEquals(nodeStats.getHttp().getTotalReadPausedTimeInMillis(),
+                        deserializedNodeStats.getHttp().getTotalReadPausedTimeInMillis());
                 }
                 if (nodeStats.getBreaker() == null) {
                     assertNull(deserializedNodeStats.getBreaker());
@@ -354,6 +368,18 @@ public class NodeStatsTests extends OpenSearchTestCase {
                     assertEquals(limited, sum.getCompilationLimitTriggered());
                     assertEquals(compilations, sum.getCompilations());
                 }
+                FileBlockCacheStats fileBlockCacheStats = nodeStats.getFileBlockCacheStats();
+                FileBlockCacheStats deserializedFileBlockCacheStats = deserializedNodeStats.getFileBlockCacheStats();
+                if (fileBlockCacheStats == null) {
+                    assertNull(deserializedFileBlockCacheStats);
+                } else {
+                    assertEquals(fileBlockCacheStats.getHits(), deserializedFileBlockCacheStats.getHits());
+                    assertEquals(fileBlockCacheStats.getMisses(), deserializedFileBlockCacheStats.getMisses());
+                    assertEquals(fileBlockCacheStats.getEvictions(), deserializedFileBlockCacheStats.getEvictions());
+                    assertEquals(fileBlockCacheStats.getBytesFetched(), deserializedFileBlockCacheStats.getBytesFetched());
+                    assertEquals(fileBlockCacheStats.getUsedInBytes(), deserializedFileBlockCacheStats.getUsedInBytes());
+                    assertEquals(fileBlockCacheStats.getSizeInBytes(), deserializedFileBlockCacheStats.getSizeInBytes());
+                }
             }
         }
     }
@@ -455,9 +481,19 @@ public class NodeStatsTests extends OpenSearchTestCase {
             }
             fsInfo = new FsInfo(randomNonNegativeLong(), ioStats, paths);
         }
-        TransportStats transportStats = frequently() ? new TransportStats(randomNonNegativeLong(), randomNonNegativeLong(),
-                randomNonNegativeLong(), randomNonNegativeLong(), randomNonNegativeLong(), randomNonNegativeLong()) : null;
-        HttpStats httpStats = frequently() ? new HttpStats(randomNonNegativeLong(), randomNonNegativeLong()) : null;
+        TransportStats transportStats = null;
+        if (frequently()) {
+            Map<String, TransportStats.ConnectionTypeStats> connectionsPerType = new HashMap<>();
+            int numTypes = randomIntBetween(0, 5);
+            for (int i = 0; i < numTypes; i++) {
+                connectionsPerType.put(randomAlphaOfLengthBetween(3, 10),
+                    new TransportStats.ConnectionTypeStats(randomNonNegativeLong(), randomNonNegativeLong()));
+            }
+            transportStats = new TransportStats(randomNonNegativeLong(), randomNonNegativeLong(), randomNonNegativeLong(),
+                randomNonNegativeLong(), randomNonNegativeLong(), randomNonNegativeLong(), connectionsPerType);
+        }
+        HttpStats httpStats = frequently() ? new HttpStats(randomNonNegativeLong(), randomNonNegativeLong(), randomNonNegativeLong(),
+            randomNonNegativeLong(), randomNonNegativeLong()) : null;
         AllCircuitBreakerStats allCircuitBreakerStats = null;
         if (frequently()) {
             int numCircuitBreakerStats = randomIntBetween(0, 10);
@@ -529,10 +565,12 @@ public class NodeStatsTests extends OpenSearchTestCase {
             adaptiveSelectionStats = new AdaptiveSelectionStats(nodeConnections, nodeStats);
         }
         ScriptCacheStats scriptCacheStats = scriptStats != null ? scriptStats.toScriptCacheStats() : null;
+        FileBlockCacheStats fileBlockCacheStats = frequently() ? new FileBlockCacheStats(randomNonNegativeLong(), randomNonNegativeLong(),
+            randomNonNegativeLong(), randomNonNegativeLong(), randomNonNegativeLong(), randomNonNegativeLong()) : null;
         //TODO NodeIndicesStats are not tested here, way too complicated to create, also they need to be migrated to Writeable yet
         return new NodeStats(node, randomNonNegativeLong(), null, osStats, processStats, jvmStats, threadPoolStats,
                 fsInfo, transportStats, httpStats, allCircuitBreakerStats, scriptStats, discoveryStats,
-                ingestStats, adaptiveSelectionStats, scriptCacheStats, null);
+                ingestStats, adaptiveSelectionStats, scriptCacheStats, null, fileBlockCacheStats);
     }
 
     private IngestStats.Stats getPipelineStats(List<IngestStats.PipelineStat> pipelineStats, String id) {
@@ -32,12 +32,19 @@
 
 package org.opensearch.action.bulk;
 
+import org.opensearch.action.index.IndexRequest;
 import org.opensearch.action.support.WriteRequest.RefreshPolicy;
+import org.opensearch.common.bytes.ReleasableBytesReference;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.index.shard.ShardId;
 import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.action.bulk.BulkItemRequest;
 import org.opensearch.action.bulk.BulkShardRequest;
 
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
 import static org.apache.lucene.util.TestUtil.randomSimpleString;
 
 public class BulkShardRequestTests extends OpenSearchTestCase {
@@ -57,4 +64,40 @@ public class BulkShardRequestTests extends OpenSearchTestCase {
         assertEquals("BulkShardRequest [" + shardId + "] containing [" + count + "] requests blocking until refresh", r.toString());
         assertEquals("requests[" + count + "], index[" + index + "][0], refresh[WAIT_UNTIL]", r.getDescription());
     }
+
+    public void testSourcesAreRetainedUntilReleased() throws IOException {
+        final String index = randomSimpleString(random(), 1, 10);
+        final ShardId shardId = new ShardId(index, "ignored", 0);
+        final BulkItemRequest[] items = new BulkItemRequest[between(1, 10)];
+        for (int i = 0; i < items.length; i++) {
+            items[i] = new BulkItemRequest(i, new IndexRequest(index).id(Integer.toString(i)).source("field", randomAlphaOfLength(10)));
+        }
+        final BulkShardRequest original = new BulkShardRequest(shardId, RefreshPolicy.NONE, items);
+
+        final BytesStreamOutput out = new BytesStreamOutput();
+        original.writeTo(out);
+        final AtomicBoolean released = new AtomicBoolean();
+        final ReleasableBytesReference bytes = new ReleasableBytesReference(out.bytes(), () -> {
+            assertTrue(released.compareAndSet(false, true));
+        });
+        final BulkShardRequest deserialized;
+        try (StreamInput in = bytes.streamInput()) {
+            deserialized = new BulkShardRequest(in);
+        }
+        bytes.close();
+        assertFalse("sources must keep the buffer alive", released.get());
+
+        assertEquals(items.length, deserialized.items().length);
+        for (int i = 0; i < items.length; i++) {
+            final IndexRequest expected = (IndexRequest) items[i].request();
+            final IndexRequest actual = (IndexRequest) deserialized.items()[i].request();
+            assertEquals(expected.source(), actual.source());
+        }
+
+        deserialized.incRef();
+        assertFalse(deserialized.decRef());
+        assertFalse(released.get());
+        assertTrue(deserialized.decRef());
+        assertTrue(released.get());
+    }
 }
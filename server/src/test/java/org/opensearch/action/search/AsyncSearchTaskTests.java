@@ -0,0 +1,142 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.apache.lucene.search.TotalHits;
+import org.opensearch.Version;
+import org.opensearch.action.OriginalIndices;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.xcontent.ToXContent;
+import org.opensearch.common.xcontent.XContentBuilder;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.common.xcontent.XContentHelper;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.search.DocValueFormat;
+import org.opensearch.search.SearchModule;
+import org.opensearch.search.SearchShardTarget;
+import org.opensearch.search.aggregations.InternalAggregations;
+import org.opensearch.search.aggregations.metrics.InternalMax;
+import org.opensearch.search.internal.InternalSearchResponse;
+import org.opensearch.tasks.TaskId;
+import org.opensearch.test.InternalAggregationTestCase;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+
+public class AsyncSearchTaskTests extends OpenSearchTestCase {
+
+    private final NamedWriteableRegistry namedWriteableRegistry = new NamedWriteableRegistry(
+        new SearchModule(Settings.EMPTY, false, emptyList()).getNamedWriteables());
+
+    private AsyncSearchTask createTask() {
+        return new AsyncSearchTask(randomNonNegativeLong(), "transport", SubmitAsyncSearchAction.NAME, () -> "async search",
+            TaskId.EMPTY_TASK_ID, emptyMap(), "node", TimeValue.timeValueMinutes(1),
+            InternalAggregationTestCase.emptyReduceContextBuilder());
+    }
+
+    public void testPartialResponseFromProgress() throws Exception {
+        AsyncSearchTask task = createTask();
+        SearchProgressListener listener = task.getProgressListener();
+        List<SearchShard> shards = Arrays.asList(
+            new SearchShard(null, new ShardId("index", "_na_", 0)),
+            new SearchShard(null, new ShardId("index", "_na_", 1)),
+            new SearchShard(null, new ShardId("index", "_na_", 2)));
+        listener.notifyListShards(shards, emptyList(), SearchResponse.Clusters.EMPTY, false);
+        listener.notifyQueryResult(0);
+        listener.notifyQueryResult(1);
+        SearchShardTarget target = new SearchShardTarget("node", shards.get(2).getShardId(), null, OriginalIndices.NONE);
+        listener.notifyQueryFailure(2, target, new IllegalStateException("boom"));
+        InternalAggregations aggs = InternalAggregations.from(
+            Collections.singletonList(new InternalMax("max", 5, DocValueFormat.RAW, null)));
+        listener.notifyPartialReduce(shards.subList(0, 2), new TotalHits(10, TotalHits.Relation.EQUAL_TO), aggs, 1);
+
+        AsyncSearchResponse response = task.getCurrentResponse();
+        assertEquals(task.getAsyncSearchId(), response.getId());
+        assertTrue(response.isPartial());
+        assertTrue(response.isRunning());
+        assertNull(response.getFailure());
+        SearchResponse searchResponse = response.getSearchResponse();
+        assertEquals(3, searchResponse.getTotalShards());
+        assertEquals(2, searchResponse.getSuccessfulShards());
+        assertEquals(1, searchResponse.getFailedShards());
+        assertEquals(10, searchResponse.getHits().getTotalHits().value);
+        assertEquals(1, searchResponse.getNumReducePhases());
+        InternalMax max = searchResponse.getAggregations().get("max");
+        assertEquals(5, max.getValue(), 0d);
+        // the partial aggregations are only reduced once per reduce phase
+        assertSame(searchResponse.getAggregations(), task.getCurrentResponse().getSearchResponse().getAggregations());
+
+        AsyncSearchTask.Status status = copyWriteable(task.getStatus(), namedWriteableRegistry, AsyncSearchTask.Status::new);
+        assertEquals(task.getAsyncSearchId(), status.getResponse().getId());
+        assertTrue(status.getResponse().isRunning());
+        assertEquals(2, status.getResponse().getSearchResponse().getSuccessfulShards());
+
+        listener.notifyPartialReduce(shards.subList(0, 2), new TotalHits(12, TotalHits.Relation.EQUAL_TO), aggs, 2);
+        searchResponse = task.getCurrentResponse().getSearchResponse();
+        assertNotSame(max, searchResponse.getAggregations().get("max"));
+        assertEquals(12, searchResponse.getHits().getTotalHits().value);
+        assertEquals(2, searchResponse.getNumReducePhases());
+    }
+
+    public void testCompletion() {
+        AsyncSearchTask task = createTask();
+        SearchResponse searchResponse = new SearchResponse(InternalSearchResponse.empty(), null, 1, 1, 0, 10,
+            ShardSearchFailure.EMPTY_ARRAY, SearchResponse.Clusters.EMPTY);
+        AsyncSearchResponse response = task.onCompletion(searchResponse);
+        assertFalse(response.isPartial());
+        assertFalse(response.isRunning());
+        assertSame(searchResponse, response.getSearchResponse());
+        assertSame(response, task.getCurrentResponse());
+        assertEquals(task.getStartTime() + TimeValue.timeValueMinutes(1).millis(), response.getExpirationTimeMillis());
+    }
+
+    public void testFailureKeepsPartialResults() {
+        AsyncSearchTask task = createTask();
+        task.getProgressListener().notifyListShards(
+            Collections.singletonList(new SearchShard(null, new ShardId("index", "_na_", 0))), emptyList(),
+            SearchResponse.Clusters.EMPTY, false);
+        AsyncSearchResponse response = task.onFailure(new IllegalStateException("boom"));
+        assertTrue(response.isPartial());
+        assertFalse(response.isRunning());
+        assertEquals("boom", response.getFailure().getMessage());
+        assertEquals(1, response.getSearchResponse().getTotalShards());
+    }
+
+    public void testStoredResponseRoundTrip() throws Exception {
+        AsyncSearchTask task = createTask();
+        SearchResponse searchResponse = new SearchResponse(InternalSearchResponse.empty(), null, 2, 2, 0, 10,
+            ShardSearchFailure.EMPTY_ARRAY, SearchResponse.Clusters.EMPTY);
+        AsyncSearchResponse response = task.onCompletion(searchResponse);
+
+        XContentBuilder builder = XContentFactory.jsonBuilder();
+        new StoredAsyncSearchResponse(response).toXContent(builder, ToXContent.EMPTY_PARAMS);
+        Map<String, Object> stored = XContentHelper.convertToMap(BytesReference.bytes(builder), false, XContentType.JSON).v2();
+        assertEquals(response.getExpirationTimeMillis(), StoredAsyncSearchResponse.getExpirationTimeMillis(stored));
+        assertEquals(Version.CURRENT.id, stored.get(StoredAsyncSearchResponse.VERSION_FIELD));
+
+        AsyncSearchResponse decoded = StoredAsyncSearchResponse.decode(stored, namedWriteableRegistry);
+        assertEquals(response.getId(), decoded.getId());
+        assertFalse(decoded.isPartial());
+        assertFalse(decoded.isRunning());
+        assertEquals(response.getStartTimeMillis(), decoded.getStartTimeMillis());
+        assertEquals(response.getExpirationTimeMillis(), decoded.getExpirationTimeMillis());
+        assertEquals(2, decoded.getSearchResponse().getSuccessfulShards());
+        assertNull(decoded.getFailure());
+    }
+}
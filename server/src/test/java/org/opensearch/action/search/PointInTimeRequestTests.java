@@ -0,0 +1,73 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.action.support.IndicesOptions;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.xcontent.ToXContent;
+import org.opensearch.common.xcontent.XContentHelper;
+import org.opensearch.common.xcontent.XContentParser;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+
+import static java.util.Collections.emptyList;
+import static org.hamcrest.Matchers.containsString;
+
+public class PointInTimeRequestTests extends OpenSearchTestCase {
+
+    public void testOpenRequestSerialization() throws IOException {
+        OpenPointInTimeRequest request = new OpenPointInTimeRequest(generateRandomStringArray(5, 10, false, false))
+            .keepAlive(TimeValue.timeValueMinutes(randomIntBetween(1, 60)))
+            .indicesOptions(IndicesOptions.fromOptions(randomBoolean(), randomBoolean(), randomBoolean(), randomBoolean()))
+            .routing(randomBoolean() ? null : randomAlphaOfLength(5))
+            .preference(randomBoolean() ? null : randomAlphaOfLength(5));
+        OpenPointInTimeRequest copy = copyWriteable(request, new NamedWriteableRegistry(emptyList()), OpenPointInTimeRequest::new);
+        assertArrayEquals(request.indices(), copy.indices());
+        assertEquals(request.indicesOptions(), copy.indicesOptions());
+        assertEquals(request.keepAlive(), copy.keepAlive());
+        assertEquals(request.routing(), copy.routing());
+        assertEquals(request.preference(), copy.preference());
+    }
+
+    public void testOpenRequestValidation() {
+        OpenPointInTimeRequest request = new OpenPointInTimeRequest("index");
+        ActionRequestValidationException e = request.validate();
+        assertNotNull(e);
+        assertThat(e.getMessage(), containsString("[keep_alive] is not specified"));
+
+        request.keepAlive(TimeValue.timeValueMinutes(1));
+        assertNull(request.validate());
+
+        request.indices(new String[0]);
+        e = request.validate();
+        assertNotNull(e);
+        assertThat(e.getMessage(), containsString("[index] is not specified"));
+    }
+
+    public void testCloseRequestFromAndToXContent() throws IOException {
+        XContentType xContentType = randomFrom(XContentType.values());
+        ClosePointInTimeRequest request = new ClosePointInTimeRequest(randomAlphaOfLengthBetween(10, 40));
+        BytesReference bytes = XContentHelper.toXContent(request, xContentType, ToXContent.EMPTY_PARAMS, randomBoolean());
+        try (XContentParser parser = createParser(xContentType.xContent(), bytes)) {
+            assertEquals(request.getId(), ClosePointInTimeRequest.fromXContent(parser).getId());
+        }
+    }
+
+    public void testCloseRequestValidation() {
+        assertNull(new ClosePointInTimeRequest("id").validate());
+        ActionRequestValidationException e = new ClosePointInTimeRequest("").validate();
+        assertNotNull(e);
+        assertThat(e.getMessage(), containsString("point in time id is not specified"));
+    }
+}
@@ -636,6 +636,39 @@ public class SearchResponseMergerTests extends OpenSearchTestCase {
         assertEquals(clusters, mergedResponse.getClusters());
     }
 
+    public void testPartialMergeAndTimedOutCluster() {
+        long currentRelativeTime = randomLong();
+        final SearchTimeProvider timeProvider = new SearchTimeProvider(randomLong(), 0, () -> currentRelativeTime);
+        SearchResponseMerger merger = new SearchResponseMerger(0, 10, Integer.MAX_VALUE, timeProvider, emptyReduceContextBuilder());
+        SortField[] sortFields = new SortField[] { new SortField("field", SortField.Type.INT, randomBoolean()) };
+        PriorityQueue<SearchHit> priorityQueue = new PriorityQueue<>(new SearchHitComparator(sortFields));
+        SearchHit[] hits = randomSearchHitArray(5, 1, "remote", new Index[]{new Index("index", "uuid")}, Float.NaN, 1,
+            sortFields, priorityQueue);
+        SearchHits searchHits = new SearchHits(hits, new TotalHits(5, TotalHits.Relation.EQUAL_TO), Float.NaN, sortFields, null, null);
+        InternalSearchResponse response = new InternalSearchResponse(searchHits, null, null, null, false, false, 1);
+        merger.add(new SearchResponse(response, null, 1, 1, 0, 1L, ShardSearchFailure.EMPTY_ARRAY, SearchResponse.Clusters.EMPTY));
+
+        SearchResponse.Clusters partialClusters = new SearchResponse.Clusters(3, 1, 0);
+        SearchResponse partialResponse = merger.getPartialMergedResponse(partialClusters);
+        assertEquals(5, partialResponse.getHits().getTotalHits().value);
+        assertArrayEquals(hits, partialResponse.getHits().getHits());
+        assertEquals(partialClusters, partialResponse.getClusters());
+        assertFalse(partialResponse.isTimedOut());
+
+        SearchHits empty = new SearchHits(new SearchHit[0], new TotalHits(0, TotalHits.Relation.EQUAL_TO), Float.NaN, null, null, null);
+        InternalSearchResponse emptyResponse = new InternalSearchResponse(empty, null, null, null, false, false, 1);
+        merger.add(new SearchResponse(emptyResponse, null, 1, 1, 0, 1L, ShardSearchFailure.EMPTY_ARRAY, SearchResponse.Clusters.EMPTY));
+        merger.markClusterTimedOut();
+
+        SearchResponse.Clusters clusters = new SearchResponse.Clusters(3, 2, 1);
+        SearchResponse mergedResponse = merger.getMergedResponse(clusters);
+        assertEquals(5, mergedResponse.getHits().getTotalHits().value);
+        assertArrayEquals(hits, mergedResponse.getHits().getHits());
+        assertEquals(2, mergedResponse.getTotalShards());
+        assertEquals(clusters, mergedResponse.getClusters());
+        assertTrue(mergedResponse.isTimedOut());
+    }
+
     public void testMergeOnlyEmptyHits() {
         long currentRelativeTime = randomLong();
         final SearchTimeProvider timeProvider = new SearchTimeProvider(randomLong(), 0, () -> currentRelativeTime);
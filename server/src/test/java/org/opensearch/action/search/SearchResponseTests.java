@@ -40,6 +40,7 @@ import org.opensearch.common.bytes.BytesReference;
 import org.opensearch.common.io.stream.NamedWriteableRegistry;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.text.Text;
+import org.opensearch.common.xcontent.ChunkedToXContent;
 import org.opensearch.common.xcontent.NamedXContentRegistry;
 import org.opensearch.common.xcontent.ToXContent;
 import org.opensearch.common.xcontent.XContentBuilder;
@@ -290,6 +291,13 @@ public class SearchResponseTests extends OpenSearchTestCase {
         }
     }
 
+    public void testToXContentChunked() throws IOException {
+        SearchResponse response = createTestItem();
+        XContentBuilder builder = XContentBuilder.builder(XContentType.JSON.xContent());
+        ChunkedToXContent.toXContent(response, builder, ToXContent.EMPTY_PARAMS);
+        assertEquals(Strings.toString(response), Strings.toString(builder));
+    }
+
     public void testSerialization() throws IOException {
         SearchResponse searchResponse = createTestItem(false);
         SearchResponse deserialized = copyWriteable(searchResponse, namedWriteableRegistry, SearchResponse::new, Version.CURRENT);
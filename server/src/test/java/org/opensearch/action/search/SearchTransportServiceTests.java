@@ -0,0 +1,119 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.apache.lucene.search.TotalHits;
+import org.opensearch.action.support.PlainActionFuture;
+import org.opensearch.common.breaker.CircuitBreaker;
+import org.opensearch.common.breaker.CircuitBreakingException;
+import org.opensearch.common.breaker.NoopCircuitBreaker;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
+import org.opensearch.search.fetch.FetchSearchResult;
+import org.opensearch.search.internal.ShardSearchContextId;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.transport.RemoteTransportException;
+import org.opensearch.transport.TransportException;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+
+import static org.hamcrest.Matchers.instanceOf;
+
+public class SearchTransportServiceTests extends OpenSearchTestCase {
+
+    public void testFetchResultChunksAreAccountedUntilTheResponseCompletes() throws Exception {
+        final LimitedBreaker breaker = new LimitedBreaker(Long.MAX_VALUE);
+        final PlainActionFuture<FetchSearchResult> future = PlainActionFuture.newFuture();
+        final SearchTransportService.FetchResultHandler handler = newHandler(future, breaker);
+
+        final FetchSearchResult result = newResult(10);
+        final Iterator<FetchSearchResult> chunks = result.leadingChunks(3);
+        while (chunks.hasNext()) {
+            handler.handleResponseChunk(chunks.next(), 100);
+        }
+        assertEquals(300, breaker.getUsed());
+        assertEquals(300, handler.getReservedBytes());
+
+        handler.handleResponse(result.lastChunk(3));
+        assertEquals(0, breaker.getUsed());
+        assertArrayEquals(result.hits().getHits(), future.get().hits().getHits());
+    }
+
+    public void testFetchResultChunksTripTheBreaker() {
+        final LimitedBreaker breaker = new LimitedBreaker(150);
+        final PlainActionFuture<FetchSearchResult> future = PlainActionFuture.newFuture();
+        final SearchTransportService.FetchResultHandler handler = newHandler(future, breaker);
+
+        final Iterator<FetchSearchResult> chunks = newResult(10).leadingChunks(3);
+        handler.handleResponseChunk(chunks.next(), 100);
+        final CircuitBreakingException e = expectThrows(CircuitBreakingException.class,
+            () -> handler.handleResponseChunk(chunks.next(), 100));
+        assertEquals(100, breaker.getUsed());
+
+        // the transport fails the response once handling a chunk failed, and drops the chunks that follow
+        handler.handleException(new RemoteTransportException("failed to handle chunk", e));
+        assertEquals(0, breaker.getUsed());
+        handler.handleResponseChunk(chunks.next(), 100);
+        assertEquals(0, breaker.getUsed());
+        final ExecutionException failure = expectThrows(ExecutionException.class, future::get);
+        assertThat(failure.getCause(), instanceOf(TransportException.class));
+    }
+
+    private static SearchTransportService.FetchResultHandler newHandler(PlainActionFuture<FetchSearchResult> future,
+                                                                         CircuitBreaker breaker) {
+        final Map<String, Long> clientConnections = new HashMap<>();
+        final SearchTransportService searchTransportService = new SearchTransportService(null, breaker, null);
+        return searchTransportService.new FetchResultHandler(future, clientConnections, "node", SearchTransportService.FETCH_ID_ACTION_NAME,
+            breaker);
+    }
+
+    private static FetchSearchResult newResult(int numberOfHits) {
+        final SearchHit[] hits = new SearchHit[numberOfHits];
+        for (int i = 0; i < numberOfHits; i++) {
+            hits[i] = new SearchHit(i);
+        }
+        final FetchSearchResult result = new FetchSearchResult(new ShardSearchContextId(randomAlphaOfLength(5), randomNonNegativeLong()),
+            null);
+        result.hits(new SearchHits(hits, new TotalHits(numberOfHits, TotalHits.Relation.EQUAL_TO), 1.0f));
+        return result;
+    }
+
+    private static class LimitedBreaker extends NoopCircuitBreaker {
+        private final long limit;
+        private long used;
+
+        LimitedBreaker(long limit) {
+            super(CircuitBreaker.IN_FLIGHT_REQUESTS);
+            this.limit = limit;
+        }
+
+        @Override
+        public double addEstimateBytesAndMaybeBreak(long bytes, String label) {
+            if (used + bytes > limit) {
+                throw new CircuitBreakingException("[" + label + "] would be too large", used + bytes, limit, Durability.TRANSIENT);
+            }
+            used += bytes;
+            return used;
+        }
+
+        @Override
+        public long addWithoutBreaking(long bytes) {
+            used += bytes;
+            return used;
+        }
+
+        @Override
+        public long getUsed() {
+            return used;
+        }
+    }
+}
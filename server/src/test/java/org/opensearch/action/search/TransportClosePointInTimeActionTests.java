@@ -0,0 +1,39 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.PlainActionFuture;
+import org.opensearch.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.transport.TransportService;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.concurrent.ExecutionException;
+
+import static org.hamcrest.Matchers.instanceOf;
+import static org.mockito.Mockito.mock;
+
+public class TransportClosePointInTimeActionTests extends OpenSearchTestCase {
+
+    public void testMalformedIdFailsTheListener() {
+        final TransportClosePointInTimeAction action = new TransportClosePointInTimeAction(mock(TransportService.class), null,
+            new ActionFilters(Collections.emptySet()), null, new NamedWriteableRegistry(Collections.emptyList()));
+        final String notBase64 = "not a point in time id!";
+        final String garbage = Base64.getUrlEncoder().encodeToString("garbage".getBytes(StandardCharsets.UTF_8));
+        for (String id : new String[] { notBase64, garbage }) {
+            final PlainActionFuture<ClosePointInTimeResponse> future = PlainActionFuture.newFuture();
+            action.doExecute(null, new ClosePointInTimeRequest(id), future);
+            final ExecutionException e = expectThrows(ExecutionException.class, future::get);
+            assertThat(e.getCause(), instanceOf(IllegalArgumentException.class));
+        }
+    }
+}
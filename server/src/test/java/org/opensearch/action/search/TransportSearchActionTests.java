@@ -56,6 +56,8 @@ import org.opensearch.common.Strings;
 import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.transport.TransportAddress;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.CountDown;
 import org.opensearch.index.Index;
 import org.opensearch.index.query.InnerHitBuilder;
 import org.opensearch.index.query.MatchAllQueryBuilder;
@@ -77,6 +79,7 @@ import org.opensearch.search.internal.SearchContext;
 import org.opensearch.search.sort.SortBuilders;
 import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.test.transport.MockTransportService;
+import org.opensearch.threadpool.Scheduler;
 import org.opensearch.threadpool.TestThreadPool;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.NodeDisconnectedException;
@@ -102,6 +105,7 @@ import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
@@ -405,7 +409,8 @@ public class TransportSearchActionTests extends OpenSearchTestCase {
             LatchedActionListener<SearchResponse> listener = new LatchedActionListener<>(
                 ActionListener.wrap(r -> fail("no response expected"), failure::set), latch);
             TransportSearchAction.ccsRemoteReduce(searchRequest, localIndices, remoteIndicesByCluster, timeProvider,
-                    emptyReduceContextBuilder(), remoteClusterService, threadPool, listener, (r, l) -> setOnce.set(Tuple.tuple(r, l)));
+                    emptyReduceContextBuilder(), remoteClusterService, threadPool, SearchProgressListener.NOOP, TimeValue.MINUS_ONE,
+                    listener, (r, l) -> setOnce.set(Tuple.tuple(r, l)));
             if (localIndices == null) {
                 assertNull(setOnce.get());
             } else {
@@ -450,7 +455,8 @@ public class TransportSearchActionTests extends OpenSearchTestCase {
                 LatchedActionListener<SearchResponse> listener = new LatchedActionListener<>(
                     ActionListener.wrap(response::set, e -> fail("no failures expected")), latch);
                 TransportSearchAction.ccsRemoteReduce(searchRequest, localIndices, remoteIndicesByCluster, timeProvider,
-                        emptyReduceContextBuilder(), remoteClusterService, threadPool, listener, (r, l) -> setOnce.set(Tuple.tuple(r, l)));
+                        emptyReduceContextBuilder(), remoteClusterService, threadPool, SearchProgressListener.NOOP, TimeValue.MINUS_ONE,
+                        listener, (r, l) -> setOnce.set(Tuple.tuple(r, l)));
                 if (localIndices == null) {
                     assertNull(setOnce.get());
                 } else {
@@ -476,7 +482,8 @@ public class TransportSearchActionTests extends OpenSearchTestCase {
                 LatchedActionListener<SearchResponse> listener = new LatchedActionListener<>(
                     ActionListener.wrap(r -> fail("no response expected"), failure::set), latch);
                 TransportSearchAction.ccsRemoteReduce(searchRequest, localIndices, remoteIndicesByCluster, timeProvider,
-                        emptyReduceContextBuilder(), remoteClusterService, threadPool, listener, (r, l) -> setOnce.set(Tuple.tuple(r, l)));
+                        emptyReduceContextBuilder(), remoteClusterService, threadPool, SearchProgressListener.NOOP, TimeValue.MINUS_ONE,
+                        listener, (r, l) -> setOnce.set(Tuple.tuple(r, l)));
                 if (localIndices == null) {
                     assertNull(setOnce.get());
                 } else {
@@ -523,7 +530,8 @@ public class TransportSearchActionTests extends OpenSearchTestCase {
                 LatchedActionListener<SearchResponse> listener = new LatchedActionListener<>(
                     ActionListener.wrap(r -> fail("no response expected"), failure::set), latch);
                 TransportSearchAction.ccsRemoteReduce(searchRequest, localIndices, remoteIndicesByCluster, timeProvider,
-                        emptyReduceContextBuilder(), remoteClusterService, threadPool, listener, (r, l) -> setOnce.set(Tuple.tuple(r, l)));
+                        emptyReduceContextBuilder(), remoteClusterService, threadPool, SearchProgressListener.NOOP, TimeValue.MINUS_ONE,
+                        listener, (r, l) -> setOnce.set(Tuple.tuple(r, l)));
                 if (localIndices == null) {
                     assertNull(setOnce.get());
                 } else {
@@ -552,7 +560,8 @@ public class TransportSearchActionTests extends OpenSearchTestCase {
                 LatchedActionListener<SearchResponse> listener = new LatchedActionListener<>(
                     ActionListener.wrap(response::set, e -> fail("no failures expected")), latch);
                 TransportSearchAction.ccsRemoteReduce(searchRequest, localIndices, remoteIndicesByCluster, timeProvider,
-                        emptyReduceContextBuilder(), remoteClusterService, threadPool, listener, (r, l) -> setOnce.set(Tuple.tuple(r, l)));
+                        emptyReduceContextBuilder(), remoteClusterService, threadPool, SearchProgressListener.NOOP, TimeValue.MINUS_ONE,
+                        listener, (r, l) -> setOnce.set(Tuple.tuple(r, l)));
                 if (localIndices == null) {
                     assertNull(setOnce.get());
                 } else {
@@ -592,7 +601,8 @@ public class TransportSearchActionTests extends OpenSearchTestCase {
                 LatchedActionListener<SearchResponse> listener = new LatchedActionListener<>(
                     ActionListener.wrap(response::set, e -> fail("no failures expected")), latch);
                 TransportSearchAction.ccsRemoteReduce(searchRequest, localIndices, remoteIndicesByCluster, timeProvider,
-                        emptyReduceContextBuilder(), remoteClusterService, threadPool, listener, (r, l) -> setOnce.set(Tuple.tuple(r, l)));
+                        emptyReduceContextBuilder(), remoteClusterService, threadPool, SearchProgressListener.NOOP, TimeValue.MINUS_ONE,
+                        listener, (r, l) -> setOnce.set(Tuple.tuple(r, l)));
                 if (localIndices == null) {
                     assertNull(setOnce.get());
                 } else {
@@ -617,6 +627,105 @@ public class TransportSearchActionTests extends OpenSearchTestCase {
         }
     }
 
+    public void testCCSActionListenerTimeout() {
+        AtomicInteger skippedClusters = new AtomicInteger();
+        AtomicReference<Exception> exceptions = new AtomicReference<>();
+        CountDown countDown = new CountDown(2);
+        List<String> responses = new ArrayList<>();
+        AtomicReference<List<String>> finalResponse = new AtomicReference<>();
+        AtomicInteger timeouts = new AtomicInteger();
+        ActionListener<List<String>> listener = ActionListener.wrap(finalResponse::set, e -> fail("no failure expected"));
+        TransportSearchAction.CCSActionListener<String, List<String>> slow = createStringCCSListener("slow", countDown, skippedClusters,
+            exceptions, responses, timeouts, listener);
+        TransportSearchAction.CCSActionListener<String, List<String>> fast = createStringCCSListener("fast", countDown, skippedClusters,
+            exceptions, responses, timeouts, listener);
+
+        fast.onResponse("fast");
+        assertNull(finalResponse.get());
+        slow.onTimeout();
+        assertEquals(Collections.singletonList("fast"), finalResponse.get());
+        assertEquals(1, skippedClusters.get());
+        assertEquals(1, timeouts.get());
+
+        // late responses and failures of a cluster that timed out are ignored, as is a timeout after a response
+        slow.onResponse("slow");
+        slow.onFailure(new IllegalStateException("boom"));
+        fast.onTimeout();
+        assertEquals(Collections.singletonList("fast"), responses);
+        assertEquals(1, skippedClusters.get());
+        assertEquals(1, timeouts.get());
+        assertNull(exceptions.get());
+    }
+
+    public void testCCSActionListenerCancelsTimeoutOnCompletion() {
+        AtomicInteger skippedClusters = new AtomicInteger();
+        AtomicReference<Exception> exceptions = new AtomicReference<>();
+        CountDown countDown = new CountDown(3);
+        List<String> responses = new ArrayList<>();
+        AtomicInteger timeouts = new AtomicInteger();
+        ActionListener<List<String>> listener = ActionListener.wrap(r -> {}, e -> {});
+        TransportSearchAction.CCSActionListener<String, List<String>> responding = createStringCCSListener("responding", countDown,
+            skippedClusters, exceptions, responses, timeouts, listener);
+        TransportSearchAction.CCSActionListener<String, List<String>> failing = createStringCCSListener("failing", countDown,
+            skippedClusters, exceptions, responses, timeouts, listener);
+        TransportSearchAction.CCSActionListener<String, List<String>> early = createStringCCSListener("early", countDown,
+            skippedClusters, exceptions, responses, timeouts, listener);
+
+        RecordingCancellable respondingTimeout = new RecordingCancellable();
+        responding.setTimeout(respondingTimeout);
+        RecordingCancellable failingTimeout = new RecordingCancellable();
+        failing.setTimeout(failingTimeout);
+        assertFalse(respondingTimeout.isCancelled());
+        assertFalse(failingTimeout.isCancelled());
+
+        responding.onResponse("responding");
+        assertTrue(respondingTimeout.isCancelled());
+        failing.onFailure(new IllegalStateException("boom"));
+        assertTrue(failingTimeout.isCancelled());
+
+        // a timeout that is only set once the cluster responded is cancelled right away
+        early.onResponse("early");
+        RecordingCancellable earlyTimeout = new RecordingCancellable();
+        early.setTimeout(earlyTimeout);
+        assertTrue(earlyTimeout.isCancelled());
+    }
+
+    private static class RecordingCancellable implements Scheduler.Cancellable {
+        private final AtomicBoolean cancelled = new AtomicBoolean();
+
+        @Override
+        public boolean cancel() {
+            return cancelled.compareAndSet(false, true);
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled.get();
+        }
+    }
+
+    private static TransportSearchAction.CCSActionListener<String, List<String>> createStringCCSListener(
+        String clusterAlias, CountDown countDown, AtomicInteger skippedClusters, AtomicReference<Exception> exceptions,
+        List<String> responses, AtomicInteger timeouts, ActionListener<List<String>> listener) {
+        return new TransportSearchAction.CCSActionListener<String, List<String>>(clusterAlias, false, countDown, skippedClusters,
+            exceptions, listener) {
+            @Override
+            void innerOnResponse(String response) {
+                responses.add(response);
+            }
+
+            @Override
+            void innerOnTimeout() {
+                timeouts.incrementAndGet();
+            }
+
+            @Override
+            List<String> createFinalResponse() {
+                return responses;
+            }
+        };
+    }
+
     public void testCollectSearchShards() throws Exception {
         int numClusters = randomIntBetween(2, 10);
         DiscoveryNode[] nodes = new DiscoveryNode[numClusters];
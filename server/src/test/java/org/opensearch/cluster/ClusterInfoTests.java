@@ -44,7 +44,7 @@ public class ClusterInfoTests extends OpenSearchTestCase {
     public void testSerialization() throws Exception {
         ClusterInfo clusterInfo = new ClusterInfo(
                 randomDiskUsage(), randomDiskUsage(), randomShardSizes(), randomRoutingToDataPath(),
-                randomReservedSpace());
+                randomReservedSpace(), randomShardLoads());
         BytesStreamOutput output = new BytesStreamOutput();
         clusterInfo.writeTo(output);
 
@@ -54,6 +54,7 @@ public class ClusterInfoTests extends OpenSearchTestCase {
         assertEquals(clusterInfo.shardSizes, result.shardSizes);
         assertEquals(clusterInfo.routingToDataPath, result.routingToDataPath);
         assertEquals(clusterInfo.reservedSpace, result.reservedSpace);
+        assertEquals(clusterInfo.shardLoads, result.shardLoads);
     }
 
     private static ImmutableOpenMap<String, DiskUsage> randomDiskUsage() {
@@ -81,6 +82,16 @@ public class ClusterInfoTests extends OpenSearchTestCase {
         return builder.build();
     }
 
+    private static ImmutableOpenMap<String, Double> randomShardLoads() {
+        int numEntries = randomIntBetween(0, 128);
+        ImmutableOpenMap.Builder<String, Double> builder = ImmutableOpenMap.builder(numEntries);
+        for (int i = 0; i < numEntries; i++) {
+            String key = randomAlphaOfLength(32);
+            builder.put(key, randomDoubleBetween(0.0, 64.0, true));
+        }
+        return builder.build();
+    }
+
     private static ImmutableOpenMap<ShardRouting, String> randomRoutingToDataPath() {
         int numEntries = randomIntBetween(0, 128);
         ImmutableOpenMap.Builder<ShardRouting, String> builder = ImmutableOpenMap.builder(numEntries);
@@ -43,6 +43,8 @@ import org.opensearch.cluster.routing.ShardRoutingHelper;
 import org.opensearch.cluster.routing.UnassignedInfo;
 import org.opensearch.common.collect.ImmutableOpenMap;
 import org.opensearch.index.Index;
+import org.opensearch.index.search.stats.SearchStats;
+import org.opensearch.index.shard.IndexingStats;
 import org.opensearch.index.shard.ShardId;
 import org.opensearch.index.shard.ShardPath;
 import org.opensearch.index.store.StoreStats;
@@ -147,6 +149,58 @@ public class DiskUsageTests extends OpenSearchTestCase {
         assertEquals(test1Path.getParent().getParent().getParent().toAbsolutePath().toString(), routingToPath.get(test_1));
     }
 
+    public void testFillShardLoads() {
+        final Index index = new Index("test", "0xdeadbeef");
+        ShardRouting test_0 = ShardRouting.newUnassigned(new ShardId(index, 0), false, PeerRecoverySource.INSTANCE,
+            new UnassignedInfo(UnassignedInfo.Reason.INDEX_CREATED, "foo"));
+        test_0 = ShardRoutingHelper.initialize(test_0, "node1");
+        test_0 = ShardRoutingHelper.moveToStarted(test_0);
+        ShardRouting test_1 = ShardRouting.newUnassigned(new ShardId(index, 1), false, PeerRecoverySource.INSTANCE,
+            new UnassignedInfo(UnassignedInfo.Reason.INDEX_CREATED, "foo"));
+        test_1 = ShardRoutingHelper.initialize(test_1, "node2");
+        test_1 = ShardRoutingHelper.moveToStarted(test_1);
+        ShardRouting test_2 = ShardRouting.newUnassigned(new ShardId(index, 2), false, PeerRecoverySource.INSTANCE,
+            new UnassignedInfo(UnassignedInfo.Reason.INDEX_CREATED, "foo"));
+        test_2 = ShardRoutingHelper.initialize(test_2, "node3");
+        test_2 = ShardRoutingHelper.moveToStarted(test_2);
+
+        final ShardStats[] previousStats = new ShardStats[] {
+            busyShardStats(test_0, 1000L, 500L),
+            busyShardStats(test_1, 0L, 0L)
+        };
+        final ShardStats[] currentStats = new ShardStats[] {
+            busyShardStats(test_0, 3000L, 500L),
+            busyShardStats(test_1, 0L, 4000L),
+            busyShardStats(test_2, 100L, 100L)
+        };
+        final InternalClusterInfoService.ShardBusyTimes previous = new InternalClusterInfoService.ShardBusyTimes(10_000L, previousStats);
+        final InternalClusterInfoService.ShardBusyTimes current = new InternalClusterInfoService.ShardBusyTimes(20_000L, currentStats);
+
+        ImmutableOpenMap.Builder<String, Double> shardLoads = ImmutableOpenMap.builder();
+        InternalClusterInfoService.buildShardLoads(logger, currentStats, previous, current, shardLoads);
+        assertEquals(2, shardLoads.size());
+        assertEquals(0.2d, shardLoads.get(ClusterInfo.shardIdentifierFromRouting(test_0)), 0.0001d);
+        assertEquals(0.4d, shardLoads.get(ClusterInfo.shardIdentifierFromRouting(test_1)), 0.0001d);
+        // no previous stats for this copy yet
+        assertFalse(shardLoads.containsKey(ClusterInfo.shardIdentifierFromRouting(test_2)));
+
+        // no time elapsed, no loads
+        shardLoads = ImmutableOpenMap.builder();
+        InternalClusterInfoService.buildShardLoads(logger, currentStats, current, current, shardLoads);
+        assertEquals(0, shardLoads.size());
+    }
+
+    private ShardStats busyShardStats(ShardRouting shardRouting, long indexTimeInMillis, long queryTimeInMillis) {
+        final Path path = createTempDir().resolve("indices").resolve(shardRouting.index().getUUID())
+            .resolve(Integer.toString(shardRouting.id()));
+        final CommonStats commonStats = new CommonStats();
+        commonStats.indexing = new IndexingStats(
+            new IndexingStats.Stats(0L, indexTimeInMillis, 0L, 0L, 0L, 0L, 0L, 0L, false, 0L), null);
+        commonStats.search = new SearchStats(
+            new SearchStats.Stats(0L, queryTimeInMillis, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L), 0L, null);
+        return new ShardStats(shardRouting, new ShardPath(false, path, path, shardRouting.shardId()), commonStats, null, null, null);
+    }
+
     public void testFillDiskUsage() {
         ImmutableOpenMap.Builder<String, DiskUsage> newLeastAvaiableUsages = ImmutableOpenMap.builder();
         ImmutableOpenMap.Builder<String, DiskUsage> newMostAvaiableUsages = ImmutableOpenMap.builder();
@@ -166,13 +220,13 @@ public class DiskUsageTests extends OpenSearchTestCase {
         List<NodeStats> nodeStats = Arrays.asList(
                 new NodeStats(new DiscoveryNode("node_1", buildNewFakeTransportAddress(), emptyMap(), emptySet(), Version.CURRENT), 0,
                         null,null,null,null,null,new FsInfo(0, null, node1FSInfo), null,null,null,null,null, null, null,
-                        null, null),
+                        null, null, null),
                 new NodeStats(new DiscoveryNode("node_2", buildNewFakeTransportAddress(), emptyMap(), emptySet(), Version.CURRENT), 0,
                         null,null,null,null,null, new FsInfo(0, null, node2FSInfo), null,null,null,null,null, null, null,
-                        null, null),
+                        null, null, null),
                 new NodeStats(new DiscoveryNode("node_3", buildNewFakeTransportAddress(), emptyMap(), emptySet(), Version.CURRENT), 0,
                         null,null,null,null,null, new FsInfo(0, null, node3FSInfo), null,null,null,null,null, null, null,
-                        null, null)
+                        null, null, null)
         );
         InternalClusterInfoService.fillDiskUsagePerNode(logger, nodeStats, newLeastAvaiableUsages, newMostAvaiableUsages);
         DiskUsage leastNode_1 = newLeastAvaiableUsages.get("node_1");
@@ -210,13 +264,13 @@ public class DiskUsageTests extends OpenSearchTestCase {
         List<NodeStats> nodeStats = Arrays.asList(
                 new NodeStats(new DiscoveryNode("node_1", buildNewFakeTransportAddress(), emptyMap(), emptySet(), Version.CURRENT), 0,
                         null,null,null,null,null,new FsInfo(0, null, node1FSInfo), null,null,null,null,null, null, null,
-                        null, null),
+                        null, null, null),
                 new NodeStats(new DiscoveryNode("node_2", buildNewFakeTransportAddress(), emptyMap(), emptySet(), Version.CURRENT), 0,
                         null,null,null,null,null, new FsInfo(0, null, node2FSInfo), null,null,null,null,null, null, null,
-                        null, null),
+                        null, null, null),
                 new NodeStats(new DiscoveryNode("node_3", buildNewFakeTransportAddress(), emptyMap(), emptySet(), Version.CURRENT), 0,
                         null,null,null,null,null, new FsInfo(0, null, node3FSInfo), null,null,null,null,null, null, null,
-                        null, null)
+                        null, null, null)
         );
         InternalClusterInfoService.fillDiskUsagePerNode(logger, nodeStats, newLeastAvailableUsages, newMostAvailableUsages);
         DiskUsage leastNode_1 = newLeastAvailableUsages.get("node_1");
@@ -37,6 +37,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.lucene.util.ArrayUtil;
 import org.opensearch.Version;
+import org.opensearch.cluster.ClusterInfo;
 import org.opensearch.cluster.ClusterState;
 import org.opensearch.cluster.OpenSearchAllocationTestCase;
 import org.opensearch.cluster.EmptyClusterInfoService;
@@ -52,8 +53,12 @@ import org.opensearch.cluster.routing.ShardRoutingState;
 import org.opensearch.cluster.routing.allocation.allocator.BalancedShardsAllocator;
 import org.opensearch.cluster.routing.allocation.allocator.ShardsAllocator;
 import org.opensearch.cluster.routing.allocation.decider.ClusterRebalanceAllocationDecider;
+import org.opensearch.cluster.routing.allocation.decider.ConcurrentRebalanceAllocationDecider;
+import org.opensearch.cluster.routing.allocation.decider.ThrottlingAllocationDecider;
+import org.opensearch.common.collect.ImmutableOpenMap;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.snapshots.EmptySnapshotsInfoService;
 import org.opensearch.test.gateway.TestGatewayAllocator;
 import org.hamcrest.Matchers;
@@ -253,6 +258,84 @@ public class BalanceConfigurationTests extends OpenSearchAllocationTestCase {
         }
     }
 
+    public void testBalanceTimeBudget() {
+        final int relocationsWithoutBudget = relocationsAfterAddingNodes(TimeValue.MINUS_ONE);
+        assertThat(relocationsWithoutBudget, Matchers.greaterThan(1));
+        // once a shard is relocated the exhausted budget stops the round, the next reroute resumes from there
+        assertEquals(1, relocationsAfterAddingNodes(TimeValue.timeValueNanos(1)));
+    }
+
+    private int relocationsAfterAddingNodes(TimeValue timeBudget) {
+        Settings.Builder settings = Settings.builder();
+        settings.put(ClusterRebalanceAllocationDecider.CLUSTER_ROUTING_ALLOCATION_ALLOW_REBALANCE_SETTING.getKey(),
+            ClusterRebalanceAllocationDecider.ClusterRebalanceType.ALWAYS.toString());
+        settings.put(ConcurrentRebalanceAllocationDecider.CLUSTER_ROUTING_ALLOCATION_CLUSTER_CONCURRENT_REBALANCE_SETTING.getKey(), -1);
+        settings.put(ThrottlingAllocationDecider.CLUSTER_ROUTING_ALLOCATION_NODE_CONCURRENT_RECOVERIES_SETTING.getKey(), 100);
+        settings.put(BalancedShardsAllocator.BALANCE_TIME_BUDGET_SETTING.getKey(), timeBudget.getStringRep());
+        BalancedShardsAllocator allocator = new BalancedShardsAllocator(settings.build());
+        AllocationService strategy = new MockAllocationService(randomAllocationDeciders(settings.build(),
+            new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS), random()),
+            new TestGatewayAllocator(), allocator, EmptyClusterInfoService.INSTANCE, SNAPSHOT_INFO_SERVICE_WITH_NO_SHARD_SIZES);
+
+        ClusterState clusterState = initCluster(strategy);
+        DiscoveryNodes.Builder nodes = DiscoveryNodes.builder(clusterState.nodes());
+        for (int i = 0; i < 5; i++) {
+            nodes.add(newNode("new_node" + i));
+        }
+        clusterState = ClusterState.builder(clusterState).nodes(nodes).build();
+        clusterState = strategy.reroute(clusterState, "reroute");
+
+        final int relocations = clusterState.getRoutingNodes().shardsWithState(ShardRoutingState.RELOCATING).size();
+        final BalancedShardsAllocator.BalancingRound round = allocator.getLastBalancingRound();
+        assertEquals(relocations, round.getRelocations());
+        assertEquals(timeBudget.nanos() >= 0, round.isTimedOut());
+        return relocations;
+    }
+
+    public void testLoadBalanceSpreadsHotShards() {
+        Settings.Builder settings = Settings.builder();
+        settings.put(ClusterRebalanceAllocationDecider.CLUSTER_ROUTING_ALLOCATION_ALLOW_REBALANCE_SETTING.getKey(),
+            ClusterRebalanceAllocationDecider.ClusterRebalanceType.ALWAYS.toString());
+        settings.put(ConcurrentRebalanceAllocationDecider.CLUSTER_ROUTING_ALLOCATION_CLUSTER_CONCURRENT_REBALANCE_SETTING.getKey(), -1);
+        settings.put(BalancedShardsAllocator.INDEX_BALANCE_FACTOR_SETTING.getKey(), 0.0f);
+        settings.put(BalancedShardsAllocator.LOAD_BALANCE_FACTOR_SETTING.getKey(), 1.0f);
+        ImmutableOpenMap.Builder<String, Double> shardLoads = ImmutableOpenMap.builder();
+        shardLoads.put("[hot][0][p]", 10.0d);
+        shardLoads.put("[hot][1][p]", 10.0d);
+        final ClusterInfo clusterInfo = new ClusterInfo(ImmutableOpenMap.of(), ImmutableOpenMap.of(), ImmutableOpenMap.of(),
+            ImmutableOpenMap.of(), ImmutableOpenMap.of(), shardLoads.build());
+        AllocationService strategy = createAllocationService(settings.build(), () -> clusterInfo);
+
+        Metadata metadata = Metadata.builder()
+            .put(IndexMetadata.builder("hot").settings(settings(Version.CURRENT)).numberOfShards(2).numberOfReplicas(0))
+            .put(IndexMetadata.builder("cold").settings(settings(Version.CURRENT)).numberOfShards(2).numberOfReplicas(0))
+            .build();
+        RoutingTable routingTable = RoutingTable.builder()
+            .addAsNew(metadata.index("hot"))
+            .addAsNew(metadata.index("cold"))
+            .build();
+        ClusterState clusterState = ClusterState.builder(org.opensearch.cluster.ClusterName.CLUSTER_NAME_SETTING
+            .getDefault(Settings.EMPTY))
+            .metadata(metadata).routingTable(routingTable).nodes(DiscoveryNodes.builder().add(newNode("node1"))).build();
+        clusterState = strategy.reroute(clusterState, "reroute");
+        while (clusterState.getRoutingNodes().shardsWithState(ShardRoutingState.INITIALIZING).isEmpty() == false) {
+            clusterState = startInitializingShardsAndReroute(strategy, clusterState);
+        }
+        assertEquals(4, clusterState.getRoutingNodes().node("node1").numberOfShardsWithState(STARTED));
+
+        clusterState = ClusterState.builder(clusterState).nodes(DiscoveryNodes.builder(clusterState.nodes()).add(newNode("node2")))
+            .build();
+        clusterState = strategy.reroute(clusterState, "reroute");
+        while (clusterState.getRoutingNodes().shardsWithState(ShardRoutingState.INITIALIZING).isEmpty() == false) {
+            clusterState = startInitializingShardsAndReroute(strategy, clusterState);
+        }
+
+        for (RoutingNode node : clusterState.getRoutingNodes()) {
+            assertEquals("hot shards should be spread across the nodes but were " + clusterState.getRoutingNodes(),
+                1, node.shardsWithState("hot", STARTED).size());
+        }
+    }
+
     public void testPersistedSettings() {
         Settings.Builder settings = Settings.builder();
         settings.put(BalancedShardsAllocator.INDEX_BALANCE_FACTOR_SETTING.getKey(), 0.2);
@@ -279,10 +362,12 @@ public class BalanceConfigurationTests extends OpenSearchAllocationTestCase {
         settings.put(BalancedShardsAllocator.INDEX_BALANCE_FACTOR_SETTING.getKey(), 0.5);
         settings.put(BalancedShardsAllocator.SHARD_BALANCE_FACTOR_SETTING.getKey(), 0.1);
         settings.put(BalancedShardsAllocator.THRESHOLD_SETTING.getKey(), 3.0);
+        settings.put(BalancedShardsAllocator.LOAD_BALANCE_FACTOR_SETTING.getKey(), 0.7);
         service.applySettings(settings.build());
         assertThat(allocator.getIndexBalance(), Matchers.equalTo(0.5f));
         assertThat(allocator.getShardBalance(), Matchers.equalTo(0.1f));
         assertThat(allocator.getThreshold(), Matchers.equalTo(3.0f));
+        assertThat(allocator.getLoadBalance(), Matchers.equalTo(0.7f));
     }
 
     public void testNoRebalanceOnPrimaryOverload() {
@@ -0,0 +1,63 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.cluster.routing.allocation;
+
+import org.opensearch.cluster.routing.ShardRouting;
+import org.opensearch.cluster.routing.ShardRoutingState;
+import org.opensearch.cluster.routing.TestShardRouting;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class NodeDecisionCacheTests extends OpenSearchTestCase {
+
+    public void testComputesOncePerNode() {
+        NodeDecisionCache cache = new NodeDecisionCache();
+        AtomicInteger computations = new AtomicInteger();
+        for (int i = 0; i < 5; i++) {
+            assertEquals("node_0", cache.computeIfAbsent("key", "node_0", () -> {
+                computations.incrementAndGet();
+                return "node_0";
+            }));
+            assertEquals("node_1", cache.computeIfAbsent("key", "node_1", () -> {
+                computations.incrementAndGet();
+                return "node_1";
+            }));
+        }
+        assertEquals(2, computations.get());
+        assertEquals(2, cache.getMisses());
+        assertEquals(8, cache.getHits());
+    }
+
+    public void testKeysAreIndependent() {
+        NodeDecisionCache cache = new NodeDecisionCache();
+        assertEquals("a", cache.computeIfAbsent("a", "node_0", () -> "a"));
+        assertEquals("b", cache.computeIfAbsent("b", "node_0", () -> "b"));
+        assertEquals("a", cache.computeIfAbsent("a", "node_0", () -> "other"));
+    }
+
+    public void testRoutingChangesInvalidateAffectedNodes() {
+        NodeDecisionCache cache = new NodeDecisionCache();
+        cache.computeIfAbsent("key", "node_0", () -> "stale");
+        cache.computeIfAbsent("key", "node_1", () -> "stale");
+        cache.computeIfAbsent("key", "node_2", () -> "stale");
+
+        ShardRouting started = TestShardRouting.newShardRouting("test", 0, "node_0", true, ShardRoutingState.STARTED);
+        ShardRouting relocating = started.relocate("node_1", ShardRouting.UNAVAILABLE_EXPECTED_SHARD_SIZE);
+        cache.relocationStarted(started, relocating.getTargetRelocatingShard());
+
+        assertEquals("fresh", cache.computeIfAbsent("key", "node_0", () -> "fresh"));
+        assertEquals("fresh", cache.computeIfAbsent("key", "node_1", () -> "fresh"));
+        assertEquals("stale", cache.computeIfAbsent("key", "node_2", () -> "fresh"));
+
+        ShardRouting initializing = TestShardRouting.newShardRouting("test", 1, "node_2", true, ShardRoutingState.INITIALIZING);
+        cache.shardStarted(initializing, initializing.moveToStarted());
+        assertEquals("fresh", cache.computeIfAbsent("key", "node_2", () -> "fresh"));
+    }
+}
@@ -35,6 +35,7 @@ import org.apache.lucene.mockfile.FilterFileSystemProvider;
 import org.apache.lucene.mockfile.FilterSeekableByteChannel;
 import org.apache.lucene.util.LuceneTestCase;
 import org.opensearch.common.blobstore.BlobPath;
+import org.opensearch.common.blobstore.MultipartBlobWriter;
 import org.opensearch.common.io.PathUtils;
 import org.opensearch.common.io.PathUtilsForTesting;
 import org.opensearch.common.io.Streams;
@@ -43,6 +44,7 @@ import org.opensearch.test.OpenSearchTestCase;
 import org.junit.After;
 import org.junit.Before;
 
+import java.io.ByteArrayInputStream;
 import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
@@ -54,6 +56,9 @@ import java.nio.file.OpenOption;
 import java.nio.file.Path;
 import java.nio.file.attribute.FileAttribute;
 import java.nio.file.spi.FileSystemProvider;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Locale;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicLong;
@@ -103,6 +108,56 @@ public class FsBlobContainerTests extends OpenSearchTestCase {
         }
     }
 
+    public void testMultipartWriter() throws IOException {
+        final String blobName = randomAlphaOfLengthBetween(1, 20).toLowerCase(Locale.ROOT);
+        final byte[] blobData = randomByteArrayOfLength(randomIntBetween(1, 1 << 16));
+        final int partSize = randomIntBetween(1, blobData.length);
+
+        final Path path = PathUtils.get(createTempDir().toString());
+        final FsBlobContainer container =
+            new FsBlobContainer(new FsBlobStore(randomIntBetween(1, 8) * 1024, path, false), BlobPath.cleanPath(), path);
+        assertTrue(container.supportsMultipartWrites());
+
+        final MultipartBlobWriter writer = container.multipartWriter(blobName, blobData.length, partSize);
+        final List<Integer> parts = new ArrayList<>();
+        for (int part = 0; part * partSize < blobData.length; part++) {
+            parts.add(part);
+        }
+        Collections.shuffle(parts, random());
+        for (int part : parts.subList(1, parts.size())) {
+            final int length = Math.min(partSize, blobData.length - part * partSize);
+            writer.writePart(part, new ByteArrayInputStream(blobData, part * partSize, length), length);
+        }
+        assertFalse(container.blobExists(blobName));
+        if (parts.size() > 1) {
+            expectThrows(IOException.class, writer::complete);
+            assertFalse(container.blobExists(blobName));
+        }
+
+        final int lastPart = parts.get(0);
+        final int length = Math.min(partSize, blobData.length - lastPart * partSize);
+        writer.writePart(lastPart, new ByteArrayInputStream(blobData, lastPart * partSize, length), length);
+        writer.complete();
+        assertArrayEquals(blobData, Files.readAllBytes(path.resolve(blobName)));
+        assertThat(container.listBlobs().keySet(), equalTo(Collections.singleton(blobName)));
+    }
+
+    public void testAbortMultipartWriter() throws IOException {
+        final String blobName = randomAlphaOfLengthBetween(1, 20).toLowerCase(Locale.ROOT);
+        final byte[] blobData = randomByteArrayOfLength(randomIntBetween(2, 1 << 16));
+        final int partSize = randomIntBetween(1, blobData.length - 1);
+
+        final Path path = PathUtils.get(createTempDir().toString());
+        final FsBlobContainer container =
+            new FsBlobContainer(new FsBlobStore(randomIntBetween(1, 8) * 1024, path, false), BlobPath.cleanPath(), path);
+        final MultipartBlobWriter writer = container.multipartWriter(blobName, blobData.length, partSize);
+        writer.writePart(0, new ByteArrayInputStream(blobData, 0, partSize), partSize);
+        expectThrows(IllegalArgumentException.class,
+            () -> writer.writePart(1, new ByteArrayInputStream(blobData, partSize, 1), blobData.length - partSize + 1));
+        writer.abort();
+        assertThat(container.listBlobs().size(), equalTo(0));
+    }
+
     public void testTempBlobName() {
         final String blobName = randomAlphaOfLengthBetween(1, 20);
         final String tempBlobName = FsBlobContainer.tempBlobName(blobName);
@@ -34,12 +34,14 @@ package org.opensearch.common.bytes;
 
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.io.stream.ReleasableBytesStreamOutput;
+import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.util.ByteArray;
 import org.hamcrest.Matchers;
 
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 
@@ -97,6 +99,37 @@ public class ReleasableBytesReferenceTests extends AbstractBytesReferenceTestCas
         return ReleasableBytesReference.wrap(delegate);
     }
 
+    public void testReadReleasableBytesReferenceRetainsSlice() throws IOException {
+        final BytesReference value = newBytesReference(randomIntBetween(1, 1024));
+        final int trailer = randomInt();
+        final BytesStreamOutput out = new BytesStreamOutput();
+        out.writeBytesReference(value);
+        out.writeBytesReference(BytesArray.EMPTY);
+        out.writeInt(trailer);
+
+        final AtomicBoolean released = new AtomicBoolean();
+        final ReleasableBytesReference reference = new ReleasableBytesReference(out.bytes(), () -> {
+            assertTrue(released.compareAndSet(false, true));
+        });
+        final ReleasableBytesReference slice;
+        try (StreamInput in = reference.streamInput()) {
+            slice = in.readReleasableBytesReference();
+            try (ReleasableBytesReference empty = in.readReleasableBytesReference()) {
+                assertThat(empty.length(), equalTo(0));
+            }
+            assertThat(in.readInt(), equalTo(trailer));
+            assertThat(in.read(), equalTo(-1));
+        }
+        assertThat(slice, equalTo(value));
+        assertThat(reference.refCount(), equalTo(2));
+
+        reference.close();
+        assertFalse(released.get());
+        assertThat(slice, equalTo(value));
+        slice.close();
+        assertTrue(released.get());
+    }
+
     @Override
     public void testToBytesRefSharedPage() throws IOException {
         // CompositeBytesReference doesn't share pages
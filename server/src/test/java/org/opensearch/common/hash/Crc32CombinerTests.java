@@ -0,0 +1,49 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.hash;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.zip.CRC32;
+
+public class Crc32CombinerTests extends OpenSearchTestCase {
+
+    public void testCombine() {
+        final byte[] bytes = randomByteArrayOfLength(randomIntBetween(0, 1 << 16));
+        final int split = randomIntBetween(0, bytes.length);
+        final CRC32 first = new CRC32();
+        first.update(bytes, 0, split);
+        final CRC32 second = new CRC32();
+        second.update(bytes, split, bytes.length - split);
+        final CRC32 all = new CRC32();
+        all.update(bytes);
+        assertEquals(all.getValue(), Crc32Combiner.combine(first.getValue(), second.getValue(), bytes.length - split));
+    }
+
+    public void testCombineManyParts() {
+        final byte[] bytes = randomByteArrayOfLength(randomIntBetween(1, 1 << 16));
+        long combined = 0L;
+        for (int offset = 0; offset < bytes.length; ) {
+            final int length = randomIntBetween(1, bytes.length - offset);
+            final CRC32 part = new CRC32();
+            part.update(bytes, offset, length);
+            combined = Crc32Combiner.combine(combined, part.getValue(), length);
+            offset += length;
+        }
+        final CRC32 all = new CRC32();
+        all.update(bytes);
+        assertEquals(all.getValue(), combined);
+    }
+
+    public void testCombineWithEmptySequence() {
+        final long crc = randomLongBetween(0L, 0xFFFFFFFFL);
+        assertEquals(crc, Crc32Combiner.combine(crc, 0L, 0L));
+        assertEquals(crc, Crc32Combiner.combine(0L, crc, randomIntBetween(1, 1024)));
+    }
+}
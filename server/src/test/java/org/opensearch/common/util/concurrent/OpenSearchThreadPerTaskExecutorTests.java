@@ -0,0 +1,163 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.util.concurrent;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.Matchers.equalTo;
+
+public class OpenSearchThreadPerTaskExecutorTests extends OpenSearchTestCase {
+
+    public void testLimitsConcurrentTasksAndQueuesTheRest() throws Exception {
+        final int size = randomIntBetween(1, 4);
+        final int queueSize = randomIntBetween(1, 8);
+        final ThreadContext threadContext = new ThreadContext(Settings.EMPTY);
+        final OpenSearchThreadPoolExecutor executor = OpenSearchExecutors.newThreadPerTask(getTestName(), size, queueSize,
+            OpenSearchExecutors.daemonThreadFactory("test"), threadContext);
+        final Set<String> threadNames = ConcurrentCollections.newConcurrentSet();
+        final Set<String> headers = ConcurrentCollections.newConcurrentSet();
+        final CountDownLatch started = new CountDownLatch(size);
+        final CountDownLatch block = new CountDownLatch(1);
+        try {
+            try (ThreadContext.StoredContext ignored = threadContext.stashContext()) {
+                threadContext.putHeader("test", "value");
+                for (int i = 0; i < size + queueSize; i++) {
+                    executor.execute(() -> {
+                        threadNames.add(Thread.currentThread().getName());
+                        headers.add(threadContext.getHeader("test"));
+                        started.countDown();
+                        try {
+                            block.await();
+                        } catch (InterruptedException e) {
+                            throw new AssertionError(e);
+                        }
+                    });
+                }
+            }
+            started.await();
+            assertThat(executor.getActiveCount(), equalTo(size));
+            assertThat(executor.getQueue().size(), equalTo(queueSize));
+
+            expectThrows(OpenSearchRejectedExecutionException.class, () -> executor.execute(() -> {}));
+            final AtomicBoolean rejected = new AtomicBoolean();
+            executor.execute(new AbstractRunnable() {
+                @Override
+                public void onFailure(Exception e) {
+                    throw new AssertionError(e);
+                }
+
+                @Override
+                public void onRejection(Exception e) {
+                    rejected.set(true);
+                }
+
+                @Override
+                protected void doRun() {
+                    fail("should have been rejected");
+                }
+            });
+            assertTrue(rejected.get());
+            assertThat(((XRejectedExecutionHandler) executor.getRejectedExecutionHandler()).rejected(), equalTo(2L));
+
+            // queued tasks still run after shutdown, each one on a new thread
+            executor.shutdown();
+            assertFalse(executor.isTerminated());
+            final OpenSearchRejectedExecutionException e =
+                expectThrows(OpenSearchRejectedExecutionException.class, () -> executor.execute(() -> {}));
+            assertTrue(e.isExecutorShutdown());
+            block.countDown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+            assertTrue(executor.isTerminated());
+            assertThat(executor.getCompletedTaskCount(), equalTo((long) (size + queueSize)));
+            assertThat(executor.getLargestPoolSize(), equalTo(size));
+            assertThat(executor.getActiveCount(), equalTo(0));
+            assertThat(threadNames.size(), equalTo(size + queueSize));
+            assertThat(headers.size(), equalTo(1));
+            assertTrue(headers.contains("value"));
+        } finally {
+            block.countDown();
+            terminate(executor);
+        }
+    }
+
+    public void testNoTaskStartsAfterTermination() throws Exception {
+        for (int iteration = 0; iteration < 20; iteration++) {
+            final OpenSearchThreadPoolExecutor executor = OpenSearchExecutors.newThreadPerTask(getTestName(), randomIntBetween(1, 4),
+                randomIntBetween(1, 16), OpenSearchExecutors.daemonThreadFactory("test"), new ThreadContext(Settings.EMPTY));
+            final AtomicInteger accepted = new AtomicInteger();
+            final AtomicBoolean startedAfterTermination = new AtomicBoolean();
+            final Thread[] submitters = new Thread[randomIntBetween(2, 4)];
+            final CyclicBarrier barrier = new CyclicBarrier(submitters.length + 1);
+            for (int i = 0; i < submitters.length; i++) {
+                submitters[i] = new Thread(() -> {
+                    try {
+                        barrier.await();
+                    } catch (Exception e) {
+                        throw new AssertionError(e);
+                    }
+                    while (true) {
+                        try {
+                            executor.execute(() -> {
+                                if (executor.isTerminated()) {
+                                    startedAfterTermination.set(true);
+                                }
+                            });
+                            accepted.incrementAndGet();
+                        } catch (OpenSearchRejectedExecutionException e) {
+                            // a full queue is retried, only the shutdown ends the submissions
+                            if (e.isExecutorShutdown()) {
+                                break;
+                            }
+                        }
+                    }
+                });
+                submitters[i].start();
+            }
+            barrier.await();
+            executor.shutdown();
+            for (Thread submitter : submitters) {
+                submitter.join();
+            }
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+            assertFalse(startedAfterTermination.get());
+            // every accepted task completed before termination was signalled
+            assertThat(executor.getCompletedTaskCount(), equalTo((long) accepted.get()));
+        }
+    }
+
+    public void testShutdownNowInterruptsRunningTasks() throws Exception {
+        final OpenSearchThreadPoolExecutor executor = OpenSearchExecutors.newThreadPerTask(getTestName(), 1, -1,
+            OpenSearchExecutors.daemonThreadFactory("test"), new ThreadContext(Settings.EMPTY));
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch interrupted = new CountDownLatch(1);
+        executor.execute(() -> {
+            started.countDown();
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+        });
+        final Runnable queued = () -> {};
+        executor.execute(queued);
+        started.await();
+        assertThat(executor.shutdownNow().size(), equalTo(1));
+        assertTrue(interrupted.await(10, TimeUnit.SECONDS));
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        assertThat(executor.getCompletedTaskCount(), equalTo(1L));
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.http;
+
+import org.opensearch.action.ActionListener;
+import org.opensearch.cluster.coordination.DeterministicTaskQueue;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.opensearch.node.Node.NODE_NAME_SETTING;
+import static org.hamcrest.Matchers.equalTo;
+
+public class HttpReadBackpressureTests extends OpenSearchTestCase {
+
+    public void testPausesWhileSaturatedAndResumesPerChannel() {
+        final Settings settings = Settings.builder()
+            .put(NODE_NAME_SETTING.getKey(), "node")
+            .put(HttpTransportSettings.SETTING_HTTP_READ_BACKPRESSURE_ENABLED.getKey(), true)
+            .put(HttpTransportSettings.SETTING_HTTP_READ_BACKPRESSURE_THRESHOLD.getKey(), 0.5)
+            .put(HttpTransportSettings.SETTING_HTTP_READ_BACKPRESSURE_CHECK_INTERVAL.getKey(), "100ms")
+            .build();
+        final DeterministicTaskQueue taskQueue = new DeterministicTaskQueue(settings, random());
+        final HttpReadBackpressure backpressure = new HttpReadBackpressure(settings, taskQueue.getThreadPool());
+        final AtomicReference<Double> utilization = new AtomicReference<>(0.0);
+        backpressure.addSource(utilization::get);
+
+        final SuspendableChannel first = new SuspendableChannel();
+        final SuspendableChannel second = new SuspendableChannel();
+
+        backpressure.maybePause(first);
+        assertFalse(first.suspended);
+        assertThat(backpressure.getTotalPauses(), equalTo(0L));
+
+        utilization.set(0.75);
+        backpressure.maybePause(first);
+        backpressure.maybePause(first);
+        backpressure.maybePause(second);
+        assertTrue(first.suspended);
+        assertTrue(second.suspended);
+        assertThat(backpressure.getCurrentPaused(), equalTo(2L));
+        assertThat(backpressure.getTotalPauses(), equalTo(2L));
+
+        // still saturated, so both channels stay paused across checks
+        taskQueue.advanceTime();
+        taskQueue.runAllRunnableTasks();
+        assertTrue(first.suspended);
+        assertThat(backpressure.getCurrentPaused(), equalTo(2L));
+
+        // a closed channel is released without waiting for the node to recover
+        second.open = false;
+        utilization.set(0.25);
+        taskQueue.runAllTasks();
+        assertFalse(first.suspended);
+        assertThat(backpressure.getCurrentPaused(), equalTo(0L));
+        assertThat(backpressure.getTotalPauses(), equalTo(2L));
+        assertThat(backpressure.getTotalPausedTimeInMillis(), equalTo(2 * taskQueue.getCurrentTimeMillis()));
+        assertEquals(1, first.resumes);
+        assertEquals(1, second.resumes);
+    }
+
+    public void testDisabledNeverPauses() {
+        final Settings settings = Settings.builder().put(NODE_NAME_SETTING.getKey(), "node").build();
+        final DeterministicTaskQueue taskQueue = new DeterministicTaskQueue(settings, random());
+        final HttpReadBackpressure backpressure = new HttpReadBackpressure(settings, taskQueue.getThreadPool());
+        backpressure.addSource(() -> 1.0);
+
+        final SuspendableChannel channel = new SuspendableChannel();
+        backpressure.maybePause(channel);
+        assertFalse(channel.suspended);
+        assertFalse(taskQueue.hasDeferredTasks());
+        assertThat(backpressure.getTotalPauses(), equalTo(0L));
+    }
+
+    private static class SuspendableChannel implements HttpChannel {
+
+        private boolean open = true;
+        private boolean suspended;
+        private int resumes;
+
+        @Override
+        public void suspendReads() {
+            suspended = true;
+        }
+
+        @Override
+        public void resumeReads() {
+            suspended = false;
+            resumes++;
+        }
+
+        @Override
+        public void sendResponse(HttpResponse response, ActionListener<Void> listener) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public InetSocketAddress getLocalAddress() {
+            return null;
+        }
+
+        @Override
+        public InetSocketAddress getRemoteAddress() {
+            return null;
+        }
+
+        @Override
+        public void addCloseListener(ActionListener<Void> listener) {
+        }
+
+        @Override
+        public boolean isOpen() {
+            return open;
+        }
+
+        @Override
+        public void close() {
+            open = false;
+        }
+    }
+}
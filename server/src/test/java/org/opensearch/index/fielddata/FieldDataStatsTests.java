@@ -31,11 +31,13 @@
 
 package org.opensearch.index.fielddata;
 
+import org.opensearch.Version;
 import org.opensearch.common.FieldMemoryStats;
 import org.opensearch.common.FieldMemoryStatsTests;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.test.VersionUtils;
 
 import java.io.IOException;
 
@@ -43,7 +45,8 @@ public class FieldDataStatsTests extends OpenSearchTestCase {
 
     public void testSerialize() throws IOException {
         FieldMemoryStats map = randomBoolean() ? null : FieldMemoryStatsTests.randomFieldMemoryStats();
-        FieldDataStats stats = new FieldDataStats(randomNonNegativeLong(), randomNonNegativeLong(), map);
+        FieldDataStats stats = new FieldDataStats(randomNonNegativeLong(), randomNonNegativeLong(), map, randomNonNegativeLong(),
+            randomNonNegativeLong(), randomNonNegativeLong());
         BytesStreamOutput out = new BytesStreamOutput();
         stats.writeTo(out);
         StreamInput input = out.bytes().streamInput();
@@ -52,5 +55,37 @@ public class FieldDataStatsTests extends OpenSearchTestCase {
         assertEquals(stats.getEvictions(), read.getEvictions());
         assertEquals(stats.getMemorySize(), read.getMemorySize());
         assertEquals(stats.getFields(), read.getFields());
+        assertEquals(stats.getGlobalOrdinalsBuildCount(), read.getGlobalOrdinalsBuildCount());
+        assertEquals(stats.getGlobalOrdinalsBuildTimeInMillis(), read.getGlobalOrdinalsBuildTimeInMillis());
+        assertEquals(stats.getGlobalOrdinalsMemorySizeInBytes(), read.getGlobalOrdinalsMemorySizeInBytes());
+        assertEquals(stats, read);
+    }
+
+    public void testSerializeToPreviousVersion() throws IOException {
+        FieldDataStats stats = new FieldDataStats(randomNonNegativeLong(), randomNonNegativeLong(), null, randomNonNegativeLong(),
+            randomNonNegativeLong(), randomNonNegativeLong());
+        Version version = VersionUtils.randomVersionBetween(random(), Version.V_1_0_0, VersionUtils.getPreviousVersion(Version.V_1_1_0));
+        BytesStreamOutput out = new BytesStreamOutput();
+        out.setVersion(version);
+        stats.writeTo(out);
+        StreamInput input = out.bytes().streamInput();
+        input.setVersion(version);
+        FieldDataStats read = new FieldDataStats(input);
+        assertEquals(-1, input.read());
+        assertEquals(stats.getMemorySize(), read.getMemorySize());
+        assertEquals(stats.getEvictions(), read.getEvictions());
+        assertEquals(0, read.getGlobalOrdinalsBuildCount());
+        assertEquals(0, read.getGlobalOrdinalsBuildTimeInMillis());
+        assertEquals(0, read.getGlobalOrdinalsMemorySizeInBytes());
+    }
+
+    public void testAdd() {
+        FieldDataStats stats = new FieldDataStats(10, 1, null, 2, 30, 4);
+        stats.add(new FieldDataStats(5, 2, null, 1, 10, 3));
+        assertEquals(15, stats.getMemorySizeInBytes());
+        assertEquals(3, stats.getEvictions());
+        assertEquals(3, stats.getGlobalOrdinalsBuildCount());
+        assertEquals(40, stats.getGlobalOrdinalsBuildTimeInMillis());
+        assertEquals(7, stats.getGlobalOrdinalsMemorySizeInBytes());
     }
 }
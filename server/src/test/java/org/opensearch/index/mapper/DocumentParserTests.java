@@ -1436,6 +1436,68 @@ public class DocumentParserTests extends MapperServiceTestCase {
             + "Existing mapping for [alias-field] must be of type object but found [alias].", exception.getMessage());
     }
 
+    public void testResolvedFieldsAreReusedAcrossDocuments() throws Exception {
+        DocumentMapper mapper = createDocumentMapper(mapping(b -> {
+            b.startObject("foo");
+            {
+                b.startObject("properties");
+                {
+                    b.startObject("bar").field("type", "integer").endObject();
+                    b.startObject("nested").field("type", "nested").endObject();
+                }
+                b.endObject();
+            }
+            b.endObject();
+            b.startObject("baz").field("type", "keyword").endObject();
+        }));
+        for (int i = 0; i < 2; i++) {
+            ParsedDocument doc = mapper.parse(source(b -> {
+                b.field("baz", "value");
+                b.field("foo.bar", 1);
+                b.startObject("foo").field("bar", 2).endObject();
+            }));
+            assertNull(doc.dynamicMappingsUpdate());
+            IndexableField[] fields = doc.rootDoc().getFields("foo.bar");
+            assertEquals(4, fields.length);
+            assertEquals(1, fields[0].numericValue());
+            assertEquals(2, fields[2].numericValue());
+            assertNotNull(doc.rootDoc().getField("baz"));
+        }
+        assertEquals(3, mapper.documentParser().resolvedFieldCount(mapper.root()));
+        assertEquals(1, mapper.documentParser().resolvedFieldCount(mapper.objectMappers().get("foo")));
+
+        for (int i = 0; i < 2; i++) {
+            MapperParsingException e = expectThrows(MapperParsingException.class, () ->
+                mapper.parse(source(b -> b.field("_field_names", 0))));
+            assertTrue(e.getCause().getMessage(),
+                e.getCause().getMessage().contains("Field [_field_names] is a metadata field and cannot be added inside a document."));
+
+            e = expectThrows(MapperParsingException.class, () -> mapper.parse(source(b -> b.field("foo.nested.bar", 0))));
+            assertEquals("Cannot add a value for field [foo.nested.bar] since one of the intermediate objects is mapped as a nested "
+                + "object: [foo.nested]", e.getMessage());
+        }
+    }
+
+    public void testResolvedFieldsAreBounded() throws Exception {
+        DocumentMapper mapper = createDocumentMapper(topMapping(b -> {
+            b.field("dynamic", false);
+            b.startObject("properties");
+            {
+                b.startObject("foo").field("type", "keyword").endObject();
+            }
+            b.endObject();
+        }));
+        int numFields = DocumentParser.MAX_RESOLVED_FIELDS_PER_OBJECT + randomIntBetween(1, 10);
+        ParsedDocument doc = mapper.parse(source(b -> {
+            for (int i = 0; i < numFields; i++) {
+                b.field("field" + i, i);
+            }
+            b.field("foo", "value");
+        }));
+        assertNotNull(doc.rootDoc().getField("foo"));
+        assertEquals(DocumentParser.MAX_RESOLVED_FIELDS_PER_OBJECT, mapper.documentParser().resolvedFieldCount(mapper.root()));
+    }
+
     public void testTypeless() throws IOException {
         String mapping = Strings.toString(XContentFactory.jsonBuilder()
             .startObject().startObject("type").startObject("properties")
@@ -0,0 +1,152 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.mapper;
+
+import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.opensearch.common.xcontent.XContentBuilder;
+import org.opensearch.index.mapper.FlatObjectFieldMapper.FlatObjectFieldType;
+import org.opensearch.index.mapper.FlatObjectFieldMapper.KeyedFlatObjectFieldType;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.instanceOf;
+
+public class FlatObjectFieldMapperTests extends MapperServiceTestCase {
+
+    private static void attributes(XContentBuilder b) throws IOException {
+        b.startObject("field");
+        {
+            b.field("team", "search");
+            b.startObject("owner").field("name", "alice").endObject();
+            b.array("tags", "a", "b");
+            b.field("count", 1);
+            b.nullField("missing");
+        }
+        b.endObject();
+    }
+
+    public void testDefaults() throws Exception {
+        DocumentMapper mapper = createDocumentMapper(fieldMapping(b -> b.field("type", "flat_object")));
+        ParsedDocument doc = mapper.parse(source(FlatObjectFieldMapperTests::attributes));
+        assertNull(doc.dynamicMappingsUpdate());
+
+        assertEquals(new HashSet<>(Arrays.asList("search", "alice", "a", "b", "1")), values(doc.rootDoc().getFields("field")));
+        assertEquals(
+            new HashSet<>(Arrays.asList("team\0search", "owner.name\0alice", "tags\0a", "tags\0b", "count\01")),
+            values(doc.rootDoc().getFields("field._keyed"))
+        );
+        assertEquals(Arrays.asList("field"), Arrays.asList(doc.rootDoc().getValues(FieldNamesFieldMapper.NAME)));
+    }
+
+    public void testArbitraryKeysDoNotUpdateTheMapping() throws Exception {
+        MapperService mapperService = createMapperService(fieldMapping(b -> b.field("type", "flat_object")));
+        for (int i = 0; i < 10; i++) {
+            String key = randomAlphaOfLength(5) + i;
+            ParsedDocument doc = mapperService.documentMapper().parse(source(b -> b.startObject("field").field(key, "value").endObject()));
+            assertNull(doc.dynamicMappingsUpdate());
+        }
+        assertNull(mapperService.documentMapper().mappers().getMapper("field._keyed"));
+        assertThat(mapperService.fieldType("field"), instanceOf(FlatObjectFieldType.class));
+        MappedFieldType keyed = mapperService.fieldType("field.owner.name");
+        assertThat(keyed, instanceOf(KeyedFlatObjectFieldType.class));
+        assertEquals("field._keyed", keyed.name());
+        assertEquals("owner.name", ((KeyedFlatObjectFieldType) keyed).key());
+    }
+
+    public void testArraysOfObjects() throws Exception {
+        DocumentMapper mapper = createDocumentMapper(fieldMapping(b -> b.field("type", "flat_object")));
+        ParsedDocument doc = mapper.parse(source(b -> {
+            b.startArray("field");
+            b.startObject().field("team", "search").endObject();
+            b.startObject().field("team", "ingest").endObject();
+            b.endArray();
+        }));
+        assertEquals(new HashSet<>(Arrays.asList("team\0search", "team\0ingest")), values(doc.rootDoc().getFields("field._keyed")));
+    }
+
+    public void testNullValue() throws Exception {
+        DocumentMapper mapper = createDocumentMapper(fieldMapping(b -> b.field("type", "flat_object")));
+        ParsedDocument doc = mapper.parse(source(b -> b.nullField("field")));
+        assertEquals(0, doc.rootDoc().getFields("field").length);
+        assertEquals(0, doc.rootDoc().getFields(FieldNamesFieldMapper.NAME).length);
+    }
+
+    public void testRejectsConcreteValues() throws Exception {
+        DocumentMapper mapper = createDocumentMapper(fieldMapping(b -> b.field("type", "flat_object")));
+        MapperParsingException e = expectThrows(MapperParsingException.class, () -> mapper.parse(source(b -> b.field("field", "value"))));
+        assertThat(e.getMessage(), containsString("failed to parse field [field] of type [flat_object]"));
+    }
+
+    public void testIgnoreAbove() throws Exception {
+        DocumentMapper mapper = createDocumentMapper(fieldMapping(b -> b.field("type", "flat_object").field("ignore_above", 3)));
+        ParsedDocument doc = mapper.parse(source(b -> b.startObject("field").field("a", "long value").field("b", "ok").endObject()));
+        assertEquals(new HashSet<>(Arrays.asList("b\0ok")), values(doc.rootDoc().getFields("field._keyed")));
+    }
+
+    public void testDepthLimit() throws Exception {
+        DocumentMapper mapper = createDocumentMapper(fieldMapping(b -> b.field("type", "flat_object").field("depth_limit", 2)));
+        mapper.parse(source(b -> b.startObject("field").startObject("a").field("b", "c").endObject().endObject()));
+        MapperParsingException e = expectThrows(MapperParsingException.class, () -> mapper.parse(source(b -> {
+            b.startObject("field").startObject("a").startObject("b").field("c", "d").endObject().endObject().endObject();
+        })));
+        assertEquals("the object of field [field] exceeds the depth limit of [2]", e.getCause().getMessage());
+    }
+
+    public void testMultiFieldsAreNotSupported() {
+        MapperParsingException e = expectThrows(MapperParsingException.class, () -> createMapperService(fieldMapping(b -> {
+            b.field("type", "flat_object");
+            b.startObject("fields").startObject("raw").field("type", "keyword").endObject().endObject();
+        })));
+        assertThat(e.getMessage(), containsString("unsupported parameters"));
+    }
+
+    public void testSerialization() throws Exception {
+        DocumentMapper mapper = createDocumentMapper(fieldMapping(b -> b.field("type", "flat_object").field("ignore_above", 10)));
+        assertEquals(
+            "{\"_doc\":{\"properties\":{\"field\":{\"type\":\"flat_object\",\"ignore_above\":10}}}}",
+            mapper.mappingSource().toString()
+        );
+    }
+
+    public void testSearchKeys() throws Exception {
+        MapperService mapperService = createMapperService(fieldMapping(b -> b.field("type", "flat_object")));
+        ParsedDocument doc = mapperService.documentMapper().parse(source(FlatObjectFieldMapperTests::attributes));
+        withLuceneIndex(mapperService, iw -> iw.addDocuments(doc.docs()), reader -> {
+            IndexSearcher searcher = newSearcher(reader);
+            QueryShardContext context = FieldTypeTestCase.MOCK_QSC;
+            assertEquals(1, searcher.count(mapperService.fieldType("field").termQuery("alice", context)));
+            assertEquals(1, searcher.count(mapperService.fieldType("field.owner.name").termQuery("alice", context)));
+            assertEquals(0, searcher.count(mapperService.fieldType("field.team").termQuery("alice", context)));
+            assertEquals(1, searcher.count(mapperService.fieldType("field.team").prefixQuery("sea", null, false, context)));
+            assertEquals(0, searcher.count(mapperService.fieldType("field.owner").prefixQuery("", null, false, context)));
+            StringFieldType tags = (StringFieldType) mapperService.fieldType("field.tags");
+            assertEquals(1, searcher.count(tags.rangeQuery("a", null, true, true, context)));
+            assertEquals(0, searcher.count(tags.rangeQuery("c", null, true, true, context)));
+            assertEquals(1, searcher.count(mapperService.fieldType("field").existsQuery(context)));
+            assertEquals(1, searcher.count(mapperService.fieldType("field.owner.name").existsQuery(context)));
+            assertEquals(0, searcher.count(mapperService.fieldType("field.owner").existsQuery(context)));
+            Query unknown = mapperService.fieldType("field.unknown").existsQuery(context);
+            assertEquals(0, searcher.count(unknown));
+        });
+    }
+
+    private static Set<String> values(IndexableField[] fields) {
+        Set<String> values = new HashSet<>();
+        for (IndexableField field : fields) {
+            values.add(field.stringValue());
+        }
+        return values;
+    }
+}
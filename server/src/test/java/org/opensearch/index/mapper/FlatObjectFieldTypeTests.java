@@ -0,0 +1,101 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.mapper;
+
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TermRangeQuery;
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.OpenSearchException;
+import org.opensearch.common.unit.Fuzziness;
+import org.opensearch.index.mapper.FlatObjectFieldMapper.FlatObjectFieldType;
+import org.opensearch.index.mapper.FlatObjectFieldMapper.KeyedFlatObjectFieldType;
+import org.opensearch.search.lookup.SourceLookup;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+public class FlatObjectFieldTypeTests extends FieldTypeTestCase {
+
+    public void testTermQuery() {
+        FlatObjectFieldType ft = new FlatObjectFieldType("field", Collections.emptyMap());
+        assertEquals(new TermQuery(new Term("field", "value")), ft.termQuery("value", null));
+
+        KeyedFlatObjectFieldType keyed = new KeyedFlatObjectFieldType("field", "owner.name", Collections.emptyMap());
+        assertEquals(new TermQuery(new Term("field._keyed", "owner.name\0value")), keyed.termQuery("value", null));
+    }
+
+    public void testExistsQuery() {
+        KeyedFlatObjectFieldType keyed = new KeyedFlatObjectFieldType("field", "owner", Collections.emptyMap());
+        assertEquals(new PrefixQuery(new Term("field._keyed", "owner\0")), keyed.existsQuery(null));
+    }
+
+    public void testRangeQuery() {
+        KeyedFlatObjectFieldType keyed = new KeyedFlatObjectFieldType("field", "key", Collections.emptyMap());
+        assertEquals(
+            new TermRangeQuery("field._keyed", new BytesRef("key\0a"), new BytesRef("key\0b"), true, false),
+            keyed.rangeQuery("a", "b", true, false, MOCK_QSC)
+        );
+        assertEquals(
+            new TermRangeQuery("field._keyed", new BytesRef("key\0"), new BytesRef("key\1"), true, false),
+            keyed.rangeQuery(null, null, false, true, MOCK_QSC)
+        );
+
+        OpenSearchException e = expectThrows(OpenSearchException.class,
+            () -> keyed.rangeQuery("a", "b", true, false, MOCK_QSC_DISALLOW_EXPENSIVE));
+        assertEquals("[range] queries on [flat_object] fields cannot be executed when " +
+            "'search.allow_expensive_queries' is set to false.", e.getMessage());
+    }
+
+    public void testPrefixQuery() {
+        KeyedFlatObjectFieldType keyed = new KeyedFlatObjectFieldType("field", "key", Collections.emptyMap());
+        assertEquals(new PrefixQuery(new Term("field._keyed", "key\0val")), keyed.prefixQuery("val", null, MOCK_QSC));
+
+        IllegalArgumentException e = expectThrows(IllegalArgumentException.class,
+            () -> keyed.prefixQuery("val", null, true, MOCK_QSC));
+        assertEquals("[case insensitive prefix] queries are not supported on keys of [flat_object] fields, found on [field.key]",
+            e.getMessage());
+    }
+
+    public void testUnsupportedQueries() {
+        KeyedFlatObjectFieldType keyed = new KeyedFlatObjectFieldType("field", "key", Collections.emptyMap());
+        IllegalArgumentException e = expectThrows(IllegalArgumentException.class,
+            () -> keyed.fuzzyQuery("value", Fuzziness.AUTO, 0, 50, true, MOCK_QSC));
+        assertEquals("[fuzzy] queries are not supported on keys of [flat_object] fields, found on [field.key]", e.getMessage());
+
+        e = expectThrows(IllegalArgumentException.class, () -> keyed.wildcardQuery("val*", null, false, MOCK_QSC));
+        assertEquals("[wildcard] queries are not supported on keys of [flat_object] fields, found on [field.key]", e.getMessage());
+
+        e = expectThrows(IllegalArgumentException.class, () -> keyed.regexpQuery("val.*", 0, 0, 10, null, MOCK_QSC));
+        assertEquals("[regexp] queries are not supported on keys of [flat_object] fields, found on [field.key]", e.getMessage());
+    }
+
+    public void testFetchSourceValue() throws IOException {
+        Map<String, Object> object = new HashMap<>();
+        object.put("team", "search");
+        object.put("owner", Collections.singletonMap("name", "alice"));
+        object.put("tags", Arrays.asList("a", "b"));
+
+        FlatObjectFieldType ft = new FlatObjectFieldType("field", Collections.emptyMap());
+        assertEquals(Collections.singletonList(object), fetchSourceValue(ft, object));
+
+        SourceLookup lookup = new SourceLookup();
+        lookup.setSource(Collections.singletonMap("field", object));
+        KeyedFlatObjectFieldType tags = new KeyedFlatObjectFieldType("field", "tags", Collections.emptyMap());
+        assertEquals(Arrays.asList("a", "b"), tags.valueFetcher(null, null, null).fetchValues(lookup));
+        KeyedFlatObjectFieldType owner = new KeyedFlatObjectFieldType("field", "owner", Collections.emptyMap());
+        assertEquals(Collections.emptyList(), owner.valueFetcher(null, null, null).fetchValues(lookup));
+        KeyedFlatObjectFieldType name = new KeyedFlatObjectFieldType("field", "owner.name", Collections.emptyMap());
+        assertEquals(Collections.singletonList("alice"), name.valueFetcher(null, null, null).fetchValues(lookup));
+    }
+}
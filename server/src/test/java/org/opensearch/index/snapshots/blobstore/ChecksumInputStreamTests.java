@@ -0,0 +1,67 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.snapshots.blobstore;
+
+import org.opensearch.common.io.Streams;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.zip.CRC32;
+
+public class ChecksumInputStreamTests extends OpenSearchTestCase {
+
+    public void testChecksumOfPrefix() throws IOException {
+        final byte[] bytes = randomByteArrayOfLength(randomIntBetween(0, 1 << 16));
+        final int checksumLength = randomIntBetween(0, bytes.length);
+        final ChecksumInputStream stream = new ChecksumInputStream(new ByteArrayInputStream(bytes), checksumLength);
+        if (randomBoolean()) {
+            assertEquals(bytes.length, Streams.consumeFully(stream));
+        } else {
+            int read = 0;
+            while (stream.read() != -1) {
+                read++;
+            }
+            assertEquals(bytes.length, read);
+        }
+        assertEquals(checksum(bytes, checksumLength), stream.getChecksum());
+        assertEquals(checksumLength, stream.getChecksummedLength());
+    }
+
+    public void testMarkAndReset() throws IOException {
+        final byte[] bytes = randomByteArrayOfLength(randomIntBetween(1, 1 << 16));
+        final ChecksumInputStream stream = new ChecksumInputStream(new ByteArrayInputStream(bytes), bytes.length);
+        assertTrue(stream.markSupported());
+        final byte[] buffer = new byte[randomIntBetween(1, 1024)];
+        stream.read(buffer, 0, randomIntBetween(0, Math.min(buffer.length, bytes.length)));
+        stream.mark(bytes.length);
+        // read some bytes twice as if the request was retried by a client
+        stream.read(buffer);
+        stream.reset();
+        assertEquals(checksum(bytes, (int) stream.getChecksummedLength()), stream.getChecksum());
+        Streams.consumeFully(stream);
+        assertEquals(checksum(bytes, bytes.length), stream.getChecksum());
+        assertEquals(bytes.length, stream.getChecksummedLength());
+    }
+
+    public void testSkipIsChecksummed() throws IOException {
+        final byte[] bytes = randomByteArrayOfLength(randomIntBetween(1, 1 << 16));
+        final ChecksumInputStream stream = new ChecksumInputStream(new ByteArrayInputStream(bytes), bytes.length);
+        final long skipped = stream.skip(randomIntBetween(0, bytes.length));
+        assertEquals(skipped, stream.getChecksummedLength());
+        Streams.consumeFully(stream);
+        assertEquals(checksum(bytes, bytes.length), stream.getChecksum());
+    }
+
+    private static long checksum(byte[] bytes, int length) {
+        final CRC32 crc32 = new CRC32();
+        crc32.update(bytes, 0, length);
+        return crc32.getValue();
+    }
+}
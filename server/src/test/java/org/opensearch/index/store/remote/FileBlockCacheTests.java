@@ -0,0 +1,197 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.store.remote;
+
+import org.opensearch.common.CheckedSupplier;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+public class FileBlockCacheTests extends OpenSearchTestCase {
+
+    private static final CheckedSupplier<byte[], IOException> CACHED = () -> {
+        throw new AssertionError("block should be cached");
+    };
+
+    private static byte[] readBlock(FileBlockCache cache, long blockIndex, int length, CheckedSupplier<byte[], IOException> loader)
+        throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(length);
+        assertThat(cache.read("file", blockIndex, 0, buffer, loader), equalTo(length));
+        return buffer.array();
+    }
+
+    public void testHitsAndMisses() throws IOException {
+        try (FileBlockCache cache = new FileBlockCache(createTempDir(), 1024, 16)) {
+            final byte[] block = randomByteArrayOfLength(16);
+            final AtomicInteger loads = new AtomicInteger();
+
+            assertArrayEquals(block, readBlock(cache, 0, 16, () -> {
+                loads.incrementAndGet();
+                return block;
+            }));
+            assertArrayEquals(block, readBlock(cache, 0, 16, CACHED));
+            assertThat(loads.get(), equalTo(1));
+
+            final FileBlockCacheStats stats = cache.stats();
+            assertThat(stats.getHits(), equalTo(1L));
+            assertThat(stats.getMisses(), equalTo(1L));
+            assertThat(stats.getBytesFetched(), equalTo(16L));
+            assertThat(stats.getUsedInBytes(), equalTo(16L));
+            assertThat(stats.getHitRatio(), equalTo(0.5d));
+        }
+    }
+
+    public void testPartialReads() throws IOException {
+        try (FileBlockCache cache = new FileBlockCache(createTempDir(), 1024, 16)) {
+            final byte[] block = randomByteArrayOfLength(randomIntBetween(1, 16));
+            final int position = randomIntBetween(0, block.length - 1);
+            final ByteBuffer buffer = ByteBuffer.allocate(randomIntBetween(1, 32));
+            final boolean cached = randomBoolean();
+            if (cached) {
+                readBlock(cache, 0, block.length, () -> block);
+            }
+            final int read = cache.read("file", 0, position, buffer, cached ? CACHED : () -> block);
+            // reads stop at the end of the block or when the buffer is full, whichever comes first
+            assertThat(read, equalTo(Math.min(buffer.capacity(), block.length - position)));
+            assertThat(buffer.position(), equalTo(read));
+            assertArrayEquals(Arrays.copyOfRange(block, position, position + read), Arrays.copyOf(buffer.array(), read));
+        }
+    }
+
+    public void testEvictsLeastRecentlyUsedBlocks() throws IOException {
+        try (FileBlockCache cache = new FileBlockCache(createTempDir(), 32, 16)) {
+            final byte[] first = randomByteArrayOfLength(16);
+            final byte[] second = randomByteArrayOfLength(16);
+            final byte[] third = randomByteArrayOfLength(16);
+
+            readBlock(cache, 0, 16, () -> first);
+            readBlock(cache, 1, 16, () -> second);
+            // reading the first block makes the second block the least recently used one
+            readBlock(cache, 0, 16, CACHED);
+            // the third block reuses the slot of the second one
+            readBlock(cache, 2, 16, () -> third);
+
+            final FileBlockCacheStats stats = cache.stats();
+            assertThat(stats.getEvictions(), equalTo(1L));
+            assertThat(stats.getUsedInBytes(), equalTo(32L));
+
+            assertArrayEquals(first, readBlock(cache, 0, 16, CACHED));
+            assertArrayEquals(third, readBlock(cache, 2, 16, CACHED));
+            final AtomicInteger loads = new AtomicInteger();
+            assertArrayEquals(second, readBlock(cache, 1, 16, () -> {
+                loads.incrementAndGet();
+                return second;
+            }));
+            assertThat(loads.get(), equalTo(1));
+        }
+    }
+
+    public void testBlocksLargerThanTheCacheAreNotCached() throws IOException {
+        try (FileBlockCache cache = new FileBlockCache(createTempDir(), 8, 16)) {
+            final byte[] block = randomByteArrayOfLength(16);
+            final AtomicInteger loads = new AtomicInteger();
+            for (int i = 0; i < 2; i++) {
+                assertArrayEquals(block, readBlock(cache, 0, 16, () -> {
+                    loads.incrementAndGet();
+                    return block;
+                }));
+            }
+            assertThat(loads.get(), equalTo(2));
+            assertThat(cache.stats().getUsedInBytes(), equalTo(0L));
+        }
+    }
+
+    public void testConcurrentReadsLoadBlockOnce() throws Exception {
+        try (FileBlockCache cache = new FileBlockCache(createTempDir(), 1024, 16)) {
+            final byte[] block = randomByteArrayOfLength(16);
+            final AtomicInteger loads = new AtomicInteger();
+            final CountDownLatch start = new CountDownLatch(1);
+            final Thread[] threads = new Thread[randomIntBetween(2, 8)];
+            for (int i = 0; i < threads.length; i++) {
+                threads[i] = new Thread(() -> {
+                    try {
+                        start.await();
+                        assertArrayEquals(block, readBlock(cache, 0, 16, () -> {
+                            loads.incrementAndGet();
+                            return block;
+                        }));
+                    } catch (Exception e) {
+                        throw new AssertionError(e);
+                    }
+                });
+                threads[i].start();
+            }
+            start.countDown();
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            assertThat(loads.get(), equalTo(1));
+            assertThat(cache.stats().getHits(), equalTo((long) threads.length - 1));
+        }
+    }
+
+    public void testConcurrentReadsAndEvictions() throws Exception {
+        final int blocks = 8;
+        final byte[][] contents = new byte[blocks][];
+        for (int i = 0; i < blocks; i++) {
+            contents[i] = randomByteArrayOfLength(16);
+        }
+        // room for a few blocks only, so that blocks are evicted while they are read
+        try (FileBlockCache cache = new FileBlockCache(createTempDir(), 48, 16)) {
+            final CountDownLatch start = new CountDownLatch(1);
+            final Thread[] threads = new Thread[randomIntBetween(2, 8)];
+            for (int i = 0; i < threads.length; i++) {
+                final int[] reads = new int[100];
+                for (int r = 0; r < reads.length; r++) {
+                    reads[r] = randomIntBetween(0, blocks - 1);
+                }
+                threads[i] = new Thread(() -> {
+                    try {
+                        start.await();
+                        for (int block : reads) {
+                            assertArrayEquals(contents[block], readBlock(cache, block, 16, () -> contents[block]));
+                        }
+                    } catch (Exception e) {
+                        throw new AssertionError(e);
+                    }
+                });
+                threads[i].start();
+            }
+            start.countDown();
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            final FileBlockCacheStats stats = cache.stats();
+            assertThat(stats.getHits() + stats.getMisses(), equalTo(threads.length * 100L));
+            assertThat(stats.getUsedInBytes(), lessThanOrEqualTo(48L));
+        }
+    }
+
+    public void testWipesDirectoryOnCreation() throws IOException {
+        final Path directory = createTempDir();
+        Files.write(directory.resolve("stale"), randomByteArrayOfLength(8));
+        try (FileBlockCache ignored = new FileBlockCache(directory, 1024, 16)) {
+            try (Stream<Path> files = Files.list(directory)) {
+                assertThat(files.count(), equalTo(1L));
+            }
+            assertFalse(Files.exists(directory.resolve("stale")));
+            assertTrue(Files.exists(directory.resolve(FileBlockCache.BLOCKS_FILE_NAME)));
+        }
+    }
+}
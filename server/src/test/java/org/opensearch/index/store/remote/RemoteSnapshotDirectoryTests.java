@@ -0,0 +1,153 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.store.remote;
+
+import org.apache.lucene.codecs.CodecUtil;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.SegmentInfos;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.Version;
+import org.opensearch.common.blobstore.BlobContainer;
+import org.opensearch.common.blobstore.BlobPath;
+import org.opensearch.common.blobstore.fs.FsBlobContainer;
+import org.opensearch.common.blobstore.fs.FsBlobStore;
+import org.opensearch.common.bytes.BytesArray;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.ByteSizeValue;
+import org.opensearch.index.IndexSettings;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.index.shard.ShardPath;
+import org.opensearch.index.snapshots.blobstore.BlobStoreIndexShardSnapshot;
+import org.opensearch.index.snapshots.blobstore.BlobStoreIndexShardSnapshot.FileInfo;
+import org.opensearch.index.store.Store;
+import org.opensearch.index.store.StoreFileMetadata;
+import org.opensearch.test.IndexSettingsModule;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.Matchers.arrayContainingInAnyOrder;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+
+public class RemoteSnapshotDirectoryTests extends OpenSearchTestCase {
+
+    public void testReadsFilesFromShardSnapshot() throws IOException {
+        final Path repositoryPath = createTempDir();
+        final BlobContainer container = new FsBlobContainer(new FsBlobStore(randomIntBetween(1, 8) * 1024, repositoryPath, false),
+            BlobPath.cleanPath(), repositoryPath);
+        final int numDocs = randomIntBetween(10, 100);
+        final List<FileInfo> files = new ArrayList<>();
+        final String[] fileNames;
+        try (Directory directory = newFSDirectory(createTempDir())) {
+            try (IndexWriter writer = new IndexWriter(directory, new IndexWriterConfig())) {
+                for (int i = 0; i < numDocs; i++) {
+                    final Document document = new Document();
+                    document.add(new StringField("id", Integer.toString(i), Field.Store.YES));
+                    document.add(new TextField("text", randomAlphaOfLengthBetween(10, 100), Field.Store.YES));
+                    writer.addDocument(document);
+                }
+                writer.commit();
+            }
+            // only the files of the commit, the test file system might add extra files to the directory
+            fileNames = SegmentInfos.readLatestCommit(directory).files(true).toArray(new String[0]);
+            // a small part size makes most files span several parts in the repository
+            final ByteSizeValue partSize = new ByteSizeValue(randomIntBetween(64, 512));
+            for (String fileName : fileNames) {
+                final String checksum;
+                final long length;
+                try (IndexInput input = directory.openInput(fileName, IOContext.READONCE)) {
+                    length = input.length();
+                    checksum = Store.digestToString(CodecUtil.retrieveChecksum(input));
+                }
+                final FileInfo fileInfo = new FileInfo("__" + randomAlphaOfLength(10),
+                    new StoreFileMetadata(fileName, length, checksum, Version.LATEST), partSize);
+                try (IndexInput input = directory.openInput(fileName, IOContext.READONCE)) {
+                    for (int part = 0; part < fileInfo.numberOfParts(); part++) {
+                        final byte[] bytes = new byte[Math.toIntExact(fileInfo.partBytes(part))];
+                        input.readBytes(bytes, 0, bytes.length);
+                        container.writeBlob(fileInfo.partName(part), new BytesArray(bytes).streamInput(),
+                            bytes.length, true);
+                    }
+                }
+                files.add(fileInfo);
+            }
+        }
+        final BlobStoreIndexShardSnapshot snapshot = new BlobStoreIndexShardSnapshot("snapshot", 0L, files, 0L, 0L, 0, 0L);
+
+        final FileBlockCacheStats stats;
+        try (FileBlockCache cache = new FileBlockCache(createTempDir(), randomLongBetween(1024, 1024 * 1024), randomIntBetween(16, 256));
+             RemoteSnapshotDirectory directory = new RemoteSnapshotDirectory(() -> container, c -> snapshot, "test", cache)) {
+            assertThat(directory.listAll(), arrayContainingInAnyOrder(fileNames));
+            try (DirectoryReader reader = DirectoryReader.open(directory)) {
+                assertThat(reader.numDocs(), equalTo(numDocs));
+                final IndexSearcher searcher = new IndexSearcher(reader);
+                for (int i = 0; i < numDocs; i++) {
+                    assertThat(searcher.count(new TermQuery(new Term("id", Integer.toString(i)))), equalTo(1));
+                }
+            }
+            for (FileInfo fileInfo : files) {
+                try (IndexInput input = directory.openInput(fileInfo.physicalName(), IOContext.DEFAULT)) {
+                    // verifies the checksum of the whole file, reading it across block and part boundaries
+                    assertThat(Store.digestToString(CodecUtil.checksumEntireFile(input)), equalTo(fileInfo.checksum()));
+                }
+            }
+            expectThrows(UnsupportedOperationException.class, () -> directory.deleteFile(fileNames[0]));
+            expectThrows(UnsupportedOperationException.class, () -> directory.createOutput("new_file", IOContext.DEFAULT));
+            stats = cache.stats();
+        }
+        assertThat(stats.getMisses(), greaterThan(0L));
+        assertThat(stats.getBytesFetched(), greaterThan(0L));
+    }
+
+    public void testReadsVirtualFilesFromMetadata() throws IOException {
+        final byte[] contents = randomByteArrayOfLength(randomIntBetween(1, 64));
+        final StoreFileMetadata metadata = new StoreFileMetadata("segments_1", contents.length, "0", Version.LATEST,
+            new BytesRef(contents));
+        final FileInfo fileInfo = new FileInfo("v__" + randomAlphaOfLength(10), metadata, new ByteSizeValue(1024));
+        final BlobStoreIndexShardSnapshot snapshot = new BlobStoreIndexShardSnapshot("snapshot", 0L, Collections.singletonList(fileInfo),
+            0L, 0L, 0, 0L);
+        final BlobContainer container = new FsBlobContainer(new FsBlobStore(1024, createTempDir(), true), BlobPath.cleanPath(),
+            createTempDir());
+        try (FileBlockCache cache = new FileBlockCache(createTempDir(), 1024, 16);
+             RemoteSnapshotDirectory directory = new RemoteSnapshotDirectory(() -> container, c -> snapshot, "test", cache);
+             IndexInput input = directory.openInput("segments_1", IOContext.DEFAULT)) {
+            final byte[] read = new byte[contents.length];
+            input.readBytes(read, 0, read.length);
+            assertArrayEquals(contents, read);
+            assertThat(cache.stats().getBytesFetched(), equalTo(0L));
+        }
+    }
+
+    public void testFactoryFailsWithoutCache() {
+        final IndexSettings indexSettings = IndexSettingsModule.newIndexSettings("index", Settings.EMPTY);
+        final ShardId shardId = new ShardId(indexSettings.getIndex(), 0);
+        final Path path = createTempDir().resolve(indexSettings.getUUID()).resolve("0");
+        final RemoteSnapshotDirectoryFactory factory = new RemoteSnapshotDirectoryFactory(() -> null, null);
+        final IllegalStateException e = expectThrows(IllegalStateException.class,
+            () -> factory.newDirectory(indexSettings, new ShardPath(false, path, path, shardId)));
+        assertEquals("shards of index [index] are read from a snapshot and can only be allocated to data nodes", e.getMessage());
+    }
+}
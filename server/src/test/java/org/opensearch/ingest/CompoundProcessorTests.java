@@ -39,6 +39,7 @@ import org.junit.Before;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
@@ -46,6 +47,7 @@ import java.util.function.Consumer;
 import java.util.function.LongSupplier;
 
 import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
@@ -377,6 +379,65 @@ public class CompoundProcessorTests extends OpenSearchTestCase {
         assertThat(ingestProcessorException.getHeader("pipeline_origin"), equalTo(Arrays.asList("2", "1")));
     }
 
+    public void testBatchExecute() throws Exception {
+        TestProcessor processor1 = new TestProcessor(ingestDocument -> ingestDocument.setFieldValue("field", "value"));
+        TestProcessor processor2 = new TestProcessor("tag", "type", null,
+            ingestDocument -> ingestDocument.hasField("drop") ? null : ingestDocument);
+        CompoundProcessor compoundProcessor = new CompoundProcessor(() -> 0L, processor1, processor2);
+        List<IngestDocumentWrapper> wrappers = Arrays.asList(
+            new IngestDocumentWrapper(0, new IngestDocument(new HashMap<>(), new HashMap<>()), null),
+            new IngestDocumentWrapper(1, new IngestDocument(new HashMap<>(singletonMap("drop", true)), new HashMap<>()), null),
+            new IngestDocumentWrapper(2, new IngestDocument(new HashMap<>(), new HashMap<>()), null));
+        Map<Integer, IngestDocumentWrapper> results = new HashMap<>();
+        compoundProcessor.batchExecute(wrappers, r -> r.forEach(result -> results.put(result.getSlot(), result)));
+
+        assertThat(results.size(), equalTo(3));
+        assertThat(results.get(0).getException(), nullValue());
+        assertThat(results.get(0).getIngestDocument().getFieldValue("field", String.class), equalTo("value"));
+        assertThat(results.get(1).getException(), nullValue());
+        assertThat(results.get(1).getIngestDocument(), nullValue());
+        assertThat(results.get(2).getException(), nullValue());
+        assertThat(results.get(2).getIngestDocument().getFieldValue("field", String.class), equalTo("value"));
+        assertThat(processor1.getInvokedCounter(), equalTo(3));
+        assertThat(processor2.getInvokedCounter(), equalTo(3));
+        assertStats(0, compoundProcessor, 0, 3, 0, 0);
+        assertStats(1, compoundProcessor, 0, 3, 0, 0);
+    }
+
+    public void testBatchExecuteWithFailures() throws Exception {
+        Consumer<IngestDocument> failIfMarked = ingestDocument -> {
+            if (ingestDocument.hasField("fail")) {
+                throw new RuntimeException("error");
+            }
+        };
+        TestProcessor onFailureProcessor = new TestProcessor(ingestDocument -> ingestDocument.setFieldValue("handled", true));
+        CompoundProcessor withOnFailure = new CompoundProcessor(false, singletonList(new TestProcessor(failIfMarked)),
+            singletonList(onFailureProcessor), () -> 0L);
+        CompoundProcessor ignoringFailure = new CompoundProcessor(true, singletonList(new TestProcessor(failIfMarked)),
+            Collections.emptyList(), () -> 0L);
+        CompoundProcessor failing = new CompoundProcessor(() -> 0L, new TestProcessor(failIfMarked));
+
+        for (CompoundProcessor compoundProcessor : Arrays.asList(withOnFailure, ignoringFailure, failing)) {
+            List<IngestDocumentWrapper> wrappers = Arrays.asList(
+                new IngestDocumentWrapper(0, new IngestDocument(new HashMap<>(singletonMap("fail", true)), new HashMap<>()), null),
+                new IngestDocumentWrapper(1, new IngestDocument(new HashMap<>(), new HashMap<>()), null));
+            Map<Integer, IngestDocumentWrapper> results = new HashMap<>();
+            compoundProcessor.batchExecute(wrappers, r -> r.forEach(result -> results.put(result.getSlot(), result)));
+
+            assertThat(results.size(), equalTo(2));
+            assertThat(results.get(1).getException(), nullValue());
+            assertThat(results.get(1).getIngestDocument().hasField("handled"), is(false));
+            if (compoundProcessor == failing) {
+                assertThat(((OpenSearchException) results.get(0).getException()).getRootCause().getMessage(), equalTo("error"));
+            } else {
+                assertThat(results.get(0).getException(), nullValue());
+                assertThat(results.get(0).getIngestDocument().hasField("handled"), is(compoundProcessor == withOnFailure));
+            }
+            assertStats(compoundProcessor, 2, 1, 0);
+        }
+        assertThat(onFailureProcessor.getInvokedCounter(), equalTo(1));
+    }
+
     private void assertStats(CompoundProcessor compoundProcessor, long count,  long failed, long time) {
         assertStats(0, compoundProcessor, 0L, count, failed, time);
     }
@@ -1070,4 +1070,21 @@ public class IngestDocumentTests extends OpenSearchTestCase {
         }
     }
 
+    public void testConstantFieldPathTemplates() {
+        ConstantTemplateScriptFactory path = new ConstantTemplateScriptFactory("fizz.buzz");
+        assertThat(ingestDocument.hasField(path), equalTo(true));
+        assertThat(ingestDocument.getFieldValue(path, String.class), equalTo("hello world"));
+        ingestDocument.setFieldValue(path, new ValueSource.ObjectValue("new value"));
+        assertThat(ingestDocument.getFieldValue("fizz.buzz", String.class), equalTo("new value"));
+        ingestDocument.appendFieldValue(new ConstantTemplateScriptFactory("_ingest.list"), new ValueSource.ObjectValue("item"));
+        assertThat(ingestDocument.getFieldValue("_ingest.list", List.class), equalTo(Collections.singletonList("item")));
+        ingestDocument.removeField(path);
+        assertThat(ingestDocument.hasField(path), equalTo(false));
+        assertThat(ingestDocument.renderTemplate(path), equalTo("fizz.buzz"));
+        assertThat(path.getParsedPath(), sameInstance(path.getParsedPath()));
+
+        IllegalArgumentException e = expectThrows(IllegalArgumentException.class,
+            () -> ingestDocument.getFieldValue(new ConstantTemplateScriptFactory(""), Object.class));
+        assertThat(e.getMessage(), equalTo("path cannot be null nor empty"));
+    }
 }
@@ -83,6 +83,7 @@ import org.mockito.ArgumentMatcher;
 import org.mockito.invocation.InvocationOnMock;
 
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
@@ -1058,6 +1059,66 @@ public class IngestServiceTests extends OpenSearchTestCase {
         }
     }
 
+    public void testBulkRequestExecutionInBatches() throws Exception {
+        BulkRequest bulkRequest = new BulkRequest();
+        int numRequest = scaledRandomIntBetween(8, 64);
+        for (int i = 0; i < numRequest; i++) {
+            bulkRequest.add(new IndexRequest("_index", "_type", "_id" + i).setPipeline("_id").setFinalPipeline("_none")
+                .source(XContentType.JSON, "field1", "value1"));
+        }
+        bulkRequest.add(new IndexRequest("_index", "_type", "_other").setPipeline("_none").setFinalPipeline("_none")
+            .source(XContentType.JSON, "field1", "value1"));
+
+        final List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+        Map<String, Processor.Factory> map = new HashMap<>(2);
+        map.put("batch", (factories, tag, description, config) -> new AbstractProcessor(tag, description) {
+            @Override
+            public IngestDocument execute(IngestDocument ingestDocument) {
+                ingestDocument.setFieldValue("processed", true);
+                return ingestDocument;
+            }
+
+            @Override
+            public void batchExecute(List<IngestDocumentWrapper> ingestDocumentWrappers, Consumer<List<IngestDocumentWrapper>> handler) {
+                batchSizes.add(ingestDocumentWrappers.size());
+                super.batchExecute(ingestDocumentWrappers, handler);
+            }
+
+            @Override
+            public String getType() {
+                return "batch";
+            }
+        });
+        IngestService ingestService = createWithProcessors(map);
+        int batchSize = randomIntBetween(2, 10);
+        ingestService.setBatchSize(batchSize);
+        PutPipelineRequest putRequest = new PutPipelineRequest("_id",
+            new BytesArray("{\"processors\": [{\"batch\": {}}]}"), XContentType.JSON);
+        ClusterState clusterState = ClusterState.builder(new ClusterName("_name")).build();
+        ClusterState previousClusterState = clusterState;
+        clusterState = IngestService.innerPut(putRequest, clusterState);
+        ingestService.applyClusterState(new ClusterChangedEvent("", clusterState, previousClusterState));
+
+        @SuppressWarnings("unchecked")
+        BiConsumer<Integer, Exception> requestItemErrorHandler = mock(BiConsumer.class);
+        @SuppressWarnings("unchecked")
+        final BiConsumer<Thread, Exception> completionHandler = mock(BiConsumer.class);
+        ingestService.executeBulkRequest(numRequest + 1, bulkRequest.requests(), requestItemErrorHandler, completionHandler,
+            indexReq -> {}, Names.WRITE);
+
+        verify(requestItemErrorHandler, never()).accept(any(), any());
+        verify(completionHandler, times(1)).accept(Thread.currentThread(), null);
+        assertThat(batchSizes.size(), equalTo((numRequest + batchSize - 1) / batchSize));
+        assertThat(batchSizes.stream().mapToInt(Integer::intValue).sum(), equalTo(numRequest));
+        assertThat(batchSizes.stream().mapToInt(Integer::intValue).max().getAsInt(), equalTo(Math.min(batchSize, numRequest)));
+        for (int i = 0; i < numRequest; i++) {
+            IndexRequest indexRequest = TransportBulkAction.getIndexWriteRequest(bulkRequest.requests().get(i));
+            assertThat(indexRequest.sourceAsMap().get("processed"), equalTo(true));
+        }
+        assertThat(((IndexRequest) bulkRequest.requests().get(numRequest)).sourceAsMap().containsKey("processed"), is(false));
+        assertThat(ingestService.stats().getTotalStats().getIngestCount(), equalTo((long) numRequest));
+    }
+
     public void testStats() throws Exception {
         final Processor processor = mock(Processor.class);
         final Processor processorFailure = mock(Processor.class);
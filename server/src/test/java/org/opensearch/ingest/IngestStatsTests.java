@@ -108,7 +108,7 @@ public class IngestStatsTests extends OpenSearchTestCase {
         IngestStats.ProcessorStat processor1Stat = new IngestStats.ProcessorStat("processor1", "type", new IngestStats.Stats(1, 1, 1, 1));
         IngestStats.ProcessorStat processor2Stat = new IngestStats.ProcessorStat("processor2", "type", new IngestStats.Stats(2, 2, 2, 2));
         IngestStats.ProcessorStat processor3Stat = new IngestStats.ProcessorStat("processor3", "type",
-            new IngestStats.Stats(47, 97, 197, 297));
+            new IngestStats.Stats(47, 97, 197, 297), Collections.singletonMap("detail", new IngestStats.Stats(5, 6, 0, 7)));
         //pipeline1 -> processor1,processor2; pipeline2 -> processor3
         return MapBuilder.<String, List<IngestStats.ProcessorStat>>newMapBuilder()
             .put(pipelineStats.get(0).getPipelineId(), Stream.of(processor1Stat, processor2Stat).collect(Collectors.toList()))
@@ -148,8 +148,10 @@ public class IngestStatsTests extends OpenSearchTestCase {
                         assertEquals(ps.getName(), serializedProcessorStat.getName());
                         if (expectProcessorTypes) {
                             assertEquals(ps.getType(), serializedProcessorStat.getType());
+                            assertEquals(ps.getDetailedStats(), serializedProcessorStat.getDetailedStats());
                         } else {
                             assertEquals("_NOT_AVAILABLE", serializedProcessorStat.getType());
+                            assertEquals(Collections.emptyMap(), serializedProcessorStat.getDetailedStats());
                         }
                         assertStats(ps.getStats(), serializedProcessorStat.getStats());
                     }
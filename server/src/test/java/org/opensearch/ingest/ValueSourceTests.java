@@ -109,4 +109,18 @@ public class ValueSourceTests extends OpenSearchTestCase {
         assertThat(result.copyAndResolve(Collections.emptyMap()), equalTo(compiledValue));
         verify(scriptService, times(1)).compile(any(), any());
     }
+
+    public void testIsConstant() {
+        ScriptService scriptService = mock(ScriptService.class);
+        when(scriptService.isLangSupported(anyString())).thenReturn(true);
+        when(scriptService.compile(any(), any())).thenReturn(new TestTemplateService.MockTemplateScript.Factory("value"));
+        Map<String, Object> constant = new HashMap<>();
+        constant.put("field", Collections.singletonList(randomAlphaOfLength(10)));
+        constant.put("number", randomInt());
+        assertThat(ValueSource.wrap(constant, scriptService).isConstant(), equalTo(true));
+
+        Map<String, Object> templated = new HashMap<>(constant);
+        templated.put("templated", Collections.singletonList("{{" + randomAlphaOfLength(10) + "}}"));
+        assertThat(ValueSource.wrap(templated, scriptService).isConstant(), equalTo(false));
+    }
 }
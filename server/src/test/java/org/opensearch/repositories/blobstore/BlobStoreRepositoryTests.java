@@ -59,12 +59,17 @@ import org.opensearch.snapshots.SnapshotState;
 import org.opensearch.test.OpenSearchIntegTestCase;
 import org.opensearch.test.OpenSearchSingleNodeTestCase;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicIntegerArray;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -253,6 +258,48 @@ public class BlobStoreRepositoryTests extends OpenSearchSingleNodeTestCase {
             " See the breaking changes documentation for the next major version.");
     }
 
+    public void testRunConcurrently() throws Exception {
+        final int tasks = randomIntBetween(1, 100);
+        final AtomicIntegerArray runs = new AtomicIntegerArray(tasks);
+        final ExecutorService executor = Executors.newFixedThreadPool(randomIntBetween(1, 4));
+        try {
+            BlobStoreRepository.runConcurrently(tasks, runs::incrementAndGet, executor, randomIntBetween(0, 8));
+        } finally {
+            terminate(executor);
+        }
+        for (int i = 0; i < tasks; i++) {
+            assertEquals(1, runs.get(i));
+        }
+    }
+
+    public void testRunConcurrentlyDoesNotWaitForQueuedHelpers() throws Exception {
+        final int tasks = randomIntBetween(1, 100);
+        final AtomicIntegerArray runs = new AtomicIntegerArray(tasks);
+        // an executor that is saturated and only gets to run the helpers once the tasks are done
+        final List<Runnable> queued = new ArrayList<>();
+        BlobStoreRepository.runConcurrently(tasks, runs::incrementAndGet, queued::add, randomIntBetween(0, 8));
+        queued.forEach(Runnable::run);
+        for (int i = 0; i < tasks; i++) {
+            assertEquals(1, runs.get(i));
+        }
+    }
+
+    public void testRunConcurrentlyFailure() throws Exception {
+        final int tasks = randomIntBetween(1, 100);
+        final int failingTask = randomIntBetween(0, tasks - 1);
+        final ExecutorService executor = Executors.newFixedThreadPool(randomIntBetween(1, 4));
+        try {
+            final IOException e = expectThrows(IOException.class, () -> BlobStoreRepository.runConcurrently(tasks, i -> {
+                if (i == failingTask) {
+                    throw new IOException("task [" + i + "] failed");
+                }
+            }, executor, randomIntBetween(0, 8)));
+            assertEquals("task [" + failingTask + "] failed", e.getMessage());
+        } finally {
+            terminate(executor);
+        }
+    }
+
     private static void writeIndexGen(BlobStoreRepository repository, RepositoryData repositoryData, long generation) throws Exception {
         PlainActionFuture.<RepositoryData, Exception>get(
                 f -> repository.writeIndexGen(repositoryData, generation, Version.CURRENT, Function.identity(), f));
@@ -0,0 +1,73 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.rest;
+
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.bytes.ReleasableBytesReference;
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.common.xcontent.ChunkedToXContent;
+import org.opensearch.common.xcontent.ToXContent;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.test.rest.FakeRestChannel;
+import org.opensearch.test.rest.FakeRestRequest;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class ChunkedRestResponseBodyTests extends OpenSearchTestCase {
+
+    public void testEncodeChunks() throws IOException {
+        final int numberOfValues = randomIntBetween(0, 20);
+        final ChunkedToXContent values = params -> {
+            final List<ToXContent> fragments = new ArrayList<>();
+            fragments.add((builder, p) -> builder.startObject().startArray("values"));
+            for (int i = 0; i < numberOfValues; i++) {
+                final int value = i;
+                fragments.add((builder, p) -> builder.value(value));
+            }
+            fragments.add((builder, p) -> builder.endArray().endObject());
+            return fragments.iterator();
+        };
+        final StringBuilder expected = new StringBuilder("{\"values\":[");
+        for (int i = 0; i < numberOfValues; i++) {
+            expected.append(i == 0 ? "" : ",").append(i);
+        }
+        expected.append("]}");
+
+        final FakeRestChannel channel = new FakeRestChannel(new FakeRestRequest(), true, 1);
+        final ChunkedRestResponseBody body = ChunkedRestResponseBody.fromXContent(values, ToXContent.EMPTY_PARAMS, channel);
+        assertEquals("application/json; charset=UTF-8", body.getResponseContentTypeString());
+        final StringBuilder encoded = new StringBuilder();
+        int chunks = 0;
+        while (body.isDone() == false) {
+            // a size hint of a single byte ends every chunk after a single fragment
+            try (ReleasableBytesReference chunk = body.encodeChunk(1, BigArrays.NON_RECYCLING_INSTANCE)) {
+                encoded.append(chunk.utf8ToString());
+            }
+            chunks++;
+        }
+        assertEquals(numberOfValues + 2, chunks);
+        assertEquals(expected.toString(), encoded.toString());
+
+        final BytesReference fully = ChunkedRestResponseBody.encodeFully(
+            ChunkedRestResponseBody.fromXContent(values, ToXContent.EMPTY_PARAMS, channel));
+        assertEquals(expected.toString(), fully.utf8ToString());
+    }
+
+    public void testEncodeEmptyBody() throws IOException {
+        final FakeRestChannel channel = new FakeRestChannel(new FakeRestRequest(), true, 1);
+        final ChunkedRestResponseBody body = ChunkedRestResponseBody.fromXContent(
+            params -> Collections.<ToXContent>singletonList((builder, p) -> builder.startObject().endObject()).iterator(),
+            ToXContent.EMPTY_PARAMS, channel);
+        assertEquals("{}", ChunkedRestResponseBody.encodeFully(body).utf8ToString());
+        assertTrue(body.isDone());
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.rest.action.search;
+
+import org.apache.lucene.util.SetOnce;
+import org.opensearch.action.search.GetAsyncSearchAction;
+import org.opensearch.action.search.GetAsyncSearchRequest;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.test.rest.FakeRestRequest;
+import org.opensearch.test.rest.RestActionTestCase;
+import org.junit.Before;
+
+public class RestGetAsyncSearchActionTests extends RestActionTestCase {
+
+    @Before
+    public void setUpAction() {
+        controller().registerHandler(new RestGetAsyncSearchAction());
+    }
+
+    public void testId() {
+        SetOnce<GetAsyncSearchRequest> executed = new SetOnce<>();
+        verifyingClient.setExecuteVerifier((action, request) -> {
+            assertSame(GetAsyncSearchAction.INSTANCE, action);
+            executed.set((GetAsyncSearchRequest) request);
+            return null;
+        });
+
+        dispatchRequest(new FakeRestRequest.Builder(xContentRegistry())
+            .withMethod(RestRequest.Method.GET)
+            .withPath("/_async_search/node:42")
+            .build());
+        assertEquals("node:42", executed.get().getId());
+    }
+}
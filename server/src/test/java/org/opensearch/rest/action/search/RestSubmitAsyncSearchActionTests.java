@@ -0,0 +1,81 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.rest.action.search;
+
+import org.apache.lucene.util.SetOnce;
+import org.opensearch.action.search.SubmitAsyncSearchAction;
+import org.opensearch.action.search.SubmitAsyncSearchRequest;
+import org.opensearch.common.bytes.BytesArray;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.test.rest.FakeRestRequest;
+import org.opensearch.test.rest.RestActionTestCase;
+import org.junit.Before;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class RestSubmitAsyncSearchActionTests extends RestActionTestCase {
+
+    private final SetOnce<SubmitAsyncSearchRequest> submitted = new SetOnce<>();
+
+    @Before
+    public void setUpAction() {
+        controller().registerHandler(new RestSubmitAsyncSearchAction());
+        verifyingClient.setExecuteVerifier((action, request) -> {
+            assertSame(SubmitAsyncSearchAction.INSTANCE, action);
+            submitted.set((SubmitAsyncSearchRequest) request);
+            return null;
+        });
+    }
+
+    public void testDefaults() {
+        dispatchRequest(new FakeRestRequest.Builder(xContentRegistry())
+            .withMethod(RestRequest.Method.POST)
+            .withPath("/some_index/_async_search")
+            .build());
+
+        SubmitAsyncSearchRequest request = submitted.get();
+        assertArrayEquals(new String[] { "some_index" }, request.getSearchRequest().indices());
+        assertEquals(SubmitAsyncSearchRequest.DEFAULT_WAIT_FOR_COMPLETION_TIMEOUT, request.getWaitForCompletionTimeout());
+        assertEquals(SubmitAsyncSearchRequest.DEFAULT_KEEP_ALIVE, request.getKeepAlive());
+        assertEquals(SubmitAsyncSearchRequest.DEFAULT_BATCHED_REDUCE_SIZE, request.getSearchRequest().getBatchedReduceSize());
+    }
+
+    public void testParameters() {
+        Map<String, String> params = new HashMap<>();
+        params.put("wait_for_completion_timeout", "10s");
+        params.put("keep_alive", "1h");
+        params.put("batched_reduce_size", "2");
+        dispatchRequest(new FakeRestRequest.Builder(xContentRegistry())
+            .withMethod(RestRequest.Method.POST)
+            .withPath("/_async_search")
+            .withParams(params)
+            .build());
+
+        SubmitAsyncSearchRequest request = submitted.get();
+        assertEquals(0, request.getSearchRequest().indices().length);
+        assertEquals(TimeValue.timeValueSeconds(10), request.getWaitForCompletionTimeout());
+        assertEquals(TimeValue.timeValueHours(1), request.getKeepAlive());
+        assertEquals(2, request.getSearchRequest().getBatchedReduceSize());
+    }
+
+    public void testBody() {
+        dispatchRequest(new FakeRestRequest.Builder(xContentRegistry())
+            .withMethod(RestRequest.Method.POST)
+            .withPath("/some_index/_async_search")
+            .withContent(new BytesArray("{\"size\": 3, \"query\": {\"match_all\": {}}}"), XContentType.JSON)
+            .build());
+
+        SubmitAsyncSearchRequest request = submitted.get();
+        assertEquals(3, request.getSearchRequest().source().size());
+        assertNotNull(request.getSearchRequest().source().query());
+    }
+}
@@ -36,6 +36,10 @@ import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.test.OpenSearchTestCase;
 
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
 public class ScriptCacheTests extends OpenSearchTestCase {
     // even though circuit breaking is allowed to be configured per minute, we actually weigh this over five minutes
     // simply by multiplying by five, so even setting it to one, requires five compilations to break
@@ -79,4 +83,63 @@ public class ScriptCacheTests extends OpenSearchTestCase {
             assertEquals(initialState.availableTokens, currentState.availableTokens, 0.0); // delta of 0.0 because it should never change
         }
     }
+
+    public void testCachedScriptsDoNotCountAgainstCompilationLimit() {
+        final Integer size = ScriptService.SCRIPT_GENERAL_CACHE_SIZE_SETTING.get(Settings.EMPTY);
+        final TimeValue expire = ScriptService.SCRIPT_GENERAL_CACHE_EXPIRE_SETTING.get(Settings.EMPTY);
+        String settingName = ScriptService.SCRIPT_GENERAL_MAX_COMPILATIONS_RATE_SETTING.getKey();
+        ScriptCache cache = new ScriptCache(size, expire, new ScriptCache.CompilationRate(1, TimeValue.timeValueMinutes(1)), settingName);
+        int count = randomIntBetween(5, 50);
+        for (int i = 0; i < count; i++) {
+            assertNotNull(cache.compile(TemplateScript.CONTEXT, new TestEngine(true), null, "cached" + i, ScriptType.INLINE,
+                Collections.emptyMap()));
+        }
+        assertEquals(0, cache.stats().getCompilations());
+
+        TestEngine engine = new TestEngine(false);
+        cache.compile(TemplateScript.CONTEXT, engine, null, "compiled", ScriptType.INLINE, Collections.emptyMap());
+        assertEquals(1, cache.stats().getCompilations());
+        GeneralScriptException e = expectThrows(GeneralScriptException.class,
+            () -> cache.compile(TemplateScript.CONTEXT, engine, null, "throttled", ScriptType.INLINE, Collections.emptyMap()));
+        assertEquals(CircuitBreakingException.class, e.getRootCause().getClass());
+    }
+
+    private static class TestEngine implements ScriptEngine {
+        private final boolean cached;
+
+        TestEngine(boolean cached) {
+            this.cached = cached;
+        }
+
+        @Override
+        public String getType() {
+            return "test";
+        }
+
+        @Override
+        public <FactoryType> FactoryType compile(String name, String code, ScriptContext<FactoryType> context,
+                                                 Map<String, String> params) {
+            TemplateScript.Factory factory = templateParams -> new TemplateScript(templateParams) {
+                @Override
+                public String execute() {
+                    return code;
+                }
+            };
+            return context.factoryClazz.cast(factory);
+        }
+
+        @Override
+        public <FactoryType> FactoryType compile(String name, String code, ScriptContext<FactoryType> context,
+                                                 Map<String, String> params, Runnable beforeCompilation) {
+            if (cached == false) {
+                beforeCompilation.run();
+            }
+            return compile(name, code, context, params);
+        }
+
+        @Override
+        public Set<ScriptContext<?>> getSupportedContexts() {
+            return Collections.singleton(TemplateScript.CONTEXT);
+        }
+    }
 }
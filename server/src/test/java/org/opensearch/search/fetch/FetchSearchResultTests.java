@@ -0,0 +1,64 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.fetch;
+
+import org.apache.lucene.search.TotalHits;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
+import org.opensearch.search.internal.ShardSearchContextId;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+public class FetchSearchResultTests extends OpenSearchTestCase {
+
+    public void testSplitAndMergeChunks() {
+        final int numberOfHits = randomIntBetween(0, 50);
+        final SearchHit[] hits = new SearchHit[numberOfHits];
+        for (int i = 0; i < numberOfHits; i++) {
+            hits[i] = new SearchHit(i);
+        }
+        final TotalHits totalHits = new TotalHits(numberOfHits, TotalHits.Relation.EQUAL_TO);
+        final float maxScore = randomFloat();
+        final FetchSearchResult result = new FetchSearchResult(new ShardSearchContextId(randomAlphaOfLength(5), randomNonNegativeLong()),
+            null);
+        result.hits(new SearchHits(hits, totalHits, maxScore));
+
+        final int chunkSize = randomIntBetween(1, 10);
+        final Iterator<FetchSearchResult> chunks = result.leadingChunks(chunkSize);
+        final List<SearchHit> chunkedHits = new ArrayList<>();
+        int numberOfChunks = 0;
+        while (chunks.hasNext()) {
+            final FetchSearchResult chunk = chunks.next();
+            numberOfChunks++;
+            assertEquals(chunkSize, chunk.hits().getHits().length);
+            assertNull(chunk.hits().getTotalHits());
+            assertEquals(result.getContextId(), chunk.getContextId());
+            Collections.addAll(chunkedHits, chunk.hits().getHits());
+        }
+        expectThrows(NoSuchElementException.class, chunks::next);
+        assertEquals(Math.max(0, (numberOfHits + chunkSize - 1) / chunkSize - 1), numberOfChunks);
+
+        final FetchSearchResult last = result.lastChunk(chunkSize);
+        assertThat(last.hits().getHits().length, allOf(greaterThanOrEqualTo(numberOfHits == 0 ? 0 : 1), lessThanOrEqualTo(chunkSize)));
+        final FetchSearchResult merged = FetchSearchResult.mergeChunks(chunkedHits, last);
+        assertArrayEquals(hits, merged.hits().getHits());
+        assertEquals(totalHits, merged.hits().getTotalHits());
+        assertEquals(maxScore, merged.hits().getMaxScore(), 0f);
+        assertEquals(result.getContextId(), merged.getContextId());
+    }
+}
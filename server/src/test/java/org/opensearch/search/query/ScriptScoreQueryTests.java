@@ -35,20 +35,30 @@ package org.opensearch.search.query;
 import org.apache.lucene.analysis.standard.StandardAnalyzer;
 import org.apache.lucene.document.Document;
 import org.apache.lucene.document.Field;
+import org.apache.lucene.document.NumericDocValuesField;
 import org.apache.lucene.document.TextField;
 import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.DocValues;
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.queries.function.FunctionScoreQuery;
+import org.apache.lucene.search.DoubleValuesSource;
 import org.apache.lucene.search.Explanation;
 import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.Weight;
 import org.apache.lucene.store.Directory;
 import org.opensearch.Version;
 import org.opensearch.common.lucene.search.Queries;
 import org.opensearch.common.lucene.search.function.ScriptScoreQuery;
+import org.opensearch.index.fielddata.ScriptDocValues;
 import org.opensearch.script.ScoreScript;
 import org.opensearch.script.Script;
+import org.opensearch.search.lookup.LeafDocLookup;
 import org.opensearch.search.lookup.LeafSearchLookup;
 import org.opensearch.search.lookup.SearchLookup;
 import org.opensearch.test.OpenSearchTestCase;
@@ -56,10 +66,12 @@ import org.junit.After;
 import org.junit.Before;
 
 import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.collection.IsArrayWithSize.arrayWithSize;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.mock;
@@ -152,6 +164,105 @@ public class ScriptScoreQueryTests extends OpenSearchTestCase {
         assertTrue(e.getMessage().contains("Must be a non-negative score!"));
     }
 
+    public void testBlockExecution() throws IOException {
+        Script script = new Script("script scoring blocks of documents");
+        AtomicInteger scoredDocs = new AtomicInteger();
+        ScoreScript.LeafFactory factory = new ScoreScript.LeafFactory() {
+            @Override
+            public boolean needs_score() {
+                return false;
+            }
+
+            @Override
+            public ScoreScript newInstance(LeafReaderContext ctx) throws IOException {
+                LeafDocLookup docLookup = mock(LeafDocLookup.class);
+                when(docLookup.get("value")).thenReturn(new ScriptDocValues.Longs(DocValues.getSortedNumeric(ctx.reader(), "value")));
+                return new ScoreScript(script.getParams(), newLookup(docLookup), ctx) {
+                    @Override
+                    public double execute(ExplanationHolder explanation) {
+                        throw new AssertionError("documents should be scored in blocks");
+                    }
+
+                    @Override
+                    public void execute(int[] docIds, double[] scores, int count) {
+                        assertThat(count, greaterThan(0));
+                        scoredDocs.addAndGet(count);
+                        try {
+                            loadDoubleValues("value", docIds, count, -1, scores);
+                        } catch (IOException e) {
+                            throw new AssertionError(e);
+                        }
+                        for (int i = 0; i < count; i++) {
+                            scores[i] += 1;
+                        }
+                    }
+                };
+            }
+        };
+
+        int numDocs = randomIntBetween(1, 1000);
+        assertScores(numDocs, new ScriptScoreQuery(new MatchAllDocsQuery(), script, factory, null, "index", 0, Version.CURRENT),
+            doc -> doc % 7 == 0 ? 0f : doc + 1f);
+        assertThat(scoredDocs.get(), equalTo(numDocs));
+    }
+
+    public void testDefaultBlockExecutionReadsSubQueryScores() throws IOException {
+        Script script = new Script("script reading the score of the sub-query");
+        ScoreScript.LeafFactory factory = new ScoreScript.LeafFactory() {
+            @Override
+            public boolean needs_score() {
+                return true;
+            }
+
+            @Override
+            public ScoreScript newInstance(LeafReaderContext ctx) throws IOException {
+                return new ScoreScript(script.getParams(), newLookup(mock(LeafDocLookup.class)), ctx) {
+                    @Override
+                    public double execute(ExplanationHolder explanation) {
+                        assertNull(explanation);
+                        return get_score() * 2;
+                    }
+                };
+            }
+        };
+
+        Query subQuery = new FunctionScoreQuery(new MatchAllDocsQuery(), DoubleValuesSource.fromLongField("value"));
+        assertScores(randomIntBetween(1, 1000), new ScriptScoreQuery(subQuery, script, factory, null, "index", 0, Version.CURRENT),
+            doc -> doc % 7 == 0 ? 0f : doc * 2f);
+    }
+
+    /**
+     * Runs the query over documents whose field {@code value} is their doc id, except for every seventh document that has no value,
+     * and checks the score of every document.
+     */
+    private void assertScores(int numDocs, Query query, Function<Integer, Float> expectedScore) throws IOException {
+        try (Directory directory = newDirectory();
+             IndexWriter writer = new IndexWriter(directory, newIndexWriterConfig().setMergePolicy(newLogMergePolicy()))) {
+            for (int i = 0; i < numDocs; i++) {
+                Document doc = new Document();
+                if (i % 7 != 0) {
+                    doc.add(new NumericDocValuesField("value", i));
+                }
+                writer.addDocument(doc);
+            }
+            try (DirectoryReader directoryReader = DirectoryReader.open(writer)) {
+                TopDocs topDocs = newSearcher(directoryReader).search(query, numDocs);
+                assertThat(topDocs.scoreDocs.length, equalTo(numDocs));
+                for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+                    assertThat(scoreDoc.score, equalTo(expectedScore.apply(scoreDoc.doc)));
+                }
+            }
+        }
+    }
+
+    private static SearchLookup newLookup(LeafDocLookup docLookup) {
+        SearchLookup lookup = mock(SearchLookup.class);
+        LeafSearchLookup leafLookup = mock(LeafSearchLookup.class);
+        when(lookup.getLeafSearchLookup(any())).thenReturn(leafLookup);
+        when(leafLookup.doc()).thenReturn(docLookup);
+        return lookup;
+    }
+
     private ScoreScript.LeafFactory newFactory(Script script, boolean needsScore,
                                                Function<ScoreScript.ExplanationHolder, Double> function) {
         SearchLookup lookup = mock(SearchLookup.class);
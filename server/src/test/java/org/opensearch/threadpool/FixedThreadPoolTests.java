@@ -35,10 +35,13 @@ package org.opensearch.threadpool;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.concurrent.OpenSearchExecutors;
 import org.opensearch.common.util.concurrent.OpenSearchRejectedExecutionException;
+import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.threadpool.ThreadPool.Names;
 
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
 
+import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.equalTo;
 
 public class FixedThreadPoolTests extends OpenSearchThreadPoolTestCase {
@@ -108,4 +111,63 @@ public class FixedThreadPoolTests extends OpenSearchThreadPoolTestCase {
         }
     }
 
+    public void testVirtualThreads() throws Exception {
+        final String threadPoolName = randomFrom(Names.GET, Names.SEARCH);
+        final int size = randomIntBetween(1, 4);
+        final int queueSize = randomIntBetween(1, 16);
+        final Settings nodeSettings =
+            Settings.builder()
+                .put("node.name", "testVirtualThreads")
+                .put("thread_pool." + threadPoolName + ".size", size)
+                .put("thread_pool." + threadPoolName + ".queue_size", queueSize)
+                .put("thread_pool." + threadPoolName + ".virtual_threads", true)
+                .build();
+        ThreadPool threadPool = null;
+        try {
+            threadPool = new ThreadPool(nodeSettings);
+            final ThreadPool finalThreadPool = threadPool;
+
+            final AtomicReference<String> threadName = new AtomicReference<>();
+            final AtomicReference<String> header = new AtomicReference<>();
+            final CountDownLatch ran = new CountDownLatch(1);
+            try (ThreadContext.StoredContext ignored = threadPool.getThreadContext().stashContext()) {
+                threadPool.getThreadContext().putHeader("test", "value");
+                threadPool.executor(threadPoolName).execute(() -> {
+                    threadName.set(Thread.currentThread().getName());
+                    header.set(finalThreadPool.getThreadContext().getHeader("test"));
+                    ran.countDown();
+                });
+            }
+            ran.await();
+            assertThat(header.get(), equalTo("value"));
+            assertThat(threadName.get(), containsString("[" + threadPoolName + "]"));
+            assertThat(threadName.get(), containsString(OpenSearchExecutors.virtualThreadsSupported() ? "[V#" : "[T#"));
+
+            // the size still limits how many tasks run at the same time, and the queue and rejections behave as before
+            final CountDownLatch latch = new CountDownLatch(size);
+            final CountDownLatch block = new CountDownLatch(1);
+            for (int i = 0; i < size; i++) {
+                threadPool.executor(threadPoolName).execute(() -> {
+                    try {
+                        latch.countDown();
+                        block.await();
+                    } catch (InterruptedException e) {
+                        fail(e.toString());
+                    }
+                });
+            }
+            latch.await();
+            assertThat(stats(threadPool, threadPoolName).getActive(), equalTo(size));
+            for (int i = 0; i < queueSize; i++) {
+                threadPool.executor(threadPoolName).execute(() -> {});
+            }
+            assertThat(stats(threadPool, threadPoolName).getQueue(), equalTo(queueSize));
+            expectThrows(OpenSearchRejectedExecutionException.class, () -> finalThreadPool.executor(threadPoolName).execute(() -> {}));
+            block.countDown();
+            assertThat(stats(threadPool, threadPoolName).getRejected(), equalTo(1L));
+        } finally {
+            terminateThreadPoolIfNeeded(threadPool);
+        }
+    }
+
 }
@@ -33,6 +33,7 @@ package org.opensearch.transport;
 
 import org.opensearch.cluster.node.DiscoveryNodeRole;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.ByteSizeValue;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.test.OpenSearchTestCase;
 import org.hamcrest.Matchers;
@@ -47,6 +48,7 @@ import java.util.List;
 import static org.opensearch.test.NodeRoles.nonDataNode;
 import static org.opensearch.test.NodeRoles.nonMasterNode;
 import static org.opensearch.test.NodeRoles.removeRoles;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
 
 public class ConnectionProfileTests extends OpenSearchTestCase {
@@ -171,6 +173,32 @@ public class ConnectionProfileTests extends OpenSearchTestCase {
         expectThrows(IllegalStateException.class, () -> build.getHandles().get(1).getChannel(array));
     }
 
+    public void testMaxConnectionsPerType() {
+        ConnectionProfile.Builder builder = new ConnectionProfile.Builder();
+        builder.addConnections(2, 5, TransportRequestOptions.Type.BULK);
+        builder.addConnections(1, TransportRequestOptions.Type.PING, TransportRequestOptions.Type.STATE,
+            TransportRequestOptions.Type.RECOVERY, TransportRequestOptions.Type.REG);
+        builder.setScaleUpThreshold(new ByteSizeValue(512));
+        builder.setIdleConnectionTimeout(TimeValue.timeValueSeconds(30));
+        ConnectionProfile profile = builder.build();
+        assertEquals(3, profile.getNumConnections());
+        assertEquals(2, profile.getNumConnectionsPerType(TransportRequestOptions.Type.BULK));
+        assertEquals(5, profile.getMaxConnectionsPerType(TransportRequestOptions.Type.BULK));
+        assertEquals(1, profile.getMaxConnectionsPerType(TransportRequestOptions.Type.REG));
+        assertEquals(new ByteSizeValue(512), profile.getScaleUpThreshold());
+        assertEquals(TimeValue.timeValueSeconds(30), profile.getIdleConnectionTimeout());
+
+        ConnectionProfile copy = new ConnectionProfile.Builder(profile).build();
+        assertEquals(5, copy.getMaxConnectionsPerType(TransportRequestOptions.Type.BULK));
+        assertEquals(profile.getScaleUpThreshold(), copy.getScaleUpThreshold());
+        assertEquals(profile.getIdleConnectionTimeout(), copy.getIdleConnectionTimeout());
+
+        IllegalArgumentException e = expectThrows(IllegalArgumentException.class,
+            () -> new ConnectionProfile.Builder().addConnections(3, 2, TransportRequestOptions.Type.BULK));
+        assertThat(e.getMessage(), containsString("must not be smaller than numConnections [3]"));
+        expectThrows(IllegalArgumentException.class, () -> new ConnectionProfile.Builder().setScaleUpThreshold(new ByteSizeValue(0)));
+    }
+
     public void testConnectionProfileResolve() {
         final ConnectionProfile defaultProfile = ConnectionProfile.buildDefaultConnectionProfile(Settings.EMPTY);
         assertEquals(defaultProfile, ConnectionProfile.resolveConnectionProfile(null, defaultProfile));
@@ -227,6 +255,19 @@ public class ConnectionProfileTests extends OpenSearchTestCase {
         assertEquals(TransportSettings.CONNECT_TIMEOUT.get(Settings.EMPTY), profile.getHandshakeTimeout());
         assertEquals(TransportSettings.TRANSPORT_COMPRESS.get(Settings.EMPTY), profile.getCompressionEnabled());
         assertEquals(TransportSettings.PING_SCHEDULE.get(Settings.EMPTY), profile.getPingInterval());
+        assertEquals(3, profile.getMaxConnectionsPerType(TransportRequestOptions.Type.BULK));
+        assertEquals(TransportSettings.CONNECTIONS_PER_NODE_SCALE_UP_THRESHOLD.get(Settings.EMPTY), profile.getScaleUpThreshold());
+        assertEquals(TransportSettings.CONNECTIONS_PER_NODE_IDLE_TIMEOUT.get(Settings.EMPTY), profile.getIdleConnectionTimeout());
+
+        profile = ConnectionProfile.buildDefaultConnectionProfile(Settings.builder()
+            .put(TransportSettings.CONNECTIONS_PER_NODE_BULK_MAX.getKey(), 8)
+            .put(TransportSettings.CONNECTIONS_PER_NODE_RECOVERY_MAX.getKey(), 4)
+            .build());
+        assertEquals(13, profile.getNumConnections());
+        assertEquals(3, profile.getNumConnectionsPerType(TransportRequestOptions.Type.BULK));
+        assertEquals(8, profile.getMaxConnectionsPerType(TransportRequestOptions.Type.BULK));
+        assertEquals(4, profile.getMaxConnectionsPerType(TransportRequestOptions.Type.RECOVERY));
+        assertEquals(6, profile.getMaxConnectionsPerType(TransportRequestOptions.Type.REG));
 
         profile = ConnectionProfile.buildDefaultConnectionProfile(nonMasterNode());
         assertEquals(12, profile.getNumConnections());
@@ -61,7 +61,9 @@ import org.junit.Before;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
@@ -192,6 +194,94 @@ public class InboundHandlerTests extends OpenSearchTestCase {
         }
     }
 
+    public void testChunkedResponse() throws Exception {
+        String action = "test-request";
+        int headerSize = TcpHeader.headerSize(version);
+        List<String> chunks = new ArrayList<>();
+        AtomicReference<TestResponse> responseCaptor = new AtomicReference<>();
+        AtomicReference<TransportChannel> channelCaptor = new AtomicReference<>();
+
+        long requestId = responseHandlers.add(new Transport.ResponseContext<>(new TransportResponseHandler<TestResponse>() {
+            @Override
+            public boolean supportsResponseChunks() {
+                return true;
+            }
+
+            @Override
+            public void handleResponseChunk(TestResponse chunk, int sizeInBytes) {
+                chunks.add(chunk.value);
+            }
+
+            @Override
+            public void handleResponse(TestResponse response) {
+                responseCaptor.set(response);
+            }
+
+            @Override
+            public void handleException(TransportException exp) {
+                throw new AssertionError(exp);
+            }
+
+            @Override
+            public String executor() {
+                return ThreadPool.Names.SAME;
+            }
+
+            @Override
+            public TestResponse read(StreamInput in) throws IOException {
+                return new TestResponse(in);
+            }
+        }, null, action));
+        assertTrue(responseHandlers.supportsResponseChunks(requestId));
+        RequestHandlerRegistry<TestRequest> registry = new RequestHandlerRegistry<>(action, TestRequest::new, taskManager,
+            (request, channel, task) -> channelCaptor.set(channel), ThreadPool.Names.SAME, false, true);
+        requestHandlers.registerHandler(registry);
+        OutboundMessage.Request request = new OutboundMessage.Request(threadPool.getThreadContext(), new String[0],
+            new TestRequest(randomAlphaOfLength(10)), version, action, requestId, false, false, true);
+
+        BytesReference fullRequestBytes = request.serialize(new BytesStreamOutput());
+        BytesReference requestContent = fullRequestBytes.slice(headerSize, fullRequestBytes.length() - headerSize);
+        byte requestStatus = TransportStatus.setChunked(TransportStatus.setRequest((byte) 0));
+        Header requestHeader = new Header(fullRequestBytes.length() - 6, requestId, requestStatus, version);
+        InboundMessage requestMessage = new InboundMessage(requestHeader, ReleasableBytesReference.wrap(requestContent), () -> {});
+        requestHeader.finishParsingHeader(requestMessage.openOrGetStreamInput());
+        handler.inboundMessage(channel, requestMessage);
+
+        TransportChannel transportChannel = channelCaptor.get();
+        assertTrue(transportChannel.supportsResponseChunks());
+        List<TestResponse> sentChunks = new ArrayList<>();
+        int numberOfChunks = randomIntBetween(1, 5);
+        for (int i = 0; i < numberOfChunks; i++) {
+            sentChunks.add(new TestResponse("chunk-" + i));
+        }
+        TransportChannel.sendResponseChunks(transportChannel, action, sentChunks.iterator(), new TestResponse("final"));
+
+        for (int i = 0; i <= numberOfChunks; i++) {
+            boolean isChunk = i < numberOfChunks;
+            byte responseStatus = TransportStatus.setResponse((byte) 0);
+            if (isChunk) {
+                responseStatus = TransportStatus.setChunked(responseStatus);
+            }
+            BytesReference fullResponseBytes = channel.getMessageCaptor().getAndSet(null);
+            assertNotNull(fullResponseBytes);
+            BytesReference responseContent = fullResponseBytes.slice(headerSize, fullResponseBytes.length() - headerSize);
+            Header responseHeader = new Header(fullResponseBytes.length() - 6, requestId, responseStatus, version);
+            InboundMessage responseMessage = new InboundMessage(responseHeader, ReleasableBytesReference.wrap(responseContent), () -> {});
+            responseHeader.finishParsingHeader(responseMessage.openOrGetStreamInput());
+            handler.inboundMessage(channel, responseMessage);
+            if (isChunk) {
+                assertEquals("chunk-" + i, chunks.get(i));
+                assertNull(responseCaptor.get());
+                // the next chunk is only sent once the previous one has been written
+                assertNull(channel.getMessageCaptor().get());
+                channel.getListenerCaptor().get().onResponse(null);
+            }
+        }
+        assertEquals(numberOfChunks, chunks.size());
+        assertEquals("final", responseCaptor.get().value);
+        assertFalse(responseHandlers.contains(requestId));
+    }
+
     public void testSendsErrorResponseToHandshakeFromCompatibleVersion() throws Exception {
         // Nodes use their minimum compatibility version for the TCP handshake, so a node from v(major-1).x will report its version as
         // v(major-2).last in the TCP handshake, with which we are not really compatible. We put extra effort into making sure that if
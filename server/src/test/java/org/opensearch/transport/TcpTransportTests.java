@@ -36,8 +36,11 @@ import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.LogManager;
 import org.opensearch.OpenSearchException;
 import org.opensearch.Version;
+import org.opensearch.action.ActionListener;
 import org.opensearch.action.support.PlainActionFuture;
+import org.opensearch.cluster.coordination.DeterministicTaskQueue;
 import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.common.bytes.BytesReference;
 import org.opensearch.common.component.Lifecycle;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.logging.Loggers;
@@ -45,6 +48,8 @@ import org.opensearch.common.network.NetworkService;
 import org.opensearch.common.network.NetworkUtils;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.transport.TransportAddress;
+import org.opensearch.common.unit.ByteSizeValue;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.BigArrays;
 import org.opensearch.common.util.MockPageCacheRecycler;
 import org.opensearch.indices.breaker.NoneCircuitBreakerService;
@@ -61,9 +66,13 @@ import java.net.BindException;
 import java.net.InetSocketAddress;
 import java.nio.channels.CancelledKeyException;
 import java.nio.channels.ClosedChannelException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
+import static org.opensearch.node.Node.NODE_NAME_SETTING;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.core.IsInstanceOf.instanceOf;
@@ -441,4 +450,189 @@ public class TcpTransportTests extends OpenSearchTestCase {
             ThreadPool.terminate(testThreadPool, 30, TimeUnit.SECONDS);
         }
     }
+
+    public void testScalingChannelsOpenAdditionalChannelWhenAllChannelsAreBusy() throws IOException {
+        final DeterministicTaskQueue taskQueue = new DeterministicTaskQueue(SCALING_SETTINGS, random());
+        final List<ScalingTestChannel> extraChannels = new ArrayList<>();
+        final TcpTransport transport = newScalingTransport(taskQueue, extraChannels);
+        final TcpTransport.NodeChannels connection = newScalingConnection(transport);
+        final ScalingTestChannel regChannel = (ScalingTestChannel) connection.getChannels().get(0);
+        try {
+            // the fixed channel is used as long as it has less than the threshold waiting to be written
+            sendRequest(transport, connection);
+            assertEquals(1, regChannel.pendingWrites.size());
+            assertTrue(extraChannels.isEmpty());
+
+            // all channels are busy, an additional one is opened while the request still goes to the least loaded channel
+            sendRequest(transport, connection);
+            assertEquals(2, regChannel.pendingWrites.size());
+            assertEquals(1, extraChannels.size());
+            final ScalingTestChannel extraChannel = extraChannels.get(0);
+            assertEquals(2, connection.getConnectionTypeStats().get(TransportRequestOptions.Type.REG).getOpenConnections());
+
+            sendRequest(transport, connection);
+            assertEquals(2, regChannel.pendingWrites.size());
+            assertEquals(1, extraChannel.pendingWrites.size());
+
+            // the maximum number of connections is reached, the least loaded channel is selected
+            sendRequest(transport, connection);
+            assertEquals(2, regChannel.pendingWrites.size());
+            assertEquals(2, extraChannel.pendingWrites.size());
+            assertEquals(1, extraChannels.size());
+
+            // once the fixed channel catches up it is used again
+            regChannel.completeWrites();
+            sendRequest(transport, connection);
+            assertEquals(1, regChannel.pendingWrites.size());
+            assertEquals(2, extraChannel.pendingWrites.size());
+        } finally {
+            closeScalingConnection(connection, extraChannels);
+        }
+    }
+
+    public void testScalingChannelsCloseIdleChannelOnceNoResponseIsOutstanding() throws IOException {
+        final DeterministicTaskQueue taskQueue = new DeterministicTaskQueue(SCALING_SETTINGS, random());
+        final List<ScalingTestChannel> extraChannels = new ArrayList<>();
+        final TcpTransport transport = newScalingTransport(taskQueue, extraChannels);
+        final TcpTransport.NodeChannels connection = newScalingConnection(transport);
+        try {
+            sendRequest(transport, connection);
+            sendRequest(transport, connection);
+            final long requestId = sendRequest(transport, connection);
+            final ScalingTestChannel extraChannel = extraChannels.get(0);
+            assertEquals(1, extraChannel.pendingWrites.size());
+            extraChannel.completeWrites();
+
+            // the request sent on the additional channel has no timeout, its response may take longer than the idle timeout
+            runTasksFor(taskQueue, SCALING_IDLE_TIMEOUT.millis() * 5);
+            assertTrue(extraChannel.isOpen());
+            assertEquals(2, connection.getConnectionTypeStats().get(TransportRequestOptions.Type.REG).getOpenConnections());
+
+            transport.getResponseHandlers().remove(requestId);
+            runTasksFor(taskQueue, SCALING_IDLE_TIMEOUT.millis() * 2);
+            assertFalse(extraChannel.isOpen());
+            assertFalse(connection.isClosed());
+            assertEquals(1, connection.getConnectionTypeStats().get(TransportRequestOptions.Type.REG).getOpenConnections());
+        } finally {
+            closeScalingConnection(connection, extraChannels);
+        }
+    }
+
+    public void testScalingChannelsCloseConnectionWhenChannelClosesWithOutstandingResponses() throws IOException {
+        final DeterministicTaskQueue taskQueue = new DeterministicTaskQueue(SCALING_SETTINGS, random());
+        final List<ScalingTestChannel> extraChannels = new ArrayList<>();
+        final TcpTransport transport = newScalingTransport(taskQueue, extraChannels);
+        final TcpTransport.NodeChannels connection = newScalingConnection(transport);
+        try {
+            sendRequest(transport, connection);
+            sendRequest(transport, connection);
+            final long requestId = sendRequest(transport, connection);
+            final ScalingTestChannel extraChannel = extraChannels.get(0);
+            assertEquals(1, extraChannel.pendingWrites.size());
+
+            final boolean outstanding = randomBoolean();
+            if (outstanding == false) {
+                transport.getResponseHandlers().remove(requestId);
+            }
+            // simulates the remote node closing the additional channel
+            extraChannel.close();
+            assertEquals(outstanding, connection.isClosed());
+            for (TcpChannel channel : connection.getChannels()) {
+                assertEquals(outstanding, channel.isOpen() == false);
+            }
+        } finally {
+            closeScalingConnection(connection, extraChannels);
+        }
+    }
+
+    private static final Settings SCALING_SETTINGS = Settings.builder().put(NODE_NAME_SETTING.getKey(), "node").build();
+    private static final TimeValue SCALING_IDLE_TIMEOUT = TimeValue.timeValueSeconds(10);
+
+    private TcpTransport newScalingTransport(DeterministicTaskQueue taskQueue, List<ScalingTestChannel> extraChannels) {
+        return new TcpTransport(SCALING_SETTINGS, Version.CURRENT, taskQueue.getThreadPool(), new MockPageCacheRecycler(SCALING_SETTINGS),
+            new NoneCircuitBreakerService(), writableRegistry(), new NetworkService(Collections.emptyList())) {
+
+            @Override
+            protected TcpServerChannel bind(String name, InetSocketAddress address) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            protected TcpChannel initiateChannel(DiscoveryNode node) {
+                final ScalingTestChannel channel = new ScalingTestChannel();
+                extraChannels.add(channel);
+                return channel;
+            }
+
+            @Override
+            protected void stopInternal() {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+
+    private static TcpTransport.NodeChannels newScalingConnection(TcpTransport transport) {
+        final ConnectionProfile profile = new ConnectionProfile.Builder()
+            .addConnections(1, 2, TransportRequestOptions.Type.REG)
+            .addConnections(1, TransportRequestOptions.Type.BULK, TransportRequestOptions.Type.PING, TransportRequestOptions.Type.RECOVERY,
+                TransportRequestOptions.Type.STATE)
+            .setConnectTimeout(TimeValue.timeValueSeconds(30))
+            .setHandshakeTimeout(TimeValue.timeValueSeconds(30))
+            .setPingInterval(TimeValue.MINUS_ONE)
+            .setCompressionEnabled(false)
+            .setScaleUpThreshold(new ByteSizeValue(1))
+            .setIdleConnectionTimeout(SCALING_IDLE_TIMEOUT)
+            .build();
+        final DiscoveryNode node = new DiscoveryNode("node", buildNewFakeTransportAddress(), Version.CURRENT);
+        return transport.new NodeChannels(node, Arrays.asList(new ScalingTestChannel(), new ScalingTestChannel()), profile,
+            Version.CURRENT);
+    }
+
+    private static long sendRequest(TcpTransport transport, TcpTransport.NodeChannels connection) throws IOException {
+        final long requestId = transport.getResponseHandlers().add(
+            new Transport.ResponseContext<>(EmptyTransportResponseHandler.INSTANCE_SAME, connection, "internal:test"));
+        connection.sendRequest(requestId, "internal:test", TransportRequest.Empty.INSTANCE, TransportRequestOptions.EMPTY);
+        return requestId;
+    }
+
+    private static void runTasksFor(DeterministicTaskQueue taskQueue, long millis) {
+        final long endTime = taskQueue.getCurrentTimeMillis() + millis;
+        taskQueue.runAllRunnableTasks();
+        while (taskQueue.hasDeferredTasks() && taskQueue.getCurrentTimeMillis() < endTime) {
+            taskQueue.advanceTime();
+            taskQueue.runAllRunnableTasks();
+        }
+    }
+
+    private static void closeScalingConnection(TcpTransport.NodeChannels connection, List<ScalingTestChannel> extraChannels) {
+        connection.close();
+        for (TcpChannel channel : connection.getChannels()) {
+            ((ScalingTestChannel) channel).completeWrites();
+        }
+        extraChannels.forEach(ScalingTestChannel::completeWrites);
+    }
+
+    /**
+     * A channel that connects immediately and keeps the bytes handed to it pending until {@link #completeWrites()} is called.
+     */
+    private static final class ScalingTestChannel extends FakeTcpChannel {
+
+        private final List<ActionListener<Void>> pendingWrites = new ArrayList<>();
+
+        @Override
+        public void sendMessage(BytesReference reference, ActionListener<Void> listener) {
+            pendingWrites.add(listener);
+        }
+
+        @Override
+        public void addConnectListener(ActionListener<Void> listener) {
+            listener.onResponse(null);
+        }
+
+        void completeWrites() {
+            final List<ActionListener<Void>> writes = new ArrayList<>(pendingWrites);
+            pendingWrites.clear();
+            writes.forEach(listener -> listener.onResponse(null));
+        }
+    }
 }